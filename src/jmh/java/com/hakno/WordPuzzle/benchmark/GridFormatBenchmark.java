@@ -0,0 +1,68 @@
+package com.hakno.WordPuzzle.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hakno.WordPuzzle.dto.GridFormat;
+import com.hakno.WordPuzzle.dto.PuzzleResponse;
+import com.hakno.WordPuzzle.service.Lexicon;
+import com.hakno.WordPuzzle.util.GridConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 그리드 형식별 응답 직렬화 벤치마크
+ * - cells: 셀 그리드(PuzzleCell 목록) 그대로 직렬화
+ * - compact: 단어 목록으로 압축 그리드를 만든 뒤 직렬화 (변환 비용 포함)
+ * 두 형식의 직렬화 크기(바이트)는 설정 단계에서 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GridFormatBenchmark {
+
+    @Param({"10", "15", "25"})
+    public int gridSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private GridConverter gridConverter;
+    private PuzzleResponse response;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        WordFixture fixture = WordFixture.load();
+        Lexicon lexicon = fixture.lexiconService().current();
+        gridConverter = new GridConverter();
+        response = gridConverter.toPuzzleResponse(
+                fixture.randomPuzzle(lexicon, gridSize, gridSize * 2, 42).grid(), 42L);
+
+        int cellsBytes = cells().length;
+        int compactBytes = compact().length;
+        System.out.printf("%n[gridSize=%d] cells=%d bytes, compact=%d bytes (%.1fx)%n",
+                gridSize, cellsBytes, compactBytes, (double) cellsBytes / compactBytes);
+    }
+
+    @Benchmark
+    public byte[] cells() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] compact() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(gridConverter.toFormat(response, GridFormat.COMPACT));
+    }
+}
@@ -0,0 +1,136 @@
+package com.hakno.WordPuzzle.benchmark;
+
+import com.hakno.WordPuzzle.entity.StdSense;
+import com.hakno.WordPuzzle.entity.StdWord;
+import com.hakno.WordPuzzle.repository.StdWordRepository;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * 벤치마크용 StdWordRepository 대체 구현 (JDK 동적 프록시)
+ * 퍼즐 생성 경로에서 호출하는 조회 메서드만 메모리 목록으로 흉내 내고,
+ * 나머지 메서드는 UnsupportedOperationException을 던집니다.
+ */
+final class InMemoryStdWordRepository implements InvocationHandler {
+
+    private final List<StdWord> words;
+    private final List<Object[]> lexiconRows;
+
+    private InMemoryStdWordRepository(List<StdWord> words, List<Object[]> lexiconRows) {
+        this.words = words;
+        this.lexiconRows = lexiconRows;
+    }
+
+    static StdWordRepository create(List<StdWord> words, List<Object[]> lexiconRows) {
+        return (StdWordRepository) Proxy.newProxyInstance(
+                StdWordRepository.class.getClassLoader(),
+                new Class<?>[]{StdWordRepository.class},
+                new InMemoryStdWordRepository(words, lexiconRows));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "findLexiconRows" -> lexiconRows;
+            case "findSamplerRows" -> samplerRows();
+            case "findAllByIdWithSenses" -> byIds((Collection<?>) args[0]);
+            case "findRandomWordsWithSenses" ->
+                    random(lengthBetween((int) args[0], (int) args[1]), pageSize(args[2]));
+            case "findWordsContainingCharWithSenses" ->
+                    random(containing((String) args[0]).and(lengthBetween((int) args[1], (int) args[2])),
+                            pageSize(args[3]));
+            case "findRandomWordsByCategory" ->
+                    random(inCategory((String) args[0]).and(lengthBetween((int) args[1], (int) args[2])),
+                            (int) args[3]);
+            case "findRandomWordsByWordType" ->
+                    random(ofType((String) args[0]).and(lengthBetween((int) args[1], (int) args[2])),
+                            (int) args[3]);
+            case "findRandomWordsByCategoryContainingChar" ->
+                    random(inCategory((String) args[0]).and(containing((String) args[1]))
+                            .and(lengthBetween((int) args[2], (int) args[3])), (int) args[4]);
+            case "findRandomWordsByWordTypeContainingChar" ->
+                    random(ofType((String) args[0]).and(containing((String) args[1]))
+                            .and(lengthBetween((int) args[2], (int) args[3])), (int) args[4]);
+            case "toString" -> "InMemoryStdWordRepository[" + words.size() + " words]";
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            default -> throw new UnsupportedOperationException(
+                    "벤치마크 저장소에서 지원하지 않는 메서드: " + method.getName());
+        };
+    }
+
+    // ============== 헬퍼 메서드 ==============
+
+    /**
+     * 픽스처 단어 ID는 목록 순서 + 1
+     */
+    private List<Object[]> samplerRows() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < words.size(); i++) {
+            StdWord word = words.get(i);
+            for (StdSense sense : word.getSenses()) {
+                rows.add(new Object[]{(long) (i + 1), word.getWord(), word.getLength(),
+                        word.getWordType(), sense.getCategory()});
+            }
+        }
+        return rows;
+    }
+
+    private List<StdWord> byIds(Collection<?> ids) {
+        List<StdWord> result = new ArrayList<>(ids.size());
+        for (Object id : ids) {
+            result.add(words.get((int) ((Long) id - 1)));
+        }
+        return result;
+    }
+
+    /**
+     * ORDER BY RAND() LIMIT n 흉내
+     */
+    private List<StdWord> random(Predicate<StdWord> filter, int limit) {
+        List<StdWord> matched = new ArrayList<>();
+        for (StdWord word : words) {
+            if (filter.test(word)) {
+                matched.add(word);
+            }
+        }
+        Collections.shuffle(matched, ThreadLocalRandom.current());
+        return matched.size() > limit ? new ArrayList<>(matched.subList(0, limit)) : matched;
+    }
+
+    private static int pageSize(Object pageable) {
+        return ((Pageable) pageable).getPageSize();
+    }
+
+    private static Predicate<StdWord> lengthBetween(int min, int max) {
+        return w -> w.getLength() >= min && w.getLength() <= max;
+    }
+
+    private static Predicate<StdWord> containing(String character) {
+        return w -> w.getWord().contains(character);
+    }
+
+    private static Predicate<StdWord> ofType(String wordType) {
+        return w -> wordType.equals(w.getWordType());
+    }
+
+    private static Predicate<StdWord> inCategory(String category) {
+        return w -> {
+            for (StdSense sense : w.getSenses()) {
+                if (category.equals(sense.getCategory())) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+}
@@ -0,0 +1,107 @@
+package com.hakno.WordPuzzle.benchmark;
+
+import com.hakno.WordPuzzle.dto.PuzzleWord;
+import com.hakno.WordPuzzle.service.Lexicon;
+import com.hakno.WordPuzzle.service.PlacementValidator;
+import com.hakno.WordPuzzle.util.GridState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PlacementValidator.canPlaceWord 벤치마크
+ * 고정 시드로 만든 퍼즐에 대해 교차점 기준 배치 후보(통과/거부 혼합)를 반복 검증합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlacementValidatorBenchmark {
+
+    private static final int PROBES = 1024;
+
+    @Param({"10", "15", "25"})
+    public int gridSize;
+
+    private PlacementValidator validator;
+    private GridState grid;
+    private char[][] charGrid;
+
+    private String[] probeWords;
+    private int[] probeRows;
+    private int[] probeCols;
+    private PuzzleWord.Direction[] probeDirections;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        WordFixture fixture = WordFixture.load();
+        Lexicon lexicon = fixture.lexiconService().current();
+        validator = new PlacementValidator();
+        grid = fixture.randomPuzzle(lexicon, gridSize, gridSize * 2, 42).grid();
+        charGrid = grid.toCharGrid();
+
+        // 채워진 셀의 음절로 후보 단어를 뽑아 교차 위치에 놓아 보는 입력
+        Random random = new Random(7);
+        probeWords = new String[PROBES];
+        probeRows = new int[PROBES];
+        probeCols = new int[PROBES];
+        probeDirections = new PuzzleWord.Direction[PROBES];
+        int n = 0;
+        while (n < PROBES) {
+            int cell = grid.filledCell(random.nextInt(grid.filledCellCount()));
+            int row = cell / gridSize;
+            int col = cell % gridSize;
+            PuzzleWord.Direction direction = random.nextBoolean()
+                    ? PuzzleWord.Direction.ACROSS : PuzzleWord.Direction.DOWN;
+            for (Lexicon.Match match : lexicon.sampleWithSyllable(grid.get(row, col), gridSize, gridSize,
+                    2, gridSize, null, null, 4, random)) {
+                if (n == PROBES) break;
+                probeWords[n] = match.word().word();
+                probeRows[n] = direction == PuzzleWord.Direction.ACROSS ? row : row - match.position();
+                probeCols[n] = direction == PuzzleWord.Direction.ACROSS ? col - match.position() : col;
+                probeDirections[n] = direction;
+                n++;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROBES)
+    public int charGrid() {
+        int accepted = 0;
+        for (int i = 0; i < PROBES; i++) {
+            if (validator.canPlaceWord(charGrid, probeWords[i], probeRows[i], probeCols[i],
+                    probeDirections[i], gridSize)) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROBES)
+    public int gridState() {
+        int accepted = 0;
+        for (int i = 0; i < PROBES; i++) {
+            if (validator.canPlaceWord(grid, probeWords[i], probeRows[i], probeCols[i], probeDirections[i])) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+}
@@ -0,0 +1,103 @@
+package com.hakno.WordPuzzle.benchmark;
+
+import com.hakno.WordPuzzle.dto.PuzzleResponse;
+import com.hakno.WordPuzzle.service.BacktrackingPuzzleGenerator;
+import com.hakno.WordPuzzle.service.GenerationMetrics;
+import com.hakno.WordPuzzle.service.HintCache;
+import com.hakno.WordPuzzle.service.LexiconService;
+import com.hakno.WordPuzzle.service.PatternFillPuzzleGenerator;
+import com.hakno.WordPuzzle.service.PlacementValidator;
+import com.hakno.WordPuzzle.service.PuzzleGeneratorService;
+import com.hakno.WordPuzzle.service.PuzzleScorer;
+import com.hakno.WordPuzzle.service.StdWordSampler;
+import com.hakno.WordPuzzle.service.WordCandidateProvider;
+import com.hakno.WordPuzzle.util.GridConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 퍼즐 생성 벤치마크 (그리드 크기 x 목표 단어 수)
+ * - backtracking: BacktrackingPuzzleGenerator.generate (타임아웃 포함)
+ * - workStealing: BacktrackingPuzzleGenerator.generateWorkStealing (같은 타임아웃, 모든 코어 사용)
+ * - beam: BacktrackingPuzzleGenerator.generateBeam (같은 타임아웃, 빔 폭 16)
+ * - patternFill: PatternFillPuzzleGenerator.generate (같은 타임아웃, MRV 칸 채우기)
+ * - greedy: PuzzleGeneratorService의 std 경로
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class PuzzleGenerationBenchmark {
+
+    private static final long TIMEOUT_MS = 2000;
+    private static final int BEAM_WIDTH = 16;
+
+    @Param({"10", "15", "25"})
+    public int gridSize;
+
+    @Param({"10", "30", "50"})
+    public int wordCount;
+
+    private BacktrackingPuzzleGenerator backtrackingGenerator;
+    private PatternFillPuzzleGenerator patternFillGenerator;
+    private PuzzleGeneratorService greedyGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        WordFixture fixture = WordFixture.load();
+        LexiconService lexiconService = fixture.lexiconService();
+        PlacementValidator placementValidator = new PlacementValidator();
+        GridConverter gridConverter = new GridConverter();
+
+        StdWordSampler sampler = fixture.sampler();
+
+        backtrackingGenerator = new BacktrackingPuzzleGenerator(
+                sampler, lexiconService, placementValidator, gridConverter, new PuzzleScorer(),
+                GenerationMetrics.standalone());
+        patternFillGenerator = new PatternFillPuzzleGenerator(
+                lexiconService, placementValidator, gridConverter, new PuzzleScorer());
+        // std 경로만 측정하므로 기본 단어 저장소는 사용하지 않음
+        greedyGenerator = new PuzzleGeneratorService(null, sampler, lexiconService,
+                new WordCandidateProvider(null, sampler, GenerationMetrics.standalone()), placementValidator,
+                gridConverter, new HintCache(1000), GenerationMetrics.standalone());
+    }
+
+    @Benchmark
+    public PuzzleResponse backtracking() {
+        return backtrackingGenerator.generate(gridSize, wordCount, null, null, TIMEOUT_MS);
+    }
+
+    @Benchmark
+    public PuzzleResponse workStealing() {
+        return backtrackingGenerator.generateWorkStealing(gridSize, wordCount, null, null, TIMEOUT_MS, null);
+    }
+
+    @Benchmark
+    public PuzzleResponse beam() {
+        return backtrackingGenerator.generateBeam(gridSize, wordCount, null, null, TIMEOUT_MS, BEAM_WIDTH, null);
+    }
+
+    @Benchmark
+    public PuzzleResponse patternFill() {
+        return patternFillGenerator.generate(gridSize, wordCount, null, null, TIMEOUT_MS, null);
+    }
+
+    @Benchmark
+    public PuzzleResponse greedy() {
+        return greedyGenerator.generatePuzzle(gridSize, wordCount, null, PuzzleGeneratorService.SOURCE_STD);
+    }
+}
@@ -0,0 +1,112 @@
+package com.hakno.WordPuzzle.benchmark;
+
+import com.hakno.WordPuzzle.dto.PuzzleResponse;
+import com.hakno.WordPuzzle.dto.PuzzleWord;
+import com.hakno.WordPuzzle.service.Lexicon;
+import com.hakno.WordPuzzle.service.PuzzleScoreState;
+import com.hakno.WordPuzzle.service.PuzzleScorer;
+import com.hakno.WordPuzzle.util.GridConverter;
+import com.hakno.WordPuzzle.util.GridState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 퍼즐 스코어링 벤치마크
+ * - detailedScore: 완성된 PuzzleResponse에 대한 PuzzleScorer.calculateDetailedScore
+ * - rebuildAndScore: 탐색 노드마다 하던 방식 (셀 그리드 변환 + 전체 스코어링)
+ * - incrementalScore / placeAndUndo: PuzzleScoreState 기반 증분 방식
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PuzzleScorerBenchmark {
+
+    @Param({"10", "15", "25"})
+    public int gridSize;
+
+    private PuzzleScorer scorer;
+    private GridConverter gridConverter;
+    private PuzzleScoreState state;
+    private PuzzleResponse response;
+
+    private String lastWord;
+    private String lastDefinition;
+    private int lastRow;
+    private int lastCol;
+    private PuzzleWord.Direction lastDirection;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        WordFixture fixture = WordFixture.load();
+        Lexicon lexicon = fixture.lexiconService().current();
+        scorer = new PuzzleScorer();
+        gridConverter = new GridConverter();
+        state = fixture.randomPuzzle(lexicon, gridSize, gridSize * 2, 42);
+        response = toResponse(state.grid());
+
+        // placeAndUndo에서 반복할 배치 (마지막 단어를 되돌렸다가 다시 놓음)
+        GridState grid = state.grid();
+        int last = grid.wordCount() - 1;
+        lastWord = grid.word(last);
+        lastDefinition = grid.definition(last);
+        lastRow = grid.startRow(last);
+        lastCol = grid.startCol(last);
+        lastDirection = grid.direction(last);
+        state.undo();
+    }
+
+    @Benchmark
+    public PuzzleScorer.PuzzleScore detailedScore() {
+        return scorer.calculateDetailedScore(response);
+    }
+
+    @Benchmark
+    public double rebuildAndScore() {
+        return scorer.calculateScore(toResponse(state.grid()));
+    }
+
+    @Benchmark
+    public double incrementalScore() {
+        return scorer.calculateScore(state);
+    }
+
+    @Benchmark
+    public double placeAndUndo() {
+        state.place(lastWord, lastDefinition, lastRow, lastCol, lastDirection);
+        double score = scorer.calculateScore(state);
+        state.undo();
+        return score;
+    }
+
+    private PuzzleResponse toResponse(GridState grid) {
+        List<PuzzleWord> across = new ArrayList<>();
+        List<PuzzleWord> down = new ArrayList<>();
+        for (PuzzleWord word : grid.toPuzzleWords()) {
+            (word.getDirection() == PuzzleWord.Direction.ACROSS ? across : down).add(word);
+        }
+        return PuzzleResponse.builder()
+                .gridSize(gridSize)
+                .grid(gridConverter.convertToCellGrid(grid.toCharGrid(), across, down, gridSize))
+                .acrossWords(across)
+                .downWords(down)
+                .totalWords(grid.wordCount())
+                .build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.hakno.WordPuzzle.benchmark;
+
+import com.hakno.WordPuzzle.dto.PuzzleWord;
+import com.hakno.WordPuzzle.entity.StdSense;
+import com.hakno.WordPuzzle.entity.StdWord;
+import com.hakno.WordPuzzle.repository.StdWordRepository;
+import com.hakno.WordPuzzle.service.Lexicon;
+import com.hakno.WordPuzzle.service.LexiconService;
+import com.hakno.WordPuzzle.service.LexiconWord;
+import com.hakno.WordPuzzle.service.PlacementValidator;
+import com.hakno.WordPuzzle.service.PuzzleScoreState;
+import com.hakno.WordPuzzle.service.StdWordSampler;
+import com.hakno.WordPuzzle.util.GridState;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 고정 단어 픽스처 (src/jmh/resources/fixtures/korean-words.tsv)
+ * MySQL 없이 같은 단어 집합으로 반복 측정할 수 있도록 메모리 저장소와 사전을 만들어 줍니다.
+ */
+public final class WordFixture {
+
+    private static final String RESOURCE = "/fixtures/korean-words.tsv";
+
+    private final List<StdWord> words;
+    private final List<Object[]> lexiconRows;
+
+    private WordFixture(List<StdWord> words, List<Object[]> lexiconRows) {
+        this.words = words;
+        this.lexiconRows = lexiconRows;
+    }
+
+    /**
+     * 픽스처 파일 로딩 (표제어, 단어유형, 전문분야, 뜻풀이)
+     */
+    public static WordFixture load() {
+        List<StdWord> words = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+
+        try (InputStream in = WordFixture.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("픽스처를 찾을 수 없습니다: " + RESOURCE);
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) continue;
+
+                String[] columns = line.split("\t", -1);
+                String category = columns[2].isEmpty() ? null : columns[2];
+                long id = words.size() + 1;
+
+                StdWord word = StdWord.builder()
+                        .targetCode("BENCH" + id)
+                        .word(columns[0])
+                        .wordType(columns[1])
+                        .build();
+                word.addSense(StdSense.builder()
+                        .senseCode("BENCH" + id + "_1")
+                        .senseOrder(1)
+                        .category(category)
+                        .definition(columns[3])
+                        .build());
+
+                words.add(word);
+                rows.add(new Object[]{id, columns[0], columns[1], category, columns[3]});
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new WordFixture(List.copyOf(words), List.copyOf(rows));
+    }
+
+    public int size() {
+        return words.size();
+    }
+
+    public List<StdWord> words() {
+        return words;
+    }
+
+    /**
+     * 픽스처를 제공하는 메모리 저장소
+     */
+    public StdWordRepository repository() {
+        return InMemoryStdWordRepository.create(words, lexiconRows);
+    }
+
+    /**
+     * 픽스처로 로딩을 마친 메모리 사전 서비스
+     */
+    public LexiconService lexiconService() {
+        LexiconService lexiconService = new LexiconService(repository());
+        lexiconService.refresh();
+        return lexiconService;
+    }
+
+    /**
+     * 픽스처로 인덱스 로딩을 마친 랜덤 샘플러
+     */
+    public StdWordSampler sampler() {
+        // 메모리 사전 없이 샘플러 경로만 측정하므로 빈 사전 서비스를 사용
+        StdWordSampler sampler = new StdWordSampler(repository(), new LexiconService(repository()));
+        sampler.refresh();
+        return sampler;
+    }
+
+    /**
+     * 고정 시드로 단어를 교차 배치한 퍼즐 상태 (검증/스코어링 벤치마크 입력용)
+     */
+    public PuzzleScoreState randomPuzzle(Lexicon lexicon, int gridSize, int maxWords, long seed) {
+        Random random = new Random(seed);
+        PlacementValidator validator = new PlacementValidator();
+        PuzzleScoreState state = new PuzzleScoreState(gridSize);
+        GridState grid = state.grid();
+
+        List<LexiconWord> first = lexicon.sampleByLength(3, Math.min(gridSize - 2, 6), null, null, 1, random);
+        String firstWord = first.get(0).word();
+        state.place(firstWord, "", gridSize / 2, (gridSize - firstWord.length()) / 2, PuzzleWord.Direction.ACROSS);
+
+        for (int attempt = 0; attempt < maxWords * 50 && state.wordCount() < maxWords; attempt++) {
+            int cell = grid.filledCell(random.nextInt(grid.filledCellCount()));
+            int row = cell / gridSize;
+            int col = cell % gridSize;
+            PuzzleWord.Direction direction = random.nextBoolean()
+                    ? PuzzleWord.Direction.ACROSS : PuzzleWord.Direction.DOWN;
+            int position = direction == PuzzleWord.Direction.ACROSS ? col : row;
+
+            for (Lexicon.Match match : lexicon.sampleWithSyllable(grid.get(row, col), position,
+                    gridSize - 1 - position, 2, gridSize, null, null, 10, random)) {
+                String word = match.word().word();
+                int startRow = direction == PuzzleWord.Direction.ACROSS ? row : row - match.position();
+                int startCol = direction == PuzzleWord.Direction.ACROSS ? col - match.position() : col;
+                if (!grid.containsWord(word) && validator.canPlaceWord(grid, word, startRow, startCol, direction)) {
+                    state.place(word, match.word().definition(), startRow, startCol, direction);
+                    break;
+                }
+            }
+        }
+        return state;
+    }
+}
@@ -0,0 +1,50 @@
+package com.hakno.WordPuzzle.client;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷 호출 제한기
+ * - 초당 permitsPerSecond개씩 토큰이 채워지고, 최대 capacity개까지 모아 두었다가 한꺼번에 쓸 수 있음
+ * - 토큰이 없으면 빚(음수 잔량)을 지고 그만큼 기다리므로, 여러 스레드가 공유해도 먼저 온 순서대로 간격이 벌어짐
+ *
+ * 외부 API 호출 전에 acquire()를 부르면 동시 호출 수와 관계없이 전체 호출 속도가 제한됩니다.
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double permitsPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(double permitsPerSecond, int capacity) {
+        if (permitsPerSecond <= 0 || capacity < 1) {
+            throw new IllegalArgumentException("permitsPerSecond와 capacity는 양수여야 합니다.");
+        }
+        this.capacity = capacity;
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 하나를 얻을 때까지 대기
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            refill();
+            tokens -= 1;
+            waitNanos = tokens >= 0 ? 0 : (long) Math.ceil(-tokens / permitsPerNano);
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+    }
+}
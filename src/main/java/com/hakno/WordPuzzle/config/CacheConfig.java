@@ -16,7 +16,6 @@ public class CacheConfig {
     @Bean
     public CacheManager cacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-            "wordsContaining",
             "wordsByPosition",
             "randomWords"
         );
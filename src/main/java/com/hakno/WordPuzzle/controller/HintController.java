@@ -1,5 +1,6 @@
 package com.hakno.WordPuzzle.controller;
 
+import com.hakno.WordPuzzle.dto.HintBatchRequest;
 import com.hakno.WordPuzzle.dto.HintResponse;
 import com.hakno.WordPuzzle.dto.HintType;
 import com.hakno.WordPuzzle.service.HintService;
@@ -7,13 +8,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -27,6 +33,9 @@ public class HintController {
 
     private final HintService hintService;
 
+    // 한 번에 조회할 수 있는 최대 단어 수
+    private static final int MAX_BATCH_WORDS = 100;
+
     /**
      * 특정 타입의 힌트 조회
      *
@@ -66,6 +75,38 @@ public class HintController {
         return ResponseEntity.ok(hints);
     }
 
+    /**
+     * 퍼즐 전체 단어의 힌트 일괄 조회
+     *
+     * @param request 단어 ID 목록과 힌트 타입 목록 (타입이 없으면 모든 타입)
+     * @return 단어 ID별 힌트 목록 (요청 순서, 중복 ID는 한 번만)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Map<Long, List<HintResponse>>> getHintsBatch(@RequestBody HintBatchRequest request) {
+        List<Long> wordIds = request.getWordIds();
+        if (wordIds == null || wordIds.isEmpty() || wordIds.size() > MAX_BATCH_WORDS || wordIds.contains(null)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Set<HintType> types = new LinkedHashSet<>();
+        if (request.getTypes() == null || request.getTypes().isEmpty()) {
+            types.addAll(Arrays.asList(HintType.values()));
+        } else {
+            for (String type : request.getTypes()) {
+                try {
+                    types.add(HintType.valueOf(type.toUpperCase()));
+                } catch (IllegalArgumentException | NullPointerException e) {
+                    log.warn("Invalid hint type requested: {}", type);
+                    return ResponseEntity.badRequest().build();
+                }
+            }
+        }
+
+        Map<Long, List<HintResponse>> hints = hintService.getHintsBatch(
+                new ArrayList<>(new LinkedHashSet<>(wordIds)), types);
+        return ResponseEntity.ok(hints);
+    }
+
     /**
      * 단어의 사용 가능한 힌트만 조회
      *
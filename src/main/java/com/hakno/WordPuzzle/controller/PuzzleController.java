@@ -1,10 +1,19 @@
 package com.hakno.WordPuzzle.controller;
 
+import com.hakno.WordPuzzle.dto.GridFormat;
+import com.hakno.WordPuzzle.dto.PuzzleBatchRequest;
 import com.hakno.WordPuzzle.dto.PuzzleResponse;
+import com.hakno.WordPuzzle.service.PuzzleBatchService;
 import com.hakno.WordPuzzle.service.PuzzleGeneratorService;
+import com.hakno.WordPuzzle.service.PuzzlePool;
+import com.hakno.WordPuzzle.util.GridConverter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/puzzle")
@@ -12,6 +21,9 @@ import org.springframework.web.bind.annotation.*;
 public class PuzzleController {
 
     private final PuzzleGeneratorService puzzleGeneratorService;
+    private final PuzzlePool puzzlePool;
+    private final PuzzleBatchService puzzleBatchService;
+    private final GridConverter gridConverter;
 
     @GetMapping("/generate")
     public ResponseEntity<PuzzleResponse> generatePuzzle(
@@ -20,23 +32,79 @@ public class PuzzleController {
             @RequestParam(required = false) String level,
             @RequestParam(defaultValue = "default") String source,
             @RequestParam(required = false) String category,
-            @RequestParam(required = false) String wordType) {
+            @RequestParam(required = false) String wordType,
+            @RequestParam(required = false) Long seed,
+            @RequestParam(defaultValue = "cells") String format) {
 
-        if (wordCount < 3 || wordCount > 50) {
+        if (!isValidSize(gridSize, wordCount)) {
             return ResponseEntity.badRequest().build();
         }
-        if (gridSize != null && (gridSize < 5 || gridSize > 30)) {
+        GridFormat gridFormat = parseFormat(format);
+        if (gridFormat == null) {
             return ResponseEntity.badRequest().build();
         }
 
         // category나 wordType이 지정되면 자동으로 std 소스 사용
-        String effectiveSource = source;
-        if (category != null || wordType != null) {
-            effectiveSource = "std";
+        String effectiveSource = (category != null || wordType != null) ? "std" : source;
+
+        // 시드가 있으면 같은 퍼즐을 재현해야 하므로 풀을 거치지 않고 생성
+        if (seed != null) {
+            return ResponseEntity.ok(puzzleGeneratorService.generatePuzzle(
+                    gridSize, wordCount, level, effectiveSource, category, wordType, seed, gridFormat));
         }
 
-        PuzzleResponse puzzle = puzzleGeneratorService.generatePuzzle(
-                gridSize, wordCount, level, effectiveSource, category, wordType);
+        // 미리 생성된 퍼즐(압축 그리드)이 있으면 요청 형식으로 바꿔 반환, 없으면 요청 형식으로 즉시 생성
+        PuzzleResponse puzzle = puzzlePool.poll(gridSize, wordCount, level, effectiveSource, category, wordType)
+                .map(pooled -> gridConverter.toFormat(pooled, gridFormat))
+                .orElseGet(() -> puzzleGeneratorService.generatePuzzle(
+                        gridSize, wordCount, level, effectiveSource, category, wordType, null, gridFormat));
         return ResponseEntity.ok(puzzle);
     }
+
+    /**
+     * 대량 퍼즐 생성 (NDJSON 스트리밍)
+     * 조건 목록(specs) 또는 하나의 조건과 개수(count)를 받아 병렬로 생성하고,
+     * 끝나는 순서대로 한 줄에 퍼즐 하나씩 보낸 뒤 마지막 줄에 요약({"summary": ...})을 보냅니다.
+     * 퍼즐 줄은 {"index": i, "puzzle": {...}}, 실패 줄은 {"index": i, "error": "..."}이며
+     * i는 조건 목록에서의 위치(0부터)라서 완료 순서가 섞여도 조건별 결과를 맞춰 볼 수 있습니다.
+     */
+    @PostMapping(value = "/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> generateBatch(
+            @RequestBody PuzzleBatchRequest request,
+            @RequestParam(defaultValue = "cells") String format) {
+        GridFormat gridFormat = parseFormat(format);
+        if (gridFormat == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (request.getCount() != null && request.getCount() > puzzleBatchService.getMaxBatchSize()) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<PuzzleBatchRequest.Spec> specs = request.toSpecs();
+        if (specs.isEmpty() || specs.size() > puzzleBatchService.getMaxBatchSize()) {
+            return ResponseEntity.badRequest().build();
+        }
+        for (PuzzleBatchRequest.Spec spec : specs) {
+            if (!isValidSize(spec.getGridSize(), spec.getWordCount())) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
+        StreamingResponseBody body = out -> puzzleBatchService.generate(specs, gridFormat, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * 그리드 형식 파라미터 (cells: 셀 목록, compact: 음절 문자열 + 시작 칸 목록). 알 수 없는 값이면 null
+     */
+    private static GridFormat parseFormat(String format) {
+        try {
+            return GridFormat.from(format);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean isValidSize(Integer gridSize, int wordCount) {
+        return wordCount >= 3 && wordCount <= 50 && (gridSize == null || (gridSize >= 5 && gridSize <= 30));
+    }
 }
@@ -0,0 +1,26 @@
+package com.hakno.WordPuzzle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 압축 그리드 표현 (format=compact)
+ * - cells: 행 우선 음절 문자열, 길이 gridSize * gridSize, 빈 칸은 BLANK('.')
+ *   (row, col)의 글자 = cells.charAt(row * gridSize + col)
+ * - starts: 번호가 붙은 시작 칸만 [row, col, acrossNumber, downNumber] (해당 방향 번호가 없으면 0)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompactGrid {
+
+    public static final char BLANK = '.';
+
+    private String cells;
+    private List<int[]> starts;
+}
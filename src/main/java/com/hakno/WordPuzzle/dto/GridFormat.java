@@ -0,0 +1,18 @@
+package com.hakno.WordPuzzle.dto;
+
+import java.util.Locale;
+
+/**
+ * 퍼즐 응답의 그리드 형식
+ */
+public enum GridFormat {
+    CELLS,      // grid: 셀마다 PuzzleCell (기본)
+    COMPACT;    // compactGrid: 음절 문자열 + 번호 붙은 시작 칸 목록
+
+    /**
+     * 요청 파라미터를 형식으로 변환 (대소문자 무시, 알 수 없는 값은 IllegalArgumentException)
+     */
+    public static GridFormat from(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
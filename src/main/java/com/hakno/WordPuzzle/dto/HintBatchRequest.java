@@ -0,0 +1,28 @@
+package com.hakno.WordPuzzle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 힌트 일괄 조회 요청
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HintBatchRequest {
+
+    /**
+     * 퍼즐의 단어 ID 목록
+     */
+    private List<Long> wordIds;
+
+    /**
+     * 조회할 힌트 타입 (대소문자 무시, 비어 있으면 모든 타입)
+     */
+    private List<String> types;
+}
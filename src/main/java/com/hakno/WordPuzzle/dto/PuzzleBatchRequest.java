@@ -0,0 +1,70 @@
+package com.hakno.WordPuzzle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량 퍼즐 생성 요청
+ * - specs가 있으면 각 조건마다 퍼즐 하나씩 생성
+ * - specs가 없으면 요청 본문의 조건(gridSize, wordCount, ...)으로 count개 생성
+ *   (seed를 지정하면 i번째 퍼즐은 seed + i 사용)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PuzzleBatchRequest {
+
+    private List<Spec> specs;
+    private Integer count;
+
+    private Integer gridSize;
+    @Builder.Default
+    private int wordCount = 10;
+    private String level;
+    @Builder.Default
+    private String source = "default";
+    private String category;
+    private String wordType;
+    private Long seed;
+
+    /**
+     * 생성할 퍼즐 조건 목록으로 펼치기
+     */
+    public List<Spec> toSpecs() {
+        if (specs != null && !specs.isEmpty()) {
+            return specs;
+        }
+        int n = count != null ? count : 0;
+        List<Spec> expanded = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            expanded.add(new Spec(gridSize, wordCount, level, source, category, wordType,
+                    seed != null ? seed + i : null));
+        }
+        return expanded;
+    }
+
+    /**
+     * 퍼즐 하나의 생성 조건 (GET /api/puzzle/generate 파라미터와 같음)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Spec {
+        private Integer gridSize;
+        @Builder.Default
+        private int wordCount = 10;
+        private String level;
+        @Builder.Default
+        private String source = "default";
+        private String category;
+        private String wordType;
+        private Long seed;
+    }
+}
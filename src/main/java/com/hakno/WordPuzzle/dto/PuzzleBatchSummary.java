@@ -0,0 +1,27 @@
+package com.hakno.WordPuzzle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대량 생성 스트림의 마지막 줄 ({"summary": {...}})
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PuzzleBatchSummary {
+
+    private int requested;          // 요청한 퍼즐 수
+    private int generated;          // 생성에 성공한 퍼즐 수
+    private int failed;             // 생성에 실패한 퍼즐 수
+    private boolean cancelled;      // 중간에 중단되었는지 (클라이언트 연결 종료 등)
+    private int parallelism;        // 동시에 생성한 최대 퍼즐 수
+    private long elapsedMs;         // 전체 소요 시간
+    private long minGenerationMs;   // 퍼즐 하나 생성 시간 (최소/평균/최대)
+    private double avgGenerationMs;
+    private long maxGenerationMs;
+    private double puzzlesPerSecond;
+}
@@ -1,5 +1,6 @@
 package com.hakno.WordPuzzle.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,8 +15,12 @@ import java.util.List;
 public class PuzzleResponse {
 
     private int gridSize;
-    private List<List<PuzzleCell>> grid;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<List<PuzzleCell>> grid;   // format=cells (기본)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private CompactGrid compactGrid;       // format=compact (grid 대신)
     private List<PuzzleWord> acrossWords;  // 가로 단어 힌트
     private List<PuzzleWord> downWords;    // 세로 단어 힌트
     private int totalWords;
+    private Long seed;                     // 생성에 사용한 시드 (지정한 경우만)
 }
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -25,4 +26,12 @@ public interface StdSenseRepository extends JpaRepository<StdSense, Long> {
 
     @Query("SELECT DISTINCT s.pos FROM StdSense s WHERE s.pos IS NOT NULL ORDER BY s.pos")
     List<String> findAllPos();
+
+    // 힌트 일괄 조회용 - 의미의 예문 컬렉션 초기화 (두 컬렉션을 한 번에 fetch join할 수 없어 쿼리를 나눔)
+    @Query("SELECT DISTINCT s FROM StdSense s LEFT JOIN FETCH s.examples WHERE s.id IN :ids")
+    List<StdSense> findAllWithExamplesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 힌트 일괄 조회용 - 의미의 관계어 컬렉션 초기화
+    @Query("SELECT DISTINCT s FROM StdSense s LEFT JOIN FETCH s.relations WHERE s.id IN :ids")
+    List<StdSense> findAllWithRelationsByIdIn(@Param("ids") Collection<Long> ids);
 }
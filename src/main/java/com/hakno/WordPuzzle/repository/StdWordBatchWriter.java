@@ -0,0 +1,174 @@
+package com.hakno.WordPuzzle.repository;
+
+import com.hakno.WordPuzzle.entity.StdExample;
+import com.hakno.WordPuzzle.entity.StdSense;
+import com.hakno.WordPuzzle.entity.StdWord;
+import com.hakno.WordPuzzle.entity.StdWordRelation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 임포트용 표준국어대사전 일괄 저장
+ * IDENTITY 키를 쓰는 엔티티는 Hibernate가 INSERT를 묶지 못해 의미/용례/관계어마다 왕복이 생기므로,
+ * 테이블별로 JDBC 배치 INSERT 한 번씩(총 4번)으로 저장합니다.
+ * 부모 행의 ID는 배치의 생성 키로 받아 자식 행의 외래 키로 씁니다.
+ *
+ * MySQL은 rewriteBatchedStatements=true일 때 배치를 다중 행 INSERT로 보냅니다.
+ * 엔티티의 id는 채워지지 않으므로 저장한 단어의 ID는 반환값을 사용하세요.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StdWordBatchWriter {
+
+    private static final String INSERT_WORD = "INSERT INTO std_word "
+            + "(target_code, word, sup_no, length, first_char, word_type, origin, pronunciation, allomorph, "
+            + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SENSE = "INSERT INTO std_sense "
+            + "(word_id, sense_code, sense_order, pos, category, definition, type) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_EXAMPLE = "INSERT INTO std_example "
+            + "(sense_id, example, source, translation, origin) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_RELATION = "INSERT INTO std_word_relation "
+            + "(sense_id, relation_type, related_word, related_target_code, link) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 단어와 하위 의미/용례/관계어 일괄 저장
+     *
+     * @return 저장된 단어 ID (words 순서)
+     */
+    @Transactional
+    public List<Long> insertAll(List<StdWord> words) {
+        if (words.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Long> wordIds = insertWithKeys(INSERT_WORD, words.size(), (ps, i) -> {
+            StdWord word = words.get(i);
+            ps.setString(1, word.getTargetCode());
+            ps.setString(2, word.getWord());
+            ps.setObject(3, word.getSupNo(), Types.INTEGER);
+            ps.setInt(4, word.getLength());
+            ps.setString(5, word.getFirstChar());
+            ps.setString(6, word.getWordType());
+            ps.setString(7, word.getOrigin());
+            ps.setString(8, word.getPronunciation());
+            ps.setString(9, word.getAllomorph());
+            ps.setObject(10, now);
+            ps.setObject(11, now);
+        });
+
+        List<StdSense> senses = new ArrayList<>();
+        List<Long> senseWordIds = new ArrayList<>();
+        for (int i = 0; i < words.size(); i++) {
+            for (StdSense sense : words.get(i).getSenses()) {
+                senses.add(sense);
+                senseWordIds.add(wordIds.get(i));
+            }
+        }
+        if (senses.isEmpty()) {
+            return wordIds;
+        }
+
+        List<Long> senseIds = insertWithKeys(INSERT_SENSE, senses.size(), (ps, i) -> {
+            StdSense sense = senses.get(i);
+            ps.setLong(1, senseWordIds.get(i));
+            ps.setString(2, sense.getSenseCode());
+            ps.setObject(3, sense.getSenseOrder(), Types.INTEGER);
+            ps.setString(4, sense.getPos());
+            ps.setString(5, sense.getCategory());
+            ps.setString(6, sense.getDefinition());
+            ps.setString(7, sense.getType());
+        });
+
+        List<StdExample> examples = new ArrayList<>();
+        List<Long> exampleSenseIds = new ArrayList<>();
+        List<StdWordRelation> relations = new ArrayList<>();
+        List<Long> relationSenseIds = new ArrayList<>();
+        for (int i = 0; i < senses.size(); i++) {
+            for (StdExample example : senses.get(i).getExamples()) {
+                examples.add(example);
+                exampleSenseIds.add(senseIds.get(i));
+            }
+            for (StdWordRelation relation : senses.get(i).getRelations()) {
+                relations.add(relation);
+                relationSenseIds.add(senseIds.get(i));
+            }
+        }
+
+        if (!examples.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_EXAMPLE, setter(examples.size(), (ps, i) -> {
+                StdExample example = examples.get(i);
+                ps.setLong(1, exampleSenseIds.get(i));
+                ps.setString(2, example.getExample());
+                ps.setString(3, example.getSource());
+                ps.setString(4, example.getTranslation());
+                ps.setString(5, example.getOrigin());
+            }));
+        }
+        if (!relations.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_RELATION, setter(relations.size(), (ps, i) -> {
+                StdWordRelation relation = relations.get(i);
+                ps.setLong(1, relationSenseIds.get(i));
+                ps.setString(2, relation.getRelationType());
+                ps.setString(3, relation.getRelatedWord());
+                ps.setString(4, relation.getRelatedTargetCode());
+                ps.setString(5, relation.getLink());
+            }));
+        }
+        return wordIds;
+    }
+
+    /**
+     * 배치 INSERT 후 생성된 ID를 행 순서대로 반환
+     */
+    private List<Long> insertWithKeys(String sql, int size, RowBinder binder) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS),
+                setter(size, binder), keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != size) {
+            throw new IllegalStateException("생성된 키 수가 행 수와 다릅니다: " + keys.size() + " != " + size);
+        }
+        List<Long> ids = new ArrayList<>(size);
+        for (Map<String, Object> key : keys) {
+            ids.add(((Number) key.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    private static BatchPreparedStatementSetter setter(int size, RowBinder binder) {
+        return new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                binder.bind(ps, i);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return size;
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement ps, int i) throws SQLException;
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +19,10 @@ public interface StdWordRepository extends JpaRepository<StdWord, Long> {
 
     boolean existsByTargetCode(String targetCode);
 
+    // 임포트 중복 체크 - 검색 결과 한 페이지의 코드 중 이미 저장된 코드
+    @Query("SELECT w.targetCode FROM StdWord w WHERE w.targetCode IN :codes")
+    List<String> findExistingTargetCodes(@Param("codes") Collection<String> codes);
+
     // 길이 기반 조회
     List<StdWord> findByLengthBetween(int min, int max);
 
@@ -118,6 +123,28 @@ public interface StdWordRepository extends JpaRepository<StdWord, Long> {
                                                           @Param("max") int max,
                                                           @Param("limit") int limit);
 
+    // 메모리 사전 로딩용 - 엔티티 대신 필요한 컬럼만 조회 (단어당 의미 수만큼 행 반환)
+    @Query("SELECT w.id, w.word, w.wordType, s.category, s.definition FROM StdWord w " +
+           "LEFT JOIN w.senses s ORDER BY w.id, s.id")
+    List<Object[]> findLexiconRows();
+
+    // 사전 스냅샷 확인용 - (단어 수, 최대 ID) 한 행 (스냅샷을 만든 뒤 단어가 추가되었는지 비교)
+    @Query("SELECT COUNT(w), MAX(w.id) FROM StdWord w")
+    List<Object[]> findLexiconFingerprint();
+
+    // 랜덤 샘플러 인덱스용 - ID/길이/단어유형/카테고리만 조회 (단어당 의미 수만큼 행 반환)
+    @Query("SELECT w.id, w.word, w.length, w.wordType, s.category FROM StdWord w " +
+           "LEFT JOIN w.senses s ORDER BY w.id")
+    List<Object[]> findSamplerRows();
+
+    // 랜덤 샘플러가 뽑은 ID 일괄 조회 (정의 포함)
+    @Query("SELECT DISTINCT w FROM StdWord w LEFT JOIN FETCH w.senses WHERE w.id IN :ids")
+    List<StdWord> findAllByIdWithSenses(@Param("ids") Collection<Long> ids);
+
+    // 힌트 캐시 워밍업용 - 단어 문자열로 ID 조회 (동음이의어는 모두 반환)
+    @Query("SELECT w.id FROM StdWord w WHERE w.word IN :words")
+    List<Long> findIdsByWordIn(@Param("words") Collection<String> words);
+
     // 단어유형 목록 (DISTINCT)
     @Query("SELECT DISTINCT w.wordType FROM StdWord w WHERE w.wordType IS NOT NULL ORDER BY w.wordType")
     List<String> findAllWordTypes();
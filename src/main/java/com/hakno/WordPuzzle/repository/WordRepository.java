@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +30,10 @@ public interface WordRepository extends JpaRepository<Word, Long> {
 
     boolean existsByWord(String word);
 
+    // 임포트 중복 체크용 - 저장된 모든 단어 문자열
+    @Query("SELECT w.word FROM Word w")
+    List<String> findAllWordTexts();
+
     // 랜덤 단어 검색 (Definition 함께 로드)
     @Query("SELECT DISTINCT w FROM Word w LEFT JOIN FETCH w.definitions " +
            "WHERE w.length BETWEEN :minLength AND :maxLength " +
@@ -100,4 +105,32 @@ public interface WordRepository extends JpaRepository<Word, Long> {
         @Param("level") String level,
         Pageable pageable
     );
+
+    // 시드 고정 생성용 - 조건에 맞는 단어 ID (ID 순, 같은 데이터면 항상 같은 순서)
+    @Query("SELECT w.id FROM Word w " +
+           "WHERE w.length BETWEEN :minLength AND :maxLength " +
+           "AND (:level IS NULL OR w.vocabularyLevel = :level) " +
+           "ORDER BY w.id")
+    List<Long> findIdsByLengthAndLevel(
+        @Param("minLength") Integer minLength,
+        @Param("maxLength") Integer maxLength,
+        @Param("level") String level
+    );
+
+    // 시드 고정 생성용 - 특정 문자 포함 단어 ID (ID 순)
+    @Query("SELECT w.id FROM Word w " +
+           "WHERE w.word LIKE %:character% " +
+           "AND w.length BETWEEN :minLength AND :maxLength " +
+           "AND (:level IS NULL OR w.vocabularyLevel = :level) " +
+           "ORDER BY w.id")
+    List<Long> findIdsContainingCharacterByLevel(
+        @Param("character") String character,
+        @Param("minLength") Integer minLength,
+        @Param("maxLength") Integer maxLength,
+        @Param("level") String level
+    );
+
+    // 추출한 ID 일괄 조회 (정의 포함)
+    @Query("SELECT DISTINCT w FROM Word w LEFT JOIN FETCH w.definitions WHERE w.id IN :ids")
+    List<Word> findAllByIdWithDefinitions(@Param("ids") Collection<Long> ids);
 }
@@ -1,20 +1,23 @@
 package com.hakno.WordPuzzle.service;
 
-import com.hakno.WordPuzzle.dto.PuzzleCell;
 import com.hakno.WordPuzzle.dto.PuzzleResponse;
 import com.hakno.WordPuzzle.dto.PuzzleWord;
 import com.hakno.WordPuzzle.entity.StdWord;
-import com.hakno.WordPuzzle.repository.StdWordRepository;
 import com.hakno.WordPuzzle.util.GridConverter;
-import com.hakno.WordPuzzle.util.GridSnapshot;
+import com.hakno.WordPuzzle.util.GridState;
 import com.hakno.WordPuzzle.util.GridUtils;
 import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 
 /**
@@ -26,16 +29,34 @@ import java.util.stream.Collectors;
  * - 가지치기(Pruning): 불필요한 탐색 조기 종료
  * - 타임아웃: 설정된 시간 내에 최선의 결과 반환
  * - 스코어 기반: PuzzleScorer를 활용하여 품질 평가
+ * - 메모리 사전: 교차 단어를 (음절, 위치, 길이) 인덱스에서 조회 (로딩 전에는 DB 조회)
+ * - 되돌리기 로그: GridState에 배치한 셀만 기록했다가 되돌리므로 노드마다 그리드를 복사하지 않음
+ * - 증분 스코어링: 노드 평가는 PuzzleScoreState로 하고, PuzzleResponse는 최종 결과에 대해 한 번만 생성
+ * - 호출별 탐색 상태: 최선 결과/점수/타임아웃은 호출마다 만드는 SearchContext에 두므로 빈을 동시에 호출해도 안전
+ * - 작업 분할 모드: 얕은 깊이의 자식 노드를 ForkJoin 작업으로 나눠 모든 코어가 하나의 트리를 함께 탐색
+ *   (생성기 전용 ForkJoin 풀에서 실행하므로 사전 로딩 전 DB 조회로 블로킹되어도 JVM 공용 풀을 점유하지 않음)
+ *   (작업들은 잠금 없는 공유 최선 점수를 갱신하고, 목표 품질에 닿으면 모두 조기 종료)
+ * - 다중 시드 병렬 생성: 호출마다 하나의 마감 시간으로 시드 작업 전체를 묶어 실행 (invokeAll)
+ *   마감 시간이 지나거나 호출 스레드가 인터럽트되면 남은 작업은 취소(인터럽트)되고, 작업은 인터럽트도 타임아웃으로 처리
+ *   spring.threads.virtual.enabled=true 이면 시드 작업마다 가상 스레드를 사용 (JDBC 대기 중에도 플랫폼 스레드를 점유하지 않음)
+ * - 시드: 모든 무작위 선택은 하나의 SplittableRandom에서 나오며, 병렬 생성은 시드 단어마다 split()한 난수를 사용
+ *   (같은 시드라도 타임아웃에 걸리면 탐색 범위가 달라질 수 있음)
+ * - 빔 탐색 모드: 단어 수가 같은 부분 그리드 중 점수 상위 K개만 남기며 한 단계씩 넓혀 감
+ *   (단계마다 프런티어 전체를 병렬 확장하므로 한 하위 트리에 시간을 몰아 쓰지 않고, 단계 비용이 K로 제한됨)
+ * - 메트릭: 시작 단어 선택/탐색/응답 생성 시간, 방문 노드 수와 노드 평가(점수 계산) 누적 시간을
+ *   GenerationMetrics(generator=backtracking/beam)에 기록 (노드 단위 값은 SearchStats에 모았다가 호출 끝에 한 번 기록)
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class BacktrackingPuzzleGenerator {
 
-    private final StdWordRepository stdWordRepository;
+    private final StdWordSampler stdWordSampler;
+    private final LexiconService lexiconService;
     private final PlacementValidator placementValidator;
     private final GridConverter gridConverter;
     private final PuzzleScorer puzzleScorer;
+    private final GenerationMetrics metrics;
 
     // 설정 상수
     private static final long DEFAULT_TIMEOUT_MS = 5000; // 기본 타임아웃 5초
@@ -43,15 +64,21 @@ public class BacktrackingPuzzleGenerator {
     private static final int WORDS_PER_CANDIDATE = 20;   // 교차점당 검색할 단어 수
     private static final int MAX_CANDIDATES_PER_LEVEL = 10; // 레벨당 최대 후보 수
     private static final int DEFAULT_PARALLEL_SEEDS = 3;  // 기본 병렬 시드 수
+    private static final int SPLIT_DEPTH = 2;             // 이 깊이 전까지는 자식마다 작업 분할
+    private static final double TARGET_SCORE = 70;        // 목표 단어 수와 함께 달성하면 조기 종료
+    private static final long RESULT_GRACE_MS = 500;      // 마감 후 작업이 최선 결과를 돌려줄 여유 시간
+    private static final int DEFAULT_BEAM_WIDTH = 16;     // 빔 탐색에서 단계마다 남길 상태 수
 
-    // 병렬 실행용 스레드 풀
-    private final ExecutorService executorService = Executors.newFixedThreadPool(
-            Runtime.getRuntime().availableProcessors());
+    // 가상 스레드 모드 (웹 계층과 같은 설정을 따름)
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
 
-    // 최선의 결과 저장용 (스레드 안전)
-    private volatile PuzzleResponse bestResult;
-    private volatile double bestScore;
-    private volatile boolean timeoutReached;
+    // 플랫폼 스레드 모드의 시드 작업용 스레드 풀 (처음 사용할 때 생성, 종료 시 정리)
+    private ExecutorService seedExecutor;
+
+    // 작업 분할 탐색용 ForkJoin 풀 (처음 사용할 때 생성, 종료 시 정리)
+    // 사전 로딩 전에는 탐색 중 DB 조회로 블로킹되므로 JVM 공용 풀을 쓰지 않음
+    private ForkJoinPool searchPool;
 
     /**
      * 백트래킹으로 퍼즐 생성
@@ -67,6 +94,191 @@ public class BacktrackingPuzzleGenerator {
         return generateParallel(gridSize, targetWordCount, null, null, DEFAULT_TIMEOUT_MS, DEFAULT_PARALLEL_SEEDS);
     }
 
+    /**
+     * 작업 분할(work-stealing) 병렬 퍼즐 생성
+     */
+    public PuzzleResponse generateWorkStealing(int gridSize, int targetWordCount) {
+        return generateWorkStealing(gridSize, targetWordCount, null, null, DEFAULT_TIMEOUT_MS, null);
+    }
+
+    /**
+     * 작업 분할(work-stealing) 병렬 퍼즐 생성
+     * 하나의 시작 단어에서 탐색 트리를 SPLIT_DEPTH 깊이까지 자식 노드별 ForkJoin 작업으로 나눕니다.
+     * 큰 하위 트리는 놀고 있는 워커가 가져가서 탐색하므로 시드별 고정 분할보다 코어를 고르게 사용합니다.
+     * 모든 작업은 하나의 공유 최선 결과를 CAS로 갱신하고, 목표 단어 수와 목표 점수를 함께 달성하면 전체가 멈춥니다.
+     * (작업 실행 순서가 스케줄링에 따라 달라지므로 시드를 지정해도 결과가 같다는 보장은 없음)
+     *
+     * @param seed 난수 시드 (null이면 매번 다른 퍼즐)
+     */
+    public PuzzleResponse generateWorkStealing(int gridSize, int targetWordCount,
+                                               String category, String wordType,
+                                               long timeoutMs, Long seed) {
+        log.info("작업 분할 퍼즐 생성 시작: gridSize={}, targetWords={}, timeout={}ms",
+                gridSize, targetWordCount, timeoutMs);
+
+        long startTime = System.currentTimeMillis();
+        SplittableRandom random = newRandom(seed);
+        SharedBound shared = new SharedBound(targetWordCount);
+        SearchStats stats = new SearchStats();
+        SearchContext context = new SearchContext(targetWordCount, category, wordType,
+                startTime + timeoutMs, random, shared, stats);
+
+        long phaseStart = System.nanoTime();
+        LexiconWord firstWord = findFirstWord(gridSize, category, wordType, random);
+        metrics.recordSince(GenerationMetrics.Generator.BACKTRACKING, GenerationMetrics.Phase.SEED, phaseStart);
+        if (firstWord == null) {
+            throw new IllegalStateException("조건에 맞는 단어가 없습니다.");
+        }
+
+        GridState root = new GridState(gridSize);
+        root.place(firstWord.word(), firstWord.definition(), gridSize / 2,
+                (gridSize - firstWord.length()) / 2, PuzzleWord.Direction.ACROSS);
+
+        phaseStart = System.nanoTime();
+        searchPool().invoke(new SplitSearchTask(context, root, 0));
+        metrics.recordSince(GenerationMetrics.Generator.BACKTRACKING, GenerationMetrics.Phase.SEARCH, phaseStart);
+        recordStats(GenerationMetrics.Generator.BACKTRACKING, stats);
+
+        Best best = shared.best.get();
+        log.info("작업 분할 생성 완료: {}ms, 최고점수={}, 단어수={}, 목표달성={}",
+                System.currentTimeMillis() - startTime, String.format("%.1f", best.score()),
+                best.wordCount(), shared.targetReached);
+
+        return toResponse(GenerationMetrics.Generator.BACKTRACKING, best.grid() != null ? best.grid() : root, seed);
+    }
+
+    /**
+     * 빔 탐색 퍼즐 생성 (기본 빔 폭)
+     */
+    public PuzzleResponse generateBeam(int gridSize, int targetWordCount) {
+        return generateBeam(gridSize, targetWordCount, null, null, DEFAULT_TIMEOUT_MS, DEFAULT_BEAM_WIDTH, null);
+    }
+
+    /**
+     * 빔 탐색 퍼즐 생성
+     * 깊이 우선으로 한 하위 트리를 끝까지 내려가지 않고, 단계(배치한 단어 수)마다 점수 상위 beamWidth개 상태만 남깁니다.
+     * 단계마다 프런티어의 모든 상태를 생성기 전용 ForkJoin 풀에서 병렬로 확장하고, 자식은 증분 점수(PuzzleScoreState)로 평가해
+     * 같은 배치 집합을 제외한 상위 beamWidth개를 다음 프런티어로 고릅니다.
+     * 한 단계의 비용은 beamWidth × 노드당 자식 수로 제한되고 프런티어 상태끼리는 공유하는 가변 상태가 없습니다.
+     * 자식 난수는 호출 스레드에서 프런티어 순서대로 분리하고 병합도 같은 순서로 하므로,
+     * 마감 시간 전에 끝나면 같은 시드는 같은 퍼즐을 생성합니다.
+     *
+     * @param beamWidth 단계마다 남길 상태 수
+     * @param seed      난수 시드 (null이면 매번 다른 퍼즐)
+     */
+    public PuzzleResponse generateBeam(int gridSize, int targetWordCount,
+                                       String category, String wordType,
+                                       long timeoutMs, int beamWidth, Long seed) {
+        if (beamWidth < 1) {
+            throw new IllegalArgumentException("beamWidth는 1 이상이어야 합니다.");
+        }
+        log.info("빔 탐색 퍼즐 생성 시작: gridSize={}, targetWords={}, beamWidth={}, timeout={}ms",
+                gridSize, targetWordCount, beamWidth, timeoutMs);
+
+        long startTime = System.currentTimeMillis();
+        long deadline = startTime + timeoutMs;
+        SplittableRandom random = newRandom(seed);
+        SearchStats stats = new SearchStats();
+
+        long phaseStart = System.nanoTime();
+        LexiconWord firstWord = findFirstWord(gridSize, category, wordType, random);
+        metrics.recordSince(GenerationMetrics.Generator.BEAM, GenerationMetrics.Phase.SEED, phaseStart);
+        if (firstWord == null) {
+            throw new IllegalStateException("조건에 맞는 단어가 없습니다.");
+        }
+
+        GridState root = new GridState(gridSize);
+        root.place(firstWord.word(), firstWord.definition(), gridSize / 2,
+                (gridSize - firstWord.length()) / 2, PuzzleWord.Direction.ACROSS);
+
+        phaseStart = System.nanoTime();
+        List<BeamNode> frontier = List.of(new BeamNode(root, -1));
+        Best best = Best.NONE;
+        int depth = 0;
+        while (!frontier.isEmpty() && depth < MAX_BACKTRACK_DEPTH && System.currentTimeMillis() < deadline) {
+            frontier = nextFrontier(frontier, targetWordCount, category, wordType, deadline, random, stats, beamWidth);
+            depth++;
+
+            if (!frontier.isEmpty() && best.isBeatenBy(frontier.get(0).score(), frontier.get(0).grid().wordCount())) {
+                best = new Best(frontier.get(0).score(), frontier.get(0).grid());
+            }
+            // 목표 달성 시 조기 종료
+            if (best.wordCount() >= targetWordCount && best.score() >= TARGET_SCORE) {
+                break;
+            }
+        }
+        metrics.recordSince(GenerationMetrics.Generator.BEAM, GenerationMetrics.Phase.SEARCH, phaseStart);
+        recordStats(GenerationMetrics.Generator.BEAM, stats);
+
+        log.info("빔 탐색 완료: {}ms, 단계={}, 최고점수={}, 단어수={}",
+                System.currentTimeMillis() - startTime, depth, String.format("%.1f", best.score()), best.wordCount());
+
+        return toResponse(GenerationMetrics.Generator.BEAM, best.grid() != null ? best.grid() : root, seed);
+    }
+
+    /**
+     * 프런티어 한 단계 확장: 모든 상태를 병렬로 확장한 뒤 자식 중 상위 beamWidth개 선택 (점수 내림차순)
+     */
+    private List<BeamNode> nextFrontier(List<BeamNode> frontier, int targetWordCount,
+                                        String category, String wordType, long deadline,
+                                        SplittableRandom random, SearchStats stats, int beamWidth) {
+        List<Callable<List<BeamChild>>> tasks = new ArrayList<>(frontier.size());
+        for (BeamNode node : frontier) {
+            SearchContext context = new SearchContext(targetWordCount, category, wordType,
+                    deadline, random.split(), null, stats);
+            tasks.add(() -> expand(context, node, beamWidth));
+        }
+
+        List<BeamChild> children = new ArrayList<>();
+        try {
+            for (Future<List<BeamChild>> future : searchPool().invokeAll(tasks)) {
+                children.addAll(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("퍼즐 생성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("빔 확장이 실패했습니다.", e.getCause());
+        }
+
+        // 정렬은 안정 정렬이므로 점수가 같으면 프런티어/발견 순서를 유지
+        children.sort(BeamChild.BY_SCORE);
+        Set<String> seen = new HashSet<>();
+        List<BeamNode> next = new ArrayList<>(Math.min(beamWidth, children.size()));
+        for (BeamChild child : children) {
+            if (next.size() >= beamWidth) {
+                break;
+            }
+            // 배치 순서만 다른 같은 그리드는 한 번만 남김
+            if (seen.add(child.signature())) {
+                next.add(new BeamNode(child.materialize(), child.score()));
+            }
+        }
+        return next;
+    }
+
+    /**
+     * 프런티어 상태 하나의 자식들 (점수 상위 beamWidth개까지만, 그리드는 선택된 뒤에 만듦)
+     */
+    private List<BeamChild> expand(SearchContext context, BeamNode node, int beamWidth) {
+        if (context.timedOut()) {
+            return List.of();
+        }
+        context.stats.nodes.increment();
+
+        PuzzleScoreState state = replay(node.grid());
+        List<BeamChild> children = new ArrayList<>();
+        forEachChild(context, state, () -> {
+            GridState grid = state.grid();
+            int last = grid.wordCount() - 1;
+            children.add(new BeamChild(node.grid(), grid.word(last), grid.definition(last),
+                    grid.startRow(last), grid.startCol(last), grid.direction(last), score(context, state)));
+        });
+
+        children.sort(BeamChild.BY_SCORE);
+        return children.size() > beamWidth ? new ArrayList<>(children.subList(0, beamWidth)) : children;
+    }
+
     /**
      * 다중 시드 병렬 퍼즐 생성
      * 여러 시작 단어로 동시에 퍼즐을 생성하고 최고 점수 결과를 반환합니다.
@@ -82,42 +294,65 @@ public class BacktrackingPuzzleGenerator {
     public PuzzleResponse generateParallel(int gridSize, int targetWordCount,
                                            String category, String wordType,
                                            long timeoutMs, int numSeeds) {
+        return generateParallel(gridSize, targetWordCount, category, wordType, timeoutMs, numSeeds, null);
+    }
+
+    /**
+     * 다중 시드 병렬 퍼즐 생성 (난수 시드 지정)
+     *
+     * @param seed 난수 시드 (null이면 매번 다른 퍼즐)
+     */
+    public PuzzleResponse generateParallel(int gridSize, int targetWordCount,
+                                           String category, String wordType,
+                                           long timeoutMs, int numSeeds, Long seed) {
         log.info("병렬 퍼즐 생성 시작: gridSize={}, targetWords={}, seeds={}, timeout={}ms",
                 gridSize, targetWordCount, numSeeds, timeoutMs);
 
         long startTime = System.currentTimeMillis();
+        SplittableRandom random = newRandom(seed);
 
         // 시작 단어 후보들 가져오기
-        List<StdWord> seedWords = getSeedWords(gridSize, category, wordType, numSeeds);
+        long phaseStart = System.nanoTime();
+        List<LexiconWord> seedWords = getSeedWords(gridSize, category, wordType, numSeeds, random);
+        metrics.recordSince(GenerationMetrics.Generator.BACKTRACKING, GenerationMetrics.Phase.SEED, phaseStart);
         if (seedWords.isEmpty()) {
             throw new IllegalStateException("조건에 맞는 시드 단어가 없습니다.");
         }
 
-        // 각 시드에 할당할 시간 계산
-        long perSeedTimeout = timeoutMs / numSeeds;
+        // 시드 작업은 동시에 실행되므로 모두 같은 마감 시간까지 탐색
+        long deadline = startTime + timeoutMs;
 
-        // 병렬로 퍼즐 생성
-        List<CompletableFuture<ScoredPuzzle>> futures = seedWords.stream()
-                .map(seedWord -> CompletableFuture.supplyAsync(() ->
-                        generateWithSeed(gridSize, targetWordCount, category, wordType,
-                                        perSeedTimeout, seedWord), executorService))
-                .collect(Collectors.toList());
+        // 시드 단어별 작업 (난수는 호출 스레드에서 순서대로 분리)
+        SearchStats stats = new SearchStats();
+        List<Callable<ScoredPuzzle>> tasks = new ArrayList<>();
+        for (LexiconWord seedWord : seedWords) {
+            SplittableRandom taskRandom = random.split();
+            tasks.add(() -> generateWithSeed(gridSize, targetWordCount, category, wordType,
+                    deadline, seedWord, taskRandom, seed, stats));
+        }
 
-        // 모든 결과 수집 (타임아웃 적용)
+        // 모든 결과 수집 (마감 후 여유 시간까지 끝나지 않은 작업은 취소됨)
+        phaseStart = System.nanoTime();
         List<ScoredPuzzle> results = new ArrayList<>();
-        for (CompletableFuture<ScoredPuzzle> future : futures) {
+        for (Future<ScoredPuzzle> future : invokeAllUntil(tasks, deadline + RESULT_GRACE_MS)) {
+            if (future.isCancelled()) {
+                log.warn("병렬 생성 타임아웃 - 시드 작업 취소");
+                continue;
+            }
             try {
-                ScoredPuzzle result = future.get(timeoutMs, TimeUnit.MILLISECONDS);
+                ScoredPuzzle result = future.get();
                 if (result != null) {
                     results.add(result);
                 }
-            } catch (TimeoutException e) {
-                log.warn("병렬 생성 타임아웃");
-                future.cancel(true);
-            } catch (InterruptedException | ExecutionException e) {
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("퍼즐 생성이 중단되었습니다.", e);
+            } catch (ExecutionException e) {
                 log.warn("병렬 생성 실패: {}", e.getMessage());
             }
         }
+        metrics.recordSince(GenerationMetrics.Generator.BACKTRACKING, GenerationMetrics.Phase.SEARCH, phaseStart);
+        recordStats(GenerationMetrics.Generator.BACKTRACKING, stats);
 
         // 최고 점수 결과 선택
         ScoredPuzzle best = results.stream()
@@ -128,32 +363,83 @@ public class BacktrackingPuzzleGenerator {
 
         if (best == null) {
             log.warn("병렬 생성 실패 - Fallback으로 단일 생성 시도");
-            return generate(gridSize, targetWordCount, category, wordType, timeoutMs);
+            return generate(gridSize, targetWordCount, category, wordType,
+                    Math.max(0, deadline - System.currentTimeMillis()), seed);
         }
 
-        log.info("병렬 생성 완료: {}ms, 시드 {}개 중 {}개 성공, 최고점수={:.1f}, 단어수={}",
-                elapsed, numSeeds, results.size(), best.score, best.puzzle.getTotalWords());
+        log.info("병렬 생성 완료: {}ms, 시드 {}개 중 {}개 성공, 최고점수={}, 단어수={}",
+                elapsed, numSeeds, results.size(), String.format("%.1f", best.score), best.puzzle.getTotalWords());
 
         return best.puzzle;
     }
 
     /**
-     * 시드 단어 후보 가져오기
+     * 시드 작업을 모두 실행하고 끝날 때까지 대기 (until이 지나면 남은 작업은 인터럽트로 취소)
+     * 호출 스레드가 인터럽트되어도 남은 작업을 모두 취소한 뒤 예외를 던지므로 작업이 호출보다 오래 살지 않습니다.
      */
-    private List<StdWord> getSeedWords(int gridSize, String category, String wordType, int count) {
-        int maxLength = Math.min(gridSize - 2, 6);
-        List<StdWord> words;
+    private <T> List<Future<T>> invokeAllUntil(List<Callable<T>> tasks, long until) {
+        long remaining = Math.max(0, until - System.currentTimeMillis());
+        try {
+            if (virtualThreads) {
+                // 호출 범위의 가상 스레드 실행기 (close()가 남은 작업 종료까지 대기)
+                try (ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor()) {
+                    return scope.invokeAll(tasks, remaining, TimeUnit.MILLISECONDS);
+                }
+            }
+            return seedExecutor().invokeAll(tasks, remaining, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("퍼즐 생성이 중단되었습니다.", e);
+        }
+    }
 
-        if (category != null) {
-            words = stdWordRepository.findRandomWordsByCategory(category, 3, maxLength, count * 3);
-        } else if (wordType != null) {
-            words = stdWordRepository.findRandomWordsByWordType(wordType, 3, maxLength, count * 3);
-        } else {
-            words = stdWordRepository.findRandomWordsWithSenses(3, maxLength, PageRequest.of(0, count * 3));
+    private synchronized ExecutorService seedExecutor() {
+        if (seedExecutor == null) {
+            AtomicInteger threadIndex = new AtomicInteger();
+            seedExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+                Thread thread = new Thread(r, "puzzle-seed-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return seedExecutor;
+    }
+
+    private synchronized ForkJoinPool searchPool() {
+        if (searchPool == null) {
+            AtomicInteger threadIndex = new AtomicInteger();
+            searchPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("puzzle-search-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, null, false);
+        }
+        return searchPool;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (seedExecutor != null) {
+            seedExecutor.shutdownNow();
+            seedExecutor = null;
+        }
+        if (searchPool != null) {
+            searchPool.shutdownNow();
+            searchPool = null;
         }
+    }
+
+    /**
+     * 시드 단어 후보 가져오기
+     */
+    private List<LexiconWord> getSeedWords(int gridSize, String category, String wordType, int count,
+                                           RandomGenerator random) {
+        int maxLength = Math.min(gridSize - 2, 6);
+        List<LexiconWord> words = findRandomWords(3, maxLength, category, wordType, count * 3, random);
 
         // 공통 글자가 많은 단어 우선 정렬 후 상위 N개 선택
-        words.sort((a, b) -> GridUtils.countCommonChars(b.getWord()) - GridUtils.countCommonChars(a.getWord()));
+        words.sort((a, b) -> GridUtils.countCommonChars(b.word()) - GridUtils.countCommonChars(a.word()));
 
         return words.stream().limit(count).collect(Collectors.toList());
     }
@@ -163,113 +449,38 @@ public class BacktrackingPuzzleGenerator {
      */
     private ScoredPuzzle generateWithSeed(int gridSize, int targetWordCount,
                                           String category, String wordType,
-                                          long timeoutMs, StdWord seedWord) {
+                                          long deadline, LexiconWord seedWord,
+                                          SplittableRandom random, Long seed, SearchStats stats) {
         try {
-            long deadline = System.currentTimeMillis() + timeoutMs;
-
-            char[][] grid = GridUtils.createEmptyGrid(gridSize);
-            List<PuzzleWord> placedWords = new ArrayList<>();
-            Set<String> usedWords = new HashSet<>();
+            SearchContext context = new SearchContext(targetWordCount, category, wordType,
+                    deadline, random, null, stats);
+            PuzzleScoreState state = new PuzzleScoreState(gridSize);
 
             // 시드 단어 배치
             int startRow = gridSize / 2;
-            int startCol = (gridSize - seedWord.getWord().length()) / 2;
-
-            placeWord(grid, seedWord.getWord(), startRow, startCol, PuzzleWord.Direction.ACROSS);
-            placedWords.add(createPuzzleWord(seedWord, startRow, startCol, PuzzleWord.Direction.ACROSS));
-            usedWords.add(seedWord.getWord());
+            int startCol = (gridSize - seedWord.length()) / 2;
 
-            // 스레드 로컬 변수로 백트래킹
-            PuzzleResponse[] localBest = {null};
-            double[] localBestScore = {-1};
+            state.place(seedWord.word(), seedWord.definition(), startRow, startCol, PuzzleWord.Direction.ACROSS);
 
-            backtrackWithSeed(grid, placedWords, usedWords, gridSize, targetWordCount,
-                            category, wordType, deadline, 0, localBest, localBestScore);
+            backtrack(context, state, 0);
 
-            if (localBest[0] == null) {
-                localBest[0] = buildPuzzleResponse(grid, placedWords, gridSize);
-                localBestScore[0] = puzzleScorer.calculateScore(localBest[0]);
+            if (context.bestGrid == null) {
+                context.bestGrid = state.grid();
+                context.bestScore = score(context, state);
             }
 
-            log.debug("시드 '{}' 완료: score={:.1f}, words={}",
-                    seedWord.getWord(), localBestScore[0], localBest[0].getTotalWords());
+            log.debug("시드 '{}' 완료: score={}, words={}",
+                    seedWord.word(), String.format("%.1f", context.bestScore), context.bestGrid.wordCount());
 
-            return new ScoredPuzzle(localBest[0], localBestScore[0]);
+            return new ScoredPuzzle(toResponse(GenerationMetrics.Generator.BACKTRACKING, context.bestGrid, seed),
+                    context.bestScore);
 
         } catch (Exception e) {
-            log.warn("시드 '{}' 생성 실패: {}", seedWord.getWord(), e.getMessage());
+            log.warn("시드 '{}' 생성 실패: {}", seedWord.word(), e.getMessage());
             return null;
         }
     }
 
-    /**
-     * 백트래킹 (스레드 안전 버전)
-     */
-    private void backtrackWithSeed(char[][] grid, List<PuzzleWord> placedWords, Set<String> usedWords,
-                                   int gridSize, int targetWordCount,
-                                   String category, String wordType,
-                                   long deadline, int depth,
-                                   PuzzleResponse[] localBest, double[] localBestScore) {
-
-        if (System.currentTimeMillis() >= deadline || depth >= MAX_BACKTRACK_DEPTH) {
-            return;
-        }
-
-        // 현재 상태 평가
-        if (placedWords.size() >= 2) {
-            PuzzleResponse current = buildPuzzleResponse(grid, new ArrayList<>(placedWords), gridSize);
-            double currentScore = puzzleScorer.calculateScore(current);
-
-            if (currentScore > localBestScore[0] ||
-                (currentScore == localBestScore[0] && placedWords.size() > (localBest[0] != null ? localBest[0].getTotalWords() : 0))) {
-                localBestScore[0] = currentScore;
-                localBest[0] = current;
-            }
-        }
-
-        // 목표 달성 시 조기 종료
-        if (placedWords.size() >= targetWordCount && localBestScore[0] >= 70) {
-            return;
-        }
-
-        // 교차 후보 및 단어 배치 시도
-        List<IntersectionCandidate> candidates = findIntersectionCandidates(grid, gridSize);
-        if (candidates.isEmpty()) return;
-
-        Collections.shuffle(candidates);
-        int maxCandidates = Math.min(candidates.size(), MAX_CANDIDATES_PER_LEVEL);
-
-        for (int i = 0; i < maxCandidates && System.currentTimeMillis() < deadline; i++) {
-            IntersectionCandidate candidate = candidates.get(i);
-            List<StdWord> words = findWordsForIntersection(candidate, gridSize, usedWords, category, wordType);
-
-            for (StdWord word : words) {
-                if (System.currentTimeMillis() >= deadline) break;
-
-                List<PlacementOption> placements = calculatePlacements(candidate, word);
-
-                for (PlacementOption placement : placements) {
-                    if (System.currentTimeMillis() >= deadline) break;
-
-                    if (placementValidator.canPlaceWord(grid, word.getWord(),
-                            placement.row, placement.col, placement.direction, gridSize)) {
-
-                        GridSnapshot snapshot = new GridSnapshot(grid, placedWords, usedWords);
-
-                        placeWord(grid, word.getWord(), placement.row, placement.col, placement.direction);
-                        placedWords.add(createPuzzleWord(word, placement.row, placement.col, placement.direction));
-                        usedWords.add(word.getWord());
-
-                        backtrackWithSeed(grid, placedWords, usedWords, gridSize, targetWordCount,
-                                        category, wordType, deadline, depth + 1, localBest, localBestScore);
-
-                        snapshot.restoreTo(grid, placedWords, usedWords);
-                    }
-                }
-            }
-        }
-    }
-
     /**
      * 점수가 포함된 퍼즐 결과
      */
@@ -288,176 +499,227 @@ public class BacktrackingPuzzleGenerator {
      */
     public PuzzleResponse generate(int gridSize, int targetWordCount,
                                    String category, String wordType, long timeoutMs) {
+        return generate(gridSize, targetWordCount, category, wordType, timeoutMs, null);
+    }
+
+    /**
+     * 백트래킹으로 퍼즐 생성 (난수 시드 지정)
+     *
+     * @param seed 난수 시드 (null이면 매번 다른 퍼즐)
+     */
+    public PuzzleResponse generate(int gridSize, int targetWordCount,
+                                   String category, String wordType, long timeoutMs, Long seed) {
         log.info("백트래킹 퍼즐 생성 시작: gridSize={}, targetWords={}, timeout={}ms",
                 gridSize, targetWordCount, timeoutMs);
 
-        bestResult = null;
-        bestScore = -1;
-        timeoutReached = false;
-
         long startTime = System.currentTimeMillis();
-        long deadline = startTime + timeoutMs;
+        SplittableRandom random = newRandom(seed);
+        SearchStats stats = new SearchStats();
+        SearchContext context = new SearchContext(targetWordCount, category, wordType,
+                startTime + timeoutMs, random, null, stats);
 
-        char[][] grid = GridUtils.createEmptyGrid(gridSize);
-        List<PuzzleWord> placedWords = new ArrayList<>();
-        Set<String> usedWords = new HashSet<>();
+        PuzzleScoreState state = new PuzzleScoreState(gridSize);
 
         // 첫 번째 단어 배치
-        StdWord firstWord = findFirstWord(gridSize, category, wordType);
+        long phaseStart = System.nanoTime();
+        LexiconWord firstWord = findFirstWord(gridSize, category, wordType, random);
+        metrics.recordSince(GenerationMetrics.Generator.BACKTRACKING, GenerationMetrics.Phase.SEED, phaseStart);
         if (firstWord == null) {
             throw new IllegalStateException("조건에 맞는 단어가 없습니다.");
         }
 
         int startRow = gridSize / 2;
-        int startCol = (gridSize - firstWord.getWord().length()) / 2;
+        int startCol = (gridSize - firstWord.length()) / 2;
 
-        placeWord(grid, firstWord.getWord(), startRow, startCol, PuzzleWord.Direction.ACROSS);
-        placedWords.add(createPuzzleWord(firstWord, startRow, startCol, PuzzleWord.Direction.ACROSS));
-        usedWords.add(firstWord.getWord());
+        state.place(firstWord.word(), firstWord.definition(), startRow, startCol, PuzzleWord.Direction.ACROSS);
 
         // 백트래킹 시작
-        backtrack(grid, placedWords, usedWords, gridSize, targetWordCount,
-                 category, wordType, deadline, 0);
+        phaseStart = System.nanoTime();
+        backtrack(context, state, 0);
+        metrics.recordSince(GenerationMetrics.Generator.BACKTRACKING, GenerationMetrics.Phase.SEARCH, phaseStart);
+        recordStats(GenerationMetrics.Generator.BACKTRACKING, stats);
 
         long elapsed = System.currentTimeMillis() - startTime;
-        log.info("백트래킹 완료: {}ms, 최고점수={:.1f}, 단어수={}",
-                elapsed, bestScore, bestResult != null ? bestResult.getTotalWords() : 0);
-
-        if (bestResult == null) {
-            // 백트래킹 실패 시 현재 상태로 결과 생성
-            bestResult = buildPuzzleResponse(grid, placedWords, gridSize);
-        }
+        log.info("백트래킹 완료: {}ms, 최고점수={}, 단어수={}",
+                elapsed, String.format("%.1f", context.bestScore),
+                context.bestGrid != null ? context.bestGrid.wordCount() : 0);
 
-        return bestResult;
+        // 최선 상태에 대해서만 PuzzleResponse 생성 (백트래킹 실패 시 현재 상태)
+        return toResponse(GenerationMetrics.Generator.BACKTRACKING,
+                context.bestGrid != null ? context.bestGrid : state.grid(), seed);
     }
 
     /**
      * 백트래킹 재귀 함수
+     * 탐색 상태는 호출마다 만든 SearchContext에만 기록하므로 동시 호출끼리 간섭하지 않습니다.
      */
-    private void backtrack(char[][] grid, List<PuzzleWord> placedWords, Set<String> usedWords,
-                          int gridSize, int targetWordCount,
-                          String category, String wordType,
-                          long deadline, int depth) {
+    private void backtrack(SearchContext context, PuzzleScoreState state, int depth) {
+        if (!visit(context, state, depth)) {
+            return;
+        }
+
+        // 자식 배치마다 재귀 후 마지막 배치만 되돌림
+        forEachChild(context, state, () -> backtrack(context, state, depth + 1));
+    }
 
+    /**
+     * 노드 방문: 현재 상태를 평가해 최선 결과를 갱신하고, 자식을 탐색할지 결정
+     */
+    private boolean visit(SearchContext context, PuzzleScoreState state, int depth) {
         // 타임아웃 체크
-        if (System.currentTimeMillis() >= deadline) {
-            timeoutReached = true;
-            return;
+        if (context.timedOut()) {
+            return false;
         }
 
         // 깊이 제한 체크
         if (depth >= MAX_BACKTRACK_DEPTH) {
-            return;
+            return false;
         }
 
+        context.stats.nodes.increment();
+
         // 현재 상태 평가 및 최선 결과 갱신
-        if (placedWords.size() >= 2) {
-            PuzzleResponse current = buildPuzzleResponse(grid, placedWords, gridSize);
-            double currentScore = puzzleScorer.calculateScore(current);
-
-            if (currentScore > bestScore ||
-                (currentScore == bestScore && placedWords.size() > (bestResult != null ? bestResult.getTotalWords() : 0))) {
-                bestScore = currentScore;
-                bestResult = current;
-                log.debug("새로운 최선 결과: score={:.1f}, words={}", currentScore, placedWords.size());
-            }
+        if (state.wordCount() >= 2) {
+            context.offer(score(context, state), state.grid());
         }
 
         // 목표 달성 시 조기 종료 (가지치기)
-        if (placedWords.size() >= targetWordCount && bestScore >= 70) {
-            return;
-        }
+        return state.wordCount() < context.targetWordCount || context.bestScore() < TARGET_SCORE;
+    }
+
+    /**
+     * 노드 평가 (점수 계산 시간은 SearchStats에 누적)
+     */
+    private double score(SearchContext context, PuzzleScoreState state) {
+        long start = System.nanoTime();
+        double score = puzzleScorer.calculateScore(state);
+        context.stats.scoringNanos.add(System.nanoTime() - start);
+        return score;
+    }
+
+    /**
+     * 최종 결과의 PuzzleResponse 생성 (응답 생성 시간 기록)
+     */
+    private PuzzleResponse toResponse(GenerationMetrics.Generator generator, GridState grid, Long seed) {
+        long start = System.nanoTime();
+        PuzzleResponse response = gridConverter.toPuzzleResponse(grid, seed);
+        metrics.recordSince(generator, GenerationMetrics.Phase.RESPONSE, start);
+        return response;
+    }
+
+    /**
+     * 호출 하나의 탐색 통계 기록 (노드 수, 점수 계산 누적 시간)
+     */
+    private void recordStats(GenerationMetrics.Generator generator, SearchStats stats) {
+        metrics.nodesExpanded(generator, stats.nodes.sum());
+        metrics.record(generator, GenerationMetrics.Phase.SCORING, stats.scoringNanos.sum());
+    }
 
+    /**
+     * 자식 노드 순회: 교차 후보마다 배치 가능한 단어를 놓고 onPlaced 실행 후 되돌림
+     */
+    private void forEachChild(SearchContext context, PuzzleScoreState state, Runnable onPlaced) {
         // 교차 후보 찾기
-        List<IntersectionCandidate> candidates = findIntersectionCandidates(grid, gridSize);
+        List<IntersectionCandidate> candidates = findIntersectionCandidates(state.grid());
         if (candidates.isEmpty()) {
             return;
         }
 
         // 후보 수 제한 (가지치기)
-        Collections.shuffle(candidates);
+        Collections.shuffle(candidates, context.random);
         int maxCandidates = Math.min(candidates.size(), MAX_CANDIDATES_PER_LEVEL);
 
-        for (int i = 0; i < maxCandidates && !timeoutReached; i++) {
+        for (int i = 0; i < maxCandidates && !context.timedOut(); i++) {
             IntersectionCandidate candidate = candidates.get(i);
 
-            // 해당 교차점에 맞는 단어들 검색
-            List<StdWord> words = findWordsForIntersection(candidate, gridSize, usedWords, category, wordType);
+            // 해당 교차점에 맞는 단어들 검색 (교차 음절 위치 포함)
+            List<Lexicon.Match> matches = findWordsForIntersection(candidate, state.grid(),
+                    context.category, context.wordType, context.random);
 
-            for (StdWord word : words) {
-                if (timeoutReached) break;
+            for (Lexicon.Match match : matches) {
+                if (context.timedOut()) break;
 
-                List<PlacementOption> placements = calculatePlacements(candidate, word);
+                LexiconWord word = match.word();
+                PlacementOption placement = toPlacement(candidate, match);
 
-                for (PlacementOption placement : placements) {
-                    if (timeoutReached) break;
+                if (placementValidator.canPlaceWord(state.grid(), word.word(),
+                        placement.row, placement.col, placement.direction)) {
 
-                    if (placementValidator.canPlaceWord(grid, word.getWord(),
-                            placement.row, placement.col, placement.direction, gridSize)) {
+                    // 단어 배치 (새로 채운 셀만 되돌리기 로그에 기록)
+                    state.place(word.word(), word.definition(), placement.row, placement.col, placement.direction);
 
-                        // 스냅샷 생성 (백트래킹용)
-                        GridSnapshot snapshot = new GridSnapshot(grid, placedWords, usedWords);
+                    onPlaced.run();
 
-                        // 단어 배치
-                        placeWord(grid, word.getWord(), placement.row, placement.col, placement.direction);
-                        PuzzleWord pw = createPuzzleWord(word, placement.row, placement.col, placement.direction);
-                        placedWords.add(pw);
-                        usedWords.add(word.getWord());
-
-                        // 재귀 호출
-                        backtrack(grid, placedWords, usedWords, gridSize, targetWordCount,
-                                 category, wordType, deadline, depth + 1);
-
-                        // 백트래킹: 상태 복원
-                        snapshot.restoreTo(grid, placedWords, usedWords);
-                    }
+                    // 백트래킹: 마지막 배치만 되돌림
+                    state.undo();
                 }
             }
         }
     }
 
+    /**
+     * GridState에 기록된 배치를 순서대로 다시 놓아 스코어 상태 복원
+     */
+    private static PuzzleScoreState replay(GridState grid) {
+        PuzzleScoreState state = new PuzzleScoreState(grid.size());
+        for (int i = 0; i < grid.wordCount(); i++) {
+            state.place(grid.word(i), grid.definition(i), grid.startRow(i), grid.startCol(i), grid.direction(i));
+        }
+        return state;
+    }
+
     /**
      * 첫 번째 단어 찾기
      */
-    private StdWord findFirstWord(int gridSize, String category, String wordType) {
+    private LexiconWord findFirstWord(int gridSize, String category, String wordType, RandomGenerator random) {
         int maxLength = Math.min(gridSize - 2, 6);
-        List<StdWord> words;
-
-        if (category != null) {
-            words = stdWordRepository.findRandomWordsByCategory(category, 3, maxLength, 50);
-        } else if (wordType != null) {
-            words = stdWordRepository.findRandomWordsByWordType(wordType, 3, maxLength, 50);
-        } else {
-            words = stdWordRepository.findRandomWordsWithSenses(3, maxLength, PageRequest.of(0, 50));
-        }
+        List<LexiconWord> words = findRandomWords(3, maxLength, category, wordType, 50, random);
 
         if (words.isEmpty()) return null;
 
         // 공통 글자를 많이 포함한 단어 우선
-        words.sort((a, b) -> GridUtils.countCommonChars(b.getWord()) - GridUtils.countCommonChars(a.getWord()));
+        words.sort((a, b) -> GridUtils.countCommonChars(b.word()) - GridUtils.countCommonChars(a.word()));
 
         int selectFrom = Math.min(10, words.size());
-        return words.get(new Random().nextInt(selectFrom));
+        return words.get(random.nextInt(selectFrom));
+    }
+
+    /**
+     * 길이 범위 내 랜덤 단어 조회 (메모리 사전 우선, 로딩 전에는 DB)
+     */
+    private List<LexiconWord> findRandomWords(int minLength, int maxLength,
+                                              String category, String wordType, int limit,
+                                              RandomGenerator random) {
+        Lexicon lexicon = lexiconService.current();
+        if (!lexicon.isEmpty()) {
+            metrics.candidateFetched(GenerationMetrics.Source.LEXICON);
+            return lexicon.sampleByLength(minLength, maxLength, category, wordType, limit, random);
+        }
+
+        metrics.candidateFetched(GenerationMetrics.Source.DB);
+        List<StdWord> words = stdWordSampler.randomWords(minLength, maxLength, category, wordType, limit, random);
+        return words.stream().map(LexiconWord::from).collect(Collectors.toList());
     }
 
     /**
      * 교차 후보 찾기
      */
-    private List<IntersectionCandidate> findIntersectionCandidates(char[][] grid, int gridSize) {
+    private List<IntersectionCandidate> findIntersectionCandidates(GridState state) {
         List<IntersectionCandidate> candidates = new ArrayList<>();
+        int gridSize = state.size();
 
         for (int row = 0; row < gridSize; row++) {
             for (int col = 0; col < gridSize; col++) {
-                if (grid[row][col] != '\0') {
-                    char existingChar = grid[row][col];
+                if (!state.isEmpty(row, col)) {
+                    char existingChar = state.get(row, col);
 
                     // 가로 배치 가능 여부
-                    if (isPartOfVerticalWord(grid, row, col) && canExtendHorizontally(grid, row, col, gridSize)) {
+                    if (isPartOfVerticalWord(state, row, col) && canExtendHorizontally(state, row, col)) {
                         candidates.add(new IntersectionCandidate(row, col, existingChar, PuzzleWord.Direction.ACROSS));
                     }
 
                     // 세로 배치 가능 여부
-                    if (isPartOfHorizontalWord(grid, row, col) && canExtendVertically(grid, row, col, gridSize)) {
+                    if (isPartOfHorizontalWord(state, row, col) && canExtendVertically(state, row, col)) {
                         candidates.add(new IntersectionCandidate(row, col, existingChar, PuzzleWord.Direction.DOWN));
                     }
                 }
@@ -469,206 +731,307 @@ public class BacktrackingPuzzleGenerator {
 
     /**
      * 교차점에 맞는 단어 찾기
+     * 메모리 사전이 있으면 교차점 앞뒤 공간에 들어가는 (음절, 위치, 길이) 조합만 조회합니다.
      */
-    private List<StdWord> findWordsForIntersection(IntersectionCandidate candidate, int gridSize,
-                                                    Set<String> usedWords, String category, String wordType) {
-        String charStr = String.valueOf(candidate.character);
-        List<StdWord> words;
-
-        if (category != null) {
-            words = stdWordRepository.findRandomWordsByCategoryContainingChar(
-                    category, charStr, 2, gridSize, WORDS_PER_CANDIDATE);
-        } else if (wordType != null) {
-            words = stdWordRepository.findRandomWordsByWordTypeContainingChar(
-                    wordType, charStr, 2, gridSize, WORDS_PER_CANDIDATE);
+    private List<Lexicon.Match> findWordsForIntersection(IntersectionCandidate candidate, GridState state,
+                                                         String category, String wordType, RandomGenerator random) {
+        int gridSize = state.size();
+        Lexicon lexicon = lexiconService.current();
+        List<Lexicon.Match> matches;
+
+        if (!lexicon.isEmpty()) {
+            int position = candidate.direction == PuzzleWord.Direction.ACROSS ? candidate.col : candidate.row;
+            metrics.candidateFetched(GenerationMetrics.Source.LEXICON);
+            matches = lexicon.sampleWithSyllable(candidate.character, position, gridSize - 1 - position,
+                    2, gridSize, category, wordType, WORDS_PER_CANDIDATE, random);
         } else {
-            words = stdWordRepository.findWordsContainingCharWithSenses(
-                    charStr, 2, gridSize, PageRequest.of(0, WORDS_PER_CANDIDATE));
+            metrics.candidateFetched(GenerationMetrics.Source.DB);
+            matches = findWordsForIntersectionFromDb(candidate, gridSize, category, wordType, random);
         }
 
         // 이미 사용된 단어 필터링
-        List<StdWord> filtered = new ArrayList<>();
-        for (StdWord w : words) {
-            if (!usedWords.contains(w.getWord()) && w.getWord().indexOf(candidate.character) >= 0) {
-                filtered.add(w);
+        List<Lexicon.Match> filtered = new ArrayList<>();
+        for (Lexicon.Match match : matches) {
+            if (!state.containsWord(match.word().word())) {
+                filtered.add(match);
             }
         }
 
-        Collections.shuffle(filtered);
+        Collections.shuffle(filtered, random);
         return filtered;
     }
 
     /**
-     * 배치 위치 계산
+     * 교차점에 맞는 단어 DB 조회 (메모리 사전 로딩 전 대체 경로)
      */
-    private List<PlacementOption> calculatePlacements(IntersectionCandidate candidate, StdWord word) {
-        List<PlacementOption> placements = new ArrayList<>();
-        String wordStr = word.getWord();
-
-        for (int i = 0; i < wordStr.length(); i++) {
-            if (wordStr.charAt(i) == candidate.character) {
-                if (candidate.direction == PuzzleWord.Direction.ACROSS) {
-                    placements.add(new PlacementOption(candidate.row, candidate.col - i, candidate.direction));
-                } else {
-                    placements.add(new PlacementOption(candidate.row - i, candidate.col, candidate.direction));
+    private List<Lexicon.Match> findWordsForIntersectionFromDb(IntersectionCandidate candidate, int gridSize,
+                                                               String category, String wordType,
+                                                               RandomGenerator random) {
+        List<StdWord> words = stdWordSampler.randomWordsContainingChar(candidate.character, 2, gridSize,
+                category, wordType, WORDS_PER_CANDIDATE, random);
+
+        // 단어에서 교차 글자가 나타나는 모든 위치를 후보로 변환
+        List<Lexicon.Match> matches = new ArrayList<>();
+        for (StdWord w : words) {
+            String wordStr = w.getWord();
+            LexiconWord word = null;
+            for (int i = 0; i < wordStr.length(); i++) {
+                if (wordStr.charAt(i) == candidate.character) {
+                    if (word == null) word = LexiconWord.from(w);
+                    matches.add(new Lexicon.Match(word, i));
                 }
             }
         }
+        return matches;
+    }
 
-        return placements;
+    /**
+     * 교차 음절 위치로부터 단어 시작 위치 계산
+     */
+    private PlacementOption toPlacement(IntersectionCandidate candidate, Lexicon.Match match) {
+        if (candidate.direction == PuzzleWord.Direction.ACROSS) {
+            return new PlacementOption(candidate.row, candidate.col - match.position(), candidate.direction);
+        }
+        return new PlacementOption(candidate.row - match.position(), candidate.col, candidate.direction);
     }
 
     // ============== 헬퍼 메서드 ==============
 
-    private boolean isPartOfVerticalWord(char[][] grid, int row, int col) {
-        return (row > 0 && grid[row - 1][col] != '\0') ||
-               (row < grid.length - 1 && grid[row + 1][col] != '\0');
+    private static SplittableRandom newRandom(Long seed) {
+        return seed != null ? new SplittableRandom(seed) : new SplittableRandom();
     }
 
-    private boolean isPartOfHorizontalWord(char[][] grid, int row, int col) {
-        return (col > 0 && grid[row][col - 1] != '\0') ||
-               (col < grid[0].length - 1 && grid[row][col + 1] != '\0');
+    private boolean isPartOfVerticalWord(GridState state, int row, int col) {
+        return state.isFilled(row - 1, col) || state.isFilled(row + 1, col);
     }
 
-    private boolean canExtendHorizontally(char[][] grid, int row, int col, int gridSize) {
-        return (col > 0 && grid[row][col - 1] == '\0') ||
-               (col < gridSize - 1 && grid[row][col + 1] == '\0');
+    private boolean isPartOfHorizontalWord(GridState state, int row, int col) {
+        return state.isFilled(row, col - 1) || state.isFilled(row, col + 1);
     }
 
-    private boolean canExtendVertically(char[][] grid, int row, int col, int gridSize) {
-        return (row > 0 && grid[row - 1][col] == '\0') ||
-               (row < gridSize - 1 && grid[row + 1][col] == '\0');
+    private boolean canExtendHorizontally(GridState state, int row, int col) {
+        return (col > 0 && state.isEmpty(row, col - 1)) ||
+               (col < state.size() - 1 && state.isEmpty(row, col + 1));
     }
 
-    private void placeWord(char[][] grid, String word, int startRow, int startCol, PuzzleWord.Direction direction) {
-        for (int i = 0; i < word.length(); i++) {
-            if (direction == PuzzleWord.Direction.ACROSS) {
-                grid[startRow][startCol + i] = word.charAt(i);
-            } else {
-                grid[startRow + i][startCol] = word.charAt(i);
-            }
-        }
+    private boolean canExtendVertically(GridState state, int row, int col) {
+        return (row > 0 && state.isEmpty(row - 1, col)) ||
+               (row < state.size() - 1 && state.isEmpty(row + 1, col));
     }
 
-    private PuzzleWord createPuzzleWord(StdWord word, int startRow, int startCol, PuzzleWord.Direction direction) {
-        String definition = "";
-        if (word.getSenses() != null && !word.getSenses().isEmpty()) {
-            definition = word.getSenses().get(0).getDefinition();
+    // ============== 내부 클래스 ==============
+
+    private static class IntersectionCandidate {
+        int row, col;
+        char character;
+        PuzzleWord.Direction direction;
+
+        IntersectionCandidate(int row, int col, char character, PuzzleWord.Direction direction) {
+            this.row = row;
+            this.col = col;
+            this.character = character;
+            this.direction = direction;
         }
-        return PuzzleWord.builder()
-                .number(0)
-                .word(word.getWord())
-                .definition(definition)
-                .startRow(startRow)
-                .startCol(startCol)
-                .direction(direction)
-                .build();
     }
 
-    private PuzzleResponse buildPuzzleResponse(char[][] grid, List<PuzzleWord> placedWords, int gridSize) {
-        // 중앙 정렬
-        centerPuzzle(grid, placedWords, gridSize);
+    /**
+     * 한 번의 탐색(generate 호출, 병렬 생성의 시드 단어 하나, 작업 분할의 작업 하나)에 속한 상태
+     * 한 스레드에서만 사용하므로 동기화하지 않습니다.
+     * 작업 분할 모드에서는 최선 결과를 자신이 아닌 SharedBound에 기록합니다.
+     */
+    private static final class SearchContext {
+        final int targetWordCount;
+        final String category;
+        final String wordType;
+        final long deadline;
+        final SplittableRandom random;
+        final SharedBound shared;
+        final SearchStats stats;
+
+        GridState bestGrid;
+        double bestScore = -1;
+        boolean timeoutReached;
+
+        SearchContext(int targetWordCount, String category, String wordType,
+                      long deadline, SplittableRandom random, SharedBound shared, SearchStats stats) {
+            this.targetWordCount = targetWordCount;
+            this.category = category;
+            this.wordType = wordType;
+            this.deadline = deadline;
+            this.random = random;
+            this.shared = shared;
+            this.stats = stats;
+        }
 
-        // 가로/세로 분리 및 정렬
-        List<PuzzleWord> acrossWords = new ArrayList<>();
-        List<PuzzleWord> downWords = new ArrayList<>();
+        /**
+         * 자식 작업용 컨텍스트 (난수만 분리하고 공유 상태는 그대로)
+         */
+        SearchContext split() {
+            return new SearchContext(targetWordCount, category, wordType, deadline, random.split(), shared, stats);
+        }
 
-        for (PuzzleWord pw : placedWords) {
-            if (pw.getDirection() == PuzzleWord.Direction.ACROSS) {
-                acrossWords.add(pw);
-            } else {
-                downWords.add(pw);
+        /**
+         * 마감 시간, 다른 작업의 목표 달성, 취소(인터럽트) 확인 (한 번 멈추면 이후로는 시간 조회 없이 true)
+         */
+        boolean timedOut() {
+            if (!timeoutReached && (System.currentTimeMillis() >= deadline
+                    || (shared != null && shared.targetReached)
+                    || Thread.currentThread().isInterrupted())) {
+                timeoutReached = true;
             }
+            return timeoutReached;
         }
 
-        acrossWords.sort((a, b) -> a.getStartRow() != b.getStartRow() ?
-                a.getStartRow() - b.getStartRow() : a.getStartCol() - b.getStartCol());
-        downWords.sort((a, b) -> a.getStartRow() != b.getStartRow() ?
-                a.getStartRow() - b.getStartRow() : a.getStartCol() - b.getStartCol());
-
-        // 번호 부여
-        List<PuzzleWord> numberedAcross = new ArrayList<>();
-        int num = 1;
-        for (PuzzleWord pw : acrossWords) {
-            numberedAcross.add(PuzzleWord.builder()
-                    .number(num++).word(pw.getWord()).definition(pw.getDefinition())
-                    .startRow(pw.getStartRow()).startCol(pw.getStartCol()).direction(pw.getDirection()).build());
+        /**
+         * 현재 상태가 지금까지의 최선보다 나으면 복사해 기록
+         */
+        void offer(double score, GridState grid) {
+            if (shared != null) {
+                shared.offer(score, grid);
+                return;
+            }
+            if (score > bestScore || (score == bestScore && grid.wordCount() > bestWordCount())) {
+                bestScore = score;
+                bestGrid = grid.copy();
+                log.debug("새로운 최선 결과: score={}, words={}", score, grid.wordCount());
+            }
         }
 
-        List<PuzzleWord> numberedDown = new ArrayList<>();
-        num = 1;
-        for (PuzzleWord pw : downWords) {
-            numberedDown.add(PuzzleWord.builder()
-                    .number(num++).word(pw.getWord()).definition(pw.getDefinition())
-                    .startRow(pw.getStartRow()).startCol(pw.getStartCol()).direction(pw.getDirection()).build());
+        double bestScore() {
+            return shared != null ? shared.best.get().score() : bestScore;
         }
 
-        List<List<PuzzleCell>> cellGrid = gridConverter.convertToCellGrid(grid, numberedAcross, numberedDown, gridSize);
+        int bestWordCount() {
+            return bestGrid != null ? bestGrid.wordCount() : 0;
+        }
+    }
 
-        return PuzzleResponse.builder()
-                .gridSize(gridSize)
-                .grid(cellGrid)
-                .acrossWords(numberedAcross)
-                .downWords(numberedDown)
-                .totalWords(placedWords.size())
-                .build();
+    /**
+     * 호출 하나(병렬 생성이면 모든 시드 작업, 작업 분할이면 모든 작업)가 공유하는 탐색 통계
+     * 노드마다 메트릭에 기록하지 않고 여기 모았다가 호출이 끝날 때 한 번 기록합니다.
+     */
+    private static final class SearchStats {
+        final LongAdder nodes = new LongAdder();
+        final LongAdder scoringNanos = new LongAdder();
     }
 
-    private void centerPuzzle(char[][] grid, List<PuzzleWord> placedWords, int gridSize) {
-        int minRow = gridSize, maxRow = 0, minCol = gridSize, maxCol = 0;
-        for (int row = 0; row < gridSize; row++) {
-            for (int col = 0; col < gridSize; col++) {
-                if (grid[row][col] != '\0') {
-                    minRow = Math.min(minRow, row);
-                    maxRow = Math.max(maxRow, row);
-                    minCol = Math.min(minCol, col);
-                    maxCol = Math.max(maxCol, col);
+    /**
+     * 작업 분할 탐색에서 모든 작업이 공유하는 최선 결과
+     * 읽기는 잠금 없이 하고, 갱신은 더 나은 결과일 때만 CAS로 교체합니다.
+     */
+    private static final class SharedBound {
+        final AtomicReference<Best> best = new AtomicReference<>(Best.NONE);
+        final int targetWordCount;
+        volatile boolean targetReached;
+
+        SharedBound(int targetWordCount) {
+            this.targetWordCount = targetWordCount;
+        }
+
+        void offer(double score, GridState grid) {
+            Best candidate = null;
+            Best current;
+            do {
+                current = best.get();
+                if (!current.isBeatenBy(score, grid.wordCount())) {
+                    return;
                 }
+                if (candidate == null) {
+                    candidate = new Best(score, grid.copy());
+                }
+            } while (!best.compareAndSet(current, candidate));
+
+            if (score >= TARGET_SCORE && grid.wordCount() >= targetWordCount) {
+                targetReached = true;
             }
         }
+    }
 
-        if (minRow > maxRow) return;
+    /**
+     * 공유 최선 결과 (불변)
+     */
+    private record Best(double score, GridState grid) {
+        static final Best NONE = new Best(-1, null);
 
-        int puzzleHeight = maxRow - minRow + 1;
-        int puzzleWidth = maxCol - minCol + 1;
-        int targetMinRow = (gridSize - puzzleHeight) / 2;
-        int targetMinCol = (gridSize - puzzleWidth) / 2;
-        int rowOffset = targetMinRow - minRow;
-        int colOffset = targetMinCol - minCol;
+        int wordCount() {
+            return grid != null ? grid.wordCount() : 0;
+        }
 
-        if (rowOffset == 0 && colOffset == 0) return;
+        boolean isBeatenBy(double otherScore, int otherWordCount) {
+            return otherScore > score || (otherScore == score && otherWordCount > wordCount());
+        }
+    }
 
-        char[][] newGrid = GridUtils.createEmptyGrid(gridSize);
-        for (int row = minRow; row <= maxRow; row++) {
-            for (int col = minCol; col <= maxCol; col++) {
-                if (grid[row][col] != '\0') {
-                    newGrid[row + rowOffset][col + colOffset] = grid[row][col];
-                }
-            }
+    /**
+     * 빔 탐색 프런티어의 상태
+     */
+    private record BeamNode(GridState grid, double score) {
+    }
+
+    /**
+     * 빔 탐색 자식 후보 (부모 그리드 + 배치 하나)
+     * 자식마다 그리드를 복사하지 않고, 다음 프런티어로 선택된 경우에만 materialize()로 만듭니다.
+     */
+    private record BeamChild(GridState parent, String word, String definition,
+                             int row, int col, PuzzleWord.Direction direction, double score) {
+
+        static final Comparator<BeamChild> BY_SCORE = Comparator.comparingDouble(BeamChild::score).reversed();
+
+        GridState materialize() {
+            GridState grid = parent.copy();
+            grid.place(word, definition, row, col, direction);
+            return grid;
         }
 
-        for (int row = 0; row < gridSize; row++) {
-            System.arraycopy(newGrid[row], 0, grid[row], 0, gridSize);
+        /**
+         * 배치 순서와 무관한 배치 집합 키
+         */
+        String signature() {
+            List<String> placements = new ArrayList<>(parent.wordCount() + 1);
+            for (int i = 0; i < parent.wordCount(); i++) {
+                placements.add(placementKey(parent.word(i), parent.startRow(i), parent.startCol(i), parent.direction(i)));
+            }
+            placements.add(placementKey(word, row, col, direction));
+            Collections.sort(placements);
+            return String.join("|", placements);
         }
 
-        for (PuzzleWord pw : placedWords) {
-            pw.setStartRow(pw.getStartRow() + rowOffset);
-            pw.setStartCol(pw.getStartCol() + colOffset);
+        private static String placementKey(String word, int row, int col, PuzzleWord.Direction direction) {
+            return row + "," + col + (direction == PuzzleWord.Direction.ACROSS ? "A" : "D") + word;
         }
     }
 
-    // ============== 내부 클래스 ==============
+    /**
+     * 작업 분할 탐색 작업
+     * SPLIT_DEPTH 전까지는 자식 노드마다 하위 작업을 만들어 fork하고, 그 이후는 한 작업 안에서 순차 백트래킹합니다.
+     * 작업은 시작 상태의 GridState 복사본을 받아 스코어 상태를 다시 구성하므로 작업끼리 공유하는 가변 상태가 없습니다.
+     */
+    private final class SplitSearchTask extends RecursiveAction {
+        private final SearchContext context;
+        private final GridState start;
+        private final int depth;
+
+        SplitSearchTask(SearchContext context, GridState start, int depth) {
+            this.context = context;
+            this.start = start;
+            this.depth = depth;
+        }
 
-    private static class IntersectionCandidate {
-        int row, col;
-        char character;
-        PuzzleWord.Direction direction;
+        @Override
+        protected void compute() {
+            PuzzleScoreState state = replay(start);
+            if (depth >= SPLIT_DEPTH) {
+                backtrack(context, state, depth);
+                return;
+            }
+            if (!visit(context, state, depth)) {
+                return;
+            }
 
-        IntersectionCandidate(int row, int col, char character, PuzzleWord.Direction direction) {
-            this.row = row;
-            this.col = col;
-            this.character = character;
-            this.direction = direction;
+            List<SplitSearchTask> children = new ArrayList<>();
+            forEachChild(context, state, () ->
+                    children.add(new SplitSearchTask(context.split(), state.grid().copy(), depth + 1)));
+            invokeAll(children);
         }
     }
 
@@ -1,5 +1,7 @@
 package com.hakno.WordPuzzle.service;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hakno.WordPuzzle.entity.Definition;
@@ -9,20 +11,25 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
  * @deprecated 한국어기초사전 JSON 파일 기반 레거시 임포트 서비스.
  * 표준국어대사전 API 기반의 {@link StdictImportService}를 사용하세요.
  * Phase E에서 완전히 제거될 예정입니다.
+ *
+ * 파일은 JsonParser로 LexicalEntry를 하나씩 읽고, 기존 단어는 처음에 한 번 읽어 둔 집합으로 걸러
+ * BATCH_SIZE개씩 별도 트랜잭션으로 저장하므로 메모리 사용량이 파일 크기와 무관합니다.
  */
 @Deprecated(since = "2.0.0", forRemoval = true)
 @Service
@@ -31,12 +38,17 @@ import java.util.stream.Stream;
 public class DataImportService {
 
     private final WordRepository wordRepository;
+    private final WordCandidateProvider wordCandidateProvider;
+    private final TransactionTemplate transactionTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    @Transactional
-    @CacheEvict(value = {"wordsContaining", "wordsByPosition", "randomWords"}, allEntries = true)
+    // 한 트랜잭션에 저장할 단어 수
+    private static final int BATCH_SIZE = 500;
+
+    @CacheEvict(value = {"wordsByPosition", "randomWords"}, allEntries = true)
     public int importFromDirectory(String directoryPath) throws IOException {
         int totalImported = 0;
+        Set<String> existingWords = loadExistingWords();
 
         try (Stream<Path> paths = Files.list(Path.of(directoryPath))) {
             List<Path> jsonFiles = paths
@@ -46,43 +58,109 @@ public class DataImportService {
 
             for (Path jsonFile : jsonFiles) {
                 log.info("Importing file: {}", jsonFile.getFileName());
-                int count = importFromFile(jsonFile.toFile());
+                int count = importFile(jsonFile.toFile(), existingWords);
                 totalImported += count;
                 log.info("Imported {} words from {}", count, jsonFile.getFileName());
             }
         }
 
+        // 교차 후보 캐시에 새 단어가 반영되도록 무효화
+        wordCandidateProvider.invalidateAll();
+
         return totalImported;
     }
 
-    @Transactional
     public int importFromFile(File file) throws IOException {
-        JsonNode root = objectMapper.readTree(file);
-        JsonNode lexicalEntries = root
-                .path("LexicalResource")
-                .path("Lexicon")
-                .path("LexicalEntry");
-
-        if (!lexicalEntries.isArray()) {
-            log.warn("No LexicalEntry array found in file: {}", file.getName());
-            return 0;
-        }
+        return importFile(file, loadExistingWords());
+    }
+
+    /**
+     * 파일의 LexicalEntry를 하나씩 읽어 BATCH_SIZE개씩 저장
+     *
+     * @param existingWords 이미 저장된 단어 (저장한 단어를 추가하므로 파일 안/파일 간 중복도 제외)
+     */
+    private int importFile(File file, Set<String> existingWords) throws IOException {
+        int imported = 0;
+        List<Word> batch = new ArrayList<>(BATCH_SIZE);
 
-        List<Word> wordsToSave = new ArrayList<>();
+        try (JsonParser parser = objectMapper.createParser(file)) {
+            if (!moveToLexicalEntries(parser)) {
+                log.warn("No LexicalEntry array found in file: {}", file.getName());
+                return 0;
+            }
 
-        for (JsonNode entry : lexicalEntries) {
-            try {
-                Word word = parseEntry(entry);
-                if (word != null && !wordRepository.existsByWord(word.getWord())) {
-                    wordsToSave.add(word);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                // 엔트리 하나만 트리로 읽음
+                JsonNode entry = objectMapper.readTree(parser);
+                try {
+                    Word word = parseEntry(entry);
+                    if (word != null && existingWords.add(word.getWord())) {
+                        batch.add(word);
+                    }
+                } catch (Exception e) {
+                    log.warn("Failed to parse entry: {}", e.getMessage());
+                }
+
+                if (batch.size() >= BATCH_SIZE) {
+                    imported += saveBatch(batch);
                 }
-            } catch (Exception e) {
-                log.warn("Failed to parse entry: {}", e.getMessage());
             }
         }
 
-        wordRepository.saveAll(wordsToSave);
-        return wordsToSave.size();
+        imported += saveBatch(batch);
+        return imported;
+    }
+
+    /**
+     * LexicalResource.Lexicon.LexicalEntry 배열의 시작으로 이동 (배열이 아니면 false)
+     */
+    private boolean moveToLexicalEntries(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        for (String field : List.of("LexicalResource", "Lexicon", "LexicalEntry")) {
+            if (!moveToField(parser, field)) {
+                return false;
+            }
+        }
+        return parser.currentToken() == JsonToken.START_ARRAY;
+    }
+
+    /**
+     * 현재 객체에서 name 필드의 값으로 이동 (다른 필드는 하위 구조째 건너뜀)
+     * 중간 단계 값이 객체가 아니면 false
+     */
+    private boolean moveToField(JsonParser parser, String name) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if (name.equals(field)) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    /**
+     * 모은 단어를 트랜잭션 하나로 저장하고 목록을 비움
+     * 트랜잭션이 끝나면 영속성 컨텍스트도 닫히므로 저장한 엔티티가 쌓이지 않습니다.
+     */
+    private int saveBatch(List<Word> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        int count = batch.size();
+        transactionTemplate.executeWithoutResult(status -> wordRepository.saveAll(batch));
+        batch.clear();
+        return count;
+    }
+
+    private Set<String> loadExistingWords() {
+        return new HashSet<>(wordRepository.findAllWordTexts());
     }
 
     private Word parseEntry(JsonNode entry) {
@@ -0,0 +1,11 @@
+package com.hakno.WordPuzzle.service;
+
+/**
+ * 표준국어대사전 데이터가 변경되었음을 알리는 이벤트
+ * 임포트가 끝나면 발행되며, 메모리 사전 등 파생 데이터를 갱신하는 데 사용됩니다.
+ *
+ * @param source   변경을 발생시킨 작업 (로그용)
+ * @param imported 새로 저장된 단어 수
+ */
+public record DictionaryUpdatedEvent(String source, int imported) {
+}
@@ -0,0 +1,121 @@
+package com.hakno.WordPuzzle.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 퍼즐 생성 핫패스 메트릭
+ * - 단계별 시간: 시작 단어 선택(seed), 탐색(search), 점수 계산(scoring), 응답 생성(response)
+ * - 탐색 노드 수, 배치 검증 횟수와 거절 이유별 횟수
+ * - 후보 단어 조회 출처별 횟수 (메모리 사전 / 후보 캐시 적중 / DB 조회)
+ *
+ * 메트릭: puzzle.generation.phase(generator, phase), puzzle.generation.nodes(generator),
+ * puzzle.generation.placements.tried, puzzle.generation.placements.rejected(reason),
+ * puzzle.generation.candidate.fetches(source)
+ *
+ * 배치 검증과 노드 방문은 한 번의 생성에서 수만 번 일어나므로 LongAdder에 더하고 FunctionCounter로 노출합니다.
+ * 미터는 생성 시 모두 등록하므로 기록할 때는 태그 조회 없이 배열 인덱스만 사용합니다.
+ */
+@Component
+public class GenerationMetrics {
+
+    public enum Generator { GREEDY, BACKTRACKING, BEAM }
+
+    public enum Phase { SEED, SEARCH, SCORING, RESPONSE }
+
+    public enum Source { LEXICON, CACHE, DB }
+
+    private final Timer[][] phaseTimers = new Timer[Generator.values().length][Phase.values().length];
+    private final LongAdder[] nodes = new LongAdder[Generator.values().length];
+    private final LongAdder placementsTried = new LongAdder();
+    private final LongAdder[] placementsRejected = new LongAdder[PlacementValidator.Rejection.values().length];
+    private final Counter[] candidateFetches = new Counter[Source.values().length];
+
+    public GenerationMetrics(MeterRegistry meterRegistry) {
+        for (Generator generator : Generator.values()) {
+            for (Phase phase : Phase.values()) {
+                phaseTimers[generator.ordinal()][phase.ordinal()] = Timer.builder("puzzle.generation.phase")
+                        .tag("generator", tagValue(generator))
+                        .tag("phase", tagValue(phase))
+                        .description("퍼즐 생성 단계별 시간")
+                        .register(meterRegistry);
+            }
+            LongAdder adder = new LongAdder();
+            nodes[generator.ordinal()] = adder;
+            FunctionCounter.builder("puzzle.generation.nodes", adder, LongAdder::sum)
+                    .tag("generator", tagValue(generator))
+                    .description("탐색에서 확장한 노드 수")
+                    .register(meterRegistry);
+        }
+
+        FunctionCounter.builder("puzzle.generation.placements.tried", placementsTried, LongAdder::sum)
+                .description("배치 검증 횟수")
+                .register(meterRegistry);
+        for (PlacementValidator.Rejection reason : PlacementValidator.Rejection.values()) {
+            LongAdder adder = new LongAdder();
+            placementsRejected[reason.ordinal()] = adder;
+            FunctionCounter.builder("puzzle.generation.placements.rejected", adder, LongAdder::sum)
+                    .tag("reason", tagValue(reason))
+                    .description("이유별 배치 거절 횟수")
+                    .register(meterRegistry);
+        }
+
+        for (Source source : Source.values()) {
+            candidateFetches[source.ordinal()] = Counter.builder("puzzle.generation.candidate.fetches")
+                    .tag("source", tagValue(source))
+                    .description("출처별 후보 단어 조회 수")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 스프링 컨텍스트 밖(단위 테스트, 벤치마크)에서 쓰는 독립 인스턴스
+     */
+    public static GenerationMetrics standalone() {
+        return new GenerationMetrics(new SimpleMeterRegistry());
+    }
+
+    /**
+     * 단계 시간 기록
+     */
+    public void record(Generator generator, Phase phase, long nanos) {
+        phaseTimers[generator.ordinal()][phase.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 단계 시간 기록 (startNanos부터 지금까지)
+     */
+    public void recordSince(Generator generator, Phase phase, long startNanos) {
+        record(generator, phase, System.nanoTime() - startNanos);
+    }
+
+    public void nodesExpanded(Generator generator, long count) {
+        nodes[generator.ordinal()].add(count);
+    }
+
+    /**
+     * 배치 검증 결과 기록 (rejection이 null이면 배치 가능)
+     */
+    public void placementChecked(PlacementValidator.Rejection rejection) {
+        placementsTried.increment();
+        if (rejection != null) {
+            placementsRejected[rejection.ordinal()].increment();
+        }
+    }
+
+    public void candidateFetched(Source source) {
+        candidateFetches[source.ordinal()].increment();
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,148 @@
+package com.hakno.WordPuzzle.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.hakno.WordPuzzle.dto.HintResponse;
+import com.hakno.WordPuzzle.dto.HintType;
+import com.hakno.WordPuzzle.dto.PuzzleWord;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 힌트 캐시
+ * - (단어 ID, 힌트 타입) 키로 계산된 힌트를 작은 불변 레코드로 보관 (크기 기준 제거)
+ * - 힌트는 사전 데이터만으로 정해지므로 만료 시간 없이 임포트 시 단어별로 무효화
+ * - 생성된 퍼즐에 쓰인 단어의 사용 횟수를 집계 (HintWarmupJob이 많이 쓰인 단어부터 미리 계산)
+ *
+ * 없는 단어에 대한 "단어를 찾을 수 없습니다" 응답은 임포트로 생길 수 있으므로 캐싱하지 않습니다.
+ */
+@Component
+@Slf4j
+public class HintCache {
+
+    // 사용 횟수를 집계할 최대 단어 수 (넘으면 새 단어는 집계하지 않음)
+    private static final int MAX_TRACKED_WORDS = 100_000;
+
+    private final Cache<HintKey, CachedHint> cache;
+    private final Map<String, LongAdder> usage = new ConcurrentHashMap<>();
+
+    public HintCache(@Value("${hint.cache.max-size:50000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시된 힌트 (없으면 null)
+     */
+    public HintResponse get(Long wordId, HintType type) {
+        if (wordId == null) {
+            return null;
+        }
+        CachedHint cached = cache.getIfPresent(new HintKey(wordId, type));
+        return cached != null ? cached.toResponse(type, wordId) : null;
+    }
+
+    /**
+     * 계산된 힌트 저장 (단어 ID가 없는 응답은 무시)
+     */
+    public void put(HintResponse hint) {
+        if (hint.getWordId() == null || hint.getHintType() == null) {
+            return;
+        }
+        cache.put(new HintKey(hint.getWordId(), hint.getHintType()), CachedHint.from(hint));
+    }
+
+    /**
+     * 한 단어의 모든 타입 힌트 무효화 (임포트로 단어가 저장/변경된 경우)
+     */
+    public void invalidateWord(Long wordId) {
+        if (wordId == null) {
+            return;
+        }
+        List<HintKey> keys = new ArrayList<>(HintType.values().length);
+        for (HintType type : HintType.values()) {
+            keys.add(new HintKey(wordId, type));
+        }
+        cache.invalidateAll(keys);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+        log.info("힌트 캐시 무효화");
+    }
+
+    /**
+     * 생성된 퍼즐의 단어 사용 횟수 집계
+     */
+    public void recordUsage(Collection<PuzzleWord> words) {
+        for (PuzzleWord word : words) {
+            LongAdder counter = usage.get(word.getWord());
+            if (counter == null) {
+                if (usage.size() >= MAX_TRACKED_WORDS) {
+                    continue;
+                }
+                counter = usage.computeIfAbsent(word.getWord(), k -> new LongAdder());
+            }
+            counter.increment();
+        }
+    }
+
+    /**
+     * 사용 횟수가 많은 단어 (내림차순, 최대 limit개)
+     */
+    public List<String> mostUsedWords(int limit) {
+        return usage.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> e) -> e.getValue().sum()).reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private record HintKey(long wordId, HintType type) {
+    }
+
+    /**
+     * 캐시에 보관하는 힌트 (타입/단어 ID는 키에 있으므로 제외)
+     */
+    private record CachedHint(String word, String value, List<String> values, boolean available, String message) {
+
+        static CachedHint from(HintResponse hint) {
+            return new CachedHint(hint.getWord(), hint.getValue(),
+                    hint.getValues() != null ? List.copyOf(hint.getValues()) : null,
+                    hint.isAvailable(), hint.getMessage());
+        }
+
+        HintResponse toResponse(HintType type, Long wordId) {
+            return HintResponse.builder()
+                    .hintType(type)
+                    .hintTypeName(type.getDisplayName())
+                    .wordId(wordId)
+                    .word(word)
+                    .value(value)
+                    .values(values)
+                    .available(available)
+                    .message(message)
+                    .build();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.hakno.WordPuzzle.entity.StdExample;
 import com.hakno.WordPuzzle.entity.StdSense;
 import com.hakno.WordPuzzle.entity.StdWord;
 import com.hakno.WordPuzzle.entity.StdWordRelation;
+import com.hakno.WordPuzzle.repository.StdSenseRepository;
 import com.hakno.WordPuzzle.repository.StdWordRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,12 +14,19 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * 힌트 서비스
  * 다양한 유형의 힌트를 제공하는 서비스
+ * 단어 ID로 조회한 힌트는 HintCache에 보관하고, 캐시에 없는 단어만 DB에서 읽습니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -27,6 +35,8 @@ import java.util.stream.Collectors;
 public class HintService {
 
     private final StdWordRepository stdWordRepository;
+    private final StdSenseRepository stdSenseRepository;
+    private final HintCache hintCache;
 
     // 한글 초성 목록
     private static final char[] CHOSUNG_LIST = {
@@ -47,6 +57,11 @@ public class HintService {
      * @return 힌트 응답
      */
     public HintResponse getHint(Long wordId, HintType hintType) {
+        HintResponse cached = hintCache.get(wordId, hintType);
+        if (cached != null) {
+            return cached;
+        }
+
         StdWord word = stdWordRepository.findById(wordId)
                 .orElse(null);
 
@@ -54,17 +69,9 @@ public class HintService {
             return HintResponse.notAvailable(hintType, wordId, null, "단어를 찾을 수 없습니다.");
         }
 
-        return switch (hintType) {
-            case CHOSUNG -> getChosungHint(word);
-            case EXAMPLE -> getExampleHint(word);
-            case ORIGIN -> getOriginHint(word);
-            case PRONUNCIATION -> getPronunciationHint(word);
-            case SYNONYM -> getSynonymHint(word);
-            case ANTONYM -> getAntonymHint(word);
-            case CATEGORY -> getCategoryHint(word);
-            case POS -> getPosHint(word);
-            case WORD_TYPE -> getWordTypeHint(word);
-        };
+        HintResponse hint = getHintForWord(word, hintType);
+        hintCache.put(hint);
+        return hint;
     }
 
     /**
@@ -100,16 +107,105 @@ public class HintService {
     }
 
     /**
-     * 모든 타입의 힌트 조회
+     * 모든 타입의 힌트 조회 (단어는 한 번만 조회)
      */
     public List<HintResponse> getAllHints(Long wordId) {
         List<HintResponse> hints = new ArrayList<>();
+        StdWord word = null;
+        boolean loaded = false;
         for (HintType type : HintType.values()) {
-            hints.add(getHint(wordId, type));
+            HintResponse hint = hintCache.get(wordId, type);
+            if (hint == null) {
+                if (!loaded) {
+                    word = stdWordRepository.findById(wordId).orElse(null);
+                    loaded = true;
+                }
+                hint = word != null ? getHintForWord(word, type)
+                        : HintResponse.notAvailable(type, wordId, null, "단어를 찾을 수 없습니다.");
+                if (word != null) {
+                    hintCache.put(hint);
+                }
+            }
+            hints.add(hint);
         }
         return hints;
     }
 
+    /**
+     * 여러 단어의 힌트 일괄 조회 (퍼즐 하나의 모든 단어)
+     * 캐시에 없는 힌트가 있는 단어만 모아 단어+의미, 예문, 관계어를 각각 IN 쿼리 한 번으로 읽어
+     * 같은 영속성 컨텍스트의 컬렉션을 초기화한 뒤 메모리에서 힌트를 만들므로 단어 수와 관계없이 쿼리는 최대 3번입니다.
+     * (예문/관계어는 해당 힌트 타입을 요청한 경우에만 조회)
+     *
+     * @param wordIds 단어 ID 목록
+     * @param types   조회할 힌트 타입
+     * @return 요청 순서대로 단어 ID별 힌트 목록 (없는 단어는 모든 타입이 사용 불가 응답)
+     */
+    public Map<Long, List<HintResponse>> getHintsBatch(Collection<Long> wordIds, Collection<HintType> types) {
+        Map<Long, List<HintResponse>> result = new LinkedHashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        Set<HintType> missingTypes = EnumSet.noneOf(HintType.class);
+        for (Long wordId : wordIds) {
+            List<HintResponse> hints = new ArrayList<>(types.size());
+            for (HintType type : types) {
+                HintResponse hint = hintCache.get(wordId, type);
+                if (hint == null) {
+                    if (missingIds.isEmpty() || !missingIds.get(missingIds.size() - 1).equals(wordId)) {
+                        missingIds.add(wordId);
+                    }
+                    missingTypes.add(type);
+                }
+                hints.add(hint);
+            }
+            result.put(wordId, hints);
+        }
+        if (missingIds.isEmpty()) {
+            return result;
+        }
+
+        // 캐시에 없던 자리만 채움
+        Map<Long, StdWord> words = loadWordsForHints(missingIds, missingTypes);
+        for (Long wordId : missingIds) {
+            StdWord word = words.get(wordId);
+            List<HintResponse> hints = result.get(wordId);
+            int i = 0;
+            for (HintType type : types) {
+                if (hints.get(i) == null) {
+                    HintResponse hint = word != null ? getHintForWord(word, type)
+                            : HintResponse.notAvailable(type, wordId, null, "단어를 찾을 수 없습니다.");
+                    if (word != null) {
+                        hintCache.put(hint);
+                    }
+                    hints.set(i, hint);
+                }
+                i++;
+            }
+        }
+        return result;
+    }
+
+    private Map<Long, StdWord> loadWordsForHints(Collection<Long> wordIds, Collection<HintType> types) {
+        if (wordIds.isEmpty()) {
+            return Map.of();
+        }
+        List<StdWord> words = stdWordRepository.findAllByIdWithSenses(wordIds);
+
+        List<Long> senseIds = words.stream()
+                .flatMap(word -> word.getSenses().stream())
+                .map(StdSense::getId)
+                .collect(Collectors.toList());
+        if (!senseIds.isEmpty()) {
+            if (types.contains(HintType.EXAMPLE)) {
+                stdSenseRepository.findAllWithExamplesByIdIn(senseIds);
+            }
+            if (types.contains(HintType.SYNONYM) || types.contains(HintType.ANTONYM)) {
+                stdSenseRepository.findAllWithRelationsByIdIn(senseIds);
+            }
+        }
+
+        return words.stream().collect(Collectors.toMap(StdWord::getId, Function.identity(), (a, b) -> a));
+    }
+
     /**
      * 사용 가능한 힌트만 조회
      */
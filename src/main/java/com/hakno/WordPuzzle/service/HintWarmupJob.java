@@ -0,0 +1,110 @@
+package com.hakno.WordPuzzle.service;
+
+import com.hakno.WordPuzzle.dto.HintType;
+import com.hakno.WordPuzzle.repository.StdWordRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 힌트 캐시 워밍업
+ * 생성된 퍼즐에 많이 쓰인 단어의 모든 타입 힌트를 주기적으로 미리 계산해 HintCache에 채웁니다.
+ * 이미 캐시된 힌트는 getHintsBatch가 건너뛰므로 새로 많이 쓰인 단어만 DB에서 읽습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HintWarmupJob {
+
+    // getHintsBatch 한 번에 넘기는 단어 수 (IN 절 크기)
+    private static final int CHUNK_SIZE = 100;
+
+    private final HintCache hintCache;
+    private final HintService hintService;
+    private final StdWordRepository stdWordRepository;
+
+    @Value("${hint.cache.warmup.enabled:true}")
+    private boolean enabled;
+
+    // 한 번에 미리 계산할 단어 수 (사용 횟수 상위)
+    @Value("${hint.cache.warmup.top-words:2000}")
+    private int topWords;
+
+    // 워밍업 주기 (초)
+    @Value("${hint.cache.warmup.interval-seconds:600}")
+    private long intervalSeconds;
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * 애플리케이션 시작 후 주기 작업 시작 (퍼즐이 생성되어 사용 횟수가 쌓인 뒤부터 의미가 있으므로 한 주기 뒤 첫 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "hint-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::warmupSafely, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        log.info("힌트 캐시 워밍업 시작: topWords={}, interval={}s", topWords, intervalSeconds);
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * 많이 쓰인 단어의 힌트를 미리 계산
+     *
+     * @return 워밍업한 단어 ID 수
+     */
+    public int warmup() {
+        List<String> words = hintCache.mostUsedWords(topWords);
+        if (words.isEmpty()) {
+            return 0;
+        }
+
+        long startTime = System.currentTimeMillis();
+        List<HintType> types = Arrays.asList(HintType.values());
+        int warmed = 0;
+        for (int from = 0; from < words.size(); from += CHUNK_SIZE) {
+            List<String> chunk = words.subList(from, Math.min(from + CHUNK_SIZE, words.size()));
+            List<Long> ids = stdWordRepository.findIdsByWordIn(chunk);
+            // 동음이의어가 많으면 ID가 CHUNK_SIZE를 넘을 수 있으므로 다시 나눔
+            for (int i = 0; i < ids.size(); i += CHUNK_SIZE) {
+                List<Long> idChunk = ids.subList(i, Math.min(i + CHUNK_SIZE, ids.size()));
+                hintService.getHintsBatch(idChunk, types);
+                warmed += idChunk.size();
+            }
+        }
+        log.info("힌트 캐시 워밍업 완료: {}개 단어, 캐시 {}개, {}ms",
+                warmed, hintCache.size(), System.currentTimeMillis() - startTime);
+        return warmed;
+    }
+
+    private void warmupSafely() {
+        try {
+            warmup();
+        } catch (Exception e) {
+            log.warn("힌트 캐시 워밍업 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,413 @@
+package com.hakno.WordPuzzle.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * 불변 메모리 사전 (퍼즐 생성용)
+ * - 음절 위치 인덱스: (음절, 위치, 길이) → 단어 서수 목록
+ * - 길이 인덱스: 길이 → 단어 서수 목록
+ *
+ * 두 인덱스 모두 정렬된 키 배열 + 오프셋 배열 + 서수 배열(CSR) 구조로 저장되어
+ * "길이 L이고 i번째 음절이 X인 단어" 조회가 이진 탐색 한 번으로 끝납니다.
+ * 여러 음절이 고정된 패턴(?가?나)은 가장 짧은 포스팅만 순회해 나머지 음절을 확인합니다.
+ * 생성 후에는 변경되지 않으므로 여러 스레드에서 잠금 없이 공유할 수 있습니다.
+ */
+public final class Lexicon {
+
+    public static final Lexicon EMPTY = new Lexicon(List.of());
+
+    // 인덱싱 가능한 최대 단어 길이/위치 (키 인코딩 7비트)
+    static final int MAX_INDEXED_LENGTH = 127;
+
+    // 아래 배열은 LexiconSnapshot이 그대로 쓰고 읽음
+    final LexiconWord[] entries;
+
+    // 음절 위치 인덱스 (CSR)
+    final long[] keys;
+    final int[] offsets;
+    final int[] postings;
+
+    // 길이 인덱스 (CSR): lengthOffsets[len] ~ lengthOffsets[len + 1]
+    final int[] lengthOffsets;
+    final int[] lengthPostings;
+
+    private Lexicon(Collection<LexiconWord> words) {
+        List<LexiconWord> indexable = new ArrayList<>(words.size());
+        for (LexiconWord word : words) {
+            if (word != null && word.word() != null
+                    && !word.word().isEmpty() && word.length() <= MAX_INDEXED_LENGTH) {
+                indexable.add(word);
+            }
+        }
+        this.entries = indexable.toArray(new LexiconWord[0]);
+
+        // 1. (키, 서수) 쌍을 하나의 long으로 합쳐 정렬
+        int totalSyllables = 0;
+        for (LexiconWord entry : entries) {
+            totalSyllables += entry.length();
+        }
+        long[] composite = new long[totalSyllables];
+        int n = 0;
+        for (int ordinal = 0; ordinal < entries.length; ordinal++) {
+            String word = entries[ordinal].word();
+            for (int pos = 0; pos < word.length(); pos++) {
+                composite[n++] = (key(word.charAt(pos), pos, word.length()) << 32) | ordinal;
+            }
+        }
+        Arrays.sort(composite);
+
+        // 2. 정렬된 쌍을 키/오프셋/서수 배열로 분리
+        long[] keyBuffer = new long[composite.length];
+        int[] offsetBuffer = new int[composite.length + 1];
+        this.postings = new int[composite.length];
+        int keyCount = 0;
+        for (int i = 0; i < composite.length; i++) {
+            long key = composite[i] >>> 32;
+            if (keyCount == 0 || keyBuffer[keyCount - 1] != key) {
+                keyBuffer[keyCount] = key;
+                offsetBuffer[keyCount] = i;
+                keyCount++;
+            }
+            postings[i] = (int) composite[i];
+        }
+        offsetBuffer[keyCount] = composite.length;
+        this.keys = Arrays.copyOf(keyBuffer, keyCount);
+        this.offsets = Arrays.copyOf(offsetBuffer, keyCount + 1);
+
+        // 3. 길이 인덱스 (계수 정렬)
+        int maxLength = 0;
+        for (LexiconWord entry : entries) {
+            maxLength = Math.max(maxLength, entry.length());
+        }
+        this.lengthOffsets = new int[maxLength + 2];
+        for (LexiconWord entry : entries) {
+            lengthOffsets[entry.length() + 1]++;
+        }
+        for (int len = 1; len < lengthOffsets.length; len++) {
+            lengthOffsets[len] += lengthOffsets[len - 1];
+        }
+        this.lengthPostings = new int[entries.length];
+        int[] cursor = Arrays.copyOf(lengthOffsets, lengthOffsets.length);
+        for (int ordinal = 0; ordinal < entries.length; ordinal++) {
+            lengthPostings[cursor[entries[ordinal].length()]++] = ordinal;
+        }
+    }
+
+    /**
+     * 미리 만든 인덱스로 사전 복원 (LexiconSnapshot 전용, 정렬 없이 배열을 그대로 사용)
+     */
+    Lexicon(LexiconWord[] entries, long[] keys, int[] offsets, int[] postings,
+            int[] lengthOffsets, int[] lengthPostings) {
+        this.entries = entries;
+        this.keys = keys;
+        this.offsets = offsets;
+        this.postings = postings;
+        this.lengthOffsets = lengthOffsets;
+        this.lengthPostings = lengthPostings;
+    }
+
+    /**
+     * 단어 목록으로 사전 생성
+     */
+    public static Lexicon of(Collection<LexiconWord> words) {
+        return words.isEmpty() ? EMPTY : new Lexicon(words);
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    public boolean isEmpty() {
+        return entries.length == 0;
+    }
+
+    public LexiconWord get(int ordinal) {
+        return entries[ordinal];
+    }
+
+    /**
+     * 길이가 length이고 position번째 음절이 syllable인 단어 목록
+     */
+    public Postings postings(char syllable, int position, int length) {
+        if (position < 0 || position >= length || length > MAX_INDEXED_LENGTH) {
+            return Postings.EMPTY;
+        }
+        int index = Arrays.binarySearch(keys, key(syllable, position, length));
+        if (index < 0) {
+            return Postings.EMPTY;
+        }
+        return new Postings(postings, offsets[index], offsets[index + 1]);
+    }
+
+    /**
+     * 길이가 length인 단어 목록
+     */
+    public Postings withLength(int length) {
+        if (length < 0 || length + 1 >= lengthOffsets.length) {
+            return Postings.EMPTY;
+        }
+        return new Postings(lengthPostings, lengthOffsets[length], lengthOffsets[length + 1]);
+    }
+
+    /**
+     * 길이 범위 내 단어를 무작위로 최대 limit개 추출 (필터 적용)
+     */
+    public List<LexiconWord> sampleByLength(int minLength, int maxLength,
+                                            String category, String wordType,
+                                            int limit, RandomGenerator random) {
+        int min = Math.max(minLength, 0);
+        int max = Math.min(maxLength, lengthOffsets.length - 2);
+        List<LexiconWord> result = new ArrayList<>();
+        if (min > max) {
+            return result;
+        }
+
+        // 길이 인덱스는 길이순으로 정렬되어 있으므로 범위가 하나의 연속 구간
+        int from = lengthOffsets[min];
+        int total = lengthOffsets[max + 1] - from;
+        if (total == 0 || limit <= 0) {
+            return result;
+        }
+
+        StrideWalk walk = new StrideWalk(total, random);
+        while (walk.hasNext() && result.size() < limit) {
+            LexiconWord entry = entries[lengthPostings[from + walk.next()]];
+            if (entry.matches(category, wordType)) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 특정 음절을 포함하고 주어진 공간에 들어가는 단어를 무작위로 최대 limit개 추출
+     *
+     * @param syllable  교차 음절
+     * @param maxBefore 교차 음절 앞에 올 수 있는 최대 글자 수
+     * @param maxAfter  교차 음절 뒤에 올 수 있는 최대 글자 수
+     * @param minLength 최소 길이
+     * @param maxLength 최대 길이
+     * @param category  카테고리 필터 (null 가능)
+     * @param wordType  단어유형 필터 (null 가능)
+     * @param limit     최대 결과 수
+     * @param random    난수 생성기
+     * @return (단어, 교차 음절 위치) 목록
+     */
+    public List<Match> sampleWithSyllable(char syllable, int maxBefore, int maxAfter,
+                                          int minLength, int maxLength,
+                                          String category, String wordType,
+                                          int limit, RandomGenerator random) {
+        List<Match> result = new ArrayList<>();
+        if (limit <= 0 || keys.length == 0) {
+            return result;
+        }
+
+        // 같은 음절의 키는 정렬 시 연속 구간에 모여 있음
+        int first = lowerBound(key(syllable, 0, 0));
+        int last = lowerBound(((long) syllable + 1) << 14);
+
+        // 조건에 맞는 (위치, 길이) 구간 수집
+        int[] rangeKeys = new int[last - first];
+        int[] rangeStarts = new int[last - first + 1];
+        int rangeCount = 0;
+        int total = 0;
+        for (int k = first; k < last; k++) {
+            int position = positionOf(keys[k]);
+            int length = lengthOf(keys[k]);
+            if (length < minLength || length > maxLength) continue;
+            if (position > maxBefore || length - 1 - position > maxAfter) continue;
+
+            rangeKeys[rangeCount] = k;
+            rangeStarts[rangeCount] = total;
+            total += offsets[k + 1] - offsets[k];
+            rangeCount++;
+        }
+        rangeStarts[rangeCount] = total;
+        if (total == 0) {
+            return result;
+        }
+
+        StrideWalk walk = new StrideWalk(total, random);
+        while (walk.hasNext() && result.size() < limit) {
+            int virtual = walk.next();
+            int range = upperBound(rangeStarts, rangeCount, virtual) - 1;
+            int k = rangeKeys[range];
+            LexiconWord entry = entries[postings[offsets[k] + virtual - rangeStarts[range]]];
+            if (entry.matches(category, wordType)) {
+                result.add(new Match(entry, positionOf(keys[k])));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 패턴에 맞는 단어 수 (최대 cap까지만 셈)
+     * 패턴 길이가 단어 길이이고, '\0'이 아닌 칸은 그 위치의 음절이 같아야 합니다. (예: ?가?? → {'\0', '가', '\0', '\0'})
+     *
+     * @param pattern  고정 음절이 하나 이상 있는 패턴
+     * @param category 카테고리 필터 (null 가능)
+     * @param wordType 단어유형 필터 (null 가능)
+     * @param cap      이 수에 닿으면 더 세지 않음
+     * @return min(일치하는 단어 수, cap)
+     */
+    public int countPattern(char[] pattern, String category, String wordType, int cap) {
+        Postings rarest = rarestPostings(pattern);
+        int count = 0;
+        for (int i = 0; i < rarest.size() && count < cap; i++) {
+            LexiconWord entry = entries[rarest.ordinal(i)];
+            if (fits(entry.word(), pattern) && entry.matches(category, wordType)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 패턴에 맞는 단어를 무작위로 최대 limit개 추출
+     * 고정 음절 중 포스팅이 가장 짧은 (음절, 위치, 길이) 목록만 순회하며 나머지 고정 음절을 확인합니다.
+     */
+    public List<LexiconWord> samplePattern(char[] pattern, String category, String wordType,
+                                           int limit, RandomGenerator random) {
+        List<LexiconWord> result = new ArrayList<>();
+        Postings rarest = rarestPostings(pattern);
+        if (rarest.size() == 0 || limit <= 0) {
+            return result;
+        }
+
+        StrideWalk walk = new StrideWalk(rarest.size(), random);
+        while (walk.hasNext() && result.size() < limit) {
+            LexiconWord entry = entries[rarest.ordinal(walk.next())];
+            if (fits(entry.word(), pattern) && entry.matches(category, wordType)) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 패턴의 고정 음절별 포스팅 중 가장 짧은 것 (고정 음절이 없거나 하나라도 비어 있으면 빈 목록)
+     */
+    private Postings rarestPostings(char[] pattern) {
+        Postings rarest = null;
+        for (int pos = 0; pos < pattern.length; pos++) {
+            if (pattern[pos] == '\0') continue;
+            Postings postings = postings(pattern[pos], pos, pattern.length);
+            if (postings.size() == 0) {
+                return Postings.EMPTY;
+            }
+            if (rarest == null || postings.size() < rarest.size()) {
+                rarest = postings;
+            }
+        }
+        return rarest != null ? rarest : Postings.EMPTY;
+    }
+
+    private static boolean fits(String word, char[] pattern) {
+        for (int pos = 0; pos < pattern.length; pos++) {
+            if (pattern[pos] != '\0' && word.charAt(pos) != pattern[pos]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ============== 키 인코딩 ==============
+
+    static long key(char syllable, int position, int length) {
+        return ((long) syllable << 14) | ((long) position << 7) | length;
+    }
+
+    private static int positionOf(long key) {
+        return (int) (key >>> 7) & 0x7F;
+    }
+
+    private static int lengthOf(long key) {
+        return (int) key & 0x7F;
+    }
+
+    private int lowerBound(long key) {
+        int index = Arrays.binarySearch(keys, key);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static int upperBound(int[] sorted, int size, int value) {
+        int low = 0, high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // ============== 내부 클래스 ==============
+
+    /**
+     * 포스팅 목록의 읽기 전용 구간
+     */
+    public record Postings(int[] data, int from, int to) {
+        static final Postings EMPTY = new Postings(new int[0], 0, 0);
+
+        public int size() {
+            return to - from;
+        }
+
+        public int ordinal(int index) {
+            return data[from + index];
+        }
+    }
+
+    /**
+     * 음절 검색 결과 (단어와 해당 음절의 위치)
+     */
+    public record Match(LexiconWord word, int position) {
+    }
+
+    /**
+     * 0 ~ total-1 을 무작위 시작점과 서로소 보폭으로 한 번씩 방문하는 순회
+     * 별도 배열 없이 O(1) 공간으로 무작위 순서를 만듭니다. (WordCache도 사용)
+     */
+    static final class StrideWalk {
+        private final int total;
+        private final int stride;
+        private int current;
+        private int visited;
+
+        StrideWalk(int total, RandomGenerator random) {
+            this.total = total;
+            this.current = random.nextInt(total);
+            int s = total > 1 ? 1 + random.nextInt(total - 1) : 1;
+            while (gcd(s, total) != 1) {
+                s = s % (total - 1) + 1;
+            }
+            this.stride = s;
+        }
+
+        boolean hasNext() {
+            return visited < total;
+        }
+
+        int next() {
+            int value = current;
+            current = (int) ((current + (long) stride) % total);
+            visited++;
+            return value;
+        }
+
+        private static int gcd(int a, int b) {
+            while (b != 0) {
+                int t = a % b;
+                a = b;
+                b = t;
+            }
+            return a;
+        }
+    }
+}
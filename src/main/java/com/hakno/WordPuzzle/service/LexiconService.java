@@ -0,0 +1,224 @@
+package com.hakno.WordPuzzle.service;
+
+import com.hakno.WordPuzzle.repository.StdWordRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 메모리 사전(Lexicon) 관리 서비스
+ * - 애플리케이션 시작 시 표준국어대사전 전체를 한 번 읽어 불변 사전을 생성
+ * - 임포트 완료 시 새 사전을 만들어 교체 (읽는 쪽은 잠금 없이 현재 사전을 사용)
+ * - 로딩 전에는 빈 사전을 반환하며, 생성기는 이 경우 DB 조회로 대체합니다.
+ * - 스냅샷 파일(puzzle.lexicon.snapshot-path)이 있으면 빈 생성 시 메모리 매핑해 바로 복원하고,
+ *   시작 후 DB 지문(단어 수, 최대 ID) 한 번만 조회해 스냅샷과 같으면 DB 로딩을 생략 (다르면 DB에서 다시 로딩),
+ *   DB에서 사전을 다시 만들 때마다 스냅샷도 갱신 (./gradlew exportLexicon으로 미리 만들 수 있음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LexiconService {
+
+    private final StdWordRepository stdWordRepository;
+
+    // 사전 스냅샷 파일 경로 (비어 있으면 사용하지 않음)
+    @Value("${puzzle.lexicon.snapshot-path:}")
+    private String snapshotPath;
+
+    private volatile Lexicon lexicon = Lexicon.EMPTY;
+
+    // 스냅샷으로 복원한 사전의 DB 지문 (스냅샷을 쓰지 않았으면 null)
+    private volatile LexiconSnapshot.Fingerprint snapshotFingerprint;
+
+    /**
+     * 현재 사전 (로딩 전이면 빈 사전)
+     */
+    public Lexicon current() {
+        return lexicon;
+    }
+
+    /**
+     * 사전이 로딩되어 사용 가능한지 여부
+     */
+    public boolean isReady() {
+        return !lexicon.isEmpty();
+    }
+
+    /**
+     * 스냅샷 파일이 있으면 메모리 매핑해 사전 복원 (DB 조회/인덱스 정렬 없음)
+     * 요청을 받기 전에 끝나도록 빈 생성 시 동기로 실행합니다.
+     */
+    @PostConstruct
+    public void loadSnapshot() {
+        Path path = snapshotPath();
+        if (path == null || !Files.isRegularFile(path)) {
+            return;
+        }
+        try {
+            long startTime = System.currentTimeMillis();
+            Lexicon loaded = LexiconSnapshot.read(path);
+            snapshotFingerprint = LexiconSnapshot.readFingerprint(path);
+            lexicon = loaded;
+            log.info("사전 스냅샷 로딩 완료: {}개 단어, {}ms ({})",
+                    loaded.size(), System.currentTimeMillis() - startTime, path);
+        } catch (IOException e) {
+            log.warn("사전 스냅샷 로딩 실패 - DB에서 로딩: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 후 비동기로 사전 로딩 (스냅샷으로 복원한 사전이 DB와 같으면 생략)
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (isReady() && isSnapshotCurrent()) {
+            return;
+        }
+        refresh();
+    }
+
+    /**
+     * 스냅샷을 만든 뒤 DB가 바뀌지 않았는지 확인 (스냅샷을 쓰지 않았거나 확인에 실패하면 현재 사전을 유지)
+     */
+    private boolean isSnapshotCurrent() {
+        LexiconSnapshot.Fingerprint expected = snapshotFingerprint;
+        if (expected == null) {
+            return true;
+        }
+        try {
+            LexiconSnapshot.Fingerprint actual = databaseFingerprint();
+            if (actual.equals(expected)) {
+                return true;
+            }
+            log.info("사전 스냅샷이 DB와 다름 (스냅샷 {}개/최대 ID {}, DB {}개/최대 ID {}) - DB에서 다시 로딩",
+                    expected.wordCount(), expected.maxId(), actual.wordCount(), actual.maxId());
+            return false;
+        } catch (Exception e) {
+            log.warn("사전 스냅샷 확인 실패 - 스냅샷 사전 유지: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 임포트 트랜잭션 커밋 후 사전 재생성
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDictionaryUpdated(DictionaryUpdatedEvent event) {
+        log.info("사전 변경 감지 ({}, {}개 추가) - 메모리 사전 재생성", event.source(), event.imported());
+        refresh();
+    }
+
+    /**
+     * DB에서 사전을 다시 읽어 교체 (스냅샷 경로가 있으면 스냅샷도 갱신)
+     */
+    public synchronized void refresh() {
+        Lexicon loaded;
+        LexiconSnapshot.Fingerprint fingerprint;
+        try {
+            long startTime = System.currentTimeMillis();
+            // 지문을 먼저 조회 (사이에 추가된 단어는 다음 시작 시 지문이 달라 다시 로딩됨)
+            fingerprint = databaseFingerprint();
+            loaded = Lexicon.of(toLexiconWords(stdWordRepository.findLexiconRows()));
+            lexicon = loaded;
+            snapshotFingerprint = null;
+            log.info("메모리 사전 로딩 완료: {}개 단어, {}ms",
+                    loaded.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.warn("메모리 사전 로딩 실패 - 기존 사전 유지: {}", e.getMessage());
+            return;
+        }
+
+        Path path = snapshotPath();
+        if (path != null) {
+            try {
+                LexiconSnapshot.write(loaded, fingerprint, path);
+            } catch (IOException e) {
+                log.warn("사전 스냅샷 저장 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * DB의 사전 전체를 스냅샷 파일로 내보내기 (현재 사전은 바꾸지 않음)
+     *
+     * @return 내보낸 단어 수
+     */
+    public int exportSnapshot(Path path) throws IOException {
+        long startTime = System.currentTimeMillis();
+        LexiconSnapshot.Fingerprint fingerprint = databaseFingerprint();
+        Lexicon exported = Lexicon.of(toLexiconWords(stdWordRepository.findLexiconRows()));
+        LexiconSnapshot.write(exported, fingerprint, path);
+        log.info("사전 스냅샷 내보내기 완료: {}개 단어, {}ms ({})",
+                exported.size(), System.currentTimeMillis() - startTime, path);
+        return exported.size();
+    }
+
+    /**
+     * DB 지문 (집계 쿼리 한 번)
+     */
+    private LexiconSnapshot.Fingerprint databaseFingerprint() {
+        List<Object[]> rows = stdWordRepository.findLexiconFingerprint();
+        if (rows.isEmpty()) {
+            return new LexiconSnapshot.Fingerprint(0, 0);
+        }
+        Object[] row = rows.get(0);
+        long wordCount = row[0] != null ? ((Number) row[0]).longValue() : 0;
+        long maxId = row[1] != null ? ((Number) row[1]).longValue() : 0;
+        return new LexiconSnapshot.Fingerprint(wordCount, maxId);
+    }
+
+    private Path snapshotPath() {
+        return snapshotPath == null || snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+    }
+
+    /**
+     * (id, word, wordType, category, definition) 행을 단어별로 묶어 변환
+     * 행은 단어 ID 순으로 정렬되어 있어야 합니다.
+     */
+    static List<LexiconWord> toLexiconWords(List<Object[]> rows) {
+        List<LexiconWord> words = new ArrayList<>();
+
+        Long currentId = null;
+        String word = null;
+        String wordType = null;
+        String definition = null;
+        List<String> categories = new ArrayList<>();
+
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            if (!Objects.equals(id, currentId) || currentId == null) {
+                if (word != null) {
+                    words.add(new LexiconWord(currentId, word, definition, wordType, categories));
+                }
+                currentId = id;
+                word = (String) row[1];
+                wordType = (String) row[2];
+                definition = (String) row[4];
+                categories = new ArrayList<>();
+            }
+            String category = (String) row[3];
+            if (category != null && !categories.contains(category)) {
+                categories.add(category);
+            }
+        }
+        if (word != null) {
+            words.add(new LexiconWord(currentId, word, definition, wordType, categories));
+        }
+        return words;
+    }
+}
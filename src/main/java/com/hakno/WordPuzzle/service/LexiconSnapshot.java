@@ -0,0 +1,356 @@
+package com.hakno.WordPuzzle.service;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * 메모리 사전(Lexicon) 바이너리 스냅샷
+ * 사전 전체를 열 단위 배열과 완성된 인덱스로 파일에 저장해 두고,
+ * 시작 시 파일을 메모리 매핑해 DB 조회와 인덱스 정렬 없이 사전을 복원합니다.
+ *
+ * 파일 구조 (빅 엔디언):
+ * - 헤더: 매직, 버전, 원본 DB 지문(단어 수, 최대 ID), 단어 수, 음절 수, 문자열 수, 카테고리 참조 수, 뜻풀이 바이트 수, 인덱스 키 수, 길이 오프셋 수
+ * - 문자열 표: 단어유형/카테고리 (단어 열에는 표 번호만 저장)
+ * - 단어 열: ID, 음절 오프셋 + 음절, 단어유형 번호, 카테고리 오프셋 + 번호, 뜻풀이 오프셋 + UTF-8 바이트
+ * - 인덱스: 음절 위치 인덱스(키/오프셋/서수), 길이 인덱스(오프셋/서수)
+ *
+ * 길이와 첫 글자는 음절 오프셋과 음절 배열에서 바로 나오므로 따로 저장하지 않습니다.
+ * 인덱스 배열은 매핑된 버퍼에서 한 번에 복사합니다. 뜻풀이(파일의 대부분)는 힙에 올리지 않고
+ * 매핑된 버퍼에 둔 채 단어를 배치할 때 오프셋으로 잘라 디코딩합니다.
+ * 표제어는 패턴 검사에서 계속 읽으므로 문자열로 복원하고, 같은 카테고리 목록은 하나를 공유합니다.
+ */
+public final class LexiconSnapshot {
+
+    private static final int MAGIC = 0x4C584E53;  // "LXNS"
+    private static final int VERSION = 2;
+    private static final long NO_ID = Long.MIN_VALUE;
+    private static final short NO_STRING = -1;
+    // 매직 + 버전 + 지문
+    private static final int HEADER_PREFIX_BYTES = Integer.BYTES * 2 + Long.BYTES * 2;
+
+    private LexiconSnapshot() {
+    }
+
+    /**
+     * 사전 자신의 단어 수와 최대 ID를 지문으로 저장
+     */
+    public static void write(Lexicon lexicon, Path path) throws IOException {
+        write(lexicon, Fingerprint.of(lexicon), path);
+    }
+
+    /**
+     * 사전을 스냅샷 파일로 저장 (임시 파일에 쓴 뒤 교체하므로 읽는 쪽은 항상 완성된 파일을 봄)
+     *
+     * @param fingerprint 사전을 만든 시점의 DB 지문 (시작 시 DB와 비교해 오래된 스냅샷을 걸러냄)
+     */
+    public static void write(Lexicon lexicon, Fingerprint fingerprint, Path path) throws IOException {
+        LexiconWord[] entries = lexicon.entries;
+
+        // 단어유형/카테고리 문자열 표
+        Map<String, Short> strings = new LinkedHashMap<>();
+        int syllableCount = 0;
+        int categoryRefCount = 0;
+        int definitionBytes = 0;
+        byte[][] definitions = new byte[entries.length][];
+        for (int i = 0; i < entries.length; i++) {
+            LexiconWord entry = entries[i];
+            syllableCount += entry.length();
+            categoryRefCount += entry.categories().size();
+            if (entry.wordType() != null) {
+                stringCode(strings, entry.wordType());
+            }
+            for (String category : entry.categories()) {
+                stringCode(strings, category);
+            }
+            definitions[i] = entry.definition().getBytes(StandardCharsets.UTF_8);
+            definitionBytes += definitions[i].length;
+        }
+
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(fingerprint.wordCount());
+            out.writeLong(fingerprint.maxId());
+            out.writeInt(entries.length);
+            out.writeInt(syllableCount);
+            out.writeInt(strings.size());
+            out.writeInt(categoryRefCount);
+            out.writeInt(definitionBytes);
+            out.writeInt(lexicon.keys.length);
+            out.writeInt(lexicon.lengthOffsets.length);
+
+            for (String string : strings.keySet()) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            for (LexiconWord entry : entries) {
+                out.writeLong(entry.id() != null ? entry.id() : NO_ID);
+            }
+            int offset = 0;
+            for (LexiconWord entry : entries) {
+                out.writeInt(offset);
+                offset += entry.length();
+            }
+            out.writeInt(offset);
+            for (LexiconWord entry : entries) {
+                out.writeChars(entry.word());
+            }
+            for (LexiconWord entry : entries) {
+                out.writeShort(entry.wordType() != null ? strings.get(entry.wordType()) : NO_STRING);
+            }
+            offset = 0;
+            for (LexiconWord entry : entries) {
+                out.writeInt(offset);
+                offset += entry.categories().size();
+            }
+            out.writeInt(offset);
+            for (LexiconWord entry : entries) {
+                for (String category : entry.categories()) {
+                    out.writeShort(strings.get(category));
+                }
+            }
+            offset = 0;
+            for (byte[] definition : definitions) {
+                out.writeInt(offset);
+                offset += definition.length;
+            }
+            out.writeInt(offset);
+            for (byte[] definition : definitions) {
+                out.write(definition);
+            }
+
+            for (long key : lexicon.keys) {
+                out.writeLong(key);
+            }
+            writeInts(out, lexicon.offsets);
+            writeInts(out, lexicon.postings);
+            writeInts(out, lexicon.lengthOffsets);
+            writeInts(out, lexicon.lengthPostings);
+            out.close();
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 스냅샷 파일을 메모리 매핑해 사전 복원
+     */
+    public static Lexicon read(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // 매핑은 채널을 닫아도 유효
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        try {
+            readFingerprint(buffer, path);
+            int wordCount = buffer.getInt();
+            int syllableCount = buffer.getInt();
+            int stringCount = buffer.getInt();
+            int categoryRefCount = buffer.getInt();
+            int definitionBytes = buffer.getInt();
+            int keyCount = buffer.getInt();
+            int lengthOffsetCount = buffer.getInt();
+
+            String[] strings = new String[stringCount];
+            for (int i = 0; i < stringCount; i++) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            long[] ids = readLongs(buffer, wordCount);
+            int[] wordOffsets = readInts(buffer, wordCount + 1);
+            char[] syllables = readChars(buffer, syllableCount);
+            short[] wordTypes = readShorts(buffer, wordCount);
+            int[] categoryOffsets = readInts(buffer, wordCount + 1);
+            short[] categoryCodes = readShorts(buffer, categoryRefCount);
+            int[] definitionOffsets = readInts(buffer, wordCount + 1);
+            int definitionBase = buffer.position();
+            buffer.position(definitionBase + definitionBytes);
+
+            long[] keys = readLongs(buffer, keyCount);
+            int[] offsets = readInts(buffer, keyCount + 1);
+            int[] postings = readInts(buffer, syllableCount);
+            int[] lengthOffsets = readInts(buffer, lengthOffsetCount);
+            int[] lengthPostings = readInts(buffer, wordCount);
+
+            if (wordCount == 0) {
+                return Lexicon.EMPTY;
+            }
+            // 뜻풀이는 나중에 읽으므로 구간이 파일 안에 있는지 지금 확인
+            if (!isAscending(definitionOffsets, definitionBytes)) {
+                throw new IOException("사전 스냅샷 파일이 손상되었습니다: " + path);
+            }
+
+            MappedDefinitions definitions = new MappedDefinitions(buffer, definitionBase, definitionOffsets);
+            Map<List<String>, List<String>> categoryLists = new HashMap<>();
+            LexiconWord[] entries = new LexiconWord[wordCount];
+            for (int i = 0; i < wordCount; i++) {
+                String word = new String(syllables, wordOffsets[i], wordOffsets[i + 1] - wordOffsets[i]);
+
+                String[] names = new String[categoryOffsets[i + 1] - categoryOffsets[i]];
+                for (int c = 0; c < names.length; c++) {
+                    names[c] = strings[categoryCodes[categoryOffsets[i] + c]];
+                }
+                List<String> categories = categoryLists.computeIfAbsent(List.of(names), list -> list);
+
+                entries[i] = new LexiconWord(ids[i] != NO_ID ? ids[i] : null, word,
+                        wordTypes[i] != NO_STRING ? strings[wordTypes[i]] : null, categories, definitions, i);
+            }
+            return new Lexicon(entries, keys, offsets, postings, lengthOffsets, lengthPostings);
+
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                 | NegativeArraySizeException e) {
+            throw new IOException("사전 스냅샷 파일이 손상되었습니다: " + path, e);
+        }
+    }
+
+    /**
+     * 스냅샷 파일의 DB 지문만 읽기 (헤더만 읽고 사전은 복원하지 않음)
+     */
+    public static Fingerprint readFingerprint(Path path) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_PREFIX_BYTES);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // 헤더를 다 읽을 때까지 반복
+            }
+        }
+        header.flip();
+        try {
+            return readFingerprint(header, path);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("사전 스냅샷 파일이 손상되었습니다: " + path, e);
+        }
+    }
+
+    // ============== 헬퍼 메서드 ==============
+
+    private static Fingerprint readFingerprint(ByteBuffer buffer, Path path) throws IOException {
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("사전 스냅샷 파일이 아닙니다: " + path);
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 사전 스냅샷 버전입니다: " + version);
+        }
+        return new Fingerprint(buffer.getLong(), buffer.getLong());
+    }
+
+    private static short stringCode(Map<String, Short> strings, String value) {
+        Short code = strings.get(value);
+        if (code == null) {
+            if (strings.size() == Short.MAX_VALUE) {
+                throw new IllegalStateException("단어유형/카테고리 종류가 너무 많습니다: " + strings.size());
+            }
+            code = (short) strings.size();
+            strings.put(value, code);
+        }
+        return code;
+    }
+
+    /**
+     * 오프셋이 0에서 시작해 줄어들지 않고 end에서 끝나는지 확인
+     */
+    private static boolean isAscending(int[] offsets, int end) {
+        if (offsets[0] != 0 || offsets[offsets.length - 1] != end) {
+            return false;
+        }
+        for (int i = 1; i < offsets.length; i++) {
+            if (offsets[i] < offsets[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static long[] readLongs(ByteBuffer buffer, int count) {
+        long[] values = new long[count];
+        buffer.asLongBuffer().get(values);
+        buffer.position(buffer.position() + count * Long.BYTES);
+        return values;
+    }
+
+    private static int[] readInts(ByteBuffer buffer, int count) {
+        int[] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+        return values;
+    }
+
+    private static short[] readShorts(ByteBuffer buffer, int count) {
+        short[] values = new short[count];
+        buffer.asShortBuffer().get(values);
+        buffer.position(buffer.position() + count * Short.BYTES);
+        return values;
+    }
+
+    private static char[] readChars(ByteBuffer buffer, int count) {
+        char[] values = new char[count];
+        buffer.asCharBuffer().get(values);
+        buffer.position(buffer.position() + count * Character.BYTES);
+        return values;
+    }
+
+    /**
+     * 스냅샷을 만든 시점의 DB 지문
+     * 임포트는 단어를 추가만 하므로 단어 수와 최대 ID가 같으면 같은 데이터로 봅니다.
+     */
+    public record Fingerprint(long wordCount, long maxId) {
+
+        /**
+         * 사전에 담긴 단어로 만든 지문 (ID 없는 단어는 최대 ID에서 제외)
+         */
+        public static Fingerprint of(Lexicon lexicon) {
+            long maxId = 0;
+            for (LexiconWord entry : lexicon.entries) {
+                if (entry.id() != null) {
+                    maxId = Math.max(maxId, entry.id());
+                }
+            }
+            return new Fingerprint(lexicon.size(), maxId);
+        }
+    }
+
+    /**
+     * 매핑된 스냅샷의 뜻풀이 구간 (서수 → UTF-8 디코딩)
+     * 절대 위치로만 읽으므로 여러 스레드에서 함께 사용할 수 있고, 사전이 살아 있는 동안 매핑이 유지됩니다.
+     */
+    private record MappedDefinitions(ByteBuffer buffer, int base, int[] offsets) implements IntFunction<String> {
+
+        @Override
+        public String apply(int ordinal) {
+            byte[] bytes = new byte[offsets[ordinal + 1] - offsets[ordinal]];
+            buffer.get(base + offsets[ordinal], bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.hakno.WordPuzzle.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 사전 스냅샷 내보내기 (빌드 단계용)
+ * puzzle.lexicon.export-path가 지정되면 DB의 표준국어대사전 전체를 스냅샷 파일로 쓰고 애플리케이션을 종료합니다.
+ * 실행: ./gradlew exportLexicon [-PlexiconSnapshot=경로]
+ */
+@Component
+@ConditionalOnProperty("puzzle.lexicon.export-path")
+@RequiredArgsConstructor
+@Slf4j
+public class LexiconSnapshotExporter implements ApplicationRunner {
+
+    private final LexiconService lexiconService;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${puzzle.lexicon.export-path}")
+    private String exportPath;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        int exported = lexiconService.exportSnapshot(Path.of(exportPath));
+        log.info("사전 스냅샷 내보내기 종료: {}개 단어 → {}", exported, exportPath);
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+}
@@ -0,0 +1,136 @@
+package com.hakno.WordPuzzle.service;
+
+import com.hakno.WordPuzzle.entity.StdSense;
+import com.hakno.WordPuzzle.entity.StdWord;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * 퍼즐 생성에 필요한 최소 정보만 담은 불변 단어
+ * JPA 엔티티 대신 메모리 사전(Lexicon)과 생성기 사이에서 사용됩니다.
+ *
+ * 스냅샷에서 복원한 단어는 뜻풀이를 문자열로 갖지 않고, 매핑된 스냅샷 파일에서
+ * definition()을 호출할 때(그리드에 배치할 때) 디코딩합니다.
+ */
+public final class LexiconWord {
+
+    private final Long id;
+    private final String word;
+    private final String definition;
+    private final String wordType;
+    private final List<String> categories;
+
+    // 스냅샷 단어의 뜻풀이 (서수 → 뜻풀이, 문자열로 가진 단어는 null)
+    private final IntFunction<String> definitionSource;
+    private final int ordinal;
+
+    /**
+     * @param id         StdWord ID (테스트용 엔티티는 null일 수 있음)
+     * @param word       표제어
+     * @param definition 첫 번째 뜻풀이
+     * @param wordType   고유어/한자어/외래어/혼종어
+     * @param categories 뜻풀이들의 전문 분야 목록 (중복 제거)
+     */
+    public LexiconWord(Long id, String word, String definition, String wordType, List<String> categories) {
+        this(id, word, definition != null ? definition : "", wordType, categories, null, -1);
+    }
+
+    /**
+     * 뜻풀이를 필요할 때 읽는 단어 (LexiconSnapshot 전용)
+     */
+    LexiconWord(Long id, String word, String wordType, List<String> categories,
+                IntFunction<String> definitionSource, int ordinal) {
+        this(id, word, null, wordType, categories, definitionSource, ordinal);
+    }
+
+    private LexiconWord(Long id, String word, String definition, String wordType, List<String> categories,
+                        IntFunction<String> definitionSource, int ordinal) {
+        this.id = id;
+        this.word = word;
+        this.definition = definition;
+        this.wordType = wordType;
+        this.categories = categories != null ? List.copyOf(categories) : List.of();
+        this.definitionSource = definitionSource;
+        this.ordinal = ordinal;
+    }
+
+    public Long id() {
+        return id;
+    }
+
+    public String word() {
+        return word;
+    }
+
+    /**
+     * 첫 번째 뜻풀이 (스냅샷 단어는 호출할 때마다 매핑된 파일에서 디코딩)
+     */
+    public String definition() {
+        return definitionSource != null ? definitionSource.apply(ordinal) : definition;
+    }
+
+    public String wordType() {
+        return wordType;
+    }
+
+    public List<String> categories() {
+        return categories;
+    }
+
+    public int length() {
+        return word.length();
+    }
+
+    /**
+     * 카테고리/단어유형 필터 조건을 만족하는지 확인 (null 조건은 무시)
+     */
+    public boolean matches(String category, String wordType) {
+        if (category != null && !categories.contains(category)) {
+            return false;
+        }
+        return wordType == null || wordType.equals(this.wordType);
+    }
+
+    /**
+     * StdWord 엔티티에서 변환 (senses가 로딩된 상태여야 함)
+     */
+    public static LexiconWord from(StdWord word) {
+        String definition = "";
+        List<String> categories = new ArrayList<>();
+        if (word.getSenses() != null && !word.getSenses().isEmpty()) {
+            definition = word.getSenses().get(0).getDefinition();
+            for (StdSense sense : word.getSenses()) {
+                String category = sense.getCategory();
+                if (category != null && !categories.contains(category)) {
+                    categories.add(category);
+                }
+            }
+        }
+        return new LexiconWord(word.getId(), word.getWord(), definition, word.getWordType(), categories);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LexiconWord other)) return false;
+        return Objects.equals(id, other.id)
+                && Objects.equals(word, other.word)
+                && Objects.equals(definition(), other.definition())
+                && Objects.equals(wordType, other.wordType)
+                && categories.equals(other.categories);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, word, definition(), wordType, categories);
+    }
+
+    @Override
+    public String toString() {
+        return "LexiconWord[id=" + id + ", word=" + word + ", definition=" + definition()
+                + ", wordType=" + wordType + ", categories=" + categories + "]";
+    }
+}
@@ -0,0 +1,347 @@
+package com.hakno.WordPuzzle.service;
+
+import com.hakno.WordPuzzle.dto.PuzzleResponse;
+import com.hakno.WordPuzzle.dto.PuzzleWord;
+import com.hakno.WordPuzzle.util.GridConverter;
+import com.hakno.WordPuzzle.util.GridState;
+import com.hakno.WordPuzzle.util.GridUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * 패턴 채우기(제약 전파) 퍼즐 생성기
+ * 백트래킹 생성기처럼 교차 글자 하나에 단어를 붙여 본 뒤 검증하지 않고,
+ * 그리드의 열린 칸(slot)을 이미 놓인 음절로 만든 패턴으로 보고 채웁니다.
+ *
+ * 주요 특징:
+ * - 칸: 놓인 글자를 하나 이상 지나고 배치 규칙상 단어가 들어갈 수 있는 가로/세로 구간
+ *   구간의 고정 음절이 패턴이 됨 (예: ?가?? - 길이 4, 두 번째 음절이 '가')
+ * - 위치 인덱스: 패턴 후보는 메모리 사전의 (음절, 위치, 길이) 포스팅 중 가장 짧은 목록에서만 찾음
+ * - MRV: 후보가 가장 적은 칸부터 채움 (같으면 고정 음절이 많은 칸 우선 → 여러 단어와 한 번에 교차해 밀도가 높아짐)
+ * - 전방 검사: 단어를 놓은 직후 남은 칸의 후보를 다시 세고, 목표 단어 수 전에 후보 있는 칸이 없으면 더 내려가지 않음
+ *   (다시 센 칸 목록은 그대로 자식 노드의 MRV 순서로 사용)
+ * - 칸 비워 두기: 자유형 퍼즐은 모든 칸을 채울 필요가 없으므로, 한 칸의 후보를 모두 시도한 뒤에는
+ *   그 칸을 비워 둔 채 다음 칸을 시도 (이후 형제 노드의 하위 탐색에서는 그 칸을 제외해 같은 상태를 반복하지 않음)
+ * - 최선 결과: 목표 단어 수까지는 더 많이 채운 상태, 같으면 PuzzleScorer 점수가 높은 상태
+ * - 메모리 사전이 필요하며, 로딩 전에는 예외 (패턴 조회용 DB 대체 경로 없음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PatternFillPuzzleGenerator {
+
+    private final LexiconService lexiconService;
+    private final PlacementValidator placementValidator;
+    private final GridConverter gridConverter;
+    private final PuzzleScorer puzzleScorer;
+
+    // 설정 상수
+    private static final long DEFAULT_TIMEOUT_MS = 5000; // 기본 타임아웃 5초
+    private static final int MAX_SLOT_LENGTH = 8;        // 칸 최대 길이
+    private static final int COUNT_CAP = 50;             // MRV용 후보 수는 여기까지만 셈
+    private static final int VALUES_PER_SLOT = 10;       // 칸마다 시도할 후보 단어 수
+    private static final int SLOTS_PER_NODE = 3;         // 노드마다 단어를 놓아 볼 칸 수 (MRV 순)
+    private static final double TARGET_SCORE = 70;       // 목표 단어 수와 함께 달성하면 종료
+
+    private static final PuzzleWord.Direction[] DIRECTIONS = PuzzleWord.Direction.values();
+
+    /**
+     * 패턴 채우기로 퍼즐 생성
+     */
+    public PuzzleResponse generate(int gridSize, int targetWordCount) {
+        return generate(gridSize, targetWordCount, null, null, DEFAULT_TIMEOUT_MS, null);
+    }
+
+    /**
+     * 패턴 채우기로 퍼즐 생성 (카테고리/단어유형 필터, 난수 시드 지정)
+     *
+     * @param gridSize        그리드 크기
+     * @param targetWordCount 목표 단어 수
+     * @param category        카테고리 필터 (null 가능)
+     * @param wordType        단어유형 필터 (null 가능)
+     * @param timeoutMs       타임아웃 (밀리초)
+     * @param seed            난수 시드 (null이면 매번 다른 퍼즐)
+     * @return 탐색 중 최고 점수의 퍼즐
+     */
+    public PuzzleResponse generate(int gridSize, int targetWordCount,
+                                   String category, String wordType, long timeoutMs, Long seed) {
+        Lexicon lexicon = lexiconService.current();
+        if (lexicon.isEmpty()) {
+            throw new IllegalStateException("메모리 사전이 아직 로딩되지 않았습니다.");
+        }
+
+        log.info("패턴 채우기 퍼즐 생성 시작: gridSize={}, targetWords={}, timeout={}ms",
+                gridSize, targetWordCount, timeoutMs);
+
+        long startTime = System.currentTimeMillis();
+        SplittableRandom random = seed != null ? new SplittableRandom(seed) : new SplittableRandom();
+        FillContext context = new FillContext(lexicon, targetWordCount, category, wordType,
+                startTime + timeoutMs, random);
+
+        LexiconWord firstWord = findFirstWord(lexicon, gridSize, category, wordType, random);
+        if (firstWord == null) {
+            throw new IllegalStateException("조건에 맞는 단어가 없습니다.");
+        }
+
+        PuzzleScoreState state = new PuzzleScoreState(gridSize);
+        state.place(firstWord.word(), firstWord.definition(), gridSize / 2,
+                (gridSize - firstWord.length()) / 2, PuzzleWord.Direction.ACROSS);
+
+        fill(context, state, openSlots(context, state.grid()));
+
+        log.info("패턴 채우기 완료: {}ms, 노드={}, 전방검사 가지치기={}, 최고점수={}, 단어수={}",
+                System.currentTimeMillis() - startTime, context.nodes, context.pruned,
+                String.format("%.1f", context.bestScore), context.bestWordCount());
+
+        return gridConverter.toPuzzleResponse(context.bestGrid != null ? context.bestGrid : state.grid(), seed);
+    }
+
+    /**
+     * 노드 탐색: 현재 상태를 평가하고, MRV 순으로 칸을 골라 후보 단어를 채움
+     *
+     * @param slots 현재 상태의 열린 칸 (MRV 순, 부모가 전방 검사에서 계산)
+     */
+    private void fill(FillContext context, PuzzleScoreState state, List<Slot> slots) {
+        context.nodes++;
+        if (state.wordCount() >= 2) {
+            context.offer(puzzleScorer.calculateScore(state), state.grid());
+        }
+
+        GridState grid = state.grid();
+        List<Integer> excludedHere = new ArrayList<>();
+        int branchedSlots = 0;
+        for (int s = 0; s < slots.size() && branchedSlots < SLOTS_PER_NODE && !context.timedOut(); s++) {
+            Slot slot = slots.get(s);
+            List<LexiconWord> values = context.lexicon.samplePattern(slot.pattern(),
+                    context.category, context.wordType, VALUES_PER_SLOT, context.random);
+
+            boolean branched = false;
+            for (LexiconWord word : values) {
+                if (context.timedOut()) break;
+                if (grid.containsWord(word.word())
+                        || !placementValidator.canPlaceWord(grid, word.word(), slot.row(), slot.col(), slot.direction())) {
+                    continue;
+                }
+
+                branched = true;
+                state.place(word.word(), word.definition(), slot.row(), slot.col(), slot.direction());
+
+                // 전방 검사: 남은 칸의 후보를 다시 셈
+                List<Slot> next = openSlots(context, grid);
+                if (next.isEmpty() && state.wordCount() < context.targetWordCount) {
+                    context.pruned++;
+                    context.offer(puzzleScorer.calculateScore(state), grid);
+                } else {
+                    fill(context, state, next);
+                }
+
+                state.undo();
+            }
+
+            // 다음 칸을 시도할 때는 이 칸을 비워 둠 (이미 쓴 단어만 맞는 칸은 시도 횟수에 세지 않음)
+            context.excluded.add(slot.key());
+            excludedHere.add(slot.key());
+            if (branched) {
+                branchedSlots++;
+            }
+        }
+        context.excluded.removeAll(excludedHere);
+    }
+
+    /**
+     * 열린 칸 목록 (후보가 있는 칸만, MRV 순)
+     * 놓인 글자마다 그 글자를 첫 고정 음절로 하는 구간만 만들어 같은 칸을 두 번 세지 않습니다.
+     */
+    private List<Slot> openSlots(FillContext context, GridState grid) {
+        int size = grid.size();
+        int maxLength = Math.min(size, MAX_SLOT_LENGTH);
+        List<Slot> slots = new ArrayList<>();
+
+        for (int i = 0; i < grid.filledCellCount(); i++) {
+            int cell = grid.filledCell(i);
+            int row = cell / size;
+            int col = cell % size;
+
+            for (PuzzleWord.Direction direction : DIRECTIONS) {
+                int dRow = direction == PuzzleWord.Direction.ACROSS ? 0 : 1;
+                int dCol = 1 - dRow;
+
+                // 같은 방향 단어의 일부인 글자는 그 방향으로 다시 지날 수 없음
+                if (grid.isFilled(row - dRow, col - dCol) || grid.isFilled(row + dRow, col + dCol)) {
+                    continue;
+                }
+
+                for (int length = 2; length <= maxLength; length++) {
+                    for (int offset = 0; offset < length; offset++) {
+                        int startRow = row - dRow * offset;
+                        int startCol = col - dCol * offset;
+                        int key = slotKey(size, startRow, startCol, direction, length);
+                        if (context.excluded.contains(key)) continue;
+
+                        char[] pattern = pattern(grid, startRow, startCol, dRow, dCol, length, offset);
+                        if (pattern == null) continue;
+
+                        int count = context.lexicon.countPattern(pattern, context.category, context.wordType, COUNT_CAP);
+                        if (count > 0) {
+                            slots.add(new Slot(key, startRow, startCol, direction, pattern, count, fixedCount(pattern)));
+                        }
+                    }
+                }
+            }
+        }
+
+        // 같은 순위의 칸은 무작위 순서 (정렬은 안정적이므로 섞은 순서가 유지됨)
+        Collections.shuffle(slots, context.random);
+        slots.sort(Comparator.comparingInt(Slot::candidates).thenComparing(Comparator.comparingInt(Slot::fixed).reversed()));
+        return slots;
+    }
+
+    /**
+     * 구간의 패턴 (배치 규칙상 단어가 들어갈 수 없으면 null)
+     *
+     * @param anchor 구간 안에서 기준 글자의 위치 (이보다 앞에 고정 음절이 있으면 다른 글자에서 센 구간이므로 null)
+     */
+    private static char[] pattern(GridState grid, int startRow, int startCol, int dRow, int dCol,
+                                  int length, int anchor) {
+        int size = grid.size();
+        boolean across = dCol == 1;
+        int line = across ? startRow : startCol;
+        int start = across ? startCol : startRow;
+        int end = start + length - 1;
+        if (line < 0 || line >= size || start < 0 || end >= size) return null;
+
+        // 줄의 채워진 셀 마스크로 판정 (PlacementValidator와 같은 규칙)
+        long filled = across ? grid.rowMask(line) : grid.colMask(line);
+        long span = length == Long.SIZE ? -1L : ((1L << length) - 1) << start;
+
+        // 단어 앞뒤에 빈 칸 확보
+        long ends = (start > 0 ? 1L << (start - 1) : 0L) | (end + 1 < size ? 1L << (end + 1) : 0L);
+        if ((filled & ends) != 0) return null;
+
+        // 빈 칸이 있어야 하고, 첫 고정 음절이 기준 글자여야 하며, 연속된 고정 음절(같은 방향 단어)은 제외
+        long fixed = filled & span;
+        long open = span & ~filled;
+        if (open == 0 || Long.numberOfTrailingZeros(fixed) != start + anchor) return null;
+        if ((fixed & (fixed << 1)) != 0) return null;
+
+        // 빈 셀: 진행 방향의 양옆에 글자가 있으면 안됨 (단어 분리)
+        long sides = across ? grid.rowMask(line - 1) | grid.rowMask(line + 1)
+                : grid.colMask(line - 1) | grid.colMask(line + 1);
+        if ((open & sides) != 0) return null;
+
+        char[] pattern = new char[length];
+        for (long bits = fixed; bits != 0; bits &= bits - 1) {
+            int pos = Long.numberOfTrailingZeros(bits);
+            pattern[pos - start] = across ? grid.get(line, pos) : grid.get(pos, line);
+        }
+        return pattern;
+    }
+
+    /**
+     * 첫 번째 단어 찾기 (공통 글자를 많이 포함한 단어 우선)
+     */
+    private LexiconWord findFirstWord(Lexicon lexicon, int gridSize, String category, String wordType,
+                                      RandomGenerator random) {
+        int maxLength = Math.min(gridSize - 2, 6);
+        List<LexiconWord> words = lexicon.sampleByLength(3, maxLength, category, wordType, 50, random);
+        if (words.isEmpty()) return null;
+
+        words.sort((a, b) -> GridUtils.countCommonChars(b.word()) - GridUtils.countCommonChars(a.word()));
+        return words.get(random.nextInt(Math.min(10, words.size())));
+    }
+
+    // ============== 헬퍼 메서드 ==============
+
+    private static int slotKey(int size, int row, int col, PuzzleWord.Direction direction, int length) {
+        return ((row * size + col) * 2 + direction.ordinal()) * (MAX_SLOT_LENGTH + 1) + length;
+    }
+
+    private static int fixedCount(char[] pattern) {
+        int fixed = 0;
+        for (char c : pattern) {
+            if (c != '\0') fixed++;
+        }
+        return fixed;
+    }
+
+    // ============== 내부 클래스 ==============
+
+    /**
+     * 열린 칸 (시작 위치, 방향, 패턴과 후보 수)
+     */
+    private record Slot(int key, int row, int col, PuzzleWord.Direction direction,
+                        char[] pattern, int candidates, int fixed) {
+    }
+
+    /**
+     * 한 번의 생성 호출에 속한 탐색 상태 (한 스레드에서만 사용)
+     */
+    private static final class FillContext {
+        final Lexicon lexicon;
+        final int targetWordCount;
+        final String category;
+        final String wordType;
+        final long deadline;
+        final SplittableRandom random;
+
+        // 현재 노드의 조상/형제에서 비워 두기로 한 칸
+        final Set<Integer> excluded = new HashSet<>();
+
+        GridState bestGrid;
+        double bestScore = -1;
+        boolean stopped;
+        long nodes;
+        long pruned;
+
+        FillContext(Lexicon lexicon, int targetWordCount, String category, String wordType,
+                    long deadline, SplittableRandom random) {
+            this.lexicon = lexicon;
+            this.targetWordCount = targetWordCount;
+            this.category = category;
+            this.wordType = wordType;
+            this.deadline = deadline;
+            this.random = random;
+        }
+
+        /**
+         * 마감 시간, 목표 달성, 취소(인터럽트) 확인 (한 번 멈추면 이후로는 시간 조회 없이 true)
+         */
+        boolean timedOut() {
+            if (!stopped && (System.currentTimeMillis() >= deadline || Thread.currentThread().isInterrupted())) {
+                stopped = true;
+            }
+            return stopped;
+        }
+
+        /**
+         * 현재 상태가 지금까지의 최선보다 나으면 복사해 기록 (목표 단어 수와 목표 점수를 함께 달성하면 탐색 종료)
+         * 목표 단어 수까지는 단어를 더 채운 상태가 낫고, 같은 수준이면 점수로 비교합니다.
+         */
+        void offer(double score, GridState grid) {
+            int filled = Math.min(grid.wordCount(), targetWordCount);
+            int bestFilled = Math.min(bestWordCount(), targetWordCount);
+            if (filled > bestFilled || (filled == bestFilled && (score > bestScore
+                    || (score == bestScore && grid.wordCount() > bestWordCount())))) {
+                bestScore = score;
+                bestGrid = grid.copy();
+            }
+            if (score >= TARGET_SCORE && grid.wordCount() >= targetWordCount) {
+                stopped = true;
+            }
+        }
+
+        int bestWordCount() {
+            return bestGrid != null ? bestGrid.wordCount() : 0;
+        }
+    }
+}
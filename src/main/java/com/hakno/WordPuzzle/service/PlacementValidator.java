@@ -1,15 +1,43 @@
 package com.hakno.WordPuzzle.service;
 
 import com.hakno.WordPuzzle.dto.PuzzleWord;
+import com.hakno.WordPuzzle.util.GridState;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
  * 단어 배치 검증 로직
  * PuzzleGeneratorService에서 추출된 순수 함수들
+ * 검증할 때마다 결과(거절이면 이유)를 GenerationMetrics에 기록합니다.
  */
 @Component
 public class PlacementValidator {
 
+    /**
+     * 배치 거절 이유 (whyCannotPlace의 분류와 같음)
+     */
+    public enum Rejection {
+        OUT_OF_BOUNDS,      // 그리드 범위 초과
+        BLOCKED_END,        // 단어 앞/뒤 칸에 글자 있음
+        MISMATCH,           // 교차점 글자 불일치
+        ADJACENT,           // 빈 칸의 양옆에 인접 글자
+        NO_INTERSECTION     // 교차점 없음
+    }
+
+    private final GenerationMetrics metrics;
+
+    /**
+     * 메트릭을 등록하지 않는 독립 인스턴스 (단위 테스트, 벤치마크용)
+     */
+    public PlacementValidator() {
+        this(GenerationMetrics.standalone());
+    }
+
+    @Autowired
+    public PlacementValidator(GenerationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     /**
      * 주어진 위치에 단어를 배치할 수 있는지 검증
      *
@@ -23,23 +51,111 @@ public class PlacementValidator {
      */
     public boolean canPlaceWord(char[][] grid, String word, int startRow, int startCol,
                                 PuzzleWord.Direction direction, int gridSize) {
+        return check(grid, word, startRow, startCol, direction, gridSize) == null;
+    }
+
+    /**
+     * canPlaceWord와 같은 검증을 한 번만 수행하고 거절 이유를 반환
+     * 실패 이유를 집계할 때 whyCannotPlace로 다시 검증하거나 문자열을 만들지 않도록 사용합니다.
+     *
+     * @return 배치 가능하면 null, 불가능하면 처음 걸린 거절 이유
+     */
+    public Rejection check(char[][] grid, String word, int startRow, int startCol,
+                           PuzzleWord.Direction direction, int gridSize) {
         int len = word.length();
 
-        if (direction == PuzzleWord.Direction.ACROSS) {
-            return canPlaceAcross(grid, word, startRow, startCol, len, gridSize);
-        } else {
-            return canPlaceDown(grid, word, startRow, startCol, len, gridSize);
+        Rejection rejection = direction == PuzzleWord.Direction.ACROSS
+                ? checkAcross(grid, word, startRow, startCol, len, gridSize)
+                : checkDown(grid, word, startRow, startCol, len, gridSize);
+        metrics.placementChecked(rejection);
+        return rejection;
+    }
+
+    /**
+     * GridState에 단어를 배치할 수 있는지 검증 (char[][] 버전과 같은 규칙)
+     * 셀마다 이웃을 다시 보지 않고, 단어가 놓일 줄과 양옆 줄의 채워진 셀 마스크로
+     * 앞뒤 빈 칸/교차 여부/양옆 인접을 한 번에 판정한 뒤 교차 셀에서만 음절을 비교합니다.
+     *
+     * @param grid      현재 그리드 상태
+     * @param word      배치할 단어
+     * @param startRow  시작 행
+     * @param startCol  시작 열
+     * @param direction 방향 (ACROSS/DOWN)
+     * @return 배치 가능 여부
+     */
+    public boolean canPlaceWord(GridState grid, String word, int startRow, int startCol,
+                                PuzzleWord.Direction direction) {
+        return check(grid, word, startRow, startCol, direction) == null;
+    }
+
+    /**
+     * GridState 버전의 거절 이유 반환 (char[][] 버전과 같은 이유, 같은 우선순위)
+     *
+     * @return 배치 가능하면 null, 불가능하면 처음 걸린 거절 이유
+     */
+    public Rejection check(GridState grid, String word, int startRow, int startCol,
+                           PuzzleWord.Direction direction) {
+        Rejection rejection = checkMasks(grid, word, startRow, startCol, direction);
+        metrics.placementChecked(rejection);
+        return rejection;
+    }
+
+    /**
+     * 마스크 판정 (우선순위는 char[][] 버전/whyCannotPlace와 같음)
+     * 범위 → 앞뒤 칸 → 단어 위치 순으로 처음 걸린 칸(교차점 불일치 또는 빈 칸의 인접 글자) → 교차점 없음
+     */
+    private static Rejection checkMasks(GridState grid, String word, int startRow, int startCol,
+                                        PuzzleWord.Direction direction) {
+        int len = word.length();
+        int gridSize = grid.size();
+        boolean isAcross = direction == PuzzleWord.Direction.ACROSS;
+
+        // 단어가 놓일 줄(가로면 행, 세로면 열)과 줄 안의 시작 위치
+        int line = isAcross ? startRow : startCol;
+        int start = isAcross ? startCol : startRow;
+        int end = start + len - 1;
+
+        // 범위 체크
+        if (line < 0 || line >= gridSize || start < 0 || end >= gridSize) return Rejection.OUT_OF_BOUNDS;
+
+        long filled = lineMask(grid, isAcross, line);
+        long span = len == Long.SIZE ? -1L : ((1L << len) - 1) << start;
+
+        // 단어 앞뒤에 빈 칸 확보
+        long ends = (start > 0 ? 1L << (start - 1) : 0L) | (end + 1 < gridSize ? 1L << (end + 1) : 0L);
+        if ((filled & ends) != 0) return Rejection.BLOCKED_END;
+
+        // 빈 셀 중 진행 방향의 양옆에 글자가 있는 칸 (단어 분리)
+        long sides = lineMask(grid, isAcross, line - 1) | lineMask(grid, isAcross, line + 1);
+        long adjacent = span & ~filled & sides;
+        int firstAdjacent = adjacent != 0 ? Long.numberOfTrailingZeros(adjacent) : Integer.MAX_VALUE;
+
+        // 교차점: 같은 글자여야 함 (인접 칸보다 앞에 있는 불일치만 먼저 걸림)
+        long crossings = filled & span;
+        for (long bits = crossings; bits != 0; bits &= bits - 1) {
+            int pos = Long.numberOfTrailingZeros(bits);
+            if (pos > firstAdjacent) break;
+            char existing = isAcross ? grid.get(line, pos) : grid.get(pos, line);
+            if (existing != word.charAt(pos - start)) return Rejection.MISMATCH;
         }
+        if (adjacent != 0) return Rejection.ADJACENT;
+
+        // 교차점이 하나는 있어야 함
+        return crossings != 0 ? null : Rejection.NO_INTERSECTION;
+    }
+
+    private static long lineMask(GridState grid, boolean across, int line) {
+        return across ? grid.rowMask(line) : grid.colMask(line);
     }
 
-    private boolean canPlaceAcross(char[][] grid, String word, int startRow, int startCol, int len, int gridSize) {
+    private static Rejection checkAcross(char[][] grid, String word, int startRow, int startCol, int len, int gridSize) {
         // 범위 체크
-        if (startCol < 0 || startCol + len > gridSize) return false;
-        if (startRow < 0 || startRow >= gridSize) return false;
+        if (startCol < 0 || startCol + len > gridSize) return Rejection.OUT_OF_BOUNDS;
+        if (startRow < 0 || startRow >= gridSize) return Rejection.OUT_OF_BOUNDS;
 
         // 단어 앞뒤에 빈 칸 확보
-        if (startCol > 0 && grid[startRow][startCol - 1] != '\0') return false;
-        if (startCol + len < gridSize && grid[startRow][startCol + len] != '\0') return false;
+        if (startCol > 0 && grid[startRow][startCol - 1] != '\0') return Rejection.BLOCKED_END;
+        if (startCol + len < gridSize && grid[startRow][startCol + len] != '\0') return Rejection.BLOCKED_END;
 
         boolean hasIntersection = false;
         for (int i = 0; i < len; i++) {
@@ -49,7 +165,7 @@ public class PlacementValidator {
 
             if (existing != '\0') {
                 // 교차점: 같은 글자여야 함
-                if (existing != newChar) return false;
+                if (existing != newChar) return Rejection.MISMATCH;
                 hasIntersection = true;
             } else {
                 // 빈 셀: 교차점이 아니면 위/아래에 글자가 있으면 안됨 (단어 분리)
@@ -57,21 +173,21 @@ public class PlacementValidator {
                 boolean hasBelow = startRow < gridSize - 1 && grid[startRow + 1][col] != '\0';
 
                 if (hasAbove || hasBelow) {
-                    return false;
+                    return Rejection.ADJACENT;
                 }
             }
         }
-        return hasIntersection;
+        return hasIntersection ? null : Rejection.NO_INTERSECTION;
     }
 
-    private boolean canPlaceDown(char[][] grid, String word, int startRow, int startCol, int len, int gridSize) {
+    private static Rejection checkDown(char[][] grid, String word, int startRow, int startCol, int len, int gridSize) {
         // 범위 체크
-        if (startRow < 0 || startRow + len > gridSize) return false;
-        if (startCol < 0 || startCol >= gridSize) return false;
+        if (startRow < 0 || startRow + len > gridSize) return Rejection.OUT_OF_BOUNDS;
+        if (startCol < 0 || startCol >= gridSize) return Rejection.OUT_OF_BOUNDS;
 
         // 단어 앞뒤에 빈 칸 확보
-        if (startRow > 0 && grid[startRow - 1][startCol] != '\0') return false;
-        if (startRow + len < gridSize && grid[startRow + len][startCol] != '\0') return false;
+        if (startRow > 0 && grid[startRow - 1][startCol] != '\0') return Rejection.BLOCKED_END;
+        if (startRow + len < gridSize && grid[startRow + len][startCol] != '\0') return Rejection.BLOCKED_END;
 
         boolean hasIntersection = false;
         for (int i = 0; i < len; i++) {
@@ -81,7 +197,7 @@ public class PlacementValidator {
 
             if (existing != '\0') {
                 // 교차점: 같은 글자여야 함
-                if (existing != newChar) return false;
+                if (existing != newChar) return Rejection.MISMATCH;
                 hasIntersection = true;
             } else {
                 // 빈 셀: 교차점이 아니면 좌/우에 글자가 있으면 안됨 (단어 분리)
@@ -89,11 +205,11 @@ public class PlacementValidator {
                 boolean hasRight = startCol < gridSize - 1 && grid[row][startCol + 1] != '\0';
 
                 if (hasLeft || hasRight) {
-                    return false;
+                    return Rejection.ADJACENT;
                 }
             }
         }
-        return hasIntersection;
+        return hasIntersection ? null : Rejection.NO_INTERSECTION;
     }
 
     /**
@@ -0,0 +1,210 @@
+package com.hakno.WordPuzzle.service;
+
+import com.hakno.WordPuzzle.dto.GridFormat;
+import com.hakno.WordPuzzle.dto.PuzzleBatchRequest.Spec;
+import com.hakno.WordPuzzle.dto.PuzzleBatchSummary;
+import com.hakno.WordPuzzle.dto.PuzzleResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대량 퍼즐 생성 (NDJSON 스트리밍)
+ * - 조건 목록을 여러 코어에서 병렬 생성하고, 끝나는 순서대로 한 줄에 {"index": i, "puzzle": PuzzleResponse} 하나씩 기록
+ *   (i는 조건 목록에서의 위치이므로 완료 순서와 관계없이 어느 조건의 퍼즐인지 알 수 있음)
+ * - 생성 실패는 {"index": i, "error": "..."} 줄로 기록하고 나머지는 계속 생성
+ * - 마지막 줄은 {"summary": PuzzleBatchSummary}
+ *
+ * 배압: 동시에 떠 있는 작업(생성 중 + 기록 대기)은 최대 parallelism * 2개이고,
+ * 결과 한 줄을 기록해야 다음 작업을 제출하므로 클라이언트가 느리게 읽으면 쓰기가 막히면서 생성도 멈춥니다.
+ * 쓰기가 실패하면(연결 종료) 남은 작업을 취소합니다.
+ *
+ * 미리 생성된 퍼즐 풀은 대화형 요청용이므로 거치지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PuzzleBatchService {
+
+    private static final byte[] NEWLINE = {'\n'};
+
+    private final PuzzleGeneratorService puzzleGeneratorService;
+    // /generate 응답과 같은 직렬화 설정(spring.jackson.*)을 쓰도록 애플리케이션의 매퍼를 주입
+    private final JsonMapper jsonMapper;
+
+    // 동시에 생성할 퍼즐 수 (0이면 코어 수)
+    @Value("${puzzle.batch.parallelism:0}")
+    private int parallelism;
+
+    // 한 요청에서 생성할 수 있는 최대 퍼즐 수
+    @Getter
+    @Value("${puzzle.batch.max-size:5000}")
+    private int maxBatchSize;
+
+    // 가상 스레드 모드 (웹 계층과 같은 설정을 따름)
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // 플랫폼 스레드 모드의 생성 작업용 스레드 풀 (처음 사용할 때 생성, 종료 시 정리)
+    private ExecutorService batchExecutor;
+
+    /**
+     * 조건 목록대로 퍼즐을 생성해 out에 NDJSON으로 기록 (모두 끝나면 요약 줄을 쓰고 반환)
+     *
+     * @param format 퍼즐 줄의 그리드 형식 (COMPACT면 셀 목록 대신 압축 그리드)
+     * @throws IOException 기록 실패 (남은 작업은 취소됨)
+     */
+    public PuzzleBatchSummary generate(List<Spec> specs, GridFormat format, OutputStream out) throws IOException {
+        int workers = effectiveParallelism();
+        if (virtualThreads) {
+            // 호출 범위의 가상 스레드 실행기 (close()가 남은 작업 종료까지 대기)
+            try (ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor()) {
+                return run(specs, format, out, scope, workers);
+            }
+        }
+        return run(specs, format, out, batchExecutor(), workers);
+    }
+
+    private PuzzleBatchSummary run(List<Spec> specs, GridFormat format, OutputStream out,
+                                   ExecutorService executor, int workers) throws IOException {
+        long start = System.nanoTime();
+        CompletionService<Outcome> completion = new ExecutorCompletionService<>(executor);
+        List<Future<Outcome>> inFlight = new ArrayList<>();
+        int window = workers * 2;
+
+        int submitted = 0;
+        int completed = 0;
+        int generated = 0;
+        long minNanos = Long.MAX_VALUE;
+        long maxNanos = 0;
+        long totalNanos = 0;
+        boolean cancelled = false;
+
+        try {
+            while (completed < specs.size()) {
+                while (submitted < specs.size() && submitted - completed < window) {
+                    int index = submitted++;
+                    inFlight.add(completion.submit(() -> generateOne(index, specs.get(index), format)));
+                }
+
+                Outcome outcome = completion.take().get();
+                completed++;
+                minNanos = Math.min(minNanos, outcome.nanos);
+                maxNanos = Math.max(maxNanos, outcome.nanos);
+                totalNanos += outcome.nanos;
+
+                if (outcome.puzzle != null) {
+                    generated++;
+                    writeLine(out, new PuzzleLine(outcome.index, outcome.puzzle));
+                } else {
+                    writeLine(out, new ErrorLine(outcome.index, outcome.error));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelled = true;
+        } catch (ExecutionException e) {
+            // generateOne은 예외를 Outcome으로 돌려주므로 여기까지 오지 않음
+            throw new IllegalStateException("퍼즐 생성 작업이 실패했습니다.", e.getCause());
+        } finally {
+            if (completed < specs.size()) {
+                inFlight.forEach(f -> f.cancel(true));
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        PuzzleBatchSummary summary = PuzzleBatchSummary.builder()
+                .requested(specs.size())
+                .generated(generated)
+                .failed(completed - generated)
+                .cancelled(cancelled)
+                .parallelism(workers)
+                .elapsedMs(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .minGenerationMs(completed == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(minNanos))
+                .avgGenerationMs(completed == 0 ? 0 : totalNanos / 1_000_000.0 / completed)
+                .maxGenerationMs(TimeUnit.NANOSECONDS.toMillis(maxNanos))
+                .puzzlesPerSecond(elapsedNanos == 0 ? 0 : generated * 1_000_000_000.0 / elapsedNanos)
+                .build();
+        writeLine(out, Map.of("summary", summary));
+
+        log.info("대량 퍼즐 생성 완료: 요청 {}개, 성공 {}개, 실패 {}개, {}ms",
+                specs.size(), generated, completed - generated, summary.getElapsedMs());
+        return summary;
+    }
+
+    private Outcome generateOne(int index, Spec spec, GridFormat format) {
+        long start = System.nanoTime();
+        try {
+            PuzzleResponse puzzle = puzzleGeneratorService.generatePuzzle(spec.getGridSize(), spec.getWordCount(),
+                    spec.getLevel(), spec.getSource(), spec.getCategory(), spec.getWordType(), spec.getSeed(), format);
+            return new Outcome(index, puzzle, null, System.nanoTime() - start);
+        } catch (Exception e) {
+            log.debug("대량 생성 {}번 실패: {}", index, e.getMessage());
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            return new Outcome(index, null, error, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 한 줄 기록 후 바로 flush (클라이언트가 퍼즐을 받는 대로 처리할 수 있도록)
+     */
+    private void writeLine(OutputStream out, Object value) throws IOException {
+        out.write(jsonMapper.writeValueAsBytes(value));
+        out.write(NEWLINE);
+        out.flush();
+    }
+
+    private int effectiveParallelism() {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    private synchronized ExecutorService batchExecutor() {
+        if (batchExecutor == null) {
+            AtomicInteger threadIndex = new AtomicInteger();
+            batchExecutor = Executors.newFixedThreadPool(effectiveParallelism(), r -> {
+                Thread thread = new Thread(r, "puzzle-batch-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return batchExecutor;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (batchExecutor != null) {
+            batchExecutor.shutdownNow();
+            batchExecutor = null;
+        }
+    }
+
+    private record Outcome(int index, PuzzleResponse puzzle, String error, long nanos) {
+    }
+
+    /**
+     * 퍼즐 줄 (puzzle은 형식에 따라 PuzzleResponse 또는 압축 응답)
+     */
+    private record PuzzleLine(int index, Object puzzle) {
+    }
+
+    private record ErrorLine(int index, String error) {
+    }
+}
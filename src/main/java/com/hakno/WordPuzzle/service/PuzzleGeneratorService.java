@@ -1,35 +1,52 @@
 package com.hakno.WordPuzzle.service;
 
-import com.hakno.WordPuzzle.dto.PuzzleCell;
+import com.hakno.WordPuzzle.dto.GridFormat;
 import com.hakno.WordPuzzle.dto.PuzzleResponse;
 import com.hakno.WordPuzzle.dto.PuzzleWord;
 import com.hakno.WordPuzzle.entity.StdWord;
 import com.hakno.WordPuzzle.entity.Word;
-import com.hakno.WordPuzzle.repository.StdWordRepository;
 import com.hakno.WordPuzzle.repository.WordRepository;
 import com.hakno.WordPuzzle.util.GridConverter;
 import com.hakno.WordPuzzle.util.GridUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
+
+/**
+ * 그리디 방식 퍼즐 생성 서비스
+ * 한 번의 생성에서 쓰는 모든 무작위 선택(첫 단어, 후보 셔플, 단어 추출)은 하나의 SplittableRandom에서 나옵니다.
+ * 시드를 지정하면 같은 사전 데이터에서 항상 같은 퍼즐을 생성합니다.
+ * 시도마다 시작 단어 선택/탐색/응답 생성 시간과 탐색 반복 수를 GenerationMetrics(generator=greedy)에 기록합니다.
+ * 배치 실패 이유 요약은 진단 모드(DEBUG 로그 또는 sample-rate에 걸린 생성)에서만 거절 이유별 int 배열로 집계합니다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PuzzleGeneratorService {
 
     private final WordRepository wordRepository;
-    private final StdWordRepository stdWordRepository;
+    private final StdWordSampler stdWordSampler;
+    private final LexiconService lexiconService;
+    private final WordCandidateProvider wordCandidateProvider;
     private final PlacementValidator placementValidator;
     private final GridConverter gridConverter;
+    private final HintCache hintCache;
+    private final GenerationMetrics metrics;
 
     private static final int MAX_ATTEMPTS = 200;
     private static final int SEARCH_LIMIT = 100;
 
+    // 배치 실패 이유를 집계할 생성 비율 (0이면 DEBUG 로그일 때만, 1이면 모든 생성)
+    @Value("${puzzle.generator.diagnostics.sample-rate:0}")
+    private double diagnosticsSampleRate;
+
     // 데이터 소스 상수
     public static final String SOURCE_DEFAULT = "default";
     public static final String SOURCE_STD = "std";
@@ -48,36 +65,61 @@ public class PuzzleGeneratorService {
 
     public PuzzleResponse generatePuzzle(Integer gridSize, int targetWordCount, String level, String source,
                                          String category, String wordType) {
+        return generatePuzzle(gridSize, targetWordCount, level, source, category, wordType, null);
+    }
+
+    /**
+     * 퍼즐 생성
+     *
+     * @param seed 난수 시드 (null이면 매번 다른 퍼즐). 지정하면 같은 사전 데이터와 같은 조건에서 같은 퍼즐을 생성
+     */
+    public PuzzleResponse generatePuzzle(Integer gridSize, int targetWordCount, String level, String source,
+                                         String category, String wordType, Long seed) {
+        return generatePuzzle(gridSize, targetWordCount, level, source, category, wordType, seed, GridFormat.CELLS);
+    }
+
+    /**
+     * 요청한 그리드 형식으로 퍼즐 생성
+     *
+     * @param format 응답 그리드 형식 (COMPACT면 셀 그리드를 만들지 않음)
+     */
+    public PuzzleResponse generatePuzzle(Integer gridSize, int targetWordCount, String level, String source,
+                                         String category, String wordType, Long seed, GridFormat format) {
+        SplittableRandom random = seed != null ? new SplittableRandom(seed) : new SplittableRandom();
         if (SOURCE_STD.equalsIgnoreCase(source) || category != null || wordType != null) {
-            return generatePuzzleFromStd(gridSize, targetWordCount, category, wordType);
+            return generatePuzzleFromStd(gridSize, targetWordCount, category, wordType, random, seed, format);
         }
-        return generatePuzzleFromDefault(gridSize, targetWordCount, level);
+        return generatePuzzleFromDefault(gridSize, targetWordCount, level, random, seed, format);
     }
 
-    private PuzzleResponse generatePuzzleFromDefault(Integer gridSize, int targetWordCount, String level) {
+    private PuzzleResponse generatePuzzleFromDefault(Integer gridSize, int targetWordCount, String level,
+                                                     SplittableRandom random, Long seed, GridFormat format) {
         // gridSize가 null이면 단어 수에 따라 자동 계산
         int actualGridSize = (gridSize != null) ? gridSize : GridUtils.calculateGridSize(targetWordCount);
 
         // 최대 3번 재시도
         for (int retry = 0; retry < 3; retry++) {
-            PuzzleResponse result = tryGeneratePuzzle(actualGridSize, targetWordCount, level);
+            PuzzleResponse result = tryGeneratePuzzle(actualGridSize, targetWordCount, level, random, seed, format);
             if (result.getTotalWords() >= targetWordCount * 0.7) { // 70% 이상 달성하면 성공
                 return result;
             }
             log.info("퍼즐 생성 재시도 {}/3 - 목표: {}, 달성: {}", retry + 1, targetWordCount, result.getTotalWords());
         }
         // 3번 시도 후에도 실패하면 마지막 결과 반환
-        return tryGeneratePuzzle(actualGridSize, targetWordCount, level);
+        return tryGeneratePuzzle(actualGridSize, targetWordCount, level, random, seed, format);
     }
 
-    private PuzzleResponse tryGeneratePuzzle(int gridSize, int targetWordCount, String level) {
+    private PuzzleResponse tryGeneratePuzzle(int gridSize, int targetWordCount, String level,
+                                             SplittableRandom random, Long seed, GridFormat format) {
         char[][] grid = GridUtils.createEmptyGrid(gridSize);
 
         List<PuzzleWord> placedWords = new ArrayList<>();
         Set<String> usedWords = new HashSet<>();
 
         // 첫 번째 단어 배치 (중앙에 가로로) - 공통 글자가 많은 단어 선호
-        Word firstWord = findFirstWord(gridSize, level);
+        long phaseStart = System.nanoTime();
+        Word firstWord = findFirstWord(gridSize, level, random, seed != null);
+        metrics.recordSince(GenerationMetrics.Generator.GREEDY, GenerationMetrics.Phase.SEED, phaseStart);
         if (firstWord == null) {
             throw new IllegalStateException("단어 데이터가 없습니다. 먼저 데이터를 import 해주세요.");
         }
@@ -90,6 +132,8 @@ public class PuzzleGeneratorService {
         usedWords.add(firstWord.getWord());
 
         // 나머지 단어들 배치 시도 (On-Demand 방식)
+        phaseStart = System.nanoTime();
+        int[] rejections = newRejectionCounts();
         int attempts = 0;
         int totalAttempts = 0;
         while (placedWords.size() < targetWordCount && attempts < MAX_ATTEMPTS) {
@@ -103,17 +147,19 @@ public class PuzzleGeneratorService {
                 break;
             }
 
-            Collections.shuffle(candidates);
+            Collections.shuffle(candidates, random);
             boolean placed = false;
 
             int totalWordsChecked = 0;
             int totalPlacementsChecked = 0;
-            Map<String, Integer> failureReasons = new HashMap<>();
+            if (rejections != null) {
+                Arrays.fill(rejections, 0);
+            }
 
             candidateLoop:
             for (IntersectionCandidate candidate : candidates) {
                 // 해당 교차점에 맞는 단어들을 DB에서 검색
-                List<Word> words = findWordsForIntersection(candidate, gridSize, usedWords, level);
+                List<Word> words = findWordsForIntersection(candidate, gridSize, usedWords, level, random, seed != null);
                 totalWordsChecked += words.size();
 
                 for (Word word : words) {
@@ -122,7 +168,9 @@ public class PuzzleGeneratorService {
                     totalPlacementsChecked += placements.size();
 
                     for (PlacementResult placement : placements) {
-                        if (placementValidator.canPlaceWord(grid, word.getWord(), placement.row, placement.col, placement.direction, gridSize)) {
+                        PlacementValidator.Rejection rejection = placementValidator.check(
+                                grid, word.getWord(), placement.row, placement.col, placement.direction, gridSize);
+                        if (rejection == null) {
                             placeWord(grid, word.getWord(), placement.row, placement.col, placement.direction);
                             placedWords.add(createPuzzleWord(word, 0, placement.row, placement.col, placement.direction));
                             usedWords.add(word.getWord());
@@ -130,24 +178,28 @@ public class PuzzleGeneratorService {
                             attempts = 0;
                             log.debug("단어 배치 성공: {} (총 {}개)", word.getWord(), placedWords.size());
                             break candidateLoop;
-                        } else {
-                            String reason = placementValidator.whyCannotPlace(grid, word.getWord(), placement.row, placement.col, placement.direction, gridSize);
-                            failureReasons.merge(reason, 1, Integer::sum);
+                        } else if (rejections != null) {
+                            rejections[rejection.ordinal()]++;
                         }
                     }
                 }
             }
 
             if (!placed) {
-                log.info("배치 실패 - 후보위치: {}, 검사단어: {}, 배치시도: {}, 실패이유: {}",
-                    candidates.size(), totalWordsChecked, totalPlacementsChecked, failureReasons);
+                if (rejections != null) {
+                    log.info("배치 실패 - 후보위치: {}, 검사단어: {}, 배치시도: {}, 실패이유: {}",
+                        candidates.size(), totalWordsChecked, totalPlacementsChecked, toReasonCounts(rejections));
+                }
                 attempts++;
             }
         }
 
+        metrics.recordSince(GenerationMetrics.Generator.GREEDY, GenerationMetrics.Phase.SEARCH, phaseStart);
+        metrics.nodesExpanded(GenerationMetrics.Generator.GREEDY, totalAttempts);
         log.info("퍼즐 생성 완료: 목표 {}개, 실제 {}개, 총 시도 {}회", targetWordCount, placedWords.size(), totalAttempts);
 
         // 퍼즐 중앙 정렬
+        phaseStart = System.nanoTime();
         centerPuzzle(grid, placedWords, gridSize);
 
         // 가로/세로 단어 분리 및 번호 부여
@@ -204,23 +256,48 @@ public class PuzzleGeneratorService {
                     .build());
         }
 
-        // 그리드를 PuzzleCell로 변환
-        List<List<PuzzleCell>> cellGrid = gridConverter.convertToCellGrid(grid, numberedAcrossWords, numberedDownWords, gridSize);
-
-        return PuzzleResponse.builder()
-                .gridSize(gridSize)
-                .grid(cellGrid)
-                .acrossWords(numberedAcrossWords)
-                .downWords(numberedDownWords)
+        // 요청한 형식의 그리드로 변환 (COMPACT면 PuzzleCell을 만들지 않음)
+        PuzzleResponse response = gridConverter.responseBuilder(grid, numberedAcrossWords, numberedDownWords, gridSize, format)
                 .totalWords(placedWords.size())
+                .seed(seed)
                 .build();
+        metrics.recordSince(GenerationMetrics.Generator.GREEDY, GenerationMetrics.Phase.RESPONSE, phaseStart);
+        return response;
+    }
+
+    /**
+     * 이번 생성에서 배치 실패 이유를 집계할 배열 (진단 모드가 아니면 null)
+     * 시드 고정 생성의 결과가 달라지지 않도록 샘플링에는 생성용 난수 대신 ThreadLocalRandom을 사용합니다.
+     */
+    private int[] newRejectionCounts() {
+        boolean diagnose = log.isDebugEnabled()
+                || (diagnosticsSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < diagnosticsSampleRate);
+        return diagnose ? new int[PlacementValidator.Rejection.values().length] : null;
     }
 
-    private Word findFirstWord(int gridSize, String level) {
+    /**
+     * 거절 이유별 횟수를 로그용 맵으로 변환 (0회인 이유는 제외)
+     */
+    private static Map<PlacementValidator.Rejection, Integer> toReasonCounts(int[] rejections) {
+        Map<PlacementValidator.Rejection, Integer> reasons = new EnumMap<>(PlacementValidator.Rejection.class);
+        for (PlacementValidator.Rejection reason : PlacementValidator.Rejection.values()) {
+            if (rejections[reason.ordinal()] > 0) {
+                reasons.put(reason, rejections[reason.ordinal()]);
+            }
+        }
+        return reasons;
+    }
+
+    private Word findFirstWord(int gridSize, String level, RandomGenerator random, boolean seeded) {
         int maxLength = Math.min(gridSize - 2, 6);
-        List<Word> words = wordRepository.findRandomWordsWithDefinitionsByLevel(
-            3, maxLength, level, PageRequest.of(0, 50)
-        );
+        // 시드 고정 생성은 DB의 RAND() 대신 ID 목록에서 주어진 난수로 추출
+        List<Word> words;
+        if (seeded) {
+            words = wordCandidateProvider.randomWords(3, maxLength, level, 50, random);
+        } else {
+            metrics.candidateFetched(GenerationMetrics.Source.DB);
+            words = wordRepository.findRandomWordsWithDefinitionsByLevel(3, maxLength, level, PageRequest.of(0, 50));
+        }
         if (words.isEmpty()) {
             return null;
         }
@@ -234,7 +311,7 @@ public class PuzzleGeneratorService {
 
         // 상위 10개 중 랜덤 선택 (다양성 유지)
         int selectFrom = Math.min(10, words.size());
-        return words.get(new Random().nextInt(selectFrom));
+        return words.get(random.nextInt(selectFrom));
     }
 
     private List<IntersectionCandidate> findIntersectionCandidates(char[][] grid, int gridSize) {
@@ -275,26 +352,19 @@ public class PuzzleGeneratorService {
         return hasTopSpace || hasBottomSpace;
     }
 
-    @Cacheable(value = "wordsContaining", key = "#candidate.character + '_' + #gridSize + '_' + #level")
-    private List<Word> getCachedWordsContaining(IntersectionCandidate candidate, int gridSize, String level) {
-        return wordRepository.findByContainingCharacterWithDefinitionsByLevel(
-            String.valueOf(candidate.character),
-            2, gridSize,
-            level,
-            PageRequest.of(0, SEARCH_LIMIT)
-        );
-    }
-
-    private List<Word> findWordsForIntersection(IntersectionCandidate candidate, int gridSize, Set<String> usedWords, String level) {
-        List<Word> words = getCachedWordsContaining(candidate, gridSize, level);
+    private List<Word> findWordsForIntersection(IntersectionCandidate candidate, int gridSize, Set<String> usedWords,
+                                                String level, RandomGenerator random, boolean seeded) {
+        List<Word> words = seeded
+            ? wordCandidateProvider.wordsContaining(candidate.character, 2, gridSize, level, random)
+            : wordCandidateProvider.wordsContaining(candidate.character, 2, gridSize, level);
 
         List<Word> filtered = words.stream()
             .filter(w -> !usedWords.contains(w.getWord()))
             .filter(w -> w.getWord().indexOf(candidate.character) >= 0)
-            .collect(java.util.stream.Collectors.toList());
+            .collect(Collectors.toList());
 
         // 다양성을 위해 셔플
-        Collections.shuffle(filtered);
+        Collections.shuffle(filtered, random);
         return filtered;
     }
 
@@ -403,27 +473,40 @@ public class PuzzleGeneratorService {
 
     // ==================== StdWord 기반 퍼즐 생성 ====================
 
-    private PuzzleResponse generatePuzzleFromStd(Integer gridSize, int targetWordCount, String category, String wordType) {
+    private PuzzleResponse generatePuzzleFromStd(Integer gridSize, int targetWordCount, String category, String wordType,
+                                                 SplittableRandom random, Long seed, GridFormat format) {
         int actualGridSize = (gridSize != null) ? gridSize : GridUtils.calculateGridSize(targetWordCount);
 
-        for (int retry = 0; retry < 3; retry++) {
-            PuzzleResponse result = tryGeneratePuzzleFromStd(actualGridSize, targetWordCount, category, wordType);
-            if (result.getTotalWords() >= targetWordCount * 0.7) {
-                return result;
+        PuzzleResponse result = null;
+        for (int retry = 0; retry < 3 && result == null; retry++) {
+            PuzzleResponse attempt = tryGeneratePuzzleFromStd(actualGridSize, targetWordCount, category, wordType, random, seed, format);
+            if (attempt.getTotalWords() >= targetWordCount * 0.7) {
+                result = attempt;
+            } else {
+                log.info("StdWord 퍼즐 생성 재시도 {}/3 - 목표: {}, 달성: {}, 카테고리: {}, 단어유형: {}",
+                        retry + 1, targetWordCount, attempt.getTotalWords(), category, wordType);
             }
-            log.info("StdWord 퍼즐 생성 재시도 {}/3 - 목표: {}, 달성: {}, 카테고리: {}, 단어유형: {}",
-                    retry + 1, targetWordCount, result.getTotalWords(), category, wordType);
         }
-        return tryGeneratePuzzleFromStd(actualGridSize, targetWordCount, category, wordType);
+        if (result == null) {
+            result = tryGeneratePuzzleFromStd(actualGridSize, targetWordCount, category, wordType, random, seed, format);
+        }
+
+        // 힌트 캐시 워밍업 대상 집계 (힌트는 StdWord 기준이므로 std 퍼즐만)
+        hintCache.recordUsage(result.getAcrossWords());
+        hintCache.recordUsage(result.getDownWords());
+        return result;
     }
 
-    private PuzzleResponse tryGeneratePuzzleFromStd(int gridSize, int targetWordCount, String category, String wordType) {
+    private PuzzleResponse tryGeneratePuzzleFromStd(int gridSize, int targetWordCount, String category, String wordType,
+                                                    SplittableRandom random, Long seed, GridFormat format) {
         char[][] grid = GridUtils.createEmptyGrid(gridSize);
         List<PuzzleWord> placedWords = new ArrayList<>();
         Set<String> usedWords = new HashSet<>();
 
         // 첫 번째 단어 배치
-        StdWord firstWord = findFirstStdWord(gridSize, category, wordType);
+        long phaseStart = System.nanoTime();
+        LexiconWord firstWord = findFirstStdWord(gridSize, category, wordType, random);
+        metrics.recordSince(GenerationMetrics.Generator.GREEDY, GenerationMetrics.Phase.SEED, phaseStart);
         if (firstWord == null) {
             String filterInfo = "";
             if (category != null) filterInfo += "카테고리=" + category;
@@ -432,50 +515,69 @@ public class PuzzleGeneratorService {
         }
 
         int startRow = gridSize / 2;
-        int startCol = (gridSize - firstWord.getWord().length()) / 2;
+        int startCol = (gridSize - firstWord.length()) / 2;
 
-        placeWord(grid, firstWord.getWord(), startRow, startCol, PuzzleWord.Direction.ACROSS);
+        placeWord(grid, firstWord.word(), startRow, startCol, PuzzleWord.Direction.ACROSS);
         placedWords.add(createPuzzleWordFromStd(firstWord, 0, startRow, startCol, PuzzleWord.Direction.ACROSS));
-        usedWords.add(firstWord.getWord());
+        usedWords.add(firstWord.word());
 
         // 나머지 단어 배치
+        phaseStart = System.nanoTime();
+        int[] rejections = newRejectionCounts();
         int attempts = 0;
+        int totalAttempts = 0;
         while (placedWords.size() < targetWordCount && attempts < MAX_ATTEMPTS) {
             attempts++;
+            totalAttempts++;
 
             List<IntersectionCandidate> candidates = findIntersectionCandidates(grid, gridSize);
             if (candidates.isEmpty()) break;
 
-            Collections.shuffle(candidates);
+            Collections.shuffle(candidates, random);
             boolean placed = false;
+            if (rejections != null) {
+                Arrays.fill(rejections, 0);
+            }
 
             candidateLoop:
             for (IntersectionCandidate candidate : candidates) {
-                List<StdWord> words = findStdWordsForIntersection(candidate, gridSize, usedWords, category, wordType);
-
-                for (StdWord word : words) {
-                    List<PlacementResult> placements = calculateAllPlacementsForStd(candidate, word);
-
-                    for (PlacementResult placement : placements) {
-                        if (placementValidator.canPlaceWord(grid, word.getWord(), placement.row, placement.col, placement.direction, gridSize)) {
-                            placeWord(grid, word.getWord(), placement.row, placement.col, placement.direction);
-                            placedWords.add(createPuzzleWordFromStd(word, 0, placement.row, placement.col, placement.direction));
-                            usedWords.add(word.getWord());
-                            placed = true;
-                            attempts = 0;
-                            break candidateLoop;
-                        }
+                List<Lexicon.Match> matches = findStdWordsForIntersection(candidate, gridSize, usedWords,
+                        category, wordType, random, seed != null);
+
+                for (Lexicon.Match match : matches) {
+                    LexiconWord word = match.word();
+                    PlacementResult placement = toPlacement(candidate, match);
+
+                    PlacementValidator.Rejection rejection = placementValidator.check(
+                            grid, word.word(), placement.row, placement.col, placement.direction, gridSize);
+                    if (rejection == null) {
+                        placeWord(grid, word.word(), placement.row, placement.col, placement.direction);
+                        placedWords.add(createPuzzleWordFromStd(word, 0, placement.row, placement.col, placement.direction));
+                        usedWords.add(word.word());
+                        placed = true;
+                        attempts = 0;
+                        break candidateLoop;
+                    } else if (rejections != null) {
+                        rejections[rejection.ordinal()]++;
                     }
                 }
             }
 
-            if (!placed) attempts++;
+            if (!placed) {
+                if (rejections != null) {
+                    log.info("StdWord 배치 실패 - 후보위치: {}, 실패이유: {}", candidates.size(), toReasonCounts(rejections));
+                }
+                attempts++;
+            }
         }
 
+        metrics.recordSince(GenerationMetrics.Generator.GREEDY, GenerationMetrics.Phase.SEARCH, phaseStart);
+        metrics.nodesExpanded(GenerationMetrics.Generator.GREEDY, totalAttempts);
         log.info("StdWord 퍼즐 생성 완료: 목표 {}개, 실제 {}개, 카테고리: {}, 단어유형: {}",
                 targetWordCount, placedWords.size(), category, wordType);
 
         // 퍼즐 중앙 정렬
+        phaseStart = System.nanoTime();
         centerPuzzle(grid, placedWords, gridSize);
 
         // 가로/세로 분리 및 번호 부여
@@ -511,78 +613,96 @@ public class PuzzleGeneratorService {
                     .startRow(pw.getStartRow()).startCol(pw.getStartCol()).direction(pw.getDirection()).build());
         }
 
-        List<List<PuzzleCell>> cellGrid = gridConverter.convertToCellGrid(grid, numberedAcross, numberedDown, gridSize);
-
-        return PuzzleResponse.builder()
-                .gridSize(gridSize).grid(cellGrid)
-                .acrossWords(numberedAcross).downWords(numberedDown)
-                .totalWords(placedWords.size()).build();
+        PuzzleResponse response = gridConverter.responseBuilder(grid, numberedAcross, numberedDown, gridSize, format)
+                .totalWords(placedWords.size()).seed(seed).build();
+        metrics.recordSince(GenerationMetrics.Generator.GREEDY, GenerationMetrics.Phase.RESPONSE, phaseStart);
+        return response;
     }
 
-    private StdWord findFirstStdWord(int gridSize, String category, String wordType) {
+    private LexiconWord findFirstStdWord(int gridSize, String category, String wordType, RandomGenerator random) {
         int maxLength = Math.min(gridSize - 2, 6);
-        List<StdWord> words;
+        List<LexiconWord> words;
 
-        if (category != null) {
-            words = stdWordRepository.findRandomWordsByCategory(category, 3, maxLength, 50);
-        } else if (wordType != null) {
-            words = stdWordRepository.findRandomWordsByWordType(wordType, 3, maxLength, 50);
+        Lexicon lexicon = lexiconService.current();
+        if (!lexicon.isEmpty()) {
+            metrics.candidateFetched(GenerationMetrics.Source.LEXICON);
+            words = lexicon.sampleByLength(3, maxLength, category, wordType, 50, random);
         } else {
-            words = stdWordRepository.findRandomWordsWithSenses(3, maxLength, PageRequest.of(0, 50));
+            metrics.candidateFetched(GenerationMetrics.Source.DB);
+            words = toLexiconWords(stdWordSampler.randomWords(3, maxLength, category, wordType, 50, random));
         }
 
         if (words.isEmpty()) return null;
 
-        words.sort((a, b) -> GridUtils.countCommonChars(b.getWord()) - GridUtils.countCommonChars(a.getWord()));
+        words.sort((a, b) -> GridUtils.countCommonChars(b.word()) - GridUtils.countCommonChars(a.word()));
         int selectFrom = Math.min(10, words.size());
-        return words.get(new Random().nextInt(selectFrom));
+        return words.get(random.nextInt(selectFrom));
     }
 
-    private List<StdWord> findStdWordsForIntersection(IntersectionCandidate candidate, int gridSize,
-                                                       Set<String> usedWords, String category, String wordType) {
-        List<StdWord> words;
-        String charStr = String.valueOf(candidate.character);
-
-        if (category != null) {
-            words = stdWordRepository.findRandomWordsByCategoryContainingChar(category, charStr, 2, gridSize, SEARCH_LIMIT);
-        } else if (wordType != null) {
-            words = stdWordRepository.findRandomWordsByWordTypeContainingChar(wordType, charStr, 2, gridSize, SEARCH_LIMIT);
+    /**
+     * 교차점에 맞는 StdWord 검색
+     * 메모리 사전이 로딩되어 있으면 (음절, 위치, 길이) 인덱스로 교차점 앞뒤 공간에 들어가는 단어만 조회하고,
+     * 로딩 전이면 후보 캐시(WordCandidateProvider)를 거쳐 DB를 조회합니다.
+     * 시드 고정 생성은 캐시 내용에 따라 결과가 달라지지 않도록 샘플러에서 주어진 난수로 바로 추출합니다.
+     */
+    private List<Lexicon.Match> findStdWordsForIntersection(IntersectionCandidate candidate, int gridSize,
+                                                           Set<String> usedWords, String category, String wordType,
+                                                           RandomGenerator random, boolean seeded) {
+        List<Lexicon.Match> matches;
+
+        Lexicon lexicon = lexiconService.current();
+        if (!lexicon.isEmpty()) {
+            int position = candidate.direction == PuzzleWord.Direction.ACROSS ? candidate.col : candidate.row;
+            metrics.candidateFetched(GenerationMetrics.Source.LEXICON);
+            matches = lexicon.sampleWithSyllable(candidate.character, position, gridSize - 1 - position,
+                    2, gridSize, category, wordType, SEARCH_LIMIT, random);
+        } else if (seeded) {
+            metrics.candidateFetched(GenerationMetrics.Source.DB);
+            matches = toMatches(candidate.character, stdWordSampler.randomWordsContainingChar(
+                    candidate.character, 2, gridSize, category, wordType, SEARCH_LIMIT, random));
         } else {
-            words = stdWordRepository.findWordsContainingCharWithSenses(charStr, 2, gridSize, PageRequest.of(0, SEARCH_LIMIT));
+            matches = wordCandidateProvider.stdWordsContaining(candidate.character, 2, gridSize, category, wordType);
         }
 
-        List<StdWord> filtered = words.stream()
-                .filter(w -> !usedWords.contains(w.getWord()))
-                .filter(w -> w.getWord().indexOf(candidate.character) >= 0)
-                .collect(java.util.stream.Collectors.toList());
+        List<Lexicon.Match> filtered = matches.stream()
+                .filter(m -> !usedWords.contains(m.word().word()))
+                .collect(Collectors.toList());
 
-        Collections.shuffle(filtered);
+        Collections.shuffle(filtered, random);
         return filtered;
     }
 
-    private List<PlacementResult> calculateAllPlacementsForStd(IntersectionCandidate candidate, StdWord word) {
-        List<PlacementResult> placements = new ArrayList<>();
-        String wordStr = word.getWord();
+    private List<LexiconWord> toLexiconWords(List<StdWord> words) {
+        return words.stream().map(LexiconWord::from).collect(Collectors.toList());
+    }
 
-        for (int i = 0; i < wordStr.length(); i++) {
-            if (wordStr.charAt(i) == candidate.character) {
-                if (candidate.direction == PuzzleWord.Direction.ACROSS) {
-                    placements.add(new PlacementResult(candidate.row, candidate.col - i, candidate.direction, 1));
-                } else {
-                    placements.add(new PlacementResult(candidate.row - i, candidate.col, candidate.direction, 1));
+    /**
+     * 단어에서 교차 글자가 나타나는 모든 위치를 후보로 변환
+     */
+    private List<Lexicon.Match> toMatches(char character, List<StdWord> words) {
+        List<Lexicon.Match> matches = new ArrayList<>();
+        for (StdWord w : words) {
+            LexiconWord word = null;
+            for (int i = 0; i < w.getWord().length(); i++) {
+                if (w.getWord().charAt(i) == character) {
+                    if (word == null) word = LexiconWord.from(w);
+                    matches.add(new Lexicon.Match(word, i));
                 }
             }
         }
-        return placements;
+        return matches;
     }
 
-    private PuzzleWord createPuzzleWordFromStd(StdWord word, int number, int startRow, int startCol, PuzzleWord.Direction direction) {
-        String definition = "";
-        if (word.getSenses() != null && !word.getSenses().isEmpty()) {
-            definition = word.getSenses().get(0).getDefinition();
+    private PlacementResult toPlacement(IntersectionCandidate candidate, Lexicon.Match match) {
+        if (candidate.direction == PuzzleWord.Direction.ACROSS) {
+            return new PlacementResult(candidate.row, candidate.col - match.position(), candidate.direction, 1);
         }
+        return new PlacementResult(candidate.row - match.position(), candidate.col, candidate.direction, 1);
+    }
+
+    private PuzzleWord createPuzzleWordFromStd(LexiconWord word, int number, int startRow, int startCol, PuzzleWord.Direction direction) {
         return PuzzleWord.builder()
-                .number(number).word(word.getWord()).definition(definition)
+                .number(number).word(word.word()).definition(word.definition())
                 .startRow(startRow).startCol(startCol).direction(direction).build();
     }
 
@@ -0,0 +1,304 @@
+package com.hakno.WordPuzzle.service;
+
+import com.hakno.WordPuzzle.dto.GridFormat;
+import com.hakno.WordPuzzle.dto.PuzzleResponse;
+import com.hakno.WordPuzzle.util.GridUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 미리 생성한 퍼즐 풀
+ * - (gridSize, wordCount, level, source, category, wordType) 프로필별로 완성된 퍼즐을 최대 depth개 보관
+ * - 요청 스레드는 큐에서 O(1)로 꺼내기만 하고, 비어 있으면 호출 측이 즉시 생성으로 대체
+ * - 꺼낸 만큼 백그라운드 워커가 다시 채움 (처음 요청된 프로필은 자동 등록, 최대 max-profiles개)
+ * - 보관하는 퍼즐은 압축 그리드(COMPACT)로 만들어 셀 객체를 들고 있지 않음 (셀 그리드는 꺼낸 뒤 GridConverter.toFormat으로 생성)
+ *
+ * 메트릭: puzzle.pool.depth(프로필별), puzzle.pool.requests(hit/miss), puzzle.pool.hit.ratio,
+ * puzzle.pool.refill(생성 시간/횟수), puzzle.pool.refill.failures
+ */
+@Service
+@Slf4j
+public class PuzzlePool {
+
+    private final PuzzleGeneratorService puzzleGeneratorService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${puzzle.pool.enabled:true}")
+    private boolean enabled;
+
+    @Value("${puzzle.pool.depth:5}")
+    private int targetDepth;
+
+    @Value("${puzzle.pool.workers:2}")
+    private int workerCount;
+
+    @Value("${puzzle.pool.max-profiles:32}")
+    private int maxProfiles;
+
+    // 시작 시 미리 채울 프로필 (gridSize:wordCount[:source[:category[:wordType]]], 쉼표 구분)
+    @Value("${puzzle.pool.profiles:}")
+    private List<String> warmProfiles = List.of();
+
+    private final Map<Profile, Slot> slots = new ConcurrentHashMap<>();
+    private final BlockingQueue<Slot> refillTickets = new LinkedBlockingQueue<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter refillFailures;
+    private final Timer refillTimer;
+
+    private volatile ExecutorService workers;
+
+    public PuzzlePool(PuzzleGeneratorService puzzleGeneratorService, MeterRegistry meterRegistry) {
+        this.puzzleGeneratorService = puzzleGeneratorService;
+        this.meterRegistry = meterRegistry;
+        this.hits = Counter.builder("puzzle.pool.requests").tag("result", "hit")
+                .description("풀에서 바로 꺼낸 요청 수").register(meterRegistry);
+        this.misses = Counter.builder("puzzle.pool.requests").tag("result", "miss")
+                .description("풀이 비어 즉시 생성한 요청 수").register(meterRegistry);
+        this.refillFailures = Counter.builder("puzzle.pool.refill.failures")
+                .description("백그라운드 생성 실패 수").register(meterRegistry);
+        this.refillTimer = Timer.builder("puzzle.pool.refill")
+                .description("백그라운드 퍼즐 생성 시간").register(meterRegistry);
+        Gauge.builder("puzzle.pool.hit.ratio", this, PuzzlePool::hitRatio)
+                .description("풀 적중률").register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작 후 워커 시작 및 설정된 프로필 채우기
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || workers != null) {
+            return;
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerCount, r -> {
+            Thread thread = new Thread(r, "puzzle-pool-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::refillLoop);
+        }
+
+        for (String spec : warmProfiles) {
+            Slot slot = spec.isBlank() ? null : slotFor(Profile.parse(spec));
+            if (slot != null) {
+                requestRefill(slot);
+            }
+        }
+        log.info("퍼즐 풀 시작: workers={}, depth={}, profiles={}", workerCount, targetDepth, slots.keySet());
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (workers != null) {
+            workers.shutdownNow();
+            workers = null;
+        }
+    }
+
+    /**
+     * 풀에서 퍼즐 하나 꺼내기 (비어 있으면 empty, 꺼낸 자리는 백그라운드에서 다시 채움)
+     */
+    public Optional<PuzzleResponse> poll(Integer gridSize, int wordCount, String level, String source,
+                                         String category, String wordType) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        Slot slot = slotFor(Profile.of(gridSize, wordCount, level, source, category, wordType));
+        PuzzleResponse puzzle = slot != null ? slot.ready.poll() : null;
+        if (puzzle == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        if (slot != null) {
+            requestRefill(slot);
+        }
+        return Optional.ofNullable(puzzle);
+    }
+
+    /**
+     * 사전이 바뀌면 보관 중인 퍼즐을 버리고 다시 채움
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDictionaryUpdated(DictionaryUpdatedEvent event) {
+        for (Slot slot : slots.values()) {
+            slot.ready.clear();
+            requestRefill(slot);
+        }
+    }
+
+    /**
+     * 풀 상태 (프로필별 보관 수)
+     */
+    public Map<Profile, Integer> depths() {
+        Map<Profile, Integer> depths = new ConcurrentHashMap<>();
+        slots.forEach((profile, slot) -> depths.put(profile, slot.ready.size()));
+        return depths;
+    }
+
+    public double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0.0 : hits.count() / total;
+    }
+
+    // ============== 헬퍼 메서드 ==============
+
+    /**
+     * 프로필 슬롯 조회/등록 (등록 한도를 넘으면 null, 채우기 요청은 호출 측에서)
+     */
+    private Slot slotFor(Profile profile) {
+        Slot slot = slots.get(profile);
+        if (slot != null) {
+            return slot;
+        }
+        synchronized (slots) {
+            slot = slots.get(profile);
+            if (slot == null) {
+                if (slots.size() >= maxProfiles) {
+                    return null;
+                }
+                Slot created = new Slot(profile, new ArrayBlockingQueue<>(targetDepth));
+                Gauge.builder("puzzle.pool.depth", created.ready, BlockingQueue::size)
+                        .tag("profile", profile.toString())
+                        .description("프로필별 보관 중인 퍼즐 수")
+                        .register(meterRegistry);
+                slots.put(profile, created);
+                slot = created;
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * 보관 수 + 생성 중인 수가 목표에 닿을 때까지 채우기 요청
+     */
+    private void requestRefill(Slot slot) {
+        while (true) {
+            int pending = slot.pending.get();
+            if (slot.ready.size() + pending >= targetDepth) {
+                return;
+            }
+            if (slot.pending.compareAndSet(pending, pending + 1)) {
+                refillTickets.offer(slot);
+            }
+        }
+    }
+
+    private void refillLoop() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                refill(refillTickets.take());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void refill(Slot slot) {
+        Profile p = slot.profile;
+        try {
+            long start = System.nanoTime();
+            PuzzleResponse puzzle = puzzleGeneratorService.generatePuzzle(
+                    p.gridSize(), p.wordCount(), p.level(), p.source(), p.category(), p.wordType(),
+                    null, GridFormat.COMPACT);
+            refillTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            slot.ready.offer(puzzle);
+        } catch (Exception e) {
+            // 데이터가 없는 프로필 등 - 다음 요청에서 다시 시도
+            refillFailures.increment();
+            log.debug("퍼즐 풀 채우기 실패 ({}): {}", p, e.getMessage());
+        } finally {
+            slot.pending.decrementAndGet();
+        }
+    }
+
+    private static final class Slot {
+        final Profile profile;
+        final BlockingQueue<PuzzleResponse> ready;
+        final AtomicInteger pending = new AtomicInteger();
+
+        Slot(Profile profile, BlockingQueue<PuzzleResponse> ready) {
+            this.profile = profile;
+            this.ready = ready;
+        }
+    }
+
+    /**
+     * 풀 프로필 (생성 결과가 같아지도록 정규화된 요청 조건)
+     */
+    public record Profile(int gridSize, int wordCount, String level, String source,
+                          String category, String wordType) {
+
+        /**
+         * 요청 파라미터 정규화
+         * - gridSize가 없으면 단어 수로 계산한 크기
+         * - category/wordType이 있으면 std 소스, std 소스는 난이도를 사용하지 않음
+         */
+        public static Profile of(Integer gridSize, int wordCount, String level, String source,
+                                 String category, String wordType) {
+            int size = gridSize != null ? gridSize : GridUtils.calculateGridSize(wordCount);
+            boolean std = PuzzleGeneratorService.SOURCE_STD.equalsIgnoreCase(source)
+                    || category != null || wordType != null;
+            return std
+                    ? new Profile(size, wordCount, null, PuzzleGeneratorService.SOURCE_STD, category, wordType)
+                    : new Profile(size, wordCount, level, PuzzleGeneratorService.SOURCE_DEFAULT, null, null);
+        }
+
+        /**
+         * "gridSize:wordCount[:source[:category[:wordType]]]" 형식 (빈 값은 null)
+         */
+        public static Profile parse(String spec) {
+            String[] parts = spec.trim().split(":", -1);
+            List<String> values = new ArrayList<>(List.of(parts));
+            while (values.size() < 5) {
+                values.add("");
+            }
+            return of(Integer.parseInt(values.get(0)), Integer.parseInt(values.get(1)), null,
+                    emptyToNull(values.get(2)) != null ? values.get(2).toLowerCase(Locale.ROOT)
+                            : PuzzleGeneratorService.SOURCE_DEFAULT,
+                    emptyToNull(values.get(3)), emptyToNull(values.get(4)));
+        }
+
+        private static String emptyToNull(String value) {
+            return value == null || value.isBlank() ? null : value;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder()
+                    .append(gridSize).append('x').append(wordCount).append(':').append(source);
+            if (level != null) sb.append(":level=").append(level);
+            if (category != null) sb.append(":category=").append(category);
+            if (wordType != null) sb.append(":wordType=").append(wordType);
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package com.hakno.WordPuzzle.service;
+
+import com.hakno.WordPuzzle.dto.PuzzleWord;
+import com.hakno.WordPuzzle.util.GridState;
+
+import java.util.Arrays;
+
+/**
+ * 배치/되돌리기마다 점수 요소를 갱신하는 증분 스코어링 상태
+ * PuzzleScorer가 PuzzleResponse 전체를 다시 훑어 계산하는 값을 누적값으로 유지합니다.
+ *
+ * - 교차점 수: 새로 채운 셀 주변만 다시 판정
+ * - 바운딩 박스: 배치마다 이전 값을 스택에 저장
+ * - 사분면 분포: 2D 펜윅 트리로 중앙 정렬 후의 사분면 셀 수를 조회
+ * - 연결성: 크기 기준 합치기 Union-Find (경로 압축 없이 되돌리기 가능)
+ *
+ * 배치/되돌리기는 모두 O(단어 길이 · log²n)이며, 점수는
+ * PuzzleScorer.calculateScore(PuzzleScoreState)로 계산합니다.
+ * 단일 스레드 전용입니다.
+ */
+public final class PuzzleScoreState {
+
+    private final GridState grid;
+    private final int size;
+
+    // 교차점 수
+    private int intersectionCount;
+
+    // 바운딩 박스 (배치 전 값을 단어별로 저장)
+    private int minRow, maxRow, minCol, maxCol;
+    private int[] bboxHistory;
+
+    // 채워진 셀의 2D 펜윅 트리 (1-based)
+    private final int[] fenwick;
+
+    // 셀별 가로/세로 단어 번호 (없으면 -1)
+    private final int[] acrossOwner;
+    private final int[] downOwner;
+
+    // Union-Find (단어 번호 기준)
+    private int[] parent;
+    private int[] componentSize;
+    private int maxComponent;
+    private int[] mergedRoots;
+    private int mergeTop;
+    private int[] mergeMarks;
+    private int[] maxComponentHistory;
+
+    // 균형도 계산용 버퍼
+    private final int[] quadrantCounts = new int[4];
+
+    public PuzzleScoreState(int gridSize) {
+        this(new GridState(gridSize));
+    }
+
+    /**
+     * 빈 GridState로 생성 (이미 배치된 단어가 있으면 안 됨)
+     */
+    public PuzzleScoreState(GridState grid) {
+        if (grid.wordCount() > 0) {
+            throw new IllegalArgumentException("빈 그리드에서 시작해야 합니다.");
+        }
+        this.grid = grid;
+        this.size = grid.size();
+        this.minRow = size;
+        this.minCol = size;
+        this.maxRow = -1;
+        this.maxCol = -1;
+        this.fenwick = new int[(size + 1) * (size + 1)];
+        this.acrossOwner = new int[size * size];
+        this.downOwner = new int[size * size];
+        Arrays.fill(acrossOwner, -1);
+        Arrays.fill(downOwner, -1);
+
+        int capacity = 32;
+        this.bboxHistory = new int[capacity * 4];
+        this.parent = new int[capacity];
+        this.componentSize = new int[capacity];
+        this.mergedRoots = new int[capacity];
+        this.mergeMarks = new int[capacity];
+        this.maxComponentHistory = new int[capacity];
+    }
+
+    public GridState grid() {
+        return grid;
+    }
+
+    public int wordCount() {
+        return grid.wordCount();
+    }
+
+    // ============== 배치 / 되돌리기 ==============
+
+    /**
+     * 단어 배치 및 점수 요소 갱신 (검증은 호출자가 수행)
+     */
+    public void place(String word, String definition, int startRow, int startCol, PuzzleWord.Direction direction) {
+        int index = grid.wordCount();
+        ensureCapacity(index + 1);
+
+        boolean isAcross = direction == PuzzleWord.Direction.ACROSS;
+        int dRow = isAcross ? 0 : 1;
+        int dCol = isAcross ? 1 : 0;
+        int len = word.length();
+
+        int before = countIntersectionsAround(startRow, startCol, dRow, dCol, len);
+        int filledBefore = grid.filledCellCount();
+
+        grid.place(word, definition, startRow, startCol, direction);
+
+        intersectionCount += countIntersectionsAround(startRow, startCol, dRow, dCol, len) - before;
+
+        // 바운딩 박스
+        bboxHistory[index * 4] = minRow;
+        bboxHistory[index * 4 + 1] = maxRow;
+        bboxHistory[index * 4 + 2] = minCol;
+        bboxHistory[index * 4 + 3] = maxCol;
+        minRow = Math.min(minRow, startRow);
+        minCol = Math.min(minCol, startCol);
+        maxRow = Math.max(maxRow, startRow + dRow * (len - 1));
+        maxCol = Math.max(maxCol, startCol + dCol * (len - 1));
+
+        // Union-Find 노드 추가
+        parent[index] = index;
+        componentSize[index] = 1;
+        mergeMarks[index] = mergeTop;
+        maxComponentHistory[index] = maxComponent;
+        maxComponent = Math.max(maxComponent, 1);
+
+        int[] owners = isAcross ? acrossOwner : downOwner;
+        int[] crossing = isAcross ? downOwner : acrossOwner;
+        for (int i = 0; i < len; i++) {
+            int cell = (startRow + dRow * i) * size + startCol + dCol * i;
+            owners[cell] = index;
+            if (crossing[cell] >= 0) {
+                union(index, crossing[cell]);
+            }
+        }
+
+        // 새로 채운 셀만 펜윅 트리에 반영
+        for (int i = filledBefore; i < grid.filledCellCount(); i++) {
+            updateFenwick(grid.filledCell(i), 1);
+        }
+    }
+
+    /**
+     * 마지막 배치 되돌리기
+     */
+    public void undo() {
+        int index = grid.wordCount() - 1;
+        if (index < 0) {
+            throw new IllegalStateException("되돌릴 배치가 없습니다.");
+        }
+
+        int startRow = grid.startRow(index);
+        int startCol = grid.startCol(index);
+        boolean isAcross = grid.direction(index) == PuzzleWord.Direction.ACROSS;
+        int dRow = isAcross ? 0 : 1;
+        int dCol = isAcross ? 1 : 0;
+        int len = grid.word(index).length();
+
+        int before = countIntersectionsAround(startRow, startCol, dRow, dCol, len);
+        for (int i = grid.placementMark(index); i < grid.filledCellCount(); i++) {
+            updateFenwick(grid.filledCell(i), -1);
+        }
+
+        grid.undo();
+
+        intersectionCount += countIntersectionsAround(startRow, startCol, dRow, dCol, len) - before;
+
+        // 바운딩 박스
+        minRow = bboxHistory[index * 4];
+        maxRow = bboxHistory[index * 4 + 1];
+        minCol = bboxHistory[index * 4 + 2];
+        maxCol = bboxHistory[index * 4 + 3];
+
+        // Union-Find: 이 단어가 합친 순서의 역순으로 분리
+        while (mergeTop > mergeMarks[index]) {
+            int child = mergedRoots[--mergeTop];
+            int root = parent[child];
+            componentSize[root] -= componentSize[child];
+            parent[child] = child;
+        }
+        maxComponent = maxComponentHistory[index];
+
+        int[] owners = isAcross ? acrossOwner : downOwner;
+        for (int i = 0; i < len; i++) {
+            owners[(startRow + dRow * i) * size + startCol + dCol * i] = -1;
+        }
+    }
+
+    // ============== 점수 요소 ==============
+
+    public int intersectionCount() {
+        return intersectionCount;
+    }
+
+    /**
+     * 밀도 = 채워진 셀 수 / 바운딩 박스 면적
+     */
+    public double density() {
+        int filled = grid.filledCellCount();
+        if (filled == 0) return 0.0;
+        return (double) filled / ((maxRow - minRow + 1) * (maxCol - minCol + 1));
+    }
+
+    /**
+     * 중앙 정렬 후 기준 사분면 셀 수 [좌상, 우상, 좌하, 우하]
+     * 반환 배열은 내부 버퍼이므로 다음 호출 전까지만 유효합니다.
+     */
+    public int[] quadrantCounts() {
+        int total = grid.filledCellCount();
+        if (total == 0) {
+            Arrays.fill(quadrantCounts, 0);
+            return quadrantCounts;
+        }
+
+        // PuzzleResponse 생성 시 centerPuzzle과 같은 이동량
+        int rowOffset = (size - (maxRow - minRow + 1)) / 2 - minRow;
+        int colOffset = (size - (maxCol - minCol + 1)) / 2 - minCol;
+        int topRows = clamp(size / 2 - rowOffset);
+        int leftCols = clamp(size / 2 - colOffset);
+
+        int topLeft = prefixSum(topRows, leftCols);
+        int top = prefixSum(topRows, size);
+        int left = prefixSum(size, leftCols);
+
+        quadrantCounts[0] = topLeft;
+        quadrantCounts[1] = top - topLeft;
+        quadrantCounts[2] = left - topLeft;
+        quadrantCounts[3] = total - top - left + topLeft;
+        return quadrantCounts;
+    }
+
+    /**
+     * 연결성 = 가장 큰 연결 컴포넌트 단어 수 / 전체 단어 수
+     */
+    public double connectivity() {
+        int totalWords = grid.wordCount();
+        if (totalWords == 0) return 0.0;
+        if (totalWords == 1) return 1.0;
+        return (double) maxComponent / totalWords;
+    }
+
+    // ============== 헬퍼 메서드 ==============
+
+    /**
+     * 단어 주변 (길이+2) x 3 영역에서 교차점(가로·세로 이웃이 모두 있는 셀) 수
+     * 배치로 상태가 바뀔 수 있는 셀은 모두 이 영역 안에 있습니다.
+     */
+    private int countIntersectionsAround(int startRow, int startCol, int dRow, int dCol, int len) {
+        int count = 0;
+        for (int i = -1; i <= len; i++) {
+            for (int side = -1; side <= 1; side++) {
+                int row = startRow + dRow * i + dCol * side;
+                int col = startCol + dCol * i + dRow * side;
+                if (isIntersection(row, col)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private boolean isIntersection(int row, int col) {
+        if (!grid.isFilled(row, col)) return false;
+        boolean horizontal = grid.isFilled(row, col - 1) || grid.isFilled(row, col + 1);
+        boolean vertical = grid.isFilled(row - 1, col) || grid.isFilled(row + 1, col);
+        return horizontal && vertical;
+    }
+
+    private int find(int x) {
+        while (parent[x] != x) {
+            x = parent[x];
+        }
+        return x;
+    }
+
+    private void union(int x, int y) {
+        int rootX = find(x);
+        int rootY = find(y);
+        if (rootX == rootY) return;
+
+        // 작은 컴포넌트를 큰 쪽에 붙임 (트리 높이 O(log n) 유지)
+        if (componentSize[rootX] > componentSize[rootY]) {
+            int t = rootX;
+            rootX = rootY;
+            rootY = t;
+        }
+        parent[rootX] = rootY;
+        componentSize[rootY] += componentSize[rootX];
+        maxComponent = Math.max(maxComponent, componentSize[rootY]);
+
+        if (mergeTop == mergedRoots.length) {
+            mergedRoots = Arrays.copyOf(mergedRoots, mergedRoots.length * 2);
+        }
+        mergedRoots[mergeTop++] = rootX;
+    }
+
+    private void updateFenwick(int cell, int delta) {
+        int width = size + 1;
+        for (int r = cell / size + 1; r <= size; r += r & -r) {
+            for (int c = cell % size + 1; c <= size; c += c & -c) {
+                fenwick[r * width + c] += delta;
+            }
+        }
+    }
+
+    /**
+     * 0 ~ rows-1 행, 0 ~ cols-1 열 영역의 채워진 셀 수
+     */
+    private int prefixSum(int rows, int cols) {
+        int width = size + 1;
+        int sum = 0;
+        for (int r = rows; r > 0; r -= r & -r) {
+            for (int c = cols; c > 0; c -= c & -c) {
+                sum += fenwick[r * width + c];
+            }
+        }
+        return sum;
+    }
+
+    private int clamp(int value) {
+        return Math.max(0, Math.min(size, value));
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= parent.length) {
+            return;
+        }
+        int capacity = Math.max(required, parent.length * 2);
+        bboxHistory = Arrays.copyOf(bboxHistory, capacity * 4);
+        parent = Arrays.copyOf(parent, capacity);
+        componentSize = Arrays.copyOf(componentSize, capacity);
+        mergeMarks = Arrays.copyOf(mergeMarks, capacity);
+        maxComponentHistory = Arrays.copyOf(maxComponentHistory, capacity);
+    }
+}
@@ -52,18 +52,37 @@ public class PuzzleScorer {
         double balance = calculateBalance(grid, gridSize);
         double connectivity = calculateConnectivity(acrossWords, downWords);
 
+        return buildScore(intersectionCount, density, balance, connectivity, puzzle.getTotalWords());
+    }
+
+    /**
+     * 증분 스코어링 상태의 품질 점수 계산 (백트래킹 탐색 노드용)
+     * PuzzleResponse를 만들어 calculateScore를 호출한 것과 같은 값을 그리드를 다시 훑지 않고 계산합니다.
+     */
+    public double calculateScore(PuzzleScoreState state) {
+        double balance = balanceOf(state.quadrantCounts());
+        return totalScore(state.intersectionCount(), state.density(), balance,
+                state.connectivity(), state.wordCount());
+    }
+
+    /**
+     * 증분 스코어링 상태의 상세 점수 계산
+     */
+    public PuzzleScore calculateDetailedScore(PuzzleScoreState state) {
+        double balance = balanceOf(state.quadrantCounts());
+        return buildScore(state.intersectionCount(), state.density(), balance,
+                state.connectivity(), state.wordCount());
+    }
+
+    private PuzzleScore buildScore(int intersectionCount, double density, double balance,
+                                   double connectivity, int totalWords) {
         // 개별 점수 계산 (0~1 범위)
-        double intersectionScore = normalizeIntersectionScore(intersectionCount, puzzle.getTotalWords());
+        double intersectionScore = normalizeIntersectionScore(intersectionCount, totalWords);
         double densityScore = normalizeDensityScore(density);
         double balanceScore = balance;
         double connectivityScore = connectivity;
 
-        // 가중 평균으로 총점 계산
-        double totalScore = (intersectionScore * WEIGHT_INTERSECTION +
-                           densityScore * WEIGHT_DENSITY +
-                           balanceScore * WEIGHT_BALANCE +
-                           connectivityScore * WEIGHT_CONNECTIVITY) /
-                           (WEIGHT_INTERSECTION + WEIGHT_DENSITY + WEIGHT_BALANCE + WEIGHT_CONNECTIVITY) * 100;
+        double totalScore = totalScore(intersectionCount, density, balance, connectivity, totalWords);
 
         return PuzzleScore.builder()
                 .intersectionCount(intersectionCount)
@@ -78,6 +97,21 @@ public class PuzzleScorer {
                 .build();
     }
 
+    /**
+     * 가중 평균으로 총점 계산 (0~100)
+     */
+    private double totalScore(int intersectionCount, double density, double balance,
+                              double connectivity, int totalWords) {
+        double intersectionScore = normalizeIntersectionScore(intersectionCount, totalWords);
+        double densityScore = normalizeDensityScore(density);
+
+        return (intersectionScore * WEIGHT_INTERSECTION +
+                densityScore * WEIGHT_DENSITY +
+                balance * WEIGHT_BALANCE +
+                connectivity * WEIGHT_CONNECTIVITY) /
+                (WEIGHT_INTERSECTION + WEIGHT_DENSITY + WEIGHT_BALANCE + WEIGHT_CONNECTIVITY) * 100;
+    }
+
     /**
      * 교차점 수 계산
      * 하나의 셀이 가로와 세로 단어에 동시에 속하면 교차점
@@ -178,6 +212,13 @@ public class PuzzleScorer {
             }
         }
 
+        return balanceOf(quadrantCounts);
+    }
+
+    /**
+     * 사분면별 셀 수로 균형도 계산
+     */
+    private double balanceOf(int[] quadrantCounts) {
         int total = quadrantCounts[0] + quadrantCounts[1] + quadrantCounts[2] + quadrantCounts[3];
         if (total == 0) return 0.0;
 
@@ -214,20 +255,7 @@ public class PuzzleScorer {
             }
         }
 
-        int total = quadrantCounts[0] + quadrantCounts[1] + quadrantCounts[2] + quadrantCounts[3];
-        if (total == 0) return 0.0;
-
-        double ideal = total / 4.0;
-        double variance = 0;
-        for (int count : quadrantCounts) {
-            variance += Math.pow(count - ideal, 2);
-        }
-        variance /= 4;
-
-        double maxVariance = Math.pow(total - ideal, 2) * 0.25 + Math.pow(ideal, 2) * 0.75;
-        if (maxVariance == 0) return 1.0;
-
-        return 1.0 - Math.sqrt(variance / maxVariance);
+        return balanceOf(quadrantCounts);
     }
 
     /**
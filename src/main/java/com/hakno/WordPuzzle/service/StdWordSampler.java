@@ -0,0 +1,425 @@
+package com.hakno.WordPuzzle.service;
+
+import com.hakno.WordPuzzle.entity.StdWord;
+import com.hakno.WordPuzzle.repository.StdWordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+/**
+ * 표준국어대사전 랜덤 단어 샘플러
+ * - (길이, 카테고리, 단어유형)별 단어 ID를 조밀한 배열로 보관하고, 서로 다른 k개를 O(k)로 추출
+ * - 추출한 ID는 의미(senses)를 fetch join 하는 IN 조회 한 번으로 가져옴
+ * - ORDER BY RAND()처럼 조건에 맞는 전체 행을 정렬하지 않으므로 사전 크기와 무관하게 일정한 비용
+ *
+ * 인덱스는 ID/길이/단어유형/카테고리만 담아 메모리 사전(Lexicon)보다 가볍게 로딩되며,
+ * 로딩 전에는 기존 ORDER BY RAND() 쿼리로 대체합니다.
+ * 생성기는 메모리 사전이 비어 있을 때만 샘플러를 쓰므로, 사전이 이미 준비되어 있으면
+ * (예: 스냅샷으로 복원) 시작 시 로딩과 임포트 후 재생성을 건너뜁니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StdWordSampler {
+
+    private final StdWordRepository stdWordRepository;
+    private final LexiconService lexiconService;
+
+    private volatile Index index = Index.EMPTY;
+
+    /**
+     * 인덱스가 로딩되어 사용 가능한지 여부
+     */
+    public boolean isReady() {
+        return index.size() > 0;
+    }
+
+    /**
+     * 애플리케이션 시작 후 비동기로 인덱스 로딩 (메모리 사전이 이미 준비되어 있으면 생략)
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (lexiconService.isReady()) {
+            log.info("메모리 사전 사용 중 - 랜덤 샘플러 인덱스 로딩 생략");
+            return;
+        }
+        refresh();
+    }
+
+    /**
+     * 임포트 트랜잭션 커밋 후 인덱스 재생성 (메모리 사전이 준비되어 있으면 생략)
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDictionaryUpdated(DictionaryUpdatedEvent event) {
+        if (lexiconService.isReady()) {
+            return;
+        }
+        refresh();
+    }
+
+    /**
+     * DB에서 인덱스를 다시 읽어 교체
+     */
+    public synchronized void refresh() {
+        try {
+            long startTime = System.currentTimeMillis();
+            Index loaded = Index.build(stdWordRepository.findSamplerRows());
+            index = loaded;
+            log.info("랜덤 샘플러 인덱스 로딩 완료: {}개 단어, {}개 버킷, {}ms",
+                    loaded.size(), loaded.bucketCount(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.warn("랜덤 샘플러 인덱스 로딩 실패 - 기존 인덱스 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 길이 범위 내 단어를 무작위로 최대 limit개 추출 (카테고리/단어유형 필터, null이면 무시)
+     */
+    public List<StdWord> randomWords(int minLength, int maxLength, String category, String wordType,
+                                     int limit, RandomGenerator random) {
+        Index current = index;
+        if (current.size() == 0) {
+            return randomWordsFromQuery(minLength, maxLength, category, wordType, limit);
+        }
+        return fetch(current.sample(minLength, maxLength, category, wordType, limit, random));
+    }
+
+    /**
+     * 특정 글자를 포함하는 길이 범위 내 단어를 무작위로 최대 limit개 추출
+     */
+    public List<StdWord> randomWordsContainingChar(char character, int minLength, int maxLength,
+                                                   String category, String wordType,
+                                                   int limit, RandomGenerator random) {
+        Index current = index;
+        if (current.size() == 0) {
+            return randomWordsContainingCharFromQuery(character, minLength, maxLength, category, wordType, limit);
+        }
+        return fetch(current.sampleContaining(character, minLength, maxLength, category, wordType, limit, random));
+    }
+
+    // ============== 헬퍼 메서드 ==============
+
+    /**
+     * ID 목록을 한 번에 조회하고 추출 순서대로 정렬
+     */
+    private List<StdWord> fetch(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, StdWord> byId = new HashMap<>();
+        for (StdWord word : stdWordRepository.findAllByIdWithSenses(ids)) {
+            byId.put(word.getId(), word);
+        }
+
+        List<StdWord> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            StdWord word = byId.get(id);
+            if (word != null) {
+                result.add(word);
+            }
+        }
+        return result;
+    }
+
+    private List<StdWord> randomWordsFromQuery(int minLength, int maxLength,
+                                               String category, String wordType, int limit) {
+        if (category != null) {
+            return stdWordRepository.findRandomWordsByCategory(category, minLength, maxLength, limit);
+        } else if (wordType != null) {
+            return stdWordRepository.findRandomWordsByWordType(wordType, minLength, maxLength, limit);
+        }
+        return stdWordRepository.findRandomWordsWithSenses(minLength, maxLength, PageRequest.of(0, limit));
+    }
+
+    private List<StdWord> randomWordsContainingCharFromQuery(char character, int minLength, int maxLength,
+                                                             String category, String wordType, int limit) {
+        String charStr = String.valueOf(character);
+        if (category != null) {
+            return stdWordRepository.findRandomWordsByCategoryContainingChar(
+                    category, charStr, minLength, maxLength, limit);
+        } else if (wordType != null) {
+            return stdWordRepository.findRandomWordsByWordTypeContainingChar(
+                    wordType, charStr, minLength, maxLength, limit);
+        }
+        return stdWordRepository.findWordsContainingCharWithSenses(
+                charStr, minLength, maxLength, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 샘플링 인덱스 (불변)
+     * - 단어는 0..n-1 서수로 관리하며 서수 → ID/길이/단어유형/카테고리 배열을 가짐
+     * - 버킷: (길이, 카테고리, 단어유형) → 서수 배열 (카테고리/단어유형 null은 "전체")
+     * - 글자별 서수 배열은 길이순으로 정렬되어 길이 범위가 연속 구간
+     */
+    static final class Index {
+
+        static final Index EMPTY = new Index(new long[0], new int[0], new String[0], new String[0][],
+                Map.of(), Map.of());
+
+        private final long[] ids;
+        private final int[] lengths;
+        private final String[] wordTypes;
+        private final String[][] categories;
+        private final Map<Bucket, int[]> buckets;
+        private final Map<Character, int[]> byChar;
+
+        private Index(long[] ids, int[] lengths, String[] wordTypes, String[][] categories,
+                      Map<Bucket, int[]> buckets, Map<Character, int[]> byChar) {
+            this.ids = ids;
+            this.lengths = lengths;
+            this.wordTypes = wordTypes;
+            this.categories = categories;
+            this.buckets = buckets;
+            this.byChar = byChar;
+        }
+
+        /**
+         * (id, word, length, wordType, category) 행으로 인덱스 생성
+         * 행은 단어 ID 순으로 정렬되어 있어야 하며, 의미 수만큼 같은 단어가 반복됩니다.
+         */
+        static Index build(List<Object[]> rows) {
+            List<Long> idList = new ArrayList<>();
+            List<String> wordList = new ArrayList<>();
+            List<Integer> lengthList = new ArrayList<>();
+            List<String> typeList = new ArrayList<>();
+            List<Set<String>> categoryList = new ArrayList<>();
+
+            Long currentId = null;
+            for (Object[] row : rows) {
+                Long id = (Long) row[0];
+                if (!Objects.equals(id, currentId)) {
+                    currentId = id;
+                    idList.add(id);
+                    wordList.add((String) row[1]);
+                    lengthList.add(((Number) row[2]).intValue());
+                    typeList.add(row[3] != null ? ((String) row[3]).intern() : null);
+                    categoryList.add(new LinkedHashSet<>());
+                }
+                if (row[4] != null) {
+                    categoryList.get(categoryList.size() - 1).add(((String) row[4]).intern());
+                }
+            }
+
+            int n = idList.size();
+            long[] ids = new long[n];
+            int[] lengths = new int[n];
+            String[] wordTypes = new String[n];
+            String[][] categories = new String[n][];
+
+            Map<Bucket, IntList> bucketLists = new HashMap<>();
+            Map<Character, IntList> charLists = new HashMap<>();
+            for (int i = 0; i < n; i++) {
+                ids[i] = idList.get(i);
+                lengths[i] = lengthList.get(i);
+                wordTypes[i] = typeList.get(i);
+                categories[i] = categoryList.get(i).toArray(new String[0]);
+
+                int length = lengths[i];
+                String type = wordTypes[i];
+                add(bucketLists, new Bucket(length, null, null), i);
+                if (type != null) add(bucketLists, new Bucket(length, null, type), i);
+                for (String category : categories[i]) {
+                    add(bucketLists, new Bucket(length, category, null), i);
+                    if (type != null) add(bucketLists, new Bucket(length, category, type), i);
+                }
+
+                // 한 단어에 같은 글자가 여러 번 나와도 한 번만 등록
+                String word = wordList.get(i);
+                for (int c = 0; c < word.length(); c++) {
+                    char ch = word.charAt(c);
+                    if (word.indexOf(ch) == c) {
+                        charLists.computeIfAbsent(ch, k -> new IntList()).add(i);
+                    }
+                }
+            }
+
+            Map<Bucket, int[]> buckets = new HashMap<>(bucketLists.size() * 2);
+            bucketLists.forEach((bucket, list) -> buckets.put(bucket, list.toArray()));
+
+            Map<Character, int[]> byChar = new HashMap<>(charLists.size() * 2);
+            charLists.forEach((ch, list) -> byChar.put(ch, sortByLength(list.toArray(), lengths)));
+
+            return new Index(ids, lengths, wordTypes, categories, buckets, byChar);
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        int bucketCount() {
+            return buckets.size();
+        }
+
+        /**
+         * 길이별 버킷을 이어 붙인 가상 배열에서 서로 다른 위치 k개 추출
+         */
+        List<Long> sample(int minLength, int maxLength, String category, String wordType,
+                          int limit, RandomGenerator random) {
+            List<int[]> segments = new ArrayList<>();
+            int total = 0;
+            for (int length = Math.max(minLength, 0); length <= maxLength; length++) {
+                int[] bucket = buckets.get(new Bucket(length, category, wordType));
+                if (bucket != null) {
+                    segments.add(bucket);
+                    total += bucket.length;
+                }
+            }
+
+            int k = Math.min(limit, total);
+            List<Long> result = new ArrayList<>(Math.max(k, 0));
+            DistinctDraw draw = new DistinctDraw(total, random);
+            for (int i = 0; i < k; i++) {
+                int position = draw.next();
+                int s = 0;
+                while (position >= segments.get(s).length) {
+                    position -= segments.get(s).length;
+                    s++;
+                }
+                result.add(ids[segments.get(s)[position]]);
+            }
+            return result;
+        }
+
+        /**
+         * 글자 포함 단어 중 길이 구간에서 추출
+         * 필터가 있으면 무작위 순서로 꺼내며 조건에 맞는 단어만 담습니다 (기대 비용 O(k / 통과율)).
+         */
+        List<Long> sampleContaining(char character, int minLength, int maxLength,
+                                    String category, String wordType, int limit, RandomGenerator random) {
+            List<Long> result = new ArrayList<>();
+            int[] postings = byChar.get(character);
+            if (postings == null || limit <= 0) {
+                return result;
+            }
+
+            int from = lowerBound(postings, minLength);
+            int to = lowerBound(postings, maxLength + 1);
+            DistinctDraw draw = new DistinctDraw(to - from, random);
+            while (draw.hasNext() && result.size() < limit) {
+                int ordinal = postings[from + draw.next()];
+                if (matches(ordinal, category, wordType)) {
+                    result.add(ids[ordinal]);
+                }
+            }
+            return result;
+        }
+
+        private boolean matches(int ordinal, String category, String wordType) {
+            if (wordType != null && !wordType.equals(wordTypes[ordinal])) {
+                return false;
+            }
+            if (category == null) {
+                return true;
+            }
+            for (String c : categories[ordinal]) {
+                if (c.equals(category)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 길이순 정렬된 서수 배열에서 길이가 length 이상인 첫 위치
+         */
+        private int lowerBound(int[] postings, int length) {
+            int lo = 0;
+            int hi = postings.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (lengths[postings[mid]] < length) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        private static void add(Map<Bucket, IntList> lists, Bucket bucket, int ordinal) {
+            lists.computeIfAbsent(bucket, k -> new IntList()).add(ordinal);
+        }
+
+        private static int[] sortByLength(int[] ordinals, int[] lengths) {
+            // (길이, 서수)를 long 하나로 묶어 정렬
+            long[] keys = new long[ordinals.length];
+            for (int i = 0; i < ordinals.length; i++) {
+                keys[i] = ((long) lengths[ordinals[i]] << 32) | ordinals[i];
+            }
+            Arrays.sort(keys);
+            for (int i = 0; i < keys.length; i++) {
+                ordinals[i] = (int) keys[i];
+            }
+            return ordinals;
+        }
+    }
+
+    /**
+     * 버킷 키 (null은 해당 필터 없음)
+     */
+    record Bucket(int length, String category, String wordType) {}
+
+    /**
+     * 0..n-1 범위에서 중복 없이 무작위 추출 (희소 Fisher-Yates)
+     * 바뀐 자리만 맵에 기록하므로 k번 추출에 O(k) 시간/공간을 씁니다.
+     */
+    static final class DistinctDraw {
+        private final int n;
+        private final RandomGenerator random;
+        private final Map<Integer, Integer> swapped = new HashMap<>();
+        private int drawn;
+
+        DistinctDraw(int n, RandomGenerator random) {
+            this.n = n;
+            this.random = random;
+        }
+
+        boolean hasNext() {
+            return drawn < n;
+        }
+
+        int next() {
+            int j = drawn + random.nextInt(n - drawn);
+            int value = swapped.getOrDefault(j, j);
+            swapped.put(j, swapped.getOrDefault(drawn, drawn));
+            drawn++;
+            return value;
+        }
+    }
+
+    /**
+     * 박싱 없는 int 목록 (인덱스 생성용)
+     */
+    private static final class IntList {
+        private int[] data = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.hakno.WordPuzzle.service;
 
 import com.hakno.WordPuzzle.client.StdictApiClient;
+import com.hakno.WordPuzzle.client.TokenBucket;
 import com.hakno.WordPuzzle.client.dto.StdictSearchResponse;
 import com.hakno.WordPuzzle.client.dto.StdictViewResponse;
 import com.hakno.WordPuzzle.dto.ImportProgress;
@@ -8,17 +9,39 @@ import com.hakno.WordPuzzle.entity.StdExample;
 import com.hakno.WordPuzzle.entity.StdSense;
 import com.hakno.WordPuzzle.entity.StdWord;
 import com.hakno.WordPuzzle.entity.StdWordRelation;
+import com.hakno.WordPuzzle.repository.StdWordBatchWriter;
 import com.hakno.WordPuzzle.repository.StdWordRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
-
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 표준국어대사전 API 임포트
+ * - 검색 결과 페이지를 차례로 받고, 저장되지 않은 단어의 상세 조회를 concurrency개 스레드로 나눠 호출
+ * - 검색/상세 호출은 모두 하나의 토큰 버킷(초당 rate-per-second회)을 거치므로 동시 호출 수와 관계없이 API 호출 속도는 일정
+ * - 실패한 호출은 지터를 섞은 지수 백오프로 재시도
+ * - 상세 조회가 끝난 단어는 batch-size개씩 모아 트랜잭션 하나로 저장 (테이블별 JDBC 배치 INSERT, StdWordBatchWriter)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -26,10 +49,33 @@ public class StdictImportService {
 
     private final StdictApiClient apiClient;
     private final StdWordRepository stdWordRepository;
+    private final StdWordBatchWriter stdWordBatchWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HintCache hintCache;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int PAGE_SIZE = 100;      // 검색 API 한 페이지 결과 수 (API 최대값)
+    private static final int MAX_START = 1000;     // 검색 API가 허용하는 최대 시작 번호
+
+    // 동시에 상세 조회할 스레드 수
+    @Value("${stdict.import.concurrency:4}")
+    private int concurrency;
+
+    // 초당 API 호출 수 (검색 + 상세)
+    @Value("${stdict.import.rate-per-second:10}")
+    private double ratePerSecond;
+
+    // 한 트랜잭션에 저장할 단어 수
+    @Value("${stdict.import.batch-size:100}")
+    private int batchSize;
 
-    private static final int RATE_LIMIT_MS = 100;  // API 호출 간격 (100ms)
-    private static final int BATCH_SIZE = 100;     // 한 번에 조회할 개수
-    private static final int MAX_RETRIES = 3;      // 재시도 횟수
+    // 호출당 최대 시도 횟수
+    @Value("${stdict.import.max-retries:3}")
+    private int maxRetries;
+
+    // 재시도 대기 기준 시간 (attempt마다 2배, 절반은 무작위)
+    @Value("${stdict.import.backoff-ms:1000}")
+    private long backoffMs;
 
     private volatile ImportProgress progress = new ImportProgress();
     private final AtomicBoolean stopRequested = new AtomicBoolean(false);
@@ -56,9 +102,9 @@ public class StdictImportService {
 
     /**
      * 특정 글자 수 단어 임포트 (첫 글자별로 검색)
+     * 저장은 batch-size개 단위 트랜잭션으로 나뉘므로 중간에 실패하거나 중단해도 저장된 단어는 남습니다.
      */
     @Async
-    @Transactional
     public void importByLength(int length) {
         log.info("Starting import for {}-character words", length);
         stopRequested.set(false);
@@ -69,8 +115,10 @@ public class StdictImportService {
                 .startTime(LocalDateTime.now())
                 .build();
 
+        TokenBucket limiter = new TokenBucket(ratePerSecond, Math.max(1, concurrency));
+        ExecutorService fetchers = newFetcherPool();
         try {
-            int totalProcessed = 0;
+            Set<String> seen = new HashSet<>();
 
             // 각 첫 글자별로 검색
             for (String firstChar : KOREAN_FIRST_CHARS) {
@@ -79,7 +127,8 @@ public class StdictImportService {
                 progress.setCurrentPhase(length + "글자 '" + firstChar + "'으로 시작하는 단어 임포트 중");
                 log.info("Importing {}-char words starting with '{}'", length, firstChar);
 
-                totalProcessed += importByFirstChar(firstChar, length);
+                int imported = importByFirstChar(firstChar, length, limiter, fetchers, seen);
+                log.info("Imported {} words starting with '{}'", imported, firstChar);
             }
 
             progress.setRunning(false);
@@ -87,105 +136,216 @@ public class StdictImportService {
             log.info("Completed import for {}-character words. Imported: {}, Skipped: {}, Failed: {}",
                     length, progress.getImported(), progress.getSkipped(), progress.getFailed());
 
+            // 메모리 사전 등 파생 데이터 갱신
+            eventPublisher.publishEvent(new DictionaryUpdatedEvent(
+                    length + "글자 단어 임포트", progress.getImported()));
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            progress.setLastError("임포트 스레드가 중단되었습니다.");
+            progress.setRunning(false);
+            progress.setEndTime(LocalDateTime.now());
         } catch (Exception e) {
             log.error("Import failed for {}-character words: {}", length, e.getMessage());
             progress.setLastError(e.getMessage());
             progress.setRunning(false);
             progress.setEndTime(LocalDateTime.now());
+        } finally {
+            fetchers.shutdownNow();
         }
     }
 
     /**
      * 특정 첫 글자와 글자 수로 검색하여 임포트
+     * 검색 페이지는 이 스레드에서 차례로 받고, 상세 조회는 fetchers에서 최대 concurrency * 2개까지 대기시킵니다.
+     *
+     * @param seen 이번 임포트에서 이미 처리한 코드 (첫 글자 검색끼리 겹치는 결과 제외)
      */
-    private int importByFirstChar(String firstChar, int targetLength) {
+    private int importByFirstChar(String firstChar, int targetLength, TokenBucket limiter,
+                                  ExecutorService fetchers, Set<String> seen) throws InterruptedException {
+        CompletionService<StdWord> completion = new ExecutorCompletionService<>(fetchers);
+        List<Future<StdWord>> inFlight = new ArrayList<>();
+        List<StdWord> pending = new ArrayList<>(batchSize);
+        int window = Math.max(1, concurrency) * 2;
+        int submitted = 0;
+        int completed = 0;
         int imported = 0;
-        int start = 1;
 
         try {
-            // 첫 페이지로 총 개수 파악
-            StdictSearchResponse firstResponse = apiClient.searchByFirstChar(firstChar, 1, 10);
-            if (firstResponse == null || firstResponse.getChannel() == null) {
-                return 0;
-            }
-
-            int total = firstResponse.getChannel().getTotal();
-            log.debug("Found {} words starting with '{}'", total, firstChar);
+            int start = 1;
+            int total = Integer.MAX_VALUE;
 
             // 페이지별로 처리 (최대 1000까지)
-            while (start <= total && start <= 1000 && !stopRequested.get()) {
-                StdictSearchResponse response = apiClient.searchByFirstChar(firstChar, start, BATCH_SIZE);
+            while (start <= total && start <= MAX_START && !stopRequested.get()) {
+                int pageStart = start;
+                StdictSearchResponse response = callWithRetry(limiter,
+                        () -> apiClient.searchByFirstChar(firstChar, pageStart, PAGE_SIZE));
                 if (response == null || response.getChannel() == null || response.getChannel().getItem() == null) {
                     break;
                 }
+                total = response.getChannel().getTotal();
 
+                // 글자 수 필터링 + 페이지 단위 중복 체크
+                List<StdictSearchResponse.Item> items = new ArrayList<>();
                 for (StdictSearchResponse.Item item : response.getChannel().getItem()) {
+                    if (item.getWord() != null && item.getWord().length() == targetLength
+                            && item.getTargetCode() != null && seen.add(item.getTargetCode())) {
+                        items.add(item);
+                    }
+                }
+                Set<String> existing = items.isEmpty() ? Set.of()
+                        : new HashSet<>(stdWordRepository.findExistingTargetCodes(
+                                items.stream().map(StdictSearchResponse.Item::getTargetCode).toList()));
+
+                for (StdictSearchResponse.Item item : items) {
                     if (stopRequested.get()) break;
+                    if (existing.contains(item.getTargetCode())) {
+                        progress.setSkipped(progress.getSkipped() + 1);
+                        continue;
+                    }
 
-                    // 글자 수 필터링
-                    if (item.getWord() != null && item.getWord().length() == targetLength) {
-                        try {
-                            importWord(item);
-                            imported++;
-                        } catch (Exception e) {
-                            log.warn("Failed to import word {}: {}", item.getWord(), e.getMessage());
-                            progress.setFailed(progress.getFailed() + 1);
-                        }
+                    // 대기 작업이 창을 넘으면 하나 끝날 때까지 기다림 (검색이 상세 조회보다 앞서 나가지 않도록)
+                    while (submitted - completed >= window) {
+                        imported += collect(completion.take(), pending);
+                        completed++;
                     }
-                    rateLimitDelay();
+                    inFlight.add(completion.submit(() -> fetchWord(item, limiter)));
+                    submitted++;
                 }
 
-                start += BATCH_SIZE;
+                start += PAGE_SIZE;
             }
+
+            while (completed < submitted && !stopRequested.get()) {
+                imported += collect(completion.take(), pending);
+                completed++;
+            }
+        } catch (InterruptedException e) {
+            cancelRemaining(inFlight, submitted - completed);
+            throw e;
         } catch (Exception e) {
             log.error("Error importing words starting with '{}': {}", firstChar, e.getMessage());
         }
 
+        // 중단 요청이나 검색 실패로 빠져나와도 이미 끝난 상세 조회는 저장 (API 호출을 쓴 결과를 버리지 않도록)
+        Future<StdWord> done;
+        while (completed < submitted && (done = completion.poll()) != null) {
+            imported += collect(done, pending);
+            completed++;
+        }
+        imported += flush(pending);
+        cancelRemaining(inFlight, submitted - completed);
+
         return imported;
     }
 
     /**
-     * 단일 단어 임포트
+     * 아직 끝나지 않은 상세 조회를 취소하고 실패로 집계 (저장/건너뜀/실패 합계가 처리한 단어 수와 맞도록)
      */
-    @Transactional
-    public void importWord(StdictSearchResponse.Item item) {
-        String targetCode = item.getTargetCode();
-
-        // 중복 체크
-        if (stdWordRepository.existsByTargetCode(targetCode)) {
-            progress.setSkipped(progress.getSkipped() + 1);
+    private void cancelRemaining(List<Future<StdWord>> inFlight, int remaining) {
+        if (remaining <= 0) {
             return;
         }
+        inFlight.forEach(f -> f.cancel(true));
+        progress.setFailed(progress.getFailed() + remaining);
+        log.info("Cancelled {} pending word detail fetches", remaining);
+    }
 
-        // 상세 정보 조회
-        StdictViewResponse detailResponse = null;
-        for (int retry = 0; retry < MAX_RETRIES; retry++) {
-            try {
-                detailResponse = apiClient.getWordDetail(targetCode);
-                break;
-            } catch (Exception e) {
-                if (retry == MAX_RETRIES - 1) {
-                    throw e;
-                }
-                exponentialBackoff(retry);
+    /**
+     * 끝난 상세 조회 결과를 저장 대기 목록에 넣고, batch-size개가 모이면 저장
+     *
+     * @return 저장한 단어 수
+     */
+    private int collect(Future<StdWord> done, List<StdWord> pending) throws InterruptedException {
+        try {
+            pending.add(done.get());
+        } catch (ExecutionException e) {
+            log.warn("Failed to import word: {}", e.getCause().getMessage());
+            progress.setFailed(progress.getFailed() + 1);
+        }
+        return pending.size() >= batchSize ? flush(pending) : 0;
+    }
+
+    /**
+     * 저장 대기 단어를 트랜잭션 하나로 저장
+     *
+     * @return 저장한 단어 수 (트랜잭션이 실패하면 0, 해당 단어는 실패로 집계)
+     */
+    private int flush(List<StdWord> pending) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        int count = pending.size();
+        try {
+            List<Long> ids = transactionTemplate.execute(status -> stdWordBatchWriter.insertAll(pending));
+            if (ids != null) {
+                ids.forEach(hintCache::invalidateWord);
             }
+            progress.setImported(progress.getImported() + count);
+            return count;
+        } catch (Exception e) {
+            log.warn("Failed to save {} words: {}", count, e.getMessage());
+            progress.setFailed(progress.getFailed() + count);
+            return 0;
+        } finally {
+            pending.clear();
         }
+    }
+
+    /**
+     * 단일 단어 상세 조회 후 엔티티 생성 (상세 정보가 없으면 검색 결과만으로 생성)
+     */
+    private StdWord fetchWord(StdictSearchResponse.Item item, TokenBucket limiter) throws InterruptedException {
+        StdictViewResponse detailResponse = callWithRetry(limiter, () -> apiClient.getWordDetail(item.getTargetCode()));
 
         if (detailResponse == null || detailResponse.getChannel() == null ||
             detailResponse.getChannel().getItem() == null || detailResponse.getChannel().getItem().isEmpty()) {
-            // 상세 정보 없으면 검색 결과만으로 저장
-            saveBasicWord(item);
-            return;
+            return buildBasicWord(item);
         }
+        return buildDetailedWord(item, detailResponse.getChannel().getItem().get(0));
+    }
 
-        // 상세 정보로 저장
-        saveDetailedWord(item, detailResponse.getChannel().getItem().get(0));
+    /**
+     * 호출 제한을 거쳐 API 호출, 실패하면 지터를 섞은 지수 백오프 후 재시도
+     */
+    private <T> T callWithRetry(TokenBucket limiter, Callable<T> call) throws InterruptedException {
+        for (int attempt = 0; ; attempt++) {
+            limiter.acquire();
+            try {
+                return call.call();
+            } catch (Exception e) {
+                if (attempt >= maxRetries - 1) {
+                    throw e instanceof RuntimeException re ? re : new IllegalStateException(e);
+                }
+                log.debug("API call failed (attempt {}/{}): {}", attempt + 1, maxRetries, e.getMessage());
+                backoff(attempt);
+            }
+        }
     }
 
     /**
-     * 기본 정보만으로 단어 저장
+     * 지수 백오프 + 지터 (기준 시간 * 2^attempt의 절반은 고정, 절반은 무작위)
+     * 동시에 실패한 스레드들이 같은 순간에 다시 몰리지 않도록 흩어 놓습니다.
      */
-    private void saveBasicWord(StdictSearchResponse.Item item) {
+    private void backoff(int attempt) throws InterruptedException {
+        long delay = backoffMs << Math.min(attempt, 16);
+        long half = delay / 2;
+        Thread.sleep(half + ThreadLocalRandom.current().nextLong(delay - half + 1));
+    }
+
+    private ExecutorService newFetcherPool() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, concurrency), r -> {
+            Thread thread = new Thread(r, "stdict-import-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 기본 정보만으로 단어 생성
+     */
+    private StdWord buildBasicWord(StdictSearchResponse.Item item) {
         Integer supNo = parseSupNo(item.getSupNo());
 
         StdWord word = StdWord.builder()
@@ -207,8 +367,7 @@ public class StdictImportService {
             word.addSense(sense);
         }
 
-        stdWordRepository.save(word);
-        progress.setImported(progress.getImported() + 1);
+        return word;
     }
 
     /**
@@ -226,9 +385,9 @@ public class StdictImportService {
     }
 
     /**
-     * 상세 정보로 단어 저장
+     * 상세 정보로 단어 생성
      */
-    private void saveDetailedWord(StdictSearchResponse.Item item, StdictViewResponse.Item detail) {
+    private StdWord buildDetailedWord(StdictSearchResponse.Item item, StdictViewResponse.Item detail) {
         StdictViewResponse.WordInfo wordInfo = detail.getWordInfo();
 
         // 어원 정보 추출
@@ -317,31 +476,7 @@ public class StdictImportService {
             }
         }
 
-        stdWordRepository.save(word);
-        progress.setImported(progress.getImported() + 1);
-    }
-
-    /**
-     * Rate limiting delay
-     */
-    private void rateLimitDelay() {
-        try {
-            Thread.sleep(RATE_LIMIT_MS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-    }
-
-    /**
-     * Exponential backoff for retries
-     */
-    private void exponentialBackoff(int attempt) {
-        try {
-            long delay = (long) Math.pow(2, attempt) * 1000;  // 1s, 2s, 4s...
-            Thread.sleep(delay);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        return word;
     }
 
     /**
@@ -9,13 +9,17 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * 퍼즐 생성 성능 최적화를 위한 단어 캐시
- * - 글자별 단어 맵: 특정 글자를 포함하는 단어들을 미리 인덱싱
- * - 길이별 단어 맵: 특정 길이의 단어들을 미리 분류
+ * - 글자별 단어 목록: 특정 글자를 포함하는 단어들을 미리 인덱싱
+ * - 길이별 단어 목록: 특정 길이의 단어들을 미리 분류
+ *
+ * 단어는 길이순으로 정렬한 배열에 담고 배열 위치(서수)로 가리킵니다.
+ * 글자 인덱스는 정렬된 글자 배열 + 오프셋 배열 + 서수 배열(CSR)이고, 글자별 서수 목록도 오름차순이라
+ * 길이 범위가 목록 안의 연속 구간이 되므로 이진 탐색으로 구간을 찾고 필터 없이 그대로 담습니다.
+ * 인덱스는 한 번에 만들어 교체하는 불변 객체라 읽는 쪽은 잠금 없이 사용합니다.
  */
 @Component
 @RequiredArgsConstructor
@@ -24,14 +28,8 @@ public class WordCache {
 
     private final StdWordRepository stdWordRepository;
 
-    // 글자 → 해당 글자를 포함하는 단어 ID 목록
-    private final Map<Character, Set<Long>> charToWordIds = new ConcurrentHashMap<>();
-
-    // 길이 → 해당 길이의 단어 ID 목록
-    private final Map<Integer, Set<Long>> lengthToWordIds = new ConcurrentHashMap<>();
-
-    // 단어 ID → StdWord 캐시
-    private final Map<Long, StdWord> wordCache = new ConcurrentHashMap<>();
+    // 현재 인덱스 (초기화 전이면 빈 인덱스)
+    private volatile Index index = Index.EMPTY;
 
     // 캐시 초기화 상태
     private volatile boolean initialized = false;
@@ -66,102 +64,79 @@ public class WordCache {
             long startTime = System.currentTimeMillis();
 
             // 자주 사용되는 길이의 단어들 로드 (2~7글자)
+            List<StdWord> words = new ArrayList<>();
             for (int length = 2; length <= 7; length++) {
-                List<StdWord> words = stdWordRepository.findRandomWordsWithSenses(
-                        length, length, PageRequest.of(0, MAX_CACHE_SIZE / 6));
-
-                for (StdWord word : words) {
-                    cacheWord(word);
-                }
+                words.addAll(stdWordRepository.findRandomWordsWithSenses(
+                        length, length, PageRequest.of(0, MAX_CACHE_SIZE / 6)));
             }
 
+            Index built = Index.of(words);
+            index = built;
             initialized = true;
             long elapsed = System.currentTimeMillis() - startTime;
-            log.info("단어 캐시 초기화 완료: {}개 단어, {}ms", wordCache.size(), elapsed);
+            log.info("단어 캐시 초기화 완료: {}개 단어, {}ms", built.words.length, elapsed);
 
         } catch (Exception e) {
             log.warn("단어 캐시 초기화 실패: {}", e.getMessage());
         }
     }
 
-    /**
-     * 단어를 캐시에 추가
-     */
-    private void cacheWord(StdWord word) {
-        if (word == null || word.getId() == null) return;
-
-        // 단어 캐시에 추가
-        wordCache.put(word.getId(), word);
-
-        // 길이별 인덱스에 추가
-        lengthToWordIds.computeIfAbsent(word.getLength(), k -> ConcurrentHashMap.newKeySet())
-                .add(word.getId());
-
-        // 글자별 인덱스에 추가
-        for (char c : word.getWord().toCharArray()) {
-            charToWordIds.computeIfAbsent(c, k -> ConcurrentHashMap.newKeySet())
-                    .add(word.getId());
-        }
-    }
-
     /**
      * 특정 글자를 포함하는 단어 목록 가져오기 (캐시 우선)
      */
     public List<StdWord> getWordsContainingChar(char c, int minLength, int maxLength, int limit) {
-        Set<Long> wordIds = charToWordIds.get(c);
+        Index current = index;
+        int charIndex = Arrays.binarySearch(current.chars, c);
 
-        if (wordIds == null || wordIds.isEmpty()) {
+        if (charIndex < 0) {
             // 캐시 미스: DB에서 직접 조회
             return stdWordRepository.findWordsContainingCharWithSenses(
                     String.valueOf(c), minLength, maxLength, PageRequest.of(0, limit));
         }
 
-        // 캐시 히트: 길이 필터링 후 반환
-        return wordIds.stream()
-                .map(wordCache::get)
-                .filter(Objects::nonNull)
-                .filter(w -> w.getLength() >= minLength && w.getLength() <= maxLength)
-                .limit(limit)
-                .collect(Collectors.toList());
+        // 캐시 히트: 길이 범위에 해당하는 서수 구간만 담음
+        int from = current.lowerBound(charIndex, current.lengthStart(minLength));
+        int to = current.lowerBound(charIndex, current.lengthStart(maxLength + 1));
+        int count = Math.max(0, Math.min(to - from, limit));
+        List<StdWord> result = new ArrayList<>(count);
+        for (int i = from; i < from + count; i++) {
+            result.add(current.words[current.charPostings[i]]);
+        }
+        return result;
     }
 
     /**
      * 특정 길이의 랜덤 단어 목록 가져오기 (캐시 우선)
      */
     public List<StdWord> getRandomWordsByLength(int minLength, int maxLength, int limit) {
-        List<StdWord> result = new ArrayList<>();
-
-        for (int len = minLength; len <= maxLength; len++) {
-            Set<Long> wordIds = lengthToWordIds.get(len);
-            if (wordIds != null) {
-                List<StdWord> words = wordIds.stream()
-                        .map(wordCache::get)
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toList());
-
-                // 셔플하여 랜덤성 확보
-                Collections.shuffle(words);
-                result.addAll(words);
-            }
-        }
+        Index current = index;
+        // 단어가 길이순이므로 길이 범위가 하나의 연속 구간
+        int from = current.lengthStart(minLength);
+        int total = current.lengthStart(maxLength + 1) - from;
 
-        if (result.isEmpty()) {
+        if (total <= 0) {
             // 캐시 미스: DB에서 직접 조회
             return stdWordRepository.findRandomWordsWithSenses(minLength, maxLength, PageRequest.of(0, limit));
         }
 
-        Collections.shuffle(result);
-        return result.stream().limit(limit).collect(Collectors.toList());
+        // 구간을 무작위 순서로 한 번씩 방문하며 limit개까지 담음 (셔플용 복사 없음)
+        List<StdWord> result = new ArrayList<>(Math.max(0, Math.min(total, limit)));
+        Lexicon.StrideWalk walk = new Lexicon.StrideWalk(total, ThreadLocalRandom.current());
+        while (walk.hasNext() && result.size() < limit) {
+            result.add(current.words[from + walk.next()]);
+        }
+        return result;
     }
 
     /**
      * 캐시 상태 정보
      */
     public CacheStats getStats() {
+        Index current = index;
         return new CacheStats(
-                wordCache.size(),
-                charToWordIds.size(),
-                lengthToWordIds.size(),
+                current.words.length,
+                current.chars.length,
+                current.lengthCount(),
                 initialized
         );
     }
@@ -178,9 +153,7 @@ public class WordCache {
      * 캐시 클리어 (테스트용)
      */
     public void clear() {
-        wordCache.clear();
-        charToWordIds.clear();
-        lengthToWordIds.clear();
+        index = Index.EMPTY;
         initialized = false;
     }
 
@@ -199,4 +172,137 @@ public class WordCache {
                     wordCount, charIndexCount, lengthIndexCount, initialized);
         }
     }
+
+    /**
+     * 불변 캐시 인덱스
+     * - words: 길이순(같은 길이는 로딩 순)으로 정렬된 단어, 배열 위치가 서수
+     * - lengthOffsets[len] ~ lengthOffsets[len + 1]: 길이 len인 단어의 서수 구간
+     * - chars[k]를 포함하는 단어: charPostings[charOffsets[k] ~ charOffsets[k + 1]] (서수 오름차순, 중복 없음)
+     */
+    private static final class Index {
+
+        static final Index EMPTY = new Index(new StdWord[0], new int[1], new char[0], new int[1], new int[0]);
+
+        final StdWord[] words;
+        final int[] lengthOffsets;
+        final char[] chars;
+        final int[] charOffsets;
+        final int[] charPostings;
+
+        private Index(StdWord[] words, int[] lengthOffsets, char[] chars, int[] charOffsets, int[] charPostings) {
+            this.words = words;
+            this.lengthOffsets = lengthOffsets;
+            this.chars = chars;
+            this.charOffsets = charOffsets;
+            this.charPostings = charPostings;
+        }
+
+        /**
+         * 단어 목록으로 인덱스 생성 (ID가 없거나 중복된 단어는 제외)
+         */
+        static Index of(List<StdWord> loaded) {
+            Set<Long> seen = new HashSet<>();
+            List<StdWord> unique = new ArrayList<>(loaded.size());
+            for (StdWord word : loaded) {
+                if (word != null && word.getId() != null && word.getWord() != null
+                        && !word.getWord().isEmpty() && seen.add(word.getId())) {
+                    unique.add(word);
+                }
+            }
+            if (unique.isEmpty()) {
+                return EMPTY;
+            }
+
+            // 1. 길이순 정렬 (안정 정렬) 후 길이 구간 (계수)
+            unique.sort(Comparator.comparingInt(word -> word.getWord().length()));
+            StdWord[] words = unique.toArray(new StdWord[0]);
+            int maxLength = words[words.length - 1].getWord().length();
+            int[] lengthOffsets = new int[maxLength + 2];
+            for (StdWord word : words) {
+                lengthOffsets[word.getWord().length() + 1]++;
+            }
+            for (int len = 1; len < lengthOffsets.length; len++) {
+                lengthOffsets[len] += lengthOffsets[len - 1];
+            }
+
+            // 2. (글자, 서수) 쌍을 하나의 long으로 합쳐 정렬 (한 단어에 같은 글자가 여러 번 나와도 한 번만)
+            int totalChars = 0;
+            for (StdWord word : words) {
+                totalChars += word.getWord().length();
+            }
+            long[] composite = new long[totalChars];
+            int n = 0;
+            for (int ordinal = 0; ordinal < words.length; ordinal++) {
+                String text = words[ordinal].getWord();
+                for (int i = 0; i < text.length(); i++) {
+                    if (text.indexOf(text.charAt(i)) == i) {
+                        composite[n++] = ((long) text.charAt(i) << 32) | ordinal;
+                    }
+                }
+            }
+            Arrays.sort(composite, 0, n);
+
+            // 3. 정렬된 쌍을 글자/오프셋/서수 배열로 분리
+            char[] charBuffer = new char[n];
+            int[] offsetBuffer = new int[n + 1];
+            int[] charPostings = new int[n];
+            int charCount = 0;
+            for (int i = 0; i < n; i++) {
+                char c = (char) (composite[i] >>> 32);
+                if (charCount == 0 || charBuffer[charCount - 1] != c) {
+                    charBuffer[charCount] = c;
+                    offsetBuffer[charCount] = i;
+                    charCount++;
+                }
+                charPostings[i] = (int) composite[i];
+            }
+            offsetBuffer[charCount] = n;
+
+            return new Index(words, lengthOffsets, Arrays.copyOf(charBuffer, charCount),
+                    Arrays.copyOf(offsetBuffer, charCount + 1), charPostings);
+        }
+
+        /**
+         * 길이가 length 이상인 첫 단어의 서수 (범위를 벗어나면 양 끝으로 맞춤)
+         */
+        int lengthStart(int length) {
+            if (length <= 0) {
+                return 0;
+            }
+            if (length >= lengthOffsets.length) {
+                return words.length;
+            }
+            return lengthOffsets[length];
+        }
+
+        /**
+         * charIndex번째 글자의 서수 목록에서 ordinal 이상인 첫 위치
+         */
+        int lowerBound(int charIndex, int ordinal) {
+            int low = charOffsets[charIndex];
+            int high = charOffsets[charIndex + 1];
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (charPostings[mid] < ordinal) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * 단어가 하나 이상 있는 길이의 수
+         */
+        int lengthCount() {
+            int count = 0;
+            for (int len = 0; len + 1 < lengthOffsets.length; len++) {
+                if (lengthOffsets[len + 1] > lengthOffsets[len]) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
 }
@@ -0,0 +1,296 @@
+package com.hakno.WordPuzzle.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hakno.WordPuzzle.entity.StdWord;
+import com.hakno.WordPuzzle.entity.Word;
+import com.hakno.WordPuzzle.repository.WordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * 교차점 후보 단어 제공자
+ * - (교차 글자, 길이 범위, 난이도, 카테고리, 단어유형) 키로 저장소 조회 결과를 Caffeine에 캐싱
+ * - 캐시 미스일 때만 저장소를 조회 (read-through)
+ * - 키별 히트/미스 횟수 집계 (최근 조회된 키만 캐시와 같은 한도로 유지, 전체 합계는 별도 누적,
+ *   전체 히트/DB 조회 수는 GenerationMetrics에도 기록)
+ * - 시드 고정 생성용: 조건에 맞는 단어 ID 목록(ID 순)을 캐싱하고 주어진 난수로 추출
+ *
+ * 자기 호출(this.method)에서는 @Cacheable 프록시가 동작하지 않으므로
+ * 생성기 내부 루프에서 쓰는 캐시는 별도 빈에서 직접 관리합니다.
+ */
+@Component
+@Slf4j
+public class WordCandidateProvider {
+
+    public static final String SOURCE_DEFAULT = PuzzleGeneratorService.SOURCE_DEFAULT;
+    public static final String SOURCE_STD = PuzzleGeneratorService.SOURCE_STD;
+    public static final String SOURCE_DEFAULT_IDS = "default-ids";
+
+    private static final int SEARCH_LIMIT = 100;
+    private static final int MAX_CACHED_KEYS = 5000;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(30);
+
+    private final WordRepository wordRepository;
+    private final StdWordSampler stdWordSampler;
+    private final GenerationMetrics metrics;
+
+    private final Cache<CandidateKey, List<Word>> defaultCache;
+    private final Cache<CandidateKey, List<Lexicon.Match>> stdCache;
+    private final Cache<CandidateKey, List<Long>> defaultIdCache;
+
+    // 키별 히트/미스 (무효화 후에도 유지, 오래 조회되지 않은 키는 캐시와 같은 한도로 정리)
+    private final Cache<CandidateKey, KeyCounter> keyCounters = Caffeine.newBuilder()
+            .expireAfterAccess(EXPIRE_AFTER_WRITE)
+            .maximumSize(MAX_CACHED_KEYS)
+            .build();
+
+    // 전체 히트/미스 (키별 집계가 정리되어도 누적 유지)
+    private final LongAdder totalHits = new LongAdder();
+    private final LongAdder totalMisses = new LongAdder();
+
+    public WordCandidateProvider(WordRepository wordRepository, StdWordSampler stdWordSampler,
+                                 GenerationMetrics metrics) {
+        this.wordRepository = wordRepository;
+        this.stdWordSampler = stdWordSampler;
+        this.metrics = metrics;
+        this.defaultCache = newCache();
+        this.stdCache = newCache();
+        this.defaultIdCache = newCache();
+    }
+
+    /**
+     * 기본(Word) 소스: 교차 글자를 포함하는 단어 후보
+     */
+    public List<Word> wordsContaining(char character, int minLength, int maxLength, String level) {
+        CandidateKey key = new CandidateKey(SOURCE_DEFAULT, character, minLength, maxLength, level, null, null);
+        return lookup(defaultCache, key, k -> wordRepository.findByContainingCharacterWithDefinitionsByLevel(
+                String.valueOf(k.character()), k.minLength(), k.maxLength(), k.level(),
+                PageRequest.of(0, SEARCH_LIMIT)));
+    }
+
+    /**
+     * 기본(Word) 소스: 교차 글자를 포함하는 단어 후보를 주어진 난수로 추출 (시드 고정 생성용)
+     * 같은 데이터와 같은 난수 상태면 항상 같은 단어를 같은 순서로 돌려줍니다.
+     */
+    public List<Word> wordsContaining(char character, int minLength, int maxLength, String level,
+                                      RandomGenerator random) {
+        CandidateKey key = new CandidateKey(SOURCE_DEFAULT_IDS, character, minLength, maxLength, level, null, null);
+        List<Long> ids = lookup(defaultIdCache, key, k -> wordRepository.findIdsContainingCharacterByLevel(
+                String.valueOf(k.character()), k.minLength(), k.maxLength(), k.level()));
+        return fetchWords(draw(ids, SEARCH_LIMIT, random));
+    }
+
+    /**
+     * 기본(Word) 소스: 길이 범위 내 단어를 주어진 난수로 최대 limit개 추출 (시드 고정 생성용)
+     */
+    public List<Word> randomWords(int minLength, int maxLength, String level, int limit, RandomGenerator random) {
+        CandidateKey key = new CandidateKey(SOURCE_DEFAULT_IDS, '\0', minLength, maxLength, level, null, null);
+        List<Long> ids = lookup(defaultIdCache, key, k -> wordRepository.findIdsByLengthAndLevel(
+                k.minLength(), k.maxLength(), k.level()));
+        return fetchWords(draw(ids, limit, random));
+    }
+
+    /**
+     * 표준국어대사전 소스: 교차 글자를 포함하는 단어 후보
+     * 단어 안에서 교차 글자가 나타나는 모든 위치를 (단어, 위치) 후보로 돌려줍니다.
+     */
+    public List<Lexicon.Match> stdWordsContaining(char character, int minLength, int maxLength,
+                                                  String category, String wordType) {
+        CandidateKey key = new CandidateKey(SOURCE_STD, character, minLength, maxLength, null, category, wordType);
+        return lookup(stdCache, key, this::loadStdMatches);
+    }
+
+    /**
+     * 사전 변경 시 캐시 무효화 (집계는 유지)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDictionaryUpdated(DictionaryUpdatedEvent event) {
+        invalidateAll();
+    }
+
+    public void invalidateAll() {
+        defaultCache.invalidateAll();
+        stdCache.invalidateAll();
+        defaultIdCache.invalidateAll();
+        log.info("후보 단어 캐시 무효화");
+    }
+
+    /**
+     * 전체 캐시 통계
+     */
+    public CandidateCacheStats getStats() {
+        keyCounters.cleanUp();
+        return new CandidateCacheStats(
+                defaultCache.estimatedSize() + stdCache.estimatedSize() + defaultIdCache.estimatedSize(),
+                (int) keyCounters.estimatedSize(),
+                totalHits.sum(),
+                totalMisses.sum()
+        );
+    }
+
+    /**
+     * 키별 히트/미스 통계 (조회 수 내림차순)
+     */
+    public List<KeyStats> getKeyStats() {
+        Map<CandidateKey, KeyCounter> counters = keyCounters.asMap();
+        List<KeyStats> result = new ArrayList<>(counters.size());
+        counters.forEach((key, counter) ->
+                result.add(new KeyStats(key, counter.hits.sum(), counter.misses.sum())));
+        result.sort(Comparator.comparingLong(KeyStats::requests).reversed());
+        return result;
+    }
+
+    /**
+     * 특정 키의 통계 (조회된 적이 없으면 0)
+     */
+    public KeyStats getKeyStats(CandidateKey key) {
+        KeyCounter counter = keyCounters.getIfPresent(key);
+        return counter == null
+                ? new KeyStats(key, 0, 0)
+                : new KeyStats(key, counter.hits.sum(), counter.misses.sum());
+    }
+
+    // ============== 헬퍼 메서드 ==============
+
+    private static <V> Cache<CandidateKey, V> newCache() {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(EXPIRE_AFTER_WRITE)
+                .maximumSize(MAX_CACHED_KEYS)
+                .build();
+    }
+
+    private <T> List<T> lookup(Cache<CandidateKey, List<T>> cache, CandidateKey key,
+                               Function<CandidateKey, List<T>> loader) {
+        boolean[] loaded = new boolean[1];
+        List<T> result = cache.get(key, k -> {
+            loaded[0] = true;
+            return List.copyOf(loader.apply(k));
+        });
+
+        KeyCounter counter = keyCounters.get(key, k -> new KeyCounter());
+        (loaded[0] ? counter.misses : counter.hits).increment();
+        (loaded[0] ? totalMisses : totalHits).increment();
+        metrics.candidateFetched(loaded[0] ? GenerationMetrics.Source.DB : GenerationMetrics.Source.CACHE);
+        return result;
+    }
+
+    private static List<Long> draw(List<Long> ids, int limit, RandomGenerator random) {
+        int k = Math.min(limit, ids.size());
+        List<Long> drawn = new ArrayList<>(k);
+        StdWordSampler.DistinctDraw draw = new StdWordSampler.DistinctDraw(ids.size(), random);
+        for (int i = 0; i < k; i++) {
+            drawn.add(ids.get(draw.next()));
+        }
+        return drawn;
+    }
+
+    /**
+     * ID 목록을 한 번에 조회하고 추출 순서대로 정렬
+     */
+    private List<Word> fetchWords(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        metrics.candidateFetched(GenerationMetrics.Source.DB);
+        Map<Long, Word> byId = new HashMap<>();
+        for (Word word : wordRepository.findAllByIdWithDefinitions(ids)) {
+            byId.put(word.getId(), word);
+        }
+
+        List<Word> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Word word = byId.get(id);
+            if (word != null) {
+                result.add(word);
+            }
+        }
+        return result;
+    }
+
+    private List<Lexicon.Match> loadStdMatches(CandidateKey key) {
+        List<StdWord> words = stdWordSampler.randomWordsContainingChar(key.character(),
+                key.minLength(), key.maxLength(), key.category(), key.wordType(),
+                SEARCH_LIMIT, ThreadLocalRandom.current());
+
+        // 엔티티 대신 불변 LexiconWord로 변환해 캐싱
+        List<Lexicon.Match> matches = new ArrayList<>();
+        for (StdWord w : words) {
+            LexiconWord word = null;
+            for (int i = 0; i < w.getWord().length(); i++) {
+                if (w.getWord().charAt(i) == key.character()) {
+                    if (word == null) word = LexiconWord.from(w);
+                    matches.add(new Lexicon.Match(word, i));
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static final class KeyCounter {
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+    }
+
+    /**
+     * 캐시 키 (소스별로 사용하지 않는 필터는 null)
+     */
+    public record CandidateKey(
+            String source,
+            char character,
+            int minLength,
+            int maxLength,
+            String level,
+            String category,
+            String wordType
+    ) {}
+
+    /**
+     * 키별 통계
+     */
+    public record KeyStats(CandidateKey key, long hits, long misses) {
+
+        public long requests() {
+            return hits + misses;
+        }
+
+        public double hitRate() {
+            long requests = requests();
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+    }
+
+    /**
+     * 전체 캐시 통계
+     */
+    public record CandidateCacheStats(
+            long cachedEntries,
+            int trackedKeys,
+            long hits,
+            long misses
+    ) {
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("WordCandidateCache[entries=%d, keys=%d, hits=%d, misses=%d, hitRate=%.2f]",
+                    cachedEntries, trackedKeys, hits, misses, hitRate());
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.hakno.WordPuzzle.util;
 
+import com.hakno.WordPuzzle.dto.CompactGrid;
+import com.hakno.WordPuzzle.dto.GridFormat;
 import com.hakno.WordPuzzle.dto.PuzzleCell;
+import com.hakno.WordPuzzle.dto.PuzzleResponse;
 import com.hakno.WordPuzzle.dto.PuzzleWord;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -12,6 +16,9 @@ import java.util.Map;
 /**
  * 그리드 변환 유틸리티
  * char[][] -> List<List<PuzzleCell>> 변환
+ * GridState -> PuzzleResponse 변환 (중앙 정렬, 번호 부여)
+ * 단어 목록 -> CompactGrid 변환 (셀 객체 없이 음절 문자열과 시작 칸 목록만 생성)
+ * 응답 그리드는 요청한 형식(GridFormat)으로만 만듭니다.
  */
 @Component
 public class GridConverter {
@@ -55,6 +62,203 @@ public class GridConverter {
         return cellGrid;
     }
 
+    /**
+     * 단어 목록으로 압축 그리드 생성
+     * 그리드 글자는 단어 배치로 모두 정해지므로 셀 그리드 없이 단어만 다시 써서 만듭니다.
+     *
+     * @param gridSize    그리드 크기
+     * @param acrossWords 번호가 붙은 가로 단어 목록
+     * @param downWords   번호가 붙은 세로 단어 목록
+     * @return 행 우선 음절 문자열과 번호 붙은 시작 칸 목록
+     */
+    public CompactGrid toCompactGrid(int gridSize, List<PuzzleWord> acrossWords, List<PuzzleWord> downWords) {
+        char[] cells = new char[gridSize * gridSize];
+        Arrays.fill(cells, CompactGrid.BLANK);
+        int[] acrossAt = new int[cells.length];
+        int[] downAt = new int[cells.length];
+        writeWords(cells, acrossAt, acrossWords, gridSize);
+        writeWords(cells, downAt, downWords, gridSize);
+
+        // 시작 칸은 행 우선 순서로
+        List<int[]> starts = new ArrayList<>(acrossWords.size() + downWords.size());
+        for (int i = 0; i < cells.length; i++) {
+            if (acrossAt[i] != 0 || downAt[i] != 0) {
+                starts.add(new int[]{i / gridSize, i % gridSize, acrossAt[i], downAt[i]});
+            }
+        }
+        return new CompactGrid(new String(cells), starts);
+    }
+
+    /**
+     * 요청한 형식으로 응답 변환 (이미 요청한 형식이면 그대로 반환)
+     * COMPACT면 셀 그리드를 뺀 새 응답, CELLS인데 압축 그리드뿐이면 단어 목록으로 셀 그리드를 만든 새 응답
+     */
+    public PuzzleResponse toFormat(PuzzleResponse puzzle, GridFormat format) {
+        boolean compact = format == GridFormat.COMPACT;
+        if (compact ? puzzle.getCompactGrid() != null : puzzle.getGrid() != null) {
+            return puzzle;
+        }
+        int gridSize = puzzle.getGridSize();
+        char[][] grid = compact ? null : toCharGrid(gridSize, puzzle.getAcrossWords(), puzzle.getDownWords());
+        return responseBuilder(grid, puzzle.getAcrossWords(), puzzle.getDownWords(), gridSize, format)
+                .totalWords(puzzle.getTotalWords())
+                .seed(puzzle.getSeed())
+                .build();
+    }
+
+    /**
+     * 요청한 형식의 그리드만 채운 응답 빌더 (totalWords, seed는 호출 측에서 채움)
+     * COMPACT면 PuzzleCell 객체를 만들지 않고 단어 목록으로 압축 그리드만 만듭니다.
+     *
+     * @param grid        char 그리드 (COMPACT면 사용하지 않으므로 null 가능)
+     * @param acrossWords 번호가 붙은 가로 단어 목록
+     * @param downWords   번호가 붙은 세로 단어 목록
+     * @param gridSize    그리드 크기
+     * @param format      응답 그리드 형식
+     */
+    public PuzzleResponse.PuzzleResponseBuilder responseBuilder(char[][] grid, List<PuzzleWord> acrossWords,
+                                                                List<PuzzleWord> downWords, int gridSize,
+                                                                GridFormat format) {
+        PuzzleResponse.PuzzleResponseBuilder builder = PuzzleResponse.builder()
+                .gridSize(gridSize)
+                .acrossWords(acrossWords)
+                .downWords(downWords);
+        if (format == GridFormat.COMPACT) {
+            return builder.compactGrid(toCompactGrid(gridSize, acrossWords, downWords));
+        }
+        return builder.grid(convertToCellGrid(grid, acrossWords, downWords, gridSize));
+    }
+
+    private char[][] toCharGrid(int gridSize, List<PuzzleWord> acrossWords, List<PuzzleWord> downWords) {
+        char[][] grid = GridUtils.createEmptyGrid(gridSize);
+        for (List<PuzzleWord> words : List.of(acrossWords, downWords)) {
+            for (PuzzleWord pw : words) {
+                boolean across = pw.getDirection() == PuzzleWord.Direction.ACROSS;
+                String word = pw.getWord();
+                for (int i = 0; i < word.length(); i++) {
+                    grid[pw.getStartRow() + (across ? 0 : i)][pw.getStartCol() + (across ? i : 0)] = word.charAt(i);
+                }
+            }
+        }
+        return grid;
+    }
+
+    private void writeWords(char[] cells, int[] numbers, List<PuzzleWord> words, int gridSize) {
+        for (PuzzleWord pw : words) {
+            int step = pw.getDirection() == PuzzleWord.Direction.ACROSS ? 1 : gridSize;
+            int start = pw.getStartRow() * gridSize + pw.getStartCol();
+            String word = pw.getWord();
+            for (int i = 0; i < word.length(); i++) {
+                cells[start + i * step] = word.charAt(i);
+            }
+            numbers[start] = pw.getNumber();
+        }
+    }
+
+    /**
+     * 탐색 상태로 PuzzleResponse 생성
+     * GridState의 복사본을 중앙 정렬하므로 탐색 중인 상태는 변경되지 않습니다.
+     *
+     * @param state 배치가 끝난 그리드 상태
+     * @param seed  생성에 사용한 난수 시드 (null 가능)
+     * @return 가로/세로 단어에 번호를 붙인 퍼즐
+     */
+    public PuzzleResponse toPuzzleResponse(GridState state, Long seed) {
+        return toPuzzleResponse(state, seed, GridFormat.CELLS);
+    }
+
+    /**
+     * 탐색 상태로 요청한 형식의 PuzzleResponse 생성 (COMPACT면 셀 그리드를 만들지 않음)
+     */
+    public PuzzleResponse toPuzzleResponse(GridState state, Long seed, GridFormat format) {
+        int gridSize = state.size();
+        char[][] grid = state.toCharGrid();
+        List<PuzzleWord> placedWords = state.toPuzzleWords();
+
+        // 중앙 정렬
+        centerPuzzle(grid, placedWords, gridSize);
+
+        // 가로/세로 분리 및 정렬
+        List<PuzzleWord> acrossWords = new ArrayList<>();
+        List<PuzzleWord> downWords = new ArrayList<>();
+
+        for (PuzzleWord pw : placedWords) {
+            if (pw.getDirection() == PuzzleWord.Direction.ACROSS) {
+                acrossWords.add(pw);
+            } else {
+                downWords.add(pw);
+            }
+        }
+
+        acrossWords.sort((a, b) -> a.getStartRow() != b.getStartRow() ?
+                a.getStartRow() - b.getStartRow() : a.getStartCol() - b.getStartCol());
+        downWords.sort((a, b) -> a.getStartRow() != b.getStartRow() ?
+                a.getStartRow() - b.getStartRow() : a.getStartCol() - b.getStartCol());
+
+        // 번호 부여
+        List<PuzzleWord> numberedAcross = number(acrossWords);
+        List<PuzzleWord> numberedDown = number(downWords);
+
+        return responseBuilder(grid, numberedAcross, numberedDown, gridSize, format)
+                .totalWords(placedWords.size())
+                .seed(seed)
+                .build();
+    }
+
+    private List<PuzzleWord> number(List<PuzzleWord> words) {
+        List<PuzzleWord> numbered = new ArrayList<>();
+        int num = 1;
+        for (PuzzleWord pw : words) {
+            numbered.add(PuzzleWord.builder()
+                    .number(num++).word(pw.getWord()).definition(pw.getDefinition())
+                    .startRow(pw.getStartRow()).startCol(pw.getStartCol()).direction(pw.getDirection()).build());
+        }
+        return numbered;
+    }
+
+    private void centerPuzzle(char[][] grid, List<PuzzleWord> placedWords, int gridSize) {
+        int minRow = gridSize, maxRow = 0, minCol = gridSize, maxCol = 0;
+        for (int row = 0; row < gridSize; row++) {
+            for (int col = 0; col < gridSize; col++) {
+                if (grid[row][col] != '\0') {
+                    minRow = Math.min(minRow, row);
+                    maxRow = Math.max(maxRow, row);
+                    minCol = Math.min(minCol, col);
+                    maxCol = Math.max(maxCol, col);
+                }
+            }
+        }
+
+        if (minRow > maxRow) return;
+
+        int puzzleHeight = maxRow - minRow + 1;
+        int puzzleWidth = maxCol - minCol + 1;
+        int targetMinRow = (gridSize - puzzleHeight) / 2;
+        int targetMinCol = (gridSize - puzzleWidth) / 2;
+        int rowOffset = targetMinRow - minRow;
+        int colOffset = targetMinCol - minCol;
+
+        if (rowOffset == 0 && colOffset == 0) return;
+
+        char[][] newGrid = GridUtils.createEmptyGrid(gridSize);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                if (grid[row][col] != '\0') {
+                    newGrid[row + rowOffset][col + colOffset] = grid[row][col];
+                }
+            }
+        }
+
+        for (int row = 0; row < gridSize; row++) {
+            System.arraycopy(newGrid[row], 0, grid[row], 0, gridSize);
+        }
+
+        for (PuzzleWord pw : placedWords) {
+            pw.setStartRow(pw.getStartRow() + rowOffset);
+            pw.setStartCol(pw.getStartCol() + colOffset);
+        }
+    }
+
     private Map<String, Integer> buildNumberMap(List<PuzzleWord> words) {
         Map<String, Integer> numberMap = new HashMap<>();
         for (PuzzleWord word : words) {
@@ -0,0 +1,295 @@
+package com.hakno.WordPuzzle.util;
+
+import com.hakno.WordPuzzle.dto.PuzzleWord;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 백트래킹용 가변 그리드 상태
+ * - 셀은 1차원 char 배열(row * size + col)에 저장
+ * - 배치 시 새로 채운 셀만 되돌리기 스택에 기록하고, undo()는 그 셀만 비움
+ * - 행/열별 채워진 셀 비트마스크(long)를 셀과 함께 갱신 (배치 검증을 셀 단위 조회 대신 마스크 연산으로 처리)
+ *
+ * GridSnapshot처럼 그리드/단어 목록 전체를 복사하지 않으므로
+ * 배치와 되돌리기 모두 O(단어 길이)이며 탐색 노드마다 객체를 만들지 않습니다.
+ * 단일 스레드 전용입니다. (병렬 탐색은 copy()로 분리해서 사용)
+ */
+public final class GridState {
+
+    private static final int INITIAL_WORD_CAPACITY = 32;
+
+    // 행/열 마스크가 long 하나에 들어가는 최대 크기
+    public static final int MAX_SIZE = Long.SIZE;
+
+    private final int size;
+    private final char[] cells;
+
+    // rowMasks[row]의 col번째 비트 = (row, col)이 채워짐, colMasks[col]의 row번째 비트도 같은 셀
+    private final long[] rowMasks;
+    private final long[] colMasks;
+
+    // 되돌리기 스택: 배치로 새로 채워진 셀 인덱스 (각 셀은 최대 한 번만 채워지므로 size*size면 충분)
+    private final int[] undoStack;
+    private int undoTop;
+
+    // 배치된 단어 (배치 순서대로)
+    private String[] words;
+    private String[] definitions;
+    private int[] startRows;
+    private int[] startCols;
+    private boolean[] across;
+    private int[] undoMarks;
+    private int wordCount;
+
+    public GridState(int size) {
+        if (size > MAX_SIZE) {
+            throw new IllegalArgumentException("그리드 크기는 " + MAX_SIZE + " 이하여야 합니다: " + size);
+        }
+        this.size = size;
+        this.cells = new char[size * size];
+        this.rowMasks = new long[size];
+        this.colMasks = new long[size];
+        this.undoStack = new int[size * size];
+        this.words = new String[INITIAL_WORD_CAPACITY];
+        this.definitions = new String[INITIAL_WORD_CAPACITY];
+        this.startRows = new int[INITIAL_WORD_CAPACITY];
+        this.startCols = new int[INITIAL_WORD_CAPACITY];
+        this.across = new boolean[INITIAL_WORD_CAPACITY];
+        this.undoMarks = new int[INITIAL_WORD_CAPACITY];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public char get(int row, int col) {
+        return cells[row * size + col];
+    }
+
+    public boolean isEmpty(int row, int col) {
+        return cells[row * size + col] == '\0';
+    }
+
+    /**
+     * 범위 밖이면 빈 칸으로 취급
+     */
+    public boolean isFilled(int row, int col) {
+        return row >= 0 && row < size && col >= 0 && col < size && cells[row * size + col] != '\0';
+    }
+
+    /**
+     * row행에서 채워진 열의 비트마스크 (범위 밖이면 0)
+     */
+    public long rowMask(int row) {
+        return row >= 0 && row < size ? rowMasks[row] : 0L;
+    }
+
+    /**
+     * col열에서 채워진 행의 비트마스크 (범위 밖이면 0)
+     */
+    public long colMask(int col) {
+        return col >= 0 && col < size ? colMasks[col] : 0L;
+    }
+
+    /**
+     * 채워진 셀 수 (되돌리기 스택 높이와 같음)
+     */
+    public int filledCellCount() {
+        return undoTop;
+    }
+
+    /**
+     * index번째로 채워진 셀 위치 (row * size + col, 채워진 순서)
+     */
+    public int filledCell(int index) {
+        return undoStack[index];
+    }
+
+    /**
+     * wordIndex번째 단어를 배치하기 직전의 채워진 셀 수
+     * filledCell(placementMark(i)) 이후가 그 단어가 새로 채운 셀입니다.
+     */
+    public int placementMark(int wordIndex) {
+        return undoMarks[wordIndex];
+    }
+
+    // ============== 배치 / 되돌리기 ==============
+
+    /**
+     * 단어 배치 (검증은 호출자가 수행)
+     */
+    public void place(String word, String definition, int startRow, int startCol, PuzzleWord.Direction direction) {
+        ensureWordCapacity();
+        undoMarks[wordCount] = undoTop;
+
+        boolean isAcross = direction == PuzzleWord.Direction.ACROSS;
+        int index = startRow * size + startCol;
+        int step = isAcross ? 1 : size;
+        for (int i = 0; i < word.length(); i++, index += step) {
+            if (cells[index] == '\0') {
+                cells[index] = word.charAt(i);
+                undoStack[undoTop++] = index;
+                setMask(index);
+            }
+        }
+
+        words[wordCount] = word;
+        definitions[wordCount] = definition;
+        startRows[wordCount] = startRow;
+        startCols[wordCount] = startCol;
+        across[wordCount] = isAcross;
+        wordCount++;
+    }
+
+    /**
+     * 마지막 배치 되돌리기 (그 배치가 새로 채운 셀만 비움)
+     */
+    public void undo() {
+        if (wordCount == 0) {
+            throw new IllegalStateException("되돌릴 배치가 없습니다.");
+        }
+        wordCount--;
+        int mark = undoMarks[wordCount];
+        while (undoTop > mark) {
+            int index = undoStack[--undoTop];
+            cells[index] = '\0';
+            clearMask(index);
+        }
+        words[wordCount] = null;
+        definitions[wordCount] = null;
+    }
+
+    private void setMask(int index) {
+        int row = index / size;
+        int col = index - row * size;
+        rowMasks[row] |= 1L << col;
+        colMasks[col] |= 1L << row;
+    }
+
+    private void clearMask(int index) {
+        int row = index / size;
+        int col = index - row * size;
+        rowMasks[row] &= ~(1L << col);
+        colMasks[col] &= ~(1L << row);
+    }
+
+    private void ensureWordCapacity() {
+        if (wordCount < words.length) {
+            return;
+        }
+        int capacity = words.length * 2;
+        words = Arrays.copyOf(words, capacity);
+        definitions = Arrays.copyOf(definitions, capacity);
+        startRows = Arrays.copyOf(startRows, capacity);
+        startCols = Arrays.copyOf(startCols, capacity);
+        across = Arrays.copyOf(across, capacity);
+        undoMarks = Arrays.copyOf(undoMarks, capacity);
+    }
+
+    // ============== 배치된 단어 조회 ==============
+
+    public int wordCount() {
+        return wordCount;
+    }
+
+    public String word(int index) {
+        return words[index];
+    }
+
+    public String definition(int index) {
+        return definitions[index];
+    }
+
+    public int startRow(int index) {
+        return startRows[index];
+    }
+
+    public int startCol(int index) {
+        return startCols[index];
+    }
+
+    public PuzzleWord.Direction direction(int index) {
+        return across[index] ? PuzzleWord.Direction.ACROSS : PuzzleWord.Direction.DOWN;
+    }
+
+    /**
+     * 이미 사용된 단어인지 확인
+     * 배치 단어 수가 수십 개 수준이라 선형 탐색이 해시 세트 유지보다 저렴합니다.
+     */
+    public boolean containsWord(String word) {
+        for (int i = 0; i < wordCount; i++) {
+            if (words[i].equals(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ============== 변환 (결과 생성/디버깅용) ==============
+
+    /**
+     * 2차원 그리드 복사본
+     */
+    public char[][] toCharGrid() {
+        char[][] grid = new char[size][size];
+        for (int row = 0; row < size; row++) {
+            System.arraycopy(cells, row * size, grid[row], 0, size);
+        }
+        return grid;
+    }
+
+    /**
+     * 배치된 단어 목록 (새 PuzzleWord 인스턴스, 번호는 0)
+     */
+    public List<PuzzleWord> toPuzzleWords() {
+        List<PuzzleWord> result = new ArrayList<>(wordCount);
+        for (int i = 0; i < wordCount; i++) {
+            result.add(PuzzleWord.builder()
+                    .number(0)
+                    .word(words[i])
+                    .definition(definitions[i])
+                    .startRow(startRows[i])
+                    .startCol(startCols[i])
+                    .direction(direction(i))
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * 현재 상태의 GridSnapshot (디버깅/테스트용)
+     */
+    public GridSnapshot snapshot() {
+        Set<String> usedWords = new HashSet<>(Arrays.asList(words).subList(0, wordCount));
+        return new GridSnapshot(toCharGrid(), toPuzzleWords(), usedWords);
+    }
+
+    /**
+     * 독립적인 복사본 (되돌리기 이력 포함)
+     */
+    public GridState copy() {
+        GridState copy = new GridState(size);
+        System.arraycopy(cells, 0, copy.cells, 0, cells.length);
+        System.arraycopy(rowMasks, 0, copy.rowMasks, 0, size);
+        System.arraycopy(colMasks, 0, copy.colMasks, 0, size);
+        System.arraycopy(undoStack, 0, copy.undoStack, 0, undoTop);
+        copy.undoTop = undoTop;
+        copy.words = Arrays.copyOf(words, words.length);
+        copy.definitions = Arrays.copyOf(definitions, definitions.length);
+        copy.startRows = Arrays.copyOf(startRows, startRows.length);
+        copy.startCols = Arrays.copyOf(startCols, startCols.length);
+        copy.across = Arrays.copyOf(across, across.length);
+        copy.undoMarks = Arrays.copyOf(undoMarks, undoMarks.length);
+        copy.wordCount = wordCount;
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GridState[words=%d, cells=%d]", wordCount, undoTop);
+    }
+}
@@ -13,12 +13,19 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
@@ -240,4 +247,55 @@ class HintControllerIntegrationTest {
                     .andExpect(jsonPath("$.available").value(false));
         }
     }
+
+    @Nested
+    @DisplayName("POST /api/puzzle/hint/batch - 힌트 일괄 조회")
+    class BatchHintTests {
+
+        @Test
+        @DisplayName("단어 ID별 힌트 목록을 한 번에 조회한다")
+        void getHintsBatchSuccess() throws Exception {
+            Map<Long, List<HintResponse>> hints = new LinkedHashMap<>();
+            hints.put(1L, List.of(HintResponse.ofSingle(HintType.CHOSUNG, 1L, "사과", "ㅅㄱ")));
+            hints.put(2L, List.of(HintResponse.ofSingle(HintType.CHOSUNG, 2L, "나무", "ㄴㅁ")));
+            when(hintService.getHintsBatch(eq(List.of(1L, 2L)), eq(Set.of(HintType.CHOSUNG))))
+                    .thenReturn(hints);
+
+            mockMvc.perform(post("/api/puzzle/hint/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"wordIds\": [1, 2, 1], \"types\": [\"chosung\"]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$['1'][0].value").value("ㅅㄱ"))
+                    .andExpect(jsonPath("$['2'][0].value").value("ㄴㅁ"));
+        }
+
+        @Test
+        @DisplayName("타입이 없으면 모든 타입을 조회한다")
+        void getHintsBatchAllTypes() throws Exception {
+            when(hintService.getHintsBatch(eq(List.of(1L)), eq(Set.of(HintType.values()))))
+                    .thenReturn(Map.of(1L, List.of()));
+
+            mockMvc.perform(post("/api/puzzle/hint/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"wordIds\": [1]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$['1']").isArray());
+        }
+
+        @Test
+        @DisplayName("잘못된 힌트 타입이나 빈 단어 목록이면 400 에러")
+        void getHintsBatchBadRequest() throws Exception {
+            mockMvc.perform(post("/api/puzzle/hint/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"wordIds\": [1], \"types\": [\"INVALID\"]}"))
+                    .andExpect(status().isBadRequest());
+
+            mockMvc.perform(post("/api/puzzle/hint/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"wordIds\": []}"))
+                    .andExpect(status().isBadRequest());
+
+            verify(hintService, never()).getHintsBatch(anyCollection(), anyCollection());
+        }
+    }
 }
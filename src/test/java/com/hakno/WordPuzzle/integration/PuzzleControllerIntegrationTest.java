@@ -1,25 +1,39 @@
 package com.hakno.WordPuzzle.integration;
 
 import com.hakno.WordPuzzle.controller.PuzzleController;
+import com.hakno.WordPuzzle.dto.GridFormat;
 import com.hakno.WordPuzzle.dto.PuzzleCell;
 import com.hakno.WordPuzzle.dto.PuzzleResponse;
 import com.hakno.WordPuzzle.dto.PuzzleWord;
+import com.hakno.WordPuzzle.service.PuzzleBatchService;
 import com.hakno.WordPuzzle.service.PuzzleGeneratorService;
+import com.hakno.WordPuzzle.service.PuzzlePool;
+import com.hakno.WordPuzzle.util.GridConverter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
+import static org.hamcrest.Matchers.contains;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
@@ -28,6 +42,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * PuzzleGeneratorService는 Mock으로 대체됩니다.
  */
 @WebMvcTest(PuzzleController.class)
+@Import(GridConverter.class)
 @DisplayName("PuzzleController 테스트")
 class PuzzleControllerIntegrationTest {
 
@@ -37,6 +52,12 @@ class PuzzleControllerIntegrationTest {
     @MockitoBean
     private PuzzleGeneratorService puzzleGeneratorService;
 
+    @MockitoBean
+    private PuzzlePool puzzlePool;
+
+    @MockitoBean
+    private PuzzleBatchService puzzleBatchService;
+
     private PuzzleResponse createMockPuzzleResponse(int gridSize) {
         // Mock 그리드 생성
         List<List<PuzzleCell>> grid = new ArrayList<>();
@@ -85,6 +106,20 @@ class PuzzleControllerIntegrationTest {
                 .build();
     }
 
+    private PuzzleResponse createCompactPuzzleResponse() {
+        List<PuzzleWord> acrossWords = List.of(PuzzleWord.builder().number(1).word("사과")
+                .startRow(0).startCol(0).direction(PuzzleWord.Direction.ACROSS).build());
+        List<PuzzleWord> downWords = List.of(PuzzleWord.builder().number(1).word("사자")
+                .startRow(0).startCol(0).direction(PuzzleWord.Direction.DOWN).build());
+        return PuzzleResponse.builder()
+                .gridSize(3)
+                .compactGrid(new GridConverter().toCompactGrid(3, acrossWords, downWords))
+                .acrossWords(acrossWords)
+                .downWords(downWords)
+                .totalWords(2)
+                .build();
+    }
+
     @Nested
     @DisplayName("GET /api/puzzle/generate - 정상 케이스")
     class GeneratePuzzleSuccessTests {
@@ -93,7 +128,8 @@ class PuzzleControllerIntegrationTest {
         @DisplayName("기본 파라미터로 퍼즐 생성")
         void generatePuzzle_defaultParams_returnsPuzzle() throws Exception {
             // given
-            when(puzzleGeneratorService.generatePuzzle(isNull(), eq(5), isNull(), eq("default"), isNull(), isNull()))
+            when(puzzleGeneratorService.generatePuzzle(isNull(), eq(5), isNull(), eq("default"), isNull(), isNull(),
+                    isNull(), eq(GridFormat.CELLS)))
                     .thenReturn(createMockPuzzleResponse(12));
 
             // when & then
@@ -111,7 +147,8 @@ class PuzzleControllerIntegrationTest {
         @DisplayName("gridSize 지정하여 퍼즐 생성")
         void generatePuzzle_withGridSize_returnsPuzzleWithSize() throws Exception {
             // given
-            when(puzzleGeneratorService.generatePuzzle(eq(15), eq(5), isNull(), eq("default"), isNull(), isNull()))
+            when(puzzleGeneratorService.generatePuzzle(eq(15), eq(5), isNull(), eq("default"), isNull(), isNull(),
+                    isNull(), eq(GridFormat.CELLS)))
                     .thenReturn(createMockPuzzleResponse(15));
 
             // when & then
@@ -126,7 +163,8 @@ class PuzzleControllerIntegrationTest {
         @DisplayName("난이도 지정하여 퍼즐 생성 - 초급")
         void generatePuzzle_withBeginnerLevel_returnsPuzzle() throws Exception {
             // given
-            when(puzzleGeneratorService.generatePuzzle(isNull(), eq(5), eq("초급"), eq("default"), isNull(), isNull()))
+            when(puzzleGeneratorService.generatePuzzle(isNull(), eq(5), eq("초급"), eq("default"), isNull(), isNull(),
+                    isNull(), eq(GridFormat.CELLS)))
                     .thenReturn(createMockPuzzleResponse(12));
 
             // when & then
@@ -137,11 +175,80 @@ class PuzzleControllerIntegrationTest {
                     .andExpect(jsonPath("$.acrossWords").isNotEmpty());
         }
 
+        @Test
+        @DisplayName("시드 지정 시 풀을 거치지 않고 같은 시드로 생성")
+        void generatePuzzle_withSeed_bypassesPool() throws Exception {
+            // given
+            PuzzleResponse seeded = PuzzleResponse.builder()
+                    .gridSize(12).grid(List.of()).acrossWords(List.of()).downWords(List.of())
+                    .totalWords(0).seed(42L).build();
+            when(puzzleGeneratorService.generatePuzzle(isNull(), eq(5), isNull(), eq("default"), isNull(), isNull(),
+                    eq(42L), eq(GridFormat.CELLS)))
+                    .thenReturn(seeded);
+
+            // when & then
+            mockMvc.perform(get("/api/puzzle/generate")
+                            .param("wordCount", "5")
+                            .param("seed", "42"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.seed").value(42));
+            verify(puzzlePool, never()).poll(any(), anyInt(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("format=compact면 셀 목록 대신 음절 문자열과 시작 칸 목록")
+        void generatePuzzle_compactFormat_returnsCompactGrid() throws Exception {
+            // given - 사과(가로 1), 사자(세로 1)가 모두 (0,0)에서 시작
+            when(puzzleGeneratorService.generatePuzzle(isNull(), eq(5), isNull(), eq("default"), isNull(), isNull(),
+                    isNull(), eq(GridFormat.COMPACT)))
+                    .thenReturn(createCompactPuzzleResponse());
+
+            // when & then
+            mockMvc.perform(get("/api/puzzle/generate")
+                            .param("wordCount", "5")
+                            .param("format", "compact"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.grid").doesNotExist())
+                    .andExpect(jsonPath("$.compactGrid.cells").value("사과." + "자.." + "..."))
+                    .andExpect(jsonPath("$.compactGrid.starts[0]").value(contains(0, 0, 1, 1)))
+                    .andExpect(jsonPath("$.acrossWords[0].word").value("사과"));
+        }
+
+        @Test
+        @DisplayName("풀에 보관된 압축 퍼즐은 요청한 셀 목록으로 바꿔 반환")
+        void generatePuzzle_pooledCompactPuzzle_returnsCellGrid() throws Exception {
+            // given
+            when(puzzlePool.poll(isNull(), eq(5), isNull(), eq("default"), isNull(), isNull()))
+                    .thenReturn(Optional.of(createCompactPuzzleResponse()));
+
+            // when & then
+            mockMvc.perform(get("/api/puzzle/generate")
+                            .param("wordCount", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.compactGrid").doesNotExist())
+                    .andExpect(jsonPath("$.grid[0][0].letter").value("사"))
+                    .andExpect(jsonPath("$.grid[0][0].acrossNumber").value(1))
+                    .andExpect(jsonPath("$.grid[0][0].downNumber").value(1))
+                    .andExpect(jsonPath("$.grid[1][0].letter").value("자"))
+                    .andExpect(jsonPath("$.grid[2][2].isBlank").value(true));
+            verify(puzzleGeneratorService, never()).generatePuzzle(any(), anyInt(), any(), any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("알 수 없는 format이면 400 에러")
+        void generatePuzzle_unknownFormat_returnsBadRequest() throws Exception {
+            mockMvc.perform(get("/api/puzzle/generate")
+                            .param("wordCount", "5")
+                            .param("format", "xml"))
+                    .andExpect(status().isBadRequest());
+        }
+
         @Test
         @DisplayName("퍼즐 응답에 필수 필드가 모두 포함됨")
         void generatePuzzle_responseContainsAllRequiredFields() throws Exception {
             // given
-            when(puzzleGeneratorService.generatePuzzle(isNull(), eq(5), isNull(), eq("default"), isNull(), isNull()))
+            when(puzzleGeneratorService.generatePuzzle(isNull(), eq(5), isNull(), eq("default"), isNull(), isNull(),
+                    isNull(), eq(GridFormat.CELLS)))
                     .thenReturn(createMockPuzzleResponse(12));
 
             // when & then
@@ -159,7 +266,8 @@ class PuzzleControllerIntegrationTest {
         @DisplayName("생성된 단어에 definition 포함")
         void generatePuzzle_wordsContainDefinitions() throws Exception {
             // given
-            when(puzzleGeneratorService.generatePuzzle(isNull(), eq(5), isNull(), eq("default"), isNull(), isNull()))
+            when(puzzleGeneratorService.generatePuzzle(isNull(), eq(5), isNull(), eq("default"), isNull(), isNull(),
+                    isNull(), eq(GridFormat.CELLS)))
                     .thenReturn(createMockPuzzleResponse(12));
 
             // when & then
@@ -213,7 +321,8 @@ class PuzzleControllerIntegrationTest {
         @DisplayName("wordCount 경계값 테스트 - 최소값 3")
         void generatePuzzle_wordCountMinBoundary_returnsOk() throws Exception {
             // given
-            when(puzzleGeneratorService.generatePuzzle(isNull(), eq(3), isNull(), eq("default"), isNull(), isNull()))
+            when(puzzleGeneratorService.generatePuzzle(isNull(), eq(3), isNull(), eq("default"), isNull(), isNull(),
+                    isNull(), eq(GridFormat.CELLS)))
                     .thenReturn(createMockPuzzleResponse(10));
 
             // when & then
@@ -226,7 +335,8 @@ class PuzzleControllerIntegrationTest {
         @DisplayName("wordCount 경계값 테스트 - 최대값 50")
         void generatePuzzle_wordCountMaxBoundary_returnsOk() throws Exception {
             // given
-            when(puzzleGeneratorService.generatePuzzle(isNull(), eq(50), isNull(), eq("default"), isNull(), isNull()))
+            when(puzzleGeneratorService.generatePuzzle(isNull(), eq(50), isNull(), eq("default"), isNull(), isNull(),
+                    isNull(), eq(GridFormat.CELLS)))
                     .thenReturn(createMockPuzzleResponse(25));
 
             // when & then
@@ -239,7 +349,8 @@ class PuzzleControllerIntegrationTest {
         @DisplayName("gridSize 경계값 테스트 - 최소값 5")
         void generatePuzzle_gridSizeMinBoundary_returnsOk() throws Exception {
             // given
-            when(puzzleGeneratorService.generatePuzzle(eq(5), eq(3), isNull(), eq("default"), isNull(), isNull()))
+            when(puzzleGeneratorService.generatePuzzle(eq(5), eq(3), isNull(), eq("default"), isNull(), isNull(),
+                    isNull(), eq(GridFormat.CELLS)))
                     .thenReturn(createMockPuzzleResponse(5));
 
             // when & then
@@ -253,7 +364,8 @@ class PuzzleControllerIntegrationTest {
         @DisplayName("gridSize 경계값 테스트 - 최대값 30")
         void generatePuzzle_gridSizeMaxBoundary_returnsOk() throws Exception {
             // given
-            when(puzzleGeneratorService.generatePuzzle(eq(30), eq(5), isNull(), eq("default"), isNull(), isNull()))
+            when(puzzleGeneratorService.generatePuzzle(eq(30), eq(5), isNull(), eq("default"), isNull(), isNull(),
+                    isNull(), eq(GridFormat.CELLS)))
                     .thenReturn(createMockPuzzleResponse(30));
 
             // when & then
@@ -272,7 +384,8 @@ class PuzzleControllerIntegrationTest {
         @DisplayName("wordCount 기본값은 10")
         void generatePuzzle_noWordCount_usesDefault10() throws Exception {
             // given
-            when(puzzleGeneratorService.generatePuzzle(isNull(), eq(10), isNull(), eq("default"), isNull(), isNull()))
+            when(puzzleGeneratorService.generatePuzzle(isNull(), eq(10), isNull(), eq("default"), isNull(), isNull(),
+                    isNull(), eq(GridFormat.CELLS)))
                     .thenReturn(createMockPuzzleResponse(15));
 
             // when & then
@@ -280,4 +393,57 @@ class PuzzleControllerIntegrationTest {
                     .andExpect(status().isOk());
         }
     }
+
+    @Nested
+    @DisplayName("POST /api/puzzle/batch")
+    class BatchTests {
+
+        @Test
+        @DisplayName("개수로 요청하면 NDJSON으로 스트리밍")
+        void generateBatch_withCount_streamsNdjson() throws Exception {
+            // given
+            when(puzzleBatchService.getMaxBatchSize()).thenReturn(100);
+            doAnswer(inv -> {
+                List<?> specs = inv.getArgument(0);
+                OutputStream out = inv.getArgument(2);
+                out.write(("{\"summary\":{\"requested\":" + specs.size() + "}}\n").getBytes());
+                return null;
+            }).when(puzzleBatchService).generate(anyList(), any(), any());
+
+            // when
+            MvcResult result = mockMvc.perform(post("/api/puzzle/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"count\": 3, \"wordCount\": 5}"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // then
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                    .andExpect(content().string("{\"summary\":{\"requested\":3}}\n"));
+        }
+
+        @Test
+        @DisplayName("최대 개수를 넘으면 400 에러")
+        void generateBatch_tooMany_returnsBadRequest() throws Exception {
+            when(puzzleBatchService.getMaxBatchSize()).thenReturn(100);
+
+            mockMvc.perform(post("/api/puzzle/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"count\": 101}"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("조건 중 하나라도 범위를 벗어나면 400 에러")
+        void generateBatch_invalidSpec_returnsBadRequest() throws Exception {
+            when(puzzleBatchService.getMaxBatchSize()).thenReturn(100);
+
+            mockMvc.perform(post("/api/puzzle/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"specs\": [{\"wordCount\": 5}, {\"wordCount\": 5, \"gridSize\": 31}]}"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
 }
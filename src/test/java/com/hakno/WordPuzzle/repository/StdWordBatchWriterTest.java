@@ -0,0 +1,85 @@
+package com.hakno.WordPuzzle.repository;
+
+import com.hakno.WordPuzzle.entity.StdExample;
+import com.hakno.WordPuzzle.entity.StdSense;
+import com.hakno.WordPuzzle.entity.StdWord;
+import com.hakno.WordPuzzle.entity.StdWordRelation;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StdWordBatchWriter 통합 테스트
+ * H2에 배치 INSERT로 저장한 행을 JPA로 다시 읽어 부모-자식 연결을 검증합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(StdWordBatchWriter.class)
+@DisplayName("StdWordBatchWriter 통합 테스트")
+class StdWordBatchWriterTest {
+
+    @Autowired
+    private StdWordBatchWriter writer;
+
+    @Autowired
+    private StdWordRepository stdWordRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private StdWord word(String code, String text, int senseCount) {
+        StdWord word = StdWord.builder().targetCode(code).word(text).supNo(0).wordType("고유어").build();
+        for (int i = 1; i <= senseCount; i++) {
+            StdSense sense = StdSense.builder().senseOrder(i).pos("명사").definition(text + " 뜻 " + i).build();
+            sense.addExample(StdExample.builder().example(text + " 예문 " + i).build());
+            sense.addRelation(StdWordRelation.builder().relationType("비슷한말").relatedWord(text + "말" + i).build());
+            word.addSense(sense);
+        }
+        return word;
+    }
+
+    @Test
+    @DisplayName("단어와 의미/용례/관계어를 저장하고 단어 순서대로 ID를 반환한다")
+    void insertWordsWithChildren() {
+        // given
+        List<StdWord> words = List.of(word("T1", "사과", 2), word("T2", "바다", 1), word("T3", "나무", 0));
+
+        // when
+        List<Long> ids = writer.insertAll(words);
+        entityManager.clear();
+
+        // then
+        assertThat(ids).hasSize(3).doesNotHaveDuplicates();
+        List<StdWord> loaded = stdWordRepository.findAllByIdWithSenses(ids);
+        assertThat(loaded).extracting(StdWord::getWord).containsExactlyInAnyOrder("사과", "바다", "나무");
+
+        StdWord apple = stdWordRepository.findById(ids.get(0)).orElseThrow();
+        assertThat(apple.getTargetCode()).isEqualTo("T1");
+        assertThat(apple.getLength()).isEqualTo(2);
+        assertThat(apple.getFirstChar()).isEqualTo("사");
+        assertThat(apple.getCreatedAt()).isNotNull();
+        assertThat(apple.getSenses()).hasSize(2)
+                .allSatisfy(sense -> {
+                    assertThat(sense.getExamples()).hasSize(1);
+                    assertThat(sense.getRelations()).hasSize(1);
+                });
+        assertThat(apple.getSenses()).extracting(StdSense::getDefinition)
+                .containsExactlyInAnyOrder("사과 뜻 1", "사과 뜻 2");
+
+        assertThat(stdWordRepository.findById(ids.get(2)).orElseThrow().getSenses()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("빈 목록은 아무것도 저장하지 않는다")
+    void insertNothingForEmptyList() {
+        assertThat(writer.insertAll(List.of())).isEmpty();
+    }
+}
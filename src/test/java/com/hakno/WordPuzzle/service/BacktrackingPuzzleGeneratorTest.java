@@ -1,6 +1,7 @@
 package com.hakno.WordPuzzle.service;
 
 import com.hakno.WordPuzzle.dto.PuzzleResponse;
+import com.hakno.WordPuzzle.dto.PuzzleWord;
 import com.hakno.WordPuzzle.entity.StdSense;
 import com.hakno.WordPuzzle.entity.StdWord;
 import com.hakno.WordPuzzle.repository.StdWordRepository;
@@ -13,9 +14,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -39,8 +49,10 @@ class BacktrackingPuzzleGeneratorTest {
         placementValidator = new PlacementValidator();
         gridConverter = new GridConverter();
         puzzleScorer = new PuzzleScorer();
+        LexiconService lexiconService = new LexiconService(stdWordRepository);
         generator = new BacktrackingPuzzleGenerator(
-                stdWordRepository, placementValidator, gridConverter, puzzleScorer);
+                new StdWordSampler(stdWordRepository, lexiconService), lexiconService,
+                placementValidator, gridConverter, puzzleScorer, GenerationMetrics.standalone());
     }
 
     @Nested
@@ -184,6 +196,226 @@ class BacktrackingPuzzleGeneratorTest {
         }
     }
 
+    @Nested
+    @DisplayName("시드 고정 생성 테스트")
+    class SeedTests {
+
+        @Test
+        @DisplayName("같은 시드는 같은 퍼즐을 생성")
+        void generate_sameSeed_samePuzzle() {
+            // given
+            List<StdWord> firstWords = createMockWords(List.of("컴퓨터", "자동차", "사과나무"));
+            List<StdWord> intersectingWords = createMockWords(List.of("모퓨터", "퓨전", "컵라면", "차고", "나무꾼"));
+
+            when(stdWordRepository.findRandomWordsWithSenses(anyInt(), anyInt(), any(PageRequest.class)))
+                    .thenReturn(firstWords);
+            when(stdWordRepository.findWordsContainingCharWithSenses(anyString(), anyInt(), anyInt(), any(PageRequest.class)))
+                    .thenReturn(intersectingWords);
+
+            // when
+            PuzzleResponse first = generator.generate(12, 4, null, null, 5000, 7L);
+            PuzzleResponse second = generator.generate(12, 4, null, null, 5000, 7L);
+
+            // then
+            assertThat(first.getSeed()).isEqualTo(7L);
+            assertThat(second.getAcrossWords()).usingRecursiveFieldByFieldElementComparator()
+                    .isEqualTo(first.getAcrossWords());
+            assertThat(second.getDownWords()).usingRecursiveFieldByFieldElementComparator()
+                    .isEqualTo(first.getDownWords());
+        }
+    }
+
+    @Nested
+    @DisplayName("동시 호출 테스트")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("여러 스레드가 동시에 생성해도 각자 요청한 크기의 올바른 퍼즐을 받음")
+        void generate_concurrentCalls_eachGetsOwnValidPuzzle() throws Exception {
+            // given - 메모리 사전으로 DB 없이 교차 검색
+            BacktrackingPuzzleGenerator shared = lexiconGenerator();
+
+            int threads = 8;
+            int callsPerThread = 4;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<String>>> futures = new ArrayList<>();
+
+            // when - 스레드마다 다른 그리드 크기를 요청
+            for (int t = 0; t < threads; t++) {
+                int gridSize = 8 + (t % 4) * 2;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<String> problems = new ArrayList<>();
+                    for (int i = 0; i < callsPerThread; i++) {
+                        problems.addAll(validate(shared.generate(gridSize, 6, null, null, 300), gridSize));
+                    }
+                    return problems;
+                }));
+            }
+            start.countDown();
+
+            // then
+            List<String> problems = new ArrayList<>();
+            for (Future<List<String>> future : futures) {
+                problems.addAll(future.get(30, TimeUnit.SECONDS));
+            }
+            executor.shutdown();
+            assertThat(problems).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("작업 분할 병렬 생성 테스트")
+    class WorkStealingTests {
+
+        @Test
+        @DisplayName("요청한 크기의 올바른 퍼즐을 생성")
+        void generateWorkStealing_returnsValidPuzzle() {
+            // given
+            BacktrackingPuzzleGenerator workStealing = lexiconGenerator();
+
+            // when
+            PuzzleResponse result = workStealing.generateWorkStealing(12, 8, null, null, 1000, null);
+
+            // then
+            assertThat(validate(result, 12)).isEmpty();
+            assertThat(result.getTotalWords()).isGreaterThan(1);
+        }
+
+        @Test
+        @DisplayName("목표 단어 수와 점수를 달성하면 타임아웃 전에 모든 작업이 멈춤")
+        void generateWorkStealing_stopsWhenTargetReached() {
+            // given
+            BacktrackingPuzzleGenerator workStealing = lexiconGenerator();
+            long startTime = System.currentTimeMillis();
+
+            // when
+            PuzzleResponse result = workStealing.generateWorkStealing(10, 3, null, null, 10000, 3L);
+
+            // then
+            assertThat(System.currentTimeMillis() - startTime).isLessThan(5000);
+            assertThat(result.getTotalWords()).isGreaterThanOrEqualTo(3);
+            assertThat(result.getSeed()).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("데이터가 없으면 예외 발생")
+        void generateWorkStealing_noData_throwsException() {
+            // given
+            when(stdWordRepository.findRandomWordsWithSenses(anyInt(), anyInt(), any(PageRequest.class)))
+                    .thenReturn(new ArrayList<>());
+
+            // when & then
+            assertThatThrownBy(() -> generator.generateWorkStealing(10, 5))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("조건에 맞는 단어가 없습니다");
+        }
+
+        @Test
+        @DisplayName("사전 로딩 전 DB 조회는 공용 풀이 아닌 생성기 전용 풀에서 실행")
+        void generateWorkStealing_dbFallback_runsOnDedicatedPool() {
+            // given
+            Set<String> threadNames = ConcurrentHashMap.newKeySet();
+            List<StdWord> firstWords = createMockWords(List.of("컴퓨터"));
+            List<StdWord> intersectingWords = createMockWords(List.of("모퓨터", "퓨전", "컵라면"));
+            when(stdWordRepository.findRandomWordsWithSenses(anyInt(), anyInt(), any(PageRequest.class)))
+                    .thenReturn(firstWords);
+            when(stdWordRepository.findWordsContainingCharWithSenses(anyString(), anyInt(), anyInt(), any(PageRequest.class)))
+                    .thenAnswer(invocation -> {
+                        threadNames.add(Thread.currentThread().getName());
+                        return intersectingWords;
+                    });
+
+            // when
+            generator.generateWorkStealing(12, 5, null, null, 1000, null);
+            generator.shutdown();
+
+            // then
+            assertThat(threadNames).isNotEmpty().allMatch(name -> name.startsWith("puzzle-search-"));
+        }
+    }
+
+    @Nested
+    @DisplayName("빔 탐색 생성 테스트")
+    class BeamSearchTests {
+
+        @Test
+        @DisplayName("요청한 크기의 올바른 퍼즐을 생성")
+        void generateBeam_returnsValidPuzzle() {
+            // given
+            BacktrackingPuzzleGenerator beam = lexiconGenerator();
+
+            // when
+            PuzzleResponse result = beam.generateBeam(12, 8, null, null, 2000, 8, null);
+
+            // then
+            assertThat(validate(result, 12)).isEmpty();
+            assertThat(result.getTotalWords()).isGreaterThan(1);
+        }
+
+        @Test
+        @DisplayName("같은 시드는 같은 퍼즐을 생성 (프런티어를 병렬로 확장해도 병합 순서가 고정)")
+        void generateBeam_sameSeed_samePuzzle() {
+            // given
+            BacktrackingPuzzleGenerator beam = lexiconGenerator();
+
+            // when
+            PuzzleResponse first = beam.generateBeam(10, 5, null, null, 10000, 4, 11L);
+            PuzzleResponse second = beam.generateBeam(10, 5, null, null, 10000, 4, 11L);
+
+            // then
+            assertThat(first.getSeed()).isEqualTo(11L);
+            assertThat(second.getAcrossWords()).usingRecursiveFieldByFieldElementComparator()
+                    .isEqualTo(first.getAcrossWords());
+            assertThat(second.getDownWords()).usingRecursiveFieldByFieldElementComparator()
+                    .isEqualTo(first.getDownWords());
+        }
+
+        @Test
+        @DisplayName("빔 폭이 1보다 작으면 예외 발생")
+        void generateBeam_invalidWidth_throwsException() {
+            assertThatThrownBy(() -> generator.generateBeam(10, 5, null, null, 1000, 0, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("데이터가 없으면 예외 발생")
+        void generateBeam_noData_throwsException() {
+            // given
+            when(stdWordRepository.findRandomWordsWithSenses(anyInt(), anyInt(), any(PageRequest.class)))
+                    .thenReturn(new ArrayList<>());
+
+            // when & then
+            assertThatThrownBy(() -> generator.generateBeam(10, 5))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("조건에 맞는 단어가 없습니다");
+        }
+
+        @Test
+        @DisplayName("사전 로딩 전 프런티어 확장의 DB 조회는 생성기 전용 풀에서 실행")
+        void generateBeam_dbFallback_runsOnDedicatedPool() {
+            // given
+            Set<String> threadNames = ConcurrentHashMap.newKeySet();
+            List<StdWord> firstWords = createMockWords(List.of("컴퓨터"));
+            List<StdWord> intersectingWords = createMockWords(List.of("모퓨터", "퓨전", "컵라면"));
+            when(stdWordRepository.findRandomWordsWithSenses(anyInt(), anyInt(), any(PageRequest.class)))
+                    .thenReturn(firstWords);
+            when(stdWordRepository.findWordsContainingCharWithSenses(anyString(), anyInt(), anyInt(), any(PageRequest.class)))
+                    .thenAnswer(invocation -> {
+                        threadNames.add(Thread.currentThread().getName());
+                        return intersectingWords;
+                    });
+
+            // when
+            generator.generateBeam(12, 5, null, null, 1000, 4, null);
+            generator.shutdown();
+
+            // then
+            assertThat(threadNames).isNotEmpty().allMatch(name -> name.startsWith("puzzle-search-"));
+        }
+    }
+
     @Nested
     @DisplayName("퍼즐 응답 구조 테스트")
     class ResponseStructureTests {
@@ -302,6 +534,66 @@ class BacktrackingPuzzleGeneratorTest {
             assertThat(result).isNotNull();
             assertThat(elapsed).isLessThan(4000); // 타임아웃 + 여유시간
         }
+
+        @Test
+        @DisplayName("가상 스레드 모드에서는 시드 작업을 가상 스레드에서 실행")
+        void generateParallel_virtualThreads_runsSeedsOnVirtualThreads() {
+            // given
+            ReflectionTestUtils.setField(generator, "virtualThreads", true);
+            List<StdWord> words = createMockWords(List.of("가나다", "라마바", "사아자"));
+            Set<Boolean> virtualFlags = ConcurrentHashMap.newKeySet();
+            when(stdWordRepository.findRandomWordsWithSenses(anyInt(), anyInt(), any(PageRequest.class)))
+                    .thenReturn(words);
+            when(stdWordRepository.findWordsContainingCharWithSenses(anyString(), anyInt(), anyInt(), any(PageRequest.class)))
+                    .thenAnswer(inv -> {
+                        virtualFlags.add(Thread.currentThread().isVirtual());
+                        return new ArrayList<>();
+                    });
+
+            // when
+            PuzzleResponse result = generator.generateParallel(10, 5, null, null, 1000, 3);
+
+            // then
+            assertThat(result.getTotalWords()).isGreaterThanOrEqualTo(1);
+            assertThat(virtualFlags).containsExactly(true);
+        }
+
+        @Test
+        @DisplayName("마감 시간이 지나도 끝나지 않는 시드 작업은 취소되고 호출은 바로 반환")
+        void generateParallel_blockedSeeds_areCancelledAtDeadline() throws InterruptedException {
+            // given - 교차 검색이 10초 동안 멈춤 (인터럽트되면 즉시 종료)
+            List<StdWord> words = createMockWords(List.of("가나다", "라마바"));
+            AtomicInteger blocked = new AtomicInteger();
+            AtomicInteger interrupted = new AtomicInteger();
+            when(stdWordRepository.findRandomWordsWithSenses(anyInt(), anyInt(), any(PageRequest.class)))
+                    .thenReturn(words);
+            when(stdWordRepository.findWordsContainingCharWithSenses(anyString(), anyInt(), anyInt(), any(PageRequest.class)))
+                    .thenAnswer(inv -> {
+                        blocked.incrementAndGet();
+                        try {
+                            Thread.sleep(10_000);
+                        } catch (InterruptedException e) {
+                            interrupted.incrementAndGet();
+                            throw e;
+                        }
+                        return new ArrayList<>();
+                    });
+            long startTime = System.currentTimeMillis();
+
+            // when
+            PuzzleResponse result = generator.generateParallel(10, 5, null, null, 300, 2);
+
+            // then - 남은 시간이 없으므로 첫 단어만 배치된 결과
+            assertThat(System.currentTimeMillis() - startTime).isLessThan(3000);
+            assertThat(result.getTotalWords()).isEqualTo(1);
+
+            // 멈춘 작업은 모두 인터럽트됨 (시작 전에 취소된 작업은 멈추지도 않으므로 스레드 수/부하와 무관)
+            long deadline = System.currentTimeMillis() + 2000;
+            while (interrupted.get() < blocked.get() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(interrupted.get()).isEqualTo(blocked.get());
+        }
     }
 
     @Nested
@@ -333,6 +625,57 @@ class BacktrackingPuzzleGeneratorTest {
 
     // ============== 헬퍼 메서드 ==============
 
+    /**
+     * 메모리 사전이 로딩된 생성기 (DB 없이 교차 검색)
+     */
+    private BacktrackingPuzzleGenerator lexiconGenerator() {
+        String[] strings = {"사과나무", "과자", "나비", "무지개", "자동차", "비행기", "개나리", "차표", "기차", "리본",
+                "사자", "자전거", "거미", "미나리", "리어카", "카메라", "라디오", "오리", "리듬", "표지판",
+                "나라", "라면", "면도기", "기러기", "기린", "비누", "누나", "나무꾼", "무지", "지도"};
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < strings.length; i++) {
+            rows.add(new Object[]{(long) i, strings[i], "고유어", null, strings[i] + "의 뜻풀이"});
+        }
+        when(stdWordRepository.findLexiconRows()).thenReturn(rows);
+        LexiconService lexiconService = new LexiconService(stdWordRepository);
+        lexiconService.refresh();
+        return new BacktrackingPuzzleGenerator(
+                new StdWordSampler(stdWordRepository, lexiconService), lexiconService,
+                placementValidator, gridConverter, puzzleScorer, GenerationMetrics.standalone());
+    }
+
+    /**
+     * 요청한 크기인지, 모든 단어가 그리드 글자와 일치하는지, 중복 단어가 없는지 확인
+     */
+    private List<String> validate(PuzzleResponse puzzle, int gridSize) {
+        List<String> problems = new ArrayList<>();
+        if (puzzle.getGridSize() != gridSize || puzzle.getGrid().size() != gridSize) {
+            problems.add("크기 불일치: 요청 " + gridSize + ", 응답 " + puzzle.getGridSize());
+            return problems;
+        }
+
+        List<PuzzleWord> words = new ArrayList<>(puzzle.getAcrossWords());
+        words.addAll(puzzle.getDownWords());
+        if (words.size() != puzzle.getTotalWords()) {
+            problems.add("단어 수 불일치: " + words.size() + " != " + puzzle.getTotalWords());
+        }
+        if (words.stream().map(PuzzleWord::getWord).distinct().count() != words.size()) {
+            problems.add("중복 단어: " + words);
+        }
+        for (PuzzleWord word : words) {
+            for (int i = 0; i < word.getWord().length(); i++) {
+                int row = word.getStartRow() + (word.getDirection() == PuzzleWord.Direction.DOWN ? i : 0);
+                int col = word.getStartCol() + (word.getDirection() == PuzzleWord.Direction.ACROSS ? i : 0);
+                if (row < 0 || row >= gridSize || col < 0 || col >= gridSize
+                        || !String.valueOf(word.getWord().charAt(i)).equals(puzzle.getGrid().get(row).get(col).getLetter())) {
+                    problems.add("그리드와 다른 단어: " + word.getWord() + " @" + row + "," + col);
+                    break;
+                }
+            }
+        }
+        return problems;
+    }
+
     private List<StdWord> createMockWords(List<String> wordStrings) {
         List<StdWord> words = new ArrayList<>();
         for (int i = 0; i < wordStrings.size(); i++) {
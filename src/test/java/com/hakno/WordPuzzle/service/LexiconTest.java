@@ -0,0 +1,382 @@
+package com.hakno.WordPuzzle.service;
+
+import com.hakno.WordPuzzle.dto.PuzzleResponse;
+import com.hakno.WordPuzzle.repository.StdWordRepository;
+import com.hakno.WordPuzzle.util.GridConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Lexicon 테스트")
+class LexiconTest {
+
+    @Mock
+    private StdWordRepository stdWordRepository;
+
+    @Nested
+    @DisplayName("인덱스 조회 테스트")
+    class IndexTests {
+
+        @Test
+        @DisplayName("음절/위치/길이로 단어 조회")
+        void postings_returnsWordsWithSyllableAtPosition() {
+            // given
+            Lexicon lexicon = Lexicon.of(words("가나다", "나가다", "가방", "사과나무"));
+
+            // when
+            Lexicon.Postings postings = lexicon.postings('가', 0, 3);
+
+            // then
+            assertThat(postings.size()).isEqualTo(1);
+            assertThat(lexicon.get(postings.ordinal(0)).word()).isEqualTo("가나다");
+            assertThat(lexicon.postings('가', 1, 3).size()).isEqualTo(1);
+            assertThat(lexicon.postings('가', 2, 3).size()).isZero();
+            assertThat(lexicon.postings('가', 5, 3).size()).isZero();
+        }
+
+        @Test
+        @DisplayName("여러 음절이 고정된 패턴으로 단어 조회")
+        void pattern_matchesAllFixedSyllables() {
+            // given
+            Lexicon lexicon = Lexicon.of(words("가나다", "가나라", "하나다", "가다나", "나가다", "가나다라"));
+            char[] pattern = {'가', '나', '\0'};
+            char[] twoFixed = {'\0', '나', '다'};
+
+            // when
+            List<LexiconWord> matches = lexicon.samplePattern(pattern, null, null, 10, new Random(1));
+
+            // then
+            assertThat(matches).extracting(LexiconWord::word).containsExactlyInAnyOrder("가나다", "가나라");
+            assertThat(lexicon.countPattern(twoFixed, null, null, 10)).isEqualTo(2);
+            assertThat(lexicon.countPattern(twoFixed, null, null, 1)).isEqualTo(1);
+            assertThat(lexicon.countPattern(new char[]{'가', '\0', '\0', '\0'}, null, null, 10)).isEqualTo(1);
+            assertThat(lexicon.countPattern(new char[]{'흙', '나', '\0'}, null, null, 10)).isZero();
+            assertThat(lexicon.samplePattern(new char[3], null, null, 10, new Random(1))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("길이로 단어 조회")
+        void withLength_returnsWordsOfLength() {
+            // given
+            Lexicon lexicon = Lexicon.of(words("가나다", "나가다", "가방", "사과나무"));
+
+            // then
+            assertThat(lexicon.withLength(2).size()).isEqualTo(1);
+            assertThat(lexicon.withLength(3).size()).isEqualTo(2);
+            assertThat(lexicon.withLength(4).size()).isEqualTo(1);
+            assertThat(lexicon.withLength(10).size()).isZero();
+        }
+
+        @Test
+        @DisplayName("빈 사전")
+        void empty_returnsNothing() {
+            // when
+            Lexicon lexicon = Lexicon.of(List.of());
+
+            // then
+            assertThat(lexicon.isEmpty()).isTrue();
+            assertThat(lexicon.postings('가', 0, 2).size()).isZero();
+            assertThat(lexicon.sampleByLength(2, 5, null, null, 10, new Random(1))).isEmpty();
+            assertThat(lexicon.sampleWithSyllable('가', 3, 3, 2, 5, null, null, 10, new Random(1))).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("무작위 추출 테스트")
+    class SamplingTests {
+
+        @Test
+        @DisplayName("길이 범위 추출 - 중복 없이 범위 내 단어만")
+        void sampleByLength_returnsDistinctWordsInRange() {
+            // given
+            Lexicon lexicon = Lexicon.of(words("가", "가나", "가나다", "가나다라", "가나다라마"));
+
+            // when
+            List<LexiconWord> result = lexicon.sampleByLength(2, 4, null, null, 10, new Random(7));
+
+            // then
+            assertThat(result).extracting(LexiconWord::word)
+                    .containsExactlyInAnyOrder("가나", "가나다", "가나다라");
+        }
+
+        @Test
+        @DisplayName("음절 포함 추출 - 앞뒤 공간에 들어가는 단어만")
+        void sampleWithSyllable_respectsSpaceAroundIntersection() {
+            // given
+            Lexicon lexicon = Lexicon.of(words("가나다", "나가다", "다나가", "가방", "사과"));
+
+            // when - 교차 음절 앞에 글자가 올 수 없음
+            List<Lexicon.Match> result = lexicon.sampleWithSyllable('가', 0, 5, 2, 5, null, null, 10, new Random(3));
+
+            // then
+            assertThat(result).extracting(m -> m.word().word())
+                    .containsExactlyInAnyOrder("가나다", "가방");
+            assertThat(result).allMatch(m -> m.position() == 0);
+        }
+
+        @Test
+        @DisplayName("음절 포함 추출 - 같은 음절이 여러 번 나오면 위치별로 반환")
+        void sampleWithSyllable_returnsEveryPosition() {
+            // given
+            Lexicon lexicon = Lexicon.of(words("가가"));
+
+            // when
+            List<Lexicon.Match> result = lexicon.sampleWithSyllable('가', 5, 5, 2, 5, null, null, 10, new Random(3));
+
+            // then
+            assertThat(result).extracting(Lexicon.Match::position).containsExactlyInAnyOrder(0, 1);
+        }
+
+        @Test
+        @DisplayName("카테고리/단어유형 필터 적용")
+        void sample_appliesFilters() {
+            // given
+            List<LexiconWord> words = new ArrayList<>();
+            words.add(new LexiconWord(1L, "가나", "뜻", "고유어", List.of("음악")));
+            words.add(new LexiconWord(2L, "가다", "뜻", "한자어", List.of("음악")));
+            words.add(new LexiconWord(3L, "가라", "뜻", "고유어", List.of("미술")));
+            Lexicon lexicon = Lexicon.of(words);
+
+            // then
+            assertThat(lexicon.sampleByLength(2, 2, "음악", null, 10, new Random(1)))
+                    .extracting(LexiconWord::word).containsExactlyInAnyOrder("가나", "가다");
+            assertThat(lexicon.sampleWithSyllable('가', 0, 5, 2, 5, "음악", "고유어", 10, new Random(1)))
+                    .extracting(m -> m.word().word()).containsExactly("가나");
+        }
+
+        @Test
+        @DisplayName("limit 이하로 추출하며 모든 단어가 선택될 수 있음")
+        void sample_respectsLimitAndCoversAll() {
+            // given
+            List<String> strings = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                strings.add("가" + (char) ('나' + i));
+            }
+            Lexicon lexicon = Lexicon.of(words(strings.toArray(new String[0])));
+            Random random = new Random(11);
+            Set<String> seen = new HashSet<>();
+
+            // when
+            for (int i = 0; i < 200; i++) {
+                List<Lexicon.Match> result = lexicon.sampleWithSyllable('가', 0, 5, 2, 5, null, null, 3, random);
+                assertThat(result).hasSize(3);
+                result.forEach(m -> seen.add(m.word().word()));
+            }
+
+            // then
+            assertThat(seen).hasSize(20);
+        }
+    }
+
+    @Nested
+    @DisplayName("생성기 연동 테스트")
+    class GeneratorTests {
+
+        @Test
+        @DisplayName("사전이 로딩되면 교차 검색에 DB를 사용하지 않음")
+        void generate_usesLexiconInsteadOfDb() {
+            // given
+            List<Object[]> rows = new ArrayList<>();
+            String[] strings = {"사과나무", "과자", "나비", "무지개", "자동차", "비행기", "개나리", "차표", "기차", "리본"};
+            for (int i = 0; i < strings.length; i++) {
+                rows.add(new Object[]{(long) i, strings[i], "고유어", null, strings[i] + "의 뜻풀이"});
+            }
+            when(stdWordRepository.findLexiconRows()).thenReturn(rows);
+
+            LexiconService lexiconService = new LexiconService(stdWordRepository);
+            lexiconService.refresh();
+            BacktrackingPuzzleGenerator generator = new BacktrackingPuzzleGenerator(
+                    new StdWordSampler(stdWordRepository, lexiconService), lexiconService,
+                    new PlacementValidator(), new GridConverter(), new PuzzleScorer(),
+                    GenerationMetrics.standalone());
+
+            // when
+            PuzzleResponse result = generator.generate(10, 5);
+
+            // then
+            assertThat(lexiconService.isReady()).isTrue();
+            assertThat(result.getTotalWords()).isGreaterThan(1);
+            verify(stdWordRepository, never()).findWordsContainingCharWithSenses(anyString(), anyInt(), anyInt(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("스냅샷 테스트")
+    class SnapshotTests {
+
+        @TempDir
+        Path tempDir;
+
+        @Test
+        @DisplayName("스냅샷으로 복원한 사전은 원본과 같은 단어와 인덱스를 가짐")
+        void readSnapshot_restoresWordsAndIndexes() throws IOException {
+            // given
+            List<LexiconWord> words = new ArrayList<>();
+            words.add(new LexiconWord(10L, "가나다", "첫 번째 뜻풀이", "고유어", List.of("음악", "미술")));
+            words.add(new LexiconWord(20L, "나가다", "", null, List.of()));
+            words.add(new LexiconWord(null, "사과나무", "사과가 열리는 나무", "혼종어", List.of("식물")));
+            Lexicon original = Lexicon.of(words);
+            Path path = tempDir.resolve("lexicon.snap");
+
+            // when
+            LexiconSnapshot.write(original, path);
+            Lexicon restored = LexiconSnapshot.read(path);
+
+            // then
+            assertThat(restored.size()).isEqualTo(original.size());
+            for (int i = 0; i < original.size(); i++) {
+                assertThat(restored.get(i)).isEqualTo(original.get(i));
+            }
+            assertThat(restored.postings('가', 1, 3).size()).isEqualTo(1);
+            assertThat(restored.withLength(4).size()).isEqualTo(1);
+            assertThat(restored.countPattern(new char[]{'\0', '\0', '다'}, null, null, 10)).isEqualTo(2);
+            assertThat(restored.sampleByLength(3, 3, "음악", "고유어", 10, new Random(1)))
+                    .extracting(LexiconWord::word).containsExactly("가나다");
+        }
+
+        @Test
+        @DisplayName("복원한 사전의 뜻풀이는 스냅샷 파일을 새로 써도 그대로 읽힘")
+        void readSnapshot_definitionsSurviveFileReplacement() throws IOException {
+            // given
+            Path path = tempDir.resolve("lexicon.snap");
+            LexiconSnapshot.write(Lexicon.of(words("가나다", "나가다")), path);
+            Lexicon restored = LexiconSnapshot.read(path);
+
+            // when - refresh()처럼 같은 경로에 다른 사전을 씀
+            LexiconSnapshot.write(Lexicon.of(words("사과나무")), path);
+
+            // then
+            assertThat(restored.get(0).definition()).isEqualTo("가나다의 뜻풀이");
+            assertThat(restored.get(1).definition()).isEqualTo("나가다의 뜻풀이");
+        }
+
+        @Test
+        @DisplayName("빈 사전도 저장/복원 가능")
+        void readSnapshot_emptyLexicon() throws IOException {
+            // given
+            Path path = tempDir.resolve("empty.snap");
+
+            // when
+            LexiconSnapshot.write(Lexicon.EMPTY, path);
+
+            // then
+            assertThat(LexiconSnapshot.read(path).isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("스냅샷 형식이 아니거나 잘린 파일은 IOException")
+        void readSnapshot_invalidFile_throwsIOException() throws IOException {
+            // given
+            Path notSnapshot = Files.write(tempDir.resolve("words.txt"), "가나다".getBytes());
+            Path truncated = tempDir.resolve("truncated.snap");
+            LexiconSnapshot.write(Lexicon.of(words("가나다", "나가다")), truncated);
+            byte[] bytes = Files.readAllBytes(truncated);
+            Files.write(truncated, Arrays.copyOf(bytes, bytes.length / 2));
+
+            // when & then
+            assertThatThrownBy(() -> LexiconSnapshot.read(notSnapshot)).isInstanceOf(IOException.class);
+            assertThatThrownBy(() -> LexiconSnapshot.read(truncated)).isInstanceOf(IOException.class);
+        }
+
+        @Test
+        @DisplayName("스냅샷이 있으면 DB 없이 사전을 로딩하고 DB 지문이 같으면 시작 시 DB 로딩을 생략")
+        void loadSnapshot_skipsDatabase() throws IOException {
+            // given - 단어 ID 0~2
+            Path path = tempDir.resolve("lexicon.snap");
+            LexiconSnapshot.write(Lexicon.of(words("사과나무", "과자", "나비")), path);
+            when(stdWordRepository.findLexiconFingerprint()).thenReturn(List.<Object[]>of(new Object[]{3L, 2L}));
+            LexiconService lexiconService = new LexiconService(stdWordRepository);
+            ReflectionTestUtils.setField(lexiconService, "snapshotPath", path.toString());
+
+            // when
+            lexiconService.loadSnapshot();
+            lexiconService.loadOnStartup();
+
+            // then
+            assertThat(lexiconService.isReady()).isTrue();
+            assertThat(lexiconService.current().size()).isEqualTo(3);
+            verify(stdWordRepository, never()).findLexiconRows();
+        }
+
+        @Test
+        @DisplayName("스냅샷을 만든 뒤 DB에 단어가 추가되었으면 시작 시 DB에서 다시 로딩")
+        void loadOnStartup_staleSnapshot_reloadsFromDatabase() throws IOException {
+            // given - 스냅샷은 단어 3개(최대 ID 2), DB는 4개(최대 ID 3)
+            Path path = tempDir.resolve("lexicon.snap");
+            LexiconSnapshot.write(Lexicon.of(words("사과나무", "과자", "나비")), path);
+            when(stdWordRepository.findLexiconFingerprint()).thenReturn(List.<Object[]>of(new Object[]{4L, 3L}));
+            List<Object[]> rows = new ArrayList<>();
+            String[] strings = {"사과나무", "과자", "나비", "기차"};
+            for (int i = 0; i < strings.length; i++) {
+                rows.add(new Object[]{(long) i, strings[i], null, null, strings[i] + "의 뜻풀이"});
+            }
+            when(stdWordRepository.findLexiconRows()).thenReturn(rows);
+            LexiconService lexiconService = new LexiconService(stdWordRepository);
+            ReflectionTestUtils.setField(lexiconService, "snapshotPath", path.toString());
+            lexiconService.loadSnapshot();
+
+            // when
+            lexiconService.loadOnStartup();
+
+            // then - 새로 만든 사전과 DB 지문으로 스냅샷도 갱신
+            assertThat(lexiconService.current().size()).isEqualTo(4);
+            assertThat(LexiconSnapshot.readFingerprint(path)).isEqualTo(new LexiconSnapshot.Fingerprint(4, 3));
+            assertThat(LexiconSnapshot.read(path).size()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("DB에서 사전을 다시 만들면 스냅샷도 갱신")
+        void refresh_writesSnapshot() throws IOException {
+            // given
+            Path path = tempDir.resolve("nested/lexicon.snap");
+            List<Object[]> rows = new ArrayList<>();
+            rows.add(new Object[]{1L, "과자", "고유어", "음식", "과자의 뜻풀이"});
+            rows.add(new Object[]{2L, "나비", "고유어", null, "나비의 뜻풀이"});
+            when(stdWordRepository.findLexiconRows()).thenReturn(rows);
+            LexiconService lexiconService = new LexiconService(stdWordRepository);
+            ReflectionTestUtils.setField(lexiconService, "snapshotPath", path.toString());
+
+            // when
+            lexiconService.refresh();
+
+            // then
+            Lexicon restored = LexiconSnapshot.read(path);
+            assertThat(restored.size()).isEqualTo(2);
+            assertThat(restored.get(0)).isEqualTo(lexiconService.current().get(0));
+            assertThat(restored.get(0).categories()).containsExactly("음식");
+        }
+    }
+
+    // ============== 헬퍼 메서드 ==============
+
+    private List<LexiconWord> words(String... strings) {
+        List<LexiconWord> words = new ArrayList<>();
+        for (int i = 0; i < strings.length; i++) {
+            words.add(new LexiconWord((long) i, strings[i], strings[i] + "의 뜻풀이", null, List.of()));
+        }
+        return words;
+    }
+}
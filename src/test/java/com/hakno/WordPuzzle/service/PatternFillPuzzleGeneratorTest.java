@@ -0,0 +1,178 @@
+package com.hakno.WordPuzzle.service;
+
+import com.hakno.WordPuzzle.dto.PuzzleCell;
+import com.hakno.WordPuzzle.dto.PuzzleResponse;
+import com.hakno.WordPuzzle.dto.PuzzleWord;
+import com.hakno.WordPuzzle.repository.StdWordRepository;
+import com.hakno.WordPuzzle.util.GridConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PatternFillPuzzleGenerator 테스트")
+class PatternFillPuzzleGeneratorTest {
+
+    private static final String[] WORDS = {"사과나무", "과자", "나비", "무지개", "자동차", "비행기", "개나리", "차표", "기차", "리본",
+            "사자", "자전거", "거미", "미나리", "리어카", "카메라", "라디오", "오리", "리듬", "표지판",
+            "나라", "라면", "면도기", "기러기", "기린", "비누", "누나", "나무꾼", "무지", "지도"};
+
+    @Mock
+    private StdWordRepository stdWordRepository;
+
+    private LexiconService lexiconService;
+    private PatternFillPuzzleGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        lexiconService = new LexiconService(stdWordRepository);
+        generator = new PatternFillPuzzleGenerator(lexiconService, new PlacementValidator(),
+                new GridConverter(), new PuzzleScorer());
+    }
+
+    @Nested
+    @DisplayName("기본 생성 테스트")
+    class BasicGenerationTests {
+
+        @Test
+        @DisplayName("메모리 사전이 없으면 예외 발생")
+        void generate_noLexicon_throwsException() {
+            assertThatThrownBy(() -> generator.generate(10, 5))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("메모리 사전");
+        }
+
+        @Test
+        @DisplayName("배치 규칙을 지키며 목표 단어 수까지 채움")
+        void generate_fillsToTargetWithValidPlacements() {
+            // given
+            loadLexicon();
+
+            for (long seed = 0; seed < 10; seed++) {
+                // when
+                PuzzleResponse puzzle = generator.generate(12, 10, null, null, 3000, seed);
+
+                // then
+                assertThat(validate(puzzle, 12)).as("seed %d", seed).isEmpty();
+                assertThat(puzzle.getTotalWords()).as("seed %d", seed).isGreaterThanOrEqualTo(10);
+                assertThat(puzzle.getGridSize()).isEqualTo(12);
+            }
+        }
+
+        @Test
+        @DisplayName("필터에 맞는 단어가 없으면 예외 발생")
+        void generate_noMatchingWords_throwsException() {
+            // given
+            loadLexicon();
+
+            // when & then
+            assertThatThrownBy(() -> generator.generate(12, 10, "의학", null, 1000, 1L))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("조건에 맞는 단어가 없습니다");
+        }
+    }
+
+    @Nested
+    @DisplayName("시드 테스트")
+    class SeedTests {
+
+        @Test
+        @DisplayName("같은 시드는 같은 퍼즐을 생성")
+        void generate_sameSeed_samePuzzle() {
+            // given
+            loadLexicon();
+
+            // when
+            PuzzleResponse first = generator.generate(12, 8, null, null, 5000, 42L);
+            PuzzleResponse second = generator.generate(12, 8, null, null, 5000, 42L);
+
+            // then
+            assertThat(first.getSeed()).isEqualTo(42L);
+            assertThat(second.getAcrossWords()).usingRecursiveFieldByFieldElementComparator()
+                    .isEqualTo(first.getAcrossWords());
+            assertThat(second.getDownWords()).usingRecursiveFieldByFieldElementComparator()
+                    .isEqualTo(first.getDownWords());
+        }
+    }
+
+    // ============== 헬퍼 메서드 ==============
+
+    private void loadLexicon() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < WORDS.length; i++) {
+            rows.add(new Object[]{(long) i, WORDS[i], "고유어", null, WORDS[i] + "의 뜻풀이"});
+        }
+        when(stdWordRepository.findLexiconRows()).thenReturn(rows);
+        lexiconService.refresh();
+    }
+
+    /**
+     * 단어가 그리드 글자와 일치하는지, 중복 단어가 없는지,
+     * 그리드의 가로/세로로 이어진 모든 글자 묶음(2글자 이상)이 배치된 단어인지 확인
+     */
+    private List<String> validate(PuzzleResponse puzzle, int gridSize) {
+        List<String> problems = new ArrayList<>();
+        List<PuzzleWord> words = new ArrayList<>(puzzle.getAcrossWords());
+        words.addAll(puzzle.getDownWords());
+        if (words.stream().map(PuzzleWord::getWord).distinct().count() != words.size()) {
+            problems.add("중복 단어: " + words);
+        }
+
+        Set<String> placed = new HashSet<>();
+        for (PuzzleWord word : words) {
+            boolean across = word.getDirection() == PuzzleWord.Direction.ACROSS;
+            placed.add(word.getStartRow() + "," + word.getStartCol() + "," + across + "," + word.getWord());
+            for (int i = 0; i < word.getWord().length(); i++) {
+                int row = word.getStartRow() + (across ? 0 : i);
+                int col = word.getStartCol() + (across ? i : 0);
+                if (!String.valueOf(word.getWord().charAt(i)).equals(letter(puzzle, row, col))) {
+                    problems.add("그리드와 다른 단어: " + word.getWord() + " @" + row + "," + col);
+                    break;
+                }
+            }
+        }
+
+        for (boolean across : new boolean[]{true, false}) {
+            for (int line = 0; line < gridSize; line++) {
+                int pos = 0;
+                while (pos < gridSize) {
+                    int row = across ? line : pos;
+                    int col = across ? pos : line;
+                    if (letter(puzzle, row, col) == null) {
+                        pos++;
+                        continue;
+                    }
+                    StringBuilder run = new StringBuilder();
+                    int startPos = pos;
+                    while (pos < gridSize && letter(puzzle, across ? line : pos, across ? pos : line) != null) {
+                        run.append(letter(puzzle, across ? line : pos, across ? pos : line));
+                        pos++;
+                    }
+                    if (run.length() >= 2 && !placed.contains((across ? line : startPos) + "," + (across ? startPos : line)
+                            + "," + across + "," + run)) {
+                        problems.add("배치되지 않은 글자 묶음: " + run + " @" + row + "," + col);
+                    }
+                }
+            }
+        }
+        return problems;
+    }
+
+    private static String letter(PuzzleResponse puzzle, int row, int col) {
+        PuzzleCell cell = puzzle.getGrid().get(row).get(col);
+        return cell.getLetter();
+    }
+}
@@ -0,0 +1,184 @@
+package com.hakno.WordPuzzle.service;
+
+import com.hakno.WordPuzzle.dto.PuzzleResponse;
+import com.hakno.WordPuzzle.dto.PuzzleWord;
+import com.hakno.WordPuzzle.util.GridConverter;
+import com.hakno.WordPuzzle.util.GridState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("PuzzleScoreState 테스트")
+class PuzzleScoreStateTest {
+
+    private PuzzleScorer scorer;
+    private PlacementValidator validator;
+    private GridConverter gridConverter;
+
+    @BeforeEach
+    void setUp() {
+        scorer = new PuzzleScorer();
+        validator = new PlacementValidator();
+        gridConverter = new GridConverter();
+    }
+
+    @Nested
+    @DisplayName("점수 요소 테스트")
+    class ComponentTests {
+
+        @Test
+        @DisplayName("교차하는 두 단어")
+        void twoWords_oneIntersection() {
+            // given
+            PuzzleScoreState state = new PuzzleScoreState(10);
+
+            // when
+            state.place("가나다", "뜻", 5, 3, PuzzleWord.Direction.ACROSS);
+            state.place("나무", "뜻", 5, 4, PuzzleWord.Direction.DOWN);
+
+            // then
+            assertThat(state.intersectionCount()).isEqualTo(1);
+            assertThat(state.density()).isCloseTo(4.0 / 6.0, within(0.001));
+            assertThat(state.connectivity()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("분리된 단어는 연결성이 낮음")
+        void separateWords_lowConnectivity() {
+            // given
+            PuzzleScoreState state = new PuzzleScoreState(10);
+
+            // when
+            state.place("가나다", "뜻", 1, 1, PuzzleWord.Direction.ACROSS);
+            state.place("라마", "뜻", 7, 7, PuzzleWord.Direction.ACROSS);
+
+            // then
+            assertThat(state.intersectionCount()).isZero();
+            assertThat(state.connectivity()).isEqualTo(0.5);
+        }
+
+        @Test
+        @DisplayName("되돌리면 이전 점수로 복원")
+        void undo_restoresScore() {
+            // given
+            PuzzleScoreState state = new PuzzleScoreState(10);
+            state.place("가나다", "뜻", 5, 3, PuzzleWord.Direction.ACROSS);
+            state.place("나무", "뜻", 5, 4, PuzzleWord.Direction.DOWN);
+            double before = scorer.calculateScore(state);
+
+            // when
+            state.place("다리", "뜻", 5, 5, PuzzleWord.Direction.DOWN);
+            state.undo();
+
+            // then
+            assertThat(scorer.calculateScore(state)).isEqualTo(before);
+            assertThat(state.intersectionCount()).isEqualTo(1);
+            assertThat(state.wordCount()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("전체 계산과 일치 테스트")
+    class ConsistencyTests {
+
+        @Test
+        @DisplayName("무작위 배치/되돌리기 중 항상 PuzzleResponse 기반 점수와 같음")
+        void randomPlacements_matchFullScore() {
+            String[] words = {"가나", "나다", "가다라", "다라가", "라나가다", "나가", "다가나라", "가라"};
+
+            for (int gridSize : new int[]{7, 10, 15}) {
+                Random random = new Random(gridSize);
+                PuzzleScoreState state = new PuzzleScoreState(gridSize);
+                state.place("가나다", "뜻", gridSize / 2, 1, PuzzleWord.Direction.ACROSS);
+
+                for (int step = 0; step < 400; step++) {
+                    if (state.wordCount() > 1 && random.nextInt(4) == 0) {
+                        state.undo();
+                    } else {
+                        tryPlaceRandom(state, words, random);
+                    }
+
+                    PuzzleResponse response = buildCenteredResponse(state.grid());
+                    PuzzleScorer.PuzzleScore expected = scorer.calculateDetailedScore(response);
+                    PuzzleScorer.PuzzleScore actual = scorer.calculateDetailedScore(state);
+
+                    assertThat(actual.getIntersectionCount()).isEqualTo(expected.getIntersectionCount());
+                    assertThat(actual.getDensity()).isCloseTo(expected.getDensity(), within(1e-9));
+                    assertThat(actual.getBalance()).isCloseTo(expected.getBalance(), within(1e-9));
+                    assertThat(actual.getConnectivity()).isCloseTo(expected.getConnectivity(), within(1e-9));
+                    assertThat(scorer.calculateScore(state)).isCloseTo(expected.getTotalScore(), within(1e-9));
+                }
+            }
+        }
+    }
+
+    // ============== 헬퍼 메서드 ==============
+
+    private void tryPlaceRandom(PuzzleScoreState state, String[] words, Random random) {
+        GridState grid = state.grid();
+        for (int attempt = 0; attempt < 200; attempt++) {
+            String word = words[random.nextInt(words.length)];
+            int row = random.nextInt(grid.size());
+            int col = random.nextInt(grid.size());
+            PuzzleWord.Direction direction = random.nextBoolean()
+                    ? PuzzleWord.Direction.ACROSS : PuzzleWord.Direction.DOWN;
+            if (!grid.containsWord(word) && validator.canPlaceWord(grid, word, row, col, direction)) {
+                state.place(word, "뜻", row, col, direction);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 생성기와 같은 방식(중앙 정렬 후 변환)으로 PuzzleResponse 생성
+     */
+    private PuzzleResponse buildCenteredResponse(GridState state) {
+        int size = state.size();
+        int minRow = size, maxRow = -1, minCol = size, maxCol = -1;
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                if (state.isFilled(row, col)) {
+                    minRow = Math.min(minRow, row);
+                    maxRow = Math.max(maxRow, row);
+                    minCol = Math.min(minCol, col);
+                    maxCol = Math.max(maxCol, col);
+                }
+            }
+        }
+        int rowOffset = (size - (maxRow - minRow + 1)) / 2 - minRow;
+        int colOffset = (size - (maxCol - minCol + 1)) / 2 - minCol;
+
+        char[][] grid = new char[size][size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                if (state.isFilled(row, col)) {
+                    grid[row + rowOffset][col + colOffset] = state.get(row, col);
+                }
+            }
+        }
+
+        List<PuzzleWord> across = new ArrayList<>();
+        List<PuzzleWord> down = new ArrayList<>();
+        for (PuzzleWord pw : state.toPuzzleWords()) {
+            pw.setStartRow(pw.getStartRow() + rowOffset);
+            pw.setStartCol(pw.getStartCol() + colOffset);
+            (pw.getDirection() == PuzzleWord.Direction.ACROSS ? across : down).add(pw);
+        }
+
+        return PuzzleResponse.builder()
+                .gridSize(size)
+                .grid(gridConverter.convertToCellGrid(grid, across, down, size))
+                .acrossWords(across)
+                .downWords(down)
+                .totalWords(state.wordCount())
+                .build();
+    }
+}
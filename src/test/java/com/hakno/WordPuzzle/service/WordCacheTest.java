@@ -13,10 +13,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -97,6 +101,72 @@ class WordCacheTest {
         }
     }
 
+    @Nested
+    @DisplayName("캐시 히트 테스트")
+    class CacheHitTests {
+
+        @BeforeEach
+        void loadCache() {
+            // 길이별 조회마다 해당 길이 단어만 반환 (ID는 전체에서 고유)
+            List<String> strings = List.of("가나", "나가", "다라", "가나다", "가가호", "마바사", "가나다라", "사과나무");
+            when(stdWordRepository.findRandomWordsWithSenses(anyInt(), anyInt(), any(PageRequest.class)))
+                    .thenAnswer(invocation -> {
+                        int length = invocation.getArgument(0);
+                        List<String> ofLength = strings.stream().filter(w -> w.length() == length).toList();
+                        return createMockWords(ofLength, length * 100L);
+                    });
+            wordCache.forceInitialize();
+        }
+
+        @Test
+        @DisplayName("통계에 로딩한 단어/글자/길이 수 반영")
+        void forceInitialize_buildsIndex() {
+            // when
+            WordCache.CacheStats stats = wordCache.getStats();
+
+            // then
+            assertThat(stats.wordCount()).isEqualTo(8);
+            assertThat(stats.lengthIndexCount()).isEqualTo(3);
+            assertThat(stats.charIndexCount()).isEqualTo(10);
+            assertThat(stats.initialized()).isTrue();
+        }
+
+        @Test
+        @DisplayName("글자로 단어 조회 - 길이 범위 안의 단어만 DB 조회 없이 반환")
+        void getWordsContainingChar_cacheHit_returnsWordsInLengthRange() {
+            // when
+            List<StdWord> result = wordCache.getWordsContainingChar('가', 3, 4, 10);
+
+            // then
+            assertThat(result).extracting(StdWord::getWord)
+                    .containsExactlyInAnyOrder("가나다", "가가호", "가나다라");
+            assertThat(wordCache.getWordsContainingChar('가', 2, 2, 10)).extracting(StdWord::getWord)
+                    .containsExactlyInAnyOrder("가나", "나가");
+            assertThat(wordCache.getWordsContainingChar('가', 2, 4, 2)).hasSize(2);
+            assertThat(wordCache.getWordsContainingChar('호', 4, 7, 10)).isEmpty();
+            verify(stdWordRepository, never()).findWordsContainingCharWithSenses(anyString(), anyInt(), anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("길이로 랜덤 단어 조회 - 범위 안의 단어를 중복 없이 limit개까지")
+        void getRandomWordsByLength_cacheHit_returnsDistinctWords() {
+            // given
+            Set<String> seen = new HashSet<>();
+
+            // when
+            for (int i = 0; i < 100; i++) {
+                List<StdWord> result = wordCache.getRandomWordsByLength(3, 4, 2);
+                assertThat(result).hasSize(2);
+                assertThat(result).extracting(StdWord::getWord).doesNotHaveDuplicates();
+                result.forEach(w -> seen.add(w.getWord()));
+            }
+
+            // then
+            assertThat(seen).containsExactlyInAnyOrder("가나다", "가가호", "마바사", "가나다라", "사과나무");
+            assertThat(wordCache.getRandomWordsByLength(2, 7, 100)).hasSize(8);
+        }
+    }
+
     @Nested
     @DisplayName("캐시 통계 테스트")
     class StatsTests {
@@ -118,8 +188,12 @@ class WordCacheTest {
     // ============== 헬퍼 메서드 ==============
 
     private List<StdWord> createMockWords(List<String> wordStrings) {
+        return createMockWords(wordStrings, 1L);
+    }
+
+    private List<StdWord> createMockWords(List<String> wordStrings, long firstId) {
         List<StdWord> words = new ArrayList<>();
-        long id = 1L;
+        long id = firstId;
         for (String wordStr : wordStrings) {
             StdSense sense = StdSense.builder()
                     .senseCode("SENSE" + id)
@@ -0,0 +1,64 @@
+package com.hakno.WordPuzzle.unit.client;
+
+import com.hakno.WordPuzzle.client.TokenBucket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TokenBucket 단위 테스트
+ */
+class TokenBucketTest {
+
+    @Test
+    @DisplayName("모아 둔 토큰만큼은 기다리지 않고 바로 얻는다")
+    void acquireBurstWithoutWaiting() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(1, 5);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            bucket.acquire();
+        }
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(500);
+    }
+
+    @Test
+    @DisplayName("토큰이 떨어지면 여러 스레드가 공유해도 전체 호출 속도가 제한된다")
+    void limitRateAcrossThreads() throws InterruptedException {
+        // 초당 50회, 버스트 1 → 추가 10회는 최소 약 200ms
+        TokenBucket bucket = new TokenBucket(50, 1);
+        bucket.acquire();
+
+        long start = System.nanoTime();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 5; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    bucket.acquire();
+                    bucket.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(180);
+    }
+
+    @Test
+    @DisplayName("속도와 버스트 크기는 양수여야 한다")
+    void rejectInvalidArguments() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
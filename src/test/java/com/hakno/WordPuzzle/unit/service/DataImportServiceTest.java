@@ -6,24 +6,28 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.hakno.WordPuzzle.entity.Word;
 import com.hakno.WordPuzzle.repository.WordRepository;
 import com.hakno.WordPuzzle.service.DataImportService;
+import com.hakno.WordPuzzle.service.WordCandidateProvider;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 /**
@@ -36,6 +40,12 @@ class DataImportServiceTest {
     @Mock
     private WordRepository wordRepository;
 
+    @Mock
+    private WordCandidateProvider wordCandidateProvider;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @InjectMocks
     private DataImportService dataImportService;
 
@@ -53,7 +63,7 @@ class DataImportServiceTest {
         void shouldImportWordsFromValidJson() throws IOException {
             // Given
             File jsonFile = createValidJsonFile("test.json");
-            when(wordRepository.existsByWord(anyString())).thenReturn(false);
+            when(wordRepository.findAllWordTexts()).thenReturn(List.of());
             when(wordRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
 
             // When
@@ -69,14 +79,14 @@ class DataImportServiceTest {
         void shouldSkipExistingWords() throws IOException {
             // Given
             File jsonFile = createValidJsonFile("test.json");
-            when(wordRepository.existsByWord("사과")).thenReturn(true);
-            when(wordRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
+            when(wordRepository.findAllWordTexts()).thenReturn(List.of("사과"));
 
             // When
             int result = dataImportService.importFromFile(jsonFile);
 
             // Then
             assertThat(result).isZero();
+            verify(wordRepository, never()).saveAll(any());
         }
 
         @Test
@@ -101,13 +111,13 @@ class DataImportServiceTest {
         void shouldSkipNonKoreanWords() throws IOException {
             // Given
             File jsonFile = createJsonFileWithWord("apple", "명사", "초급", "사과");
-            when(wordRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
 
             // When
             int result = dataImportService.importFromFile(jsonFile);
 
             // Then
             assertThat(result).isZero();
+            verify(wordRepository, never()).saveAll(any());
         }
 
         @Test
@@ -115,13 +125,13 @@ class DataImportServiceTest {
         void shouldSkipWordsWithoutDefinition() throws IOException {
             // Given
             File jsonFile = createJsonFileWithoutDefinition("사과");
-            when(wordRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
 
             // When
             int result = dataImportService.importFromFile(jsonFile);
 
             // Then
             assertThat(result).isZero();
+            verify(wordRepository, never()).saveAll(any());
         }
 
         @Test
@@ -129,13 +139,13 @@ class DataImportServiceTest {
         void shouldSkipBlankWords() throws IOException {
             // Given
             File jsonFile = createJsonFileWithWord("", "명사", "초급", "정의");
-            when(wordRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
 
             // When
             int result = dataImportService.importFromFile(jsonFile);
 
             // Then
             assertThat(result).isZero();
+            verify(wordRepository, never()).saveAll(any());
         }
 
         @Test
@@ -143,7 +153,7 @@ class DataImportServiceTest {
         void shouldConvertVocabularyLevelNoneToNull() throws IOException {
             // Given
             File jsonFile = createJsonFileWithWord("사과", "명사", "없음", "과일의 하나");
-            when(wordRepository.existsByWord(anyString())).thenReturn(false);
+            when(wordRepository.findAllWordTexts()).thenReturn(List.of());
             when(wordRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
 
             // When
@@ -162,7 +172,7 @@ class DataImportServiceTest {
         void shouldConvertPartOfSpeechNoneToNull() throws IOException {
             // Given
             File jsonFile = createJsonFileWithWord("사과", "품사 없음", "초급", "과일의 하나");
-            when(wordRepository.existsByWord(anyString())).thenReturn(false);
+            when(wordRepository.findAllWordTexts()).thenReturn(List.of());
             when(wordRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
 
             // When
@@ -187,7 +197,7 @@ class DataImportServiceTest {
             // Given - 서로 다른 단어가 포함된 두 파일 생성
             createJsonFileWithWord("사과", "명사", "초급", "과일의 하나");
             createJsonFileWithWord("바나나", "명사", "초급", "열대 과일");
-            when(wordRepository.existsByWord(anyString())).thenReturn(false);
+            when(wordRepository.findAllWordTexts()).thenReturn(List.of());
             when(wordRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
 
             // When
@@ -205,7 +215,7 @@ class DataImportServiceTest {
             createValidJsonFile("valid.json");
             Files.writeString(tempDir.resolve("readme.txt"), "not json");
 
-            when(wordRepository.existsByWord(anyString())).thenReturn(false);
+            when(wordRepository.findAllWordTexts()).thenReturn(List.of());
             when(wordRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
 
             // When
@@ -249,7 +259,7 @@ class DataImportServiceTest {
         void shouldParseWhenFeatIsObject() throws IOException {
             // Given
             File jsonFile = createJsonFileWithObjectFeat("사과", "명사", "과일의 일종");
-            when(wordRepository.existsByWord(anyString())).thenReturn(false);
+            when(wordRepository.findAllWordTexts()).thenReturn(List.of());
             when(wordRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
 
             // When
@@ -264,7 +274,7 @@ class DataImportServiceTest {
         void shouldParseWhenFeatIsArray() throws IOException {
             // Given
             File jsonFile = createJsonFileWithArrayFeat("바나나", "명사", "열대 과일");
-            when(wordRepository.existsByWord(anyString())).thenReturn(false);
+            when(wordRepository.findAllWordTexts()).thenReturn(List.of());
             when(wordRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
 
             // When
@@ -279,7 +289,7 @@ class DataImportServiceTest {
         void shouldHandleMultipleDefinitions() throws IOException {
             // Given
             File jsonFile = createJsonFileWithMultipleDefinitions("배", List.of("과일", "선박", "신체부위"));
-            when(wordRepository.existsByWord(anyString())).thenReturn(false);
+            when(wordRepository.findAllWordTexts()).thenReturn(List.of());
             when(wordRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
 
             // When
@@ -298,7 +308,7 @@ class DataImportServiceTest {
         void shouldContinueOnParseError() throws IOException {
             // Given
             File jsonFile = createJsonFileWithMixedEntries();
-            when(wordRepository.existsByWord(anyString())).thenReturn(false);
+            when(wordRepository.findAllWordTexts()).thenReturn(List.of());
             when(wordRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
 
             // When
@@ -309,6 +319,90 @@ class DataImportServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("스트리밍 임포트 테스트")
+    class StreamingImportTest {
+
+        @Test
+        @DisplayName("엔트리가 많으면 고정 크기 배치로 나눠 저장한다")
+        void shouldSaveInFixedSizeBatches() throws IOException {
+            // Given - 1200개 단어 (배치 500개)
+            List<String> words = new ArrayList<>();
+            for (int i = 0; i < 1200; i++) {
+                words.add("가" + (char) ('가' + i));
+            }
+            File jsonFile = createJsonFileWithWords("many.json", words);
+            List<Integer> batchSizes = new ArrayList<>();
+            when(wordRepository.saveAll(any())).thenAnswer(i -> {
+                batchSizes.add(i.<List<Word>>getArgument(0).size());
+                return i.getArgument(0);
+            });
+
+            // When
+            int result = dataImportService.importFromFile(jsonFile);
+
+            // Then
+            assertThat(result).isEqualTo(1200);
+            assertThat(batchSizes).containsExactly(500, 500, 200);
+        }
+
+        @Test
+        @DisplayName("같은 파일 안의 중복 단어는 한 번만 저장한다")
+        void shouldSkipDuplicatesWithinFile() throws IOException {
+            // Given
+            File jsonFile = createJsonFileWithWords("dup.json", List.of("사과", "바다", "사과"));
+            when(wordRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
+
+            // When
+            int result = dataImportService.importFromFile(jsonFile);
+
+            // Then
+            assertThat(result).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("기존 단어 목록은 디렉토리 임포트 전체에서 한 번만 조회한다")
+        void shouldLoadExistingWordsOnce() throws IOException {
+            // Given - 두 파일에 같은 단어
+            createJsonFileWithWords("a.json", List.of("사과", "바다"));
+            createJsonFileWithWords("b.json", List.of("바다", "나무"));
+            when(wordRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
+
+            // When
+            int result = dataImportService.importFromDirectory(tempDir.toString());
+
+            // Then
+            assertThat(result).isEqualTo(3);
+            verify(wordRepository, times(1)).findAllWordTexts();
+        }
+
+        @Test
+        @DisplayName("LexicalEntry 앞의 다른 필드는 건너뛴다")
+        void shouldSkipUnrelatedFields() throws IOException {
+            // Given
+            File jsonFile = tempDir.resolve("header.json").toFile();
+            Files.writeString(jsonFile.toPath(), """
+                    {"LexicalResource": {
+                      "GlobalInformation": {"feat": [{"att": "label", "val": "한국어기초사전"}]},
+                      "Lexicon": {
+                        "feat": {"att": "language", "val": "한국어"},
+                        "LexicalEntry": [
+                          {"Lemma": {"feat": {"att": "writtenForm", "val": "사과"}},
+                           "Sense": [{"feat": {"att": "definition", "val": "과일의 하나"}}]}
+                        ]
+                      }
+                    }}
+                    """);
+            when(wordRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
+
+            // When
+            int result = dataImportService.importFromFile(jsonFile);
+
+            // Then
+            assertThat(result).isEqualTo(1);
+        }
+    }
+
     // Helper methods
     private File createValidJsonFile(String filename) throws IOException {
         return createJsonFileWithWord("사과", "명사", "초급", "과일의 하나");
@@ -487,4 +581,22 @@ class DataImportServiceTest {
         objectMapper.writeValue(jsonFile, root);
         return jsonFile;
     }
+
+    private File createJsonFileWithWords(String filename, List<String> words) throws IOException {
+        ObjectNode root = objectMapper.createObjectNode();
+        ArrayNode lexicalEntries = root.putObject("LexicalResource").putObject("Lexicon").putArray("LexicalEntry");
+        for (String word : words) {
+            ObjectNode entry = lexicalEntries.addObject();
+            ObjectNode lemmaFeat = entry.putObject("Lemma").putObject("feat");
+            lemmaFeat.put("att", "writtenForm");
+            lemmaFeat.put("val", word);
+            ObjectNode senseFeat = entry.putArray("Sense").addObject().putObject("feat");
+            senseFeat.put("att", "definition");
+            senseFeat.put("val", word + "의 뜻");
+        }
+
+        File jsonFile = tempDir.resolve(filename).toFile();
+        objectMapper.writeValue(jsonFile, root);
+        return jsonFile;
+    }
 }
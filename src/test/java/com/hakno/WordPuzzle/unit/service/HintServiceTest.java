@@ -6,7 +6,9 @@ import com.hakno.WordPuzzle.entity.StdExample;
 import com.hakno.WordPuzzle.entity.StdSense;
 import com.hakno.WordPuzzle.entity.StdWord;
 import com.hakno.WordPuzzle.entity.StdWordRelation;
+import com.hakno.WordPuzzle.repository.StdSenseRepository;
 import com.hakno.WordPuzzle.repository.StdWordRepository;
+import com.hakno.WordPuzzle.service.HintCache;
 import com.hakno.WordPuzzle.service.HintService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,12 +17,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -33,6 +42,12 @@ class HintServiceTest {
     @Mock
     private StdWordRepository stdWordRepository;
 
+    @Mock
+    private StdSenseRepository stdSenseRepository;
+
+    @Spy
+    private HintCache hintCache = new HintCache(1000);
+
     @InjectMocks
     private HintService hintService;
 
@@ -351,4 +366,115 @@ class HintServiceTest {
             assertThat(response.getValue()).isEqualTo("ㅅㄱ");
         }
     }
+
+    @Nested
+    @DisplayName("힌트 일괄 조회 테스트")
+    class BatchHintTest {
+
+        @BeforeEach
+        void setIds() {
+            ReflectionTestUtils.setField(testWord, "id", 1L);
+            ReflectionTestUtils.setField(testSense, "id", 10L);
+        }
+
+        @Test
+        @DisplayName("단어별로 요청한 타입의 힌트를 요청 순서대로 반환한다")
+        void returnHintsPerWordInRequestOrder() {
+            testSense.addExample(StdExample.builder().example("빨간 사과가 맛있다.").build());
+            when(stdWordRepository.findAllByIdWithSenses(List.of(999L, 1L))).thenReturn(List.of(testWord));
+
+            Map<Long, List<HintResponse>> hints = hintService.getHintsBatch(
+                    List.of(999L, 1L), List.of(HintType.CHOSUNG, HintType.EXAMPLE));
+
+            assertThat(hints).containsOnlyKeys(999L, 1L);
+            assertThat(hints.keySet()).containsExactly(999L, 1L);
+            assertThat(hints.get(1L)).extracting(HintResponse::getHintType)
+                    .containsExactly(HintType.CHOSUNG, HintType.EXAMPLE);
+            assertThat(hints.get(1L).get(0).getValue()).isEqualTo("ㅅㄱ");
+            assertThat(hints.get(1L).get(1).getValues()).containsExactly("빨간 사과가 맛있다.");
+            assertThat(hints.get(999L)).allSatisfy(hint -> {
+                assertThat(hint.isAvailable()).isFalse();
+                assertThat(hint.getMessage()).contains("단어를 찾을 수 없습니다");
+            });
+            verify(stdSenseRepository).findAllWithExamplesByIdIn(List.of(10L));
+            verify(stdSenseRepository, never()).findAllWithRelationsByIdIn(any());
+            verify(stdWordRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("유의어/반의어를 요청하면 관계어를 한 번에 조회한다")
+        void loadRelationsOnceForRelationHints() {
+            testSense.addRelation(StdWordRelation.builder().relationType("비슷한말").relatedWord("능금").build());
+            when(stdWordRepository.findAllByIdWithSenses(List.of(1L))).thenReturn(List.of(testWord));
+
+            Map<Long, List<HintResponse>> hints = hintService.getHintsBatch(
+                    List.of(1L), List.of(HintType.SYNONYM, HintType.ANTONYM));
+
+            assertThat(hints.get(1L).get(0).getValues()).containsExactly("능금");
+            assertThat(hints.get(1L).get(1).isAvailable()).isFalse();
+            verify(stdSenseRepository).findAllWithRelationsByIdIn(List.of(10L));
+            verify(stdSenseRepository, never()).findAllWithExamplesByIdIn(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("힌트 캐시 테스트")
+    class HintCacheTest {
+
+        @BeforeEach
+        void setIds() {
+            ReflectionTestUtils.setField(testWord, "id", 1L);
+            ReflectionTestUtils.setField(testSense, "id", 10L);
+        }
+
+        @Test
+        @DisplayName("같은 단어와 타입을 다시 조회하면 DB를 읽지 않는다")
+        void returnCachedHintOnSecondCall() {
+            when(stdWordRepository.findById(1L)).thenReturn(Optional.of(testWord));
+
+            HintResponse first = hintService.getHint(1L, HintType.CHOSUNG);
+            HintResponse second = hintService.getHint(1L, HintType.CHOSUNG);
+
+            assertThat(second.getValue()).isEqualTo(first.getValue()).isEqualTo("ㅅㄱ");
+            assertThat(second.getHintTypeName()).isEqualTo(HintType.CHOSUNG.getDisplayName());
+            verify(stdWordRepository, times(1)).findById(1L);
+        }
+
+        @Test
+        @DisplayName("없는 단어 응답은 캐싱하지 않는다")
+        void doNotCacheMissingWord() {
+            when(stdWordRepository.findById(999L)).thenReturn(Optional.empty());
+
+            hintService.getHint(999L, HintType.CHOSUNG);
+            hintService.getHint(999L, HintType.CHOSUNG);
+
+            verify(stdWordRepository, times(2)).findById(999L);
+        }
+
+        @Test
+        @DisplayName("일괄 조회는 캐시에 없는 단어만 DB에서 읽는다")
+        void batchLoadsOnlyUncachedWords() {
+            when(stdWordRepository.findById(1L)).thenReturn(Optional.of(testWord));
+            hintService.getAllHints(1L);
+
+            Map<Long, List<HintResponse>> hints = hintService.getHintsBatch(
+                    List.of(1L), List.of(HintType.CHOSUNG, HintType.POS));
+
+            assertThat(hints.get(1L)).extracting(HintResponse::getHintType)
+                    .containsExactly(HintType.CHOSUNG, HintType.POS);
+            verify(stdWordRepository, never()).findAllByIdWithSenses(any());
+        }
+
+        @Test
+        @DisplayName("단어를 무효화하면 다시 DB에서 읽는다")
+        void reloadAfterInvalidation() {
+            when(stdWordRepository.findById(1L)).thenReturn(Optional.of(testWord));
+            hintService.getHint(1L, HintType.CHOSUNG);
+
+            hintCache.invalidateWord(1L);
+            hintService.getHint(1L, HintType.CHOSUNG);
+
+            verify(stdWordRepository, times(2)).findById(1L);
+        }
+    }
 }
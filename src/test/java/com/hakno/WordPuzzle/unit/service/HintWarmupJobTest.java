@@ -0,0 +1,83 @@
+package com.hakno.WordPuzzle.unit.service;
+
+import com.hakno.WordPuzzle.dto.HintType;
+import com.hakno.WordPuzzle.dto.PuzzleWord;
+import com.hakno.WordPuzzle.repository.StdWordRepository;
+import com.hakno.WordPuzzle.service.HintCache;
+import com.hakno.WordPuzzle.service.HintService;
+import com.hakno.WordPuzzle.service.HintWarmupJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * HintWarmupJob / HintCache 사용 횟수 집계 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class HintWarmupJobTest {
+
+    @Mock
+    private HintService hintService;
+
+    @Mock
+    private StdWordRepository stdWordRepository;
+
+    private HintCache hintCache;
+    private HintWarmupJob warmupJob;
+
+    @BeforeEach
+    void setUp() {
+        hintCache = new HintCache(1000);
+        warmupJob = new HintWarmupJob(hintCache, hintService, stdWordRepository);
+        ReflectionTestUtils.setField(warmupJob, "topWords", 2);
+    }
+
+    private PuzzleWord word(String word) {
+        return PuzzleWord.builder().word(word).build();
+    }
+
+    @Test
+    @DisplayName("사용 횟수가 많은 단어 순으로 반환한다")
+    void mostUsedWordsInDescendingOrder() {
+        hintCache.recordUsage(List.of(word("사과"), word("바다"), word("나무")));
+        hintCache.recordUsage(List.of(word("바다"), word("나무")));
+        hintCache.recordUsage(List.of(word("바다")));
+
+        assertThat(hintCache.mostUsedWords(2)).containsExactly("바다", "나무");
+    }
+
+    @Test
+    @DisplayName("많이 쓰인 단어의 ID를 찾아 모든 타입 힌트를 미리 계산한다")
+    void warmupMostUsedWords() {
+        hintCache.recordUsage(List.of(word("사과"), word("바다"), word("나무")));
+        hintCache.recordUsage(List.of(word("바다"), word("나무")));
+        hintCache.recordUsage(List.of(word("바다")));
+        when(stdWordRepository.findIdsByWordIn(List.of("바다", "나무"))).thenReturn(List.of(1L, 2L, 3L));
+
+        int warmed = warmupJob.warmup();
+
+        assertThat(warmed).isEqualTo(3);
+        verify(hintService).getHintsBatch(List.of(1L, 2L, 3L), List.of(HintType.values()));
+    }
+
+    @Test
+    @DisplayName("생성된 퍼즐이 없으면 아무것도 조회하지 않는다")
+    void skipWhenNoUsage() {
+        assertThat(warmupJob.warmup()).isZero();
+
+        verify(stdWordRepository, never()).findIdsByWordIn(any());
+        verify(hintService, never()).getHintsBatch(any(), any());
+    }
+}
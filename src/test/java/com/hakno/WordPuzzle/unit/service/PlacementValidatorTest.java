@@ -1,7 +1,10 @@
 package com.hakno.WordPuzzle.unit.service;
 
 import com.hakno.WordPuzzle.dto.PuzzleWord;
+import com.hakno.WordPuzzle.service.GenerationMetrics;
 import com.hakno.WordPuzzle.service.PlacementValidator;
+import com.hakno.WordPuzzle.util.GridState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -693,4 +696,203 @@ class PlacementValidatorTest {
             assertThat(reason).isEqualTo("열 범위 초과");
         }
     }
+
+    @Nested
+    @DisplayName("canPlaceWord - GridState 버전")
+    class GridStatePlacementTest {
+
+        @Test
+        @DisplayName("교차점이 있는 세로 배치 가능")
+        void shouldPlaceDownWithIntersection() {
+            // Given
+            GridState state = new GridState(GRID_SIZE);
+            state.place("사과", "뜻", 7, 6, PuzzleWord.Direction.ACROSS);
+
+            // When
+            boolean result = validator.canPlaceWord(state, "과자", 7, 7, PuzzleWord.Direction.DOWN);
+
+            // Then
+            assertThat(result).isTrue();
+        }
+
+        @Test
+        @DisplayName("char[][] 버전과 같은 결과")
+        void shouldMatchCharGridVersion() {
+            // Given
+            GridState state = new GridState(GRID_SIZE);
+            state.place("가나다라", "뜻", 7, 5, PuzzleWord.Direction.ACROSS);
+            state.place("나무", "뜻", 7, 6, PuzzleWord.Direction.DOWN);
+            state.place("다리미", "뜻", 5, 7, PuzzleWord.Direction.DOWN);
+            char[][] grid = state.toCharGrid();
+            String[] words = {"가방", "무지개", "리본", "미나리", "다나가"};
+
+            // When & Then - 모든 위치/방향에서 두 버전의 판정이 일치해야 함
+            for (String word : words) {
+                for (int row = -1; row <= GRID_SIZE; row++) {
+                    for (int col = -1; col <= GRID_SIZE; col++) {
+                        for (PuzzleWord.Direction direction : PuzzleWord.Direction.values()) {
+                            assertThat(validator.canPlaceWord(state, word, row, col, direction))
+                                    .as("%s (%d,%d) %s", word, row, col, direction)
+                                    .isEqualTo(validator.canPlaceWord(grid, word, row, col, direction, GRID_SIZE));
+                        }
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("되돌린 뒤에도 char[][] 버전과 같은 결과")
+        void shouldMatchCharGridVersionAfterUndo() {
+            // Given - 가장자리에 닿는 단어를 놓았다가 일부 되돌림
+            GridState state = new GridState(GRID_SIZE);
+            state.place("가나다라", "뜻", 0, 0, PuzzleWord.Direction.ACROSS);
+            state.place("라디오", "뜻", 0, 3, PuzzleWord.Direction.DOWN);
+            state.place("오리", "뜻", 2, 3, PuzzleWord.Direction.ACROSS);
+            state.place("나비", "뜻", 0, 1, PuzzleWord.Direction.DOWN);
+            state.undo();
+            state.place("리본", "뜻", 2, 4, PuzzleWord.Direction.DOWN);
+            char[][] grid = state.toCharGrid();
+            String[] words = {"나비", "다리", "디스코", "본드", "오리", "가위", "라면"};
+
+            // When & Then
+            for (String word : words) {
+                for (int row = -1; row <= GRID_SIZE; row++) {
+                    for (int col = -1; col <= GRID_SIZE; col++) {
+                        for (PuzzleWord.Direction direction : PuzzleWord.Direction.values()) {
+                            assertThat(validator.canPlaceWord(state, word, row, col, direction))
+                                    .as("%s (%d,%d) %s", word, row, col, direction)
+                                    .isEqualTo(validator.canPlaceWord(grid, word, row, col, direction, GRID_SIZE));
+                        }
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("교차점 없이 양옆에 글자가 있으면 두 버전 모두 인접 글자로 거절")
+        void shouldClassifyAdjacentWithoutIntersection() {
+            // Given - "나비"가 놓일 8행에는 글자가 없고, '비' 위(7행 6열)에 '사'가 있음
+            GridState state = new GridState(GRID_SIZE);
+            state.place("사과", "뜻", 7, 6, PuzzleWord.Direction.ACROSS);
+            char[][] grid = state.toCharGrid();
+
+            // When & Then
+            assertThat(validator.check(state, "나비", 8, 5, PuzzleWord.Direction.ACROSS))
+                    .isEqualTo(PlacementValidator.Rejection.ADJACENT);
+            assertThat(validator.check(grid, "나비", 8, 5, PuzzleWord.Direction.ACROSS, GRID_SIZE))
+                    .isEqualTo(PlacementValidator.Rejection.ADJACENT);
+        }
+
+        @Test
+        @DisplayName("모든 위치/방향에서 char[][] 버전과 같은 거절 이유")
+        void shouldMatchCharGridRejection() {
+            // Given
+            GridState state = new GridState(GRID_SIZE);
+            state.place("가나다라", "뜻", 7, 5, PuzzleWord.Direction.ACROSS);
+            state.place("나무", "뜻", 7, 6, PuzzleWord.Direction.DOWN);
+            state.place("다리미", "뜻", 5, 7, PuzzleWord.Direction.DOWN);
+            state.place("라면", "뜻", 7, 8, PuzzleWord.Direction.DOWN);
+            char[][] grid = state.toCharGrid();
+            String[] words = {"가방", "무지개", "리본", "미나리", "다나가", "본드", "나비"};
+
+            // When & Then
+            for (String word : words) {
+                for (int row = -1; row <= GRID_SIZE; row++) {
+                    for (int col = -1; col <= GRID_SIZE; col++) {
+                        for (PuzzleWord.Direction direction : PuzzleWord.Direction.values()) {
+                            assertThat(validator.check(state, word, row, col, direction))
+                                    .as("%s (%d,%d) %s", word, row, col, direction)
+                                    .isEqualTo(validator.check(grid, word, row, col, direction, GRID_SIZE));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("check - 한 번의 검증으로 거절 이유 반환")
+    class CheckTest {
+
+        @Test
+        @DisplayName("배치 가능하면 null, 불가능하면 canPlaceWord와 같은 판정의 이유")
+        void shouldReturnRejectionMatchingCanPlaceWord() {
+            // given
+            char[][] grid = new char[GRID_SIZE][GRID_SIZE];
+            grid[7][7] = '과';
+            grid[6][8] = '가';
+
+            // when & then
+            assertThat(validator.check(grid, "사과", 7, 6, PuzzleWord.Direction.ACROSS, GRID_SIZE)).isNull();
+            assertThat(validator.check(grid, "사자", 7, 6, PuzzleWord.Direction.ACROSS, GRID_SIZE))
+                    .isEqualTo(PlacementValidator.Rejection.MISMATCH);
+            assertThat(validator.check(grid, "과자", 7, 7, PuzzleWord.Direction.ACROSS, GRID_SIZE))
+                    .isEqualTo(PlacementValidator.Rejection.ADJACENT);
+            assertThat(validator.check(grid, "사과", 3, 3, PuzzleWord.Direction.DOWN, GRID_SIZE))
+                    .isEqualTo(PlacementValidator.Rejection.NO_INTERSECTION);
+            assertThat(validator.check(grid, "사과", 7, -1, PuzzleWord.Direction.ACROSS, GRID_SIZE))
+                    .isEqualTo(PlacementValidator.Rejection.OUT_OF_BOUNDS);
+        }
+    }
+
+    @Nested
+    @DisplayName("메트릭 기록")
+    class MetricsTest {
+
+        private SimpleMeterRegistry meterRegistry;
+        private PlacementValidator instrumented;
+
+        @BeforeEach
+        void setUp() {
+            meterRegistry = new SimpleMeterRegistry();
+            instrumented = new PlacementValidator(new GenerationMetrics(meterRegistry));
+        }
+
+        private double rejected(String reason) {
+            return meterRegistry.get("puzzle.generation.placements.rejected").tag("reason", reason)
+                    .functionCounter().count();
+        }
+
+        @Test
+        @DisplayName("검증 횟수와 거절 이유별 횟수를 기록")
+        void shouldCountTriedAndRejectedByReason() {
+            // given
+            char[][] grid = new char[GRID_SIZE][GRID_SIZE];
+            grid[7][7] = '과';
+
+            // when
+            instrumented.canPlaceWord(grid, "사과", 7, 6, PuzzleWord.Direction.ACROSS, GRID_SIZE);  // 성공
+            instrumented.canPlaceWord(grid, "가나다", 7, 14, PuzzleWord.Direction.ACROSS, GRID_SIZE); // 범위 초과
+            instrumented.canPlaceWord(grid, "사자", 7, 6, PuzzleWord.Direction.ACROSS, GRID_SIZE);  // 글자 불일치
+            instrumented.canPlaceWord(grid, "나무", 3, 3, PuzzleWord.Direction.ACROSS, GRID_SIZE);  // 교차점 없음
+
+            // then
+            assertThat(meterRegistry.get("puzzle.generation.placements.tried").functionCounter().count())
+                    .isEqualTo(4);
+            assertThat(rejected("out_of_bounds")).isEqualTo(1);
+            assertThat(rejected("mismatch")).isEqualTo(1);
+            assertThat(rejected("no_intersection")).isEqualTo(1);
+            assertThat(rejected("adjacent")).isZero();
+        }
+
+        @Test
+        @DisplayName("GridState 검증도 같은 이유로 분류")
+        void shouldClassifyGridStateRejections() {
+            // given - 가로 "사과"와 '과'에서 교차하는 세로 "과자"
+            GridState state = new GridState(GRID_SIZE);
+            state.place("사과", "", 7, 6, PuzzleWord.Direction.ACROSS);
+            state.place("과자", "", 7, 7, PuzzleWord.Direction.DOWN);
+
+            // when
+            instrumented.canPlaceWord(state, "자두", 8, 7, PuzzleWord.Direction.ACROSS); // 성공
+            instrumented.canPlaceWord(state, "사과", 7, 4, PuzzleWord.Direction.ACROSS); // 뒤에 글자 있음
+            instrumented.canPlaceWord(state, "두자", 8, 6, PuzzleWord.Direction.ACROSS); // '두' 위에 인접 글자
+
+            // then
+            assertThat(meterRegistry.get("puzzle.generation.placements.tried").functionCounter().count())
+                    .isEqualTo(3);
+            assertThat(rejected("blocked_end")).isEqualTo(1);
+            assertThat(rejected("adjacent")).isEqualTo(1);
+        }
+    }
 }
@@ -0,0 +1,203 @@
+package com.hakno.WordPuzzle.unit.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hakno.WordPuzzle.dto.GridFormat;
+import com.hakno.WordPuzzle.dto.PuzzleBatchRequest;
+import com.hakno.WordPuzzle.dto.PuzzleBatchRequest.Spec;
+import com.hakno.WordPuzzle.dto.PuzzleBatchSummary;
+import com.hakno.WordPuzzle.dto.PuzzleResponse;
+import com.hakno.WordPuzzle.service.PuzzleBatchService;
+import com.hakno.WordPuzzle.service.PuzzleGeneratorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PuzzleBatchService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class PuzzleBatchServiceTest {
+
+    @Mock
+    private PuzzleGeneratorService puzzleGeneratorService;
+
+    private PuzzleBatchService service;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger generated = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        service = new PuzzleBatchService(puzzleGeneratorService, JsonMapper.builder().build());
+        ReflectionTestUtils.setField(service, "parallelism", 2);
+        ReflectionTestUtils.setField(service, "maxBatchSize", 100);
+
+        lenient().when(puzzleGeneratorService.generatePuzzle(any(), anyInt(), any(), any(), any(), any(), any(), any()))
+                .thenAnswer(inv -> PuzzleResponse.builder()
+                        .gridSize(inv.getArgument(0) != null ? inv.<Integer>getArgument(0) : 10)
+                        .totalWords(generated.incrementAndGet())
+                        .seed(inv.getArgument(6))
+                        .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    private List<JsonNode> lines(ByteArrayOutputStream out) throws IOException {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    @Nested
+    @DisplayName("스트리밍 생성")
+    class GenerateTest {
+
+        @Test
+        @DisplayName("퍼즐마다 한 줄씩 쓰고 마지막 줄에 요약을 쓴다")
+        void shouldWriteOneLinePerPuzzleAndSummary() throws IOException {
+            // given
+            List<Spec> specs = PuzzleBatchRequest.builder().count(7).gridSize(12).wordCount(5).build().toSpecs();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            PuzzleBatchSummary summary = service.generate(specs, GridFormat.CELLS, out);
+
+            // then
+            List<JsonNode> lines = lines(out);
+            assertThat(lines).hasSize(8);
+            assertThat(lines.subList(0, 7)).allSatisfy(line ->
+                    assertThat(line.get("puzzle").get("gridSize").asInt()).isEqualTo(12));
+            assertThat(lines.subList(0, 7)).extracting(line -> line.get("index").asInt())
+                    .containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6);
+            assertThat(lines.get(7).get("summary").get("generated").asInt()).isEqualTo(7);
+            assertThat(summary.getRequested()).isEqualTo(7);
+            assertThat(summary.getFailed()).isZero();
+            assertThat(summary.isCancelled()).isFalse();
+        }
+
+        @Test
+        @DisplayName("기준 시드가 있으면 i번째 퍼즐은 seed + i로 생성")
+        void shouldOffsetSeedPerPuzzle() throws IOException {
+            // given
+            List<Spec> specs = PuzzleBatchRequest.builder().count(3).wordCount(5).seed(100L).build().toSpecs();
+
+            // when
+            service.generate(specs, GridFormat.CELLS, new ByteArrayOutputStream());
+
+            // then
+            for (long seed = 100; seed < 103; seed++) {
+                verify(puzzleGeneratorService).generatePuzzle(isNull(), eq(5), isNull(), eq("default"),
+                        isNull(), isNull(), eq(seed), eq(GridFormat.CELLS));
+            }
+        }
+
+        @Test
+        @DisplayName("요청한 그리드 형식으로 생성한다 (COMPACT면 셀 그리드를 만들지 않음)")
+        void shouldGenerateInRequestedFormat() throws IOException {
+            // given
+            List<Spec> specs = PuzzleBatchRequest.builder().count(2).wordCount(5).build().toSpecs();
+
+            // when
+            service.generate(specs, GridFormat.COMPACT, new ByteArrayOutputStream());
+
+            // then
+            verify(puzzleGeneratorService, times(2)).generatePuzzle(isNull(), eq(5), isNull(), eq("default"),
+                    isNull(), isNull(), isNull(), eq(GridFormat.COMPACT));
+        }
+
+        @Test
+        @DisplayName("퍼즐 줄의 index로 어느 조건의 퍼즐인지 알 수 있다")
+        void shouldTagPuzzleLinesWithSpecIndex() throws IOException {
+            // given - 조건마다 그리드 크기가 다름
+            List<Spec> specs = List.of(
+                    Spec.builder().gridSize(10).wordCount(5).build(),
+                    Spec.builder().gridSize(15).wordCount(5).build(),
+                    Spec.builder().gridSize(20).wordCount(5).build(),
+                    Spec.builder().gridSize(12).wordCount(5).build());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            service.generate(specs, GridFormat.CELLS, out);
+
+            // then
+            List<JsonNode> puzzles = lines(out).stream().filter(line -> line.has("puzzle")).toList();
+            assertThat(puzzles).hasSize(4);
+            assertThat(puzzles).allSatisfy(line -> assertThat(line.get("puzzle").get("gridSize").asInt())
+                    .isEqualTo(specs.get(line.get("index").asInt()).getGridSize()));
+        }
+
+        @Test
+        @DisplayName("실패한 퍼즐은 에러 줄로 기록하고 나머지는 계속 생성")
+        void shouldRecordFailuresAndContinue() throws IOException {
+            // given
+            when(puzzleGeneratorService.generatePuzzle(any(), eq(3), any(), any(), any(), any(), any(), any()))
+                    .thenThrow(new IllegalStateException("단어 데이터가 없습니다."));
+            List<Spec> specs = List.of(
+                    Spec.builder().wordCount(5).build(),
+                    Spec.builder().wordCount(3).build(),
+                    Spec.builder().wordCount(5).build());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            PuzzleBatchSummary summary = service.generate(specs, GridFormat.CELLS, out);
+
+            // then
+            List<JsonNode> lines = lines(out);
+            assertThat(lines).hasSize(4);
+            List<JsonNode> errors = lines.stream().filter(line -> line.has("error")).toList();
+            assertThat(errors).hasSize(1);
+            assertThat(errors.get(0).get("index").asInt()).isEqualTo(1);
+            assertThat(errors.get(0).get("error").asText()).isEqualTo("단어 데이터가 없습니다.");
+            assertThat(summary.getGenerated()).isEqualTo(2);
+            assertThat(summary.getFailed()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("쓰기가 실패하면 예외를 던지고 남은 퍼즐은 생성하지 않는다")
+        void shouldStopWhenWriteFails() {
+            // given - 첫 줄부터 연결이 끊긴 클라이언트
+            List<Spec> specs = PuzzleBatchRequest.builder().count(50).wordCount(5).build().toSpecs();
+            OutputStream broken = new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    throw new IOException("연결 종료");
+                }
+            };
+
+            // when & then - 배압 창(parallelism * 2)을 넘는 작업은 제출되지 않음
+            assertThatThrownBy(() -> service.generate(specs, GridFormat.CELLS, broken)).isInstanceOf(IOException.class);
+            assertThat(generated.get()).isLessThanOrEqualTo(4);
+        }
+    }
+}
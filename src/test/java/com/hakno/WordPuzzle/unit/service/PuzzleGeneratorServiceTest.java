@@ -6,8 +6,13 @@ import com.hakno.WordPuzzle.entity.Definition;
 import com.hakno.WordPuzzle.entity.Word;
 import com.hakno.WordPuzzle.repository.StdWordRepository;
 import com.hakno.WordPuzzle.repository.WordRepository;
+import com.hakno.WordPuzzle.service.GenerationMetrics;
+import com.hakno.WordPuzzle.service.HintCache;
+import com.hakno.WordPuzzle.service.LexiconService;
 import com.hakno.WordPuzzle.service.PlacementValidator;
 import com.hakno.WordPuzzle.service.PuzzleGeneratorService;
+import com.hakno.WordPuzzle.service.StdWordSampler;
+import com.hakno.WordPuzzle.service.WordCandidateProvider;
 import com.hakno.WordPuzzle.util.GridConverter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,17 +22,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -51,8 +64,12 @@ class PuzzleGeneratorServiceTest {
     void setUp() {
         placementValidator = new PlacementValidator();
         gridConverter = new GridConverter();
+        LexiconService lexiconService = new LexiconService(stdWordRepository);
         puzzleGeneratorService = new PuzzleGeneratorService(
-            wordRepository, stdWordRepository, placementValidator, gridConverter
+            wordRepository, new StdWordSampler(stdWordRepository, lexiconService), lexiconService,
+            new WordCandidateProvider(wordRepository, new StdWordSampler(stdWordRepository, lexiconService),
+                GenerationMetrics.standalone()),
+            placementValidator, gridConverter, new HintCache(1000), GenerationMetrics.standalone()
         );
     }
 
@@ -186,6 +203,94 @@ class PuzzleGeneratorServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("generatePuzzle - 시드 고정 생성")
+    class SeededGenerationTest {
+
+        private final List<Word> words = new ArrayList<>();
+
+        @BeforeEach
+        void setUpWords() {
+            String[] wordStrs = {"사과나무", "과일", "일기장", "기차", "차표", "표지판", "지도", "도시락",
+                    "시계", "계단", "나무꾼", "무지개", "개나리", "리본", "본보기", "기러기"};
+            for (int i = 0; i < wordStrs.length; i++) {
+                Word word = createWordWithDefinition(wordStrs[i], wordStrs[i] + " 뜻");
+                ReflectionTestUtils.setField(word, "id", (long) i + 1);
+                words.add(word);
+            }
+
+            when(wordRepository.findIdsByLengthAndLevel(anyInt(), anyInt(), isNull()))
+                .thenAnswer(inv -> idsWhere(w -> w.getLength() >= (int) inv.getArgument(0)
+                        && w.getLength() <= (int) inv.getArgument(1)));
+            lenient().when(wordRepository.findIdsContainingCharacterByLevel(anyString(), anyInt(), anyInt(), isNull()))
+                .thenAnswer(inv -> idsWhere(w -> w.getWord().contains((String) inv.getArgument(0))
+                        && w.getLength() <= (int) inv.getArgument(2)));
+            when(wordRepository.findAllByIdWithDefinitions(anyCollection())).thenAnswer(inv -> {
+                // IN 조회는 순서를 보장하지 않으므로 역순으로 돌려줌
+                Collection<Long> ids = inv.getArgument(0);
+                List<Word> result = new ArrayList<>(ids.stream().map(id -> words.get((int) (id - 1))).toList());
+                Collections.reverse(result);
+                return result;
+            });
+        }
+
+        private List<Long> idsWhere(Predicate<Word> condition) {
+            return words.stream().filter(condition).map(Word::getId).toList();
+        }
+
+        @Test
+        @DisplayName("같은 시드는 같은 퍼즐을 생성한다")
+        void shouldReproducePuzzleWithSameSeed() {
+            // When
+            PuzzleResponse first = puzzleGeneratorService.generatePuzzle(12, 6, null, "default", null, null, 42L);
+            PuzzleResponse second = puzzleGeneratorService.generatePuzzle(12, 6, null, "default", null, null, 42L);
+
+            // Then
+            assertThat(first.getSeed()).isEqualTo(42L);
+            assertThat(layout(second)).isEqualTo(layout(first));
+            verify(wordRepository, never()).findRandomWordsWithDefinitionsByLevel(
+                anyInt(), anyInt(), any(), any(PageRequest.class));
+        }
+
+        @Test
+        @DisplayName("시드를 바꾸면 다른 퍼즐을 생성할 수 있다")
+        void shouldVaryWithSeed() {
+            // When
+            Set<List<String>> layouts = new HashSet<>();
+            for (long seed = 1; seed <= 10; seed++) {
+                layouts.add(layout(puzzleGeneratorService.generatePuzzle(12, 6, null, "default", null, null, seed)));
+            }
+
+            // Then
+            assertThat(layouts).hasSizeGreaterThan(1);
+        }
+
+        @Test
+        @DisplayName("실패 이유 진단 모드에서도 같은 시드는 같은 퍼즐을 생성한다")
+        void shouldNotChangePuzzleWhenDiagnosing() {
+            // given
+            PuzzleResponse normal = puzzleGeneratorService.generatePuzzle(12, 6, null, "default", null, null, 7L);
+            ReflectionTestUtils.setField(puzzleGeneratorService, "diagnosticsSampleRate", 1.0);
+
+            // when
+            PuzzleResponse diagnosed = puzzleGeneratorService.generatePuzzle(12, 6, null, "default", null, null, 7L);
+
+            // then - 진단 샘플링은 생성용 난수를 소비하지 않음
+            assertThat(layout(diagnosed)).isEqualTo(layout(normal));
+        }
+
+        private List<String> layout(PuzzleResponse response) {
+            List<String> result = new ArrayList<>();
+            for (PuzzleWord pw : response.getAcrossWords()) {
+                result.add("A" + pw.getNumber() + ":" + pw.getWord() + "@" + pw.getStartRow() + "," + pw.getStartCol());
+            }
+            for (PuzzleWord pw : response.getDownWords()) {
+                result.add("D" + pw.getNumber() + ":" + pw.getWord() + "@" + pw.getStartRow() + "," + pw.getStartCol());
+            }
+            return result;
+        }
+    }
+
     @Nested
     @DisplayName("tryGeneratePuzzle - 단일 시도 테스트")
     class TryGeneratePuzzleTest {
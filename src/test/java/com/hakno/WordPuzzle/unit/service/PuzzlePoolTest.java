@@ -0,0 +1,217 @@
+package com.hakno.WordPuzzle.unit.service;
+
+import com.hakno.WordPuzzle.dto.GridFormat;
+import com.hakno.WordPuzzle.dto.PuzzleResponse;
+import com.hakno.WordPuzzle.service.DictionaryUpdatedEvent;
+import com.hakno.WordPuzzle.service.PuzzleGeneratorService;
+import com.hakno.WordPuzzle.service.PuzzlePool;
+import com.hakno.WordPuzzle.service.PuzzlePool.Profile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PuzzlePool 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class PuzzlePoolTest {
+
+    private static final int DEPTH = 3;
+
+    @Mock
+    private PuzzleGeneratorService puzzleGeneratorService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PuzzlePool pool;
+    private final AtomicInteger generated = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pool = new PuzzlePool(puzzleGeneratorService, meterRegistry);
+        ReflectionTestUtils.setField(pool, "enabled", true);
+        ReflectionTestUtils.setField(pool, "targetDepth", DEPTH);
+        ReflectionTestUtils.setField(pool, "workerCount", 2);
+        ReflectionTestUtils.setField(pool, "maxProfiles", 2);
+        ReflectionTestUtils.setField(pool, "warmProfiles", List.of());
+
+        lenient().when(puzzleGeneratorService.generatePuzzle(any(), anyInt(), any(), any(), any(), any(), any(), any()))
+                .thenAnswer(inv -> PuzzleResponse.builder()
+                        .gridSize(inv.getArgument(0))
+                        .totalWords(generated.incrementAndGet())
+                        .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Nested
+    @DisplayName("꺼내기와 채우기")
+    class PollTest {
+
+        @Test
+        @DisplayName("처음 요청은 비어 있고, 백그라운드에서 목표 수만큼 채운 뒤 바로 꺼낼 수 있다")
+        void shouldFillAfterFirstMiss() throws InterruptedException {
+            // given
+            pool.start();
+
+            // when
+            Optional<PuzzleResponse> first = pool.poll(10, 5, null, "default", null, null);
+            awaitTrue(() -> depth(Profile.of(10, 5, null, "default", null, null)) == DEPTH);
+            Optional<PuzzleResponse> second = pool.poll(10, 5, null, "default", null, null);
+
+            // then
+            assertThat(first).isEmpty();
+            assertThat(second).isPresent();
+            assertThat(second.get().getGridSize()).isEqualTo(10);
+            assertThat(pool.hitRatio()).isEqualTo(0.5);
+            assertThat(meterRegistry.get("puzzle.pool.requests").tag("result", "hit").counter().count())
+                    .isEqualTo(1.0);
+            assertThat(meterRegistry.get("puzzle.pool.refill").timer().count()).isGreaterThanOrEqualTo(DEPTH);
+
+            // 꺼낸 자리는 다시 채워짐
+            awaitTrue(() -> depth(Profile.of(10, 5, null, "default", null, null)) == DEPTH);
+            assertThat(meterRegistry.get("puzzle.pool.depth").gauge().value()).isEqualTo(DEPTH);
+        }
+
+        @Test
+        @DisplayName("보관할 퍼즐은 시드 없이 압축 그리드로 생성한다")
+        void shouldGenerateCompactPuzzles() throws InterruptedException {
+            // given
+            pool.start();
+
+            // when
+            pool.poll(10, 5, null, "default", null, null);
+            awaitTrue(() -> depth(Profile.of(10, 5, null, "default", null, null)) == DEPTH);
+
+            // then
+            verify(puzzleGeneratorService, atLeast(DEPTH)).generatePuzzle(eq(10), eq(5), isNull(), eq("default"),
+                    isNull(), isNull(), isNull(), eq(GridFormat.COMPACT));
+        }
+
+        @Test
+        @DisplayName("gridSize가 없으면 단어 수로 계산한 크기와 같은 프로필을 사용한다")
+        void shouldNormalizeProfile() {
+            // when
+            Profile auto = Profile.of(null, 10, "초급", "default", null, null);
+            Profile std = Profile.of(15, 10, "초급", "default", "의학", null);
+
+            // then
+            assertThat(auto).isEqualTo(Profile.of(15, 10, "초급", "DEFAULT", null, null));
+            assertThat(std.source()).isEqualTo("std");
+            assertThat(std.level()).isNull();
+            assertThat(Profile.parse("15:20:std:의학")).isEqualTo(Profile.of(15, 20, null, "std", "의학", null));
+            assertThat(Profile.parse("10:10")).isEqualTo(Profile.of(10, 10, null, "default", null, null));
+        }
+
+        @Test
+        @DisplayName("등록 한도를 넘는 프로필은 풀을 거치지 않는다")
+        void shouldLimitProfiles() {
+            // when
+            pool.poll(10, 5, null, "default", null, null);
+            pool.poll(12, 5, null, "default", null, null);
+            pool.poll(14, 5, null, "default", null, null);
+
+            // then
+            assertThat(pool.depths()).hasSize(2);
+            assertThat(meterRegistry.get("puzzle.pool.requests").tag("result", "miss").counter().count())
+                    .isEqualTo(3.0);
+        }
+
+        @Test
+        @DisplayName("비활성화되면 풀을 사용하지 않는다")
+        void shouldBypassWhenDisabled() {
+            // given
+            ReflectionTestUtils.setField(pool, "enabled", false);
+            pool.start();
+
+            // when
+            Optional<PuzzleResponse> result = pool.poll(10, 5, null, "default", null, null);
+
+            // then
+            assertThat(result).isEmpty();
+            assertThat(pool.depths()).isEmpty();
+            verify(puzzleGeneratorService, never()).generatePuzzle(any(), anyInt(), any(), any(), any(), any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("실패와 무효화")
+    class FailureTest {
+
+        @Test
+        @DisplayName("생성에 실패하면 실패 수를 집계하고 풀은 비어 있다")
+        void shouldCountFailures() throws InterruptedException {
+            // given
+            when(puzzleGeneratorService.generatePuzzle(eq(15), eq(10), isNull(), eq("std"), eq("없는분야"), isNull(), any(), any()))
+                    .thenThrow(new IllegalStateException("조건에 맞는 StdWord 데이터가 없습니다."));
+            pool.start();
+
+            // when
+            pool.poll(15, 10, null, "std", "없는분야", null);
+            awaitTrue(() -> meterRegistry.get("puzzle.pool.refill.failures").counter().count() >= DEPTH);
+
+            // then
+            assertThat(pool.poll(15, 10, null, "std", "없는분야", null)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("사전이 바뀌면 보관 중인 퍼즐을 새로 만든다")
+        void shouldRegenerateAfterDictionaryUpdate() throws InterruptedException {
+            // given
+            pool.start();
+            Profile profile = Profile.of(10, 5, null, "default", null, null);
+            pool.poll(10, 5, null, "default", null, null);
+            awaitTrue(() -> depth(profile) == DEPTH);
+            int before = generated.get();
+
+            // when
+            pool.onDictionaryUpdated(new DictionaryUpdatedEvent("test", 1));
+            awaitTrue(() -> depth(profile) == DEPTH && generated.get() >= before + DEPTH);
+
+            // then - 이후 꺼내는 퍼즐은 무효화 이후 생성된 것
+            assertThat(pool.poll(10, 5, null, "default", null, null).get().getTotalWords()).isGreaterThan(before);
+        }
+    }
+
+    // ============== 헬퍼 메서드 ==============
+
+    private int depth(Profile profile) {
+        return pool.depths().getOrDefault(profile, 0);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건이 5초 안에 만족되지 않음");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
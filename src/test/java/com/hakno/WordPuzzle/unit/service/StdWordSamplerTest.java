@@ -0,0 +1,251 @@
+package com.hakno.WordPuzzle.unit.service;
+
+import com.hakno.WordPuzzle.entity.StdSense;
+import com.hakno.WordPuzzle.entity.StdWord;
+import com.hakno.WordPuzzle.repository.StdWordRepository;
+import com.hakno.WordPuzzle.service.DictionaryUpdatedEvent;
+import com.hakno.WordPuzzle.service.LexiconService;
+import com.hakno.WordPuzzle.service.StdWordSampler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * StdWordSampler 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class StdWordSamplerTest {
+
+    @Mock
+    private StdWordRepository stdWordRepository;
+
+    private LexiconService lexiconService;
+    private StdWordSampler sampler;
+    private Map<Long, StdWord> wordsById;
+
+    // (단어, 단어유형, 전문분야...)
+    private static final String[][] WORDS = {
+            {"사과", "고유어", "식물"},
+            {"사자", "한자어", "동물"},
+            {"과자", "고유어"},
+            {"자동차", "한자어", "교통"},
+            {"사다리", "고유어"},
+            {"나비", "고유어", "동물"},
+            {"사과나무", "고유어", "식물"},
+            {"사진기", "한자어", "사진", "기계"},
+            {"가위", "고유어"},
+            {"사슴", "고유어", "동물"},
+    };
+
+    @BeforeEach
+    void setUp() {
+        lexiconService = new LexiconService(stdWordRepository);
+        sampler = new StdWordSampler(stdWordRepository, lexiconService);
+        wordsById = new HashMap<>();
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < WORDS.length; i++) {
+            long id = i + 1;
+            String[] spec = WORDS[i];
+            StdWord word = StdWord.builder().targetCode("T" + id).word(spec[0]).wordType(spec[1]).build();
+            ReflectionTestUtils.setField(word, "id", id);
+            if (spec.length == 2) {
+                word.addSense(StdSense.builder().senseCode("S" + id).senseOrder(1).definition(spec[0] + " 뜻").build());
+                rows.add(new Object[]{id, spec[0], spec[0].length(), spec[1], null});
+            }
+            for (int c = 2; c < spec.length; c++) {
+                word.addSense(StdSense.builder().senseCode("S" + id + "_" + c).senseOrder(c - 1)
+                        .category(spec[c]).definition(spec[0] + " 뜻").build());
+                rows.add(new Object[]{id, spec[0], spec[0].length(), spec[1], spec[c]});
+            }
+            wordsById.put(id, word);
+        }
+
+        lenient().when(stdWordRepository.findSamplerRows()).thenReturn(rows);
+        lenient().when(stdWordRepository.findAllByIdWithSenses(anyCollection())).thenAnswer(inv -> {
+            Collection<Long> ids = inv.getArgument(0);
+            // IN 조회는 순서를 보장하지 않으므로 역순으로 돌려줌
+            List<StdWord> result = ids.stream().map(wordsById::get).collect(Collectors.toList());
+            Collections.reverse(result);
+            return result;
+        });
+    }
+
+    @Nested
+    @DisplayName("인덱스 기반 추출")
+    class IndexedSamplingTest {
+
+        @BeforeEach
+        void load() {
+            sampler.refresh();
+        }
+
+        @Test
+        @DisplayName("길이 범위 안의 서로 다른 단어만 추출한다")
+        void shouldDrawDistinctWordsInLengthRange() {
+            // when
+            List<StdWord> words = sampler.randomWords(2, 2, null, null, 100, new SplittableRandom(1));
+
+            // then
+            assertThat(words).extracting(StdWord::getWord)
+                    .doesNotHaveDuplicates()
+                    .containsExactlyInAnyOrder("사과", "사자", "과자", "나비", "가위", "사슴");
+            verify(stdWordRepository, never()).findRandomWordsWithSenses(anyInt(), anyInt(), any(PageRequest.class));
+        }
+
+        @Test
+        @DisplayName("limit개만 추출하고 조회 결과를 추출 순서대로 돌려준다")
+        void shouldRespectLimitAndDrawOrder() {
+            // when
+            List<StdWord> words = sampler.randomWords(2, 4, null, null, 3, new SplittableRandom(7));
+
+            // then
+            assertThat(words).hasSize(3);
+            List<StdWord> again = sampler.randomWords(2, 4, null, null, 3, new SplittableRandom(7));
+            assertThat(again).extracting(StdWord::getWord)
+                    .containsExactlyElementsOf(words.stream().map(StdWord::getWord).toList());
+        }
+
+        @Test
+        @DisplayName("카테고리와 단어유형 필터를 함께 적용한다")
+        void shouldFilterByCategoryAndWordType() {
+            // when
+            List<StdWord> animals = sampler.randomWords(2, 5, "동물", null, 10, new SplittableRandom(3));
+            List<StdWord> sinoAnimals = sampler.randomWords(2, 5, "동물", "한자어", 10, new SplittableRandom(3));
+            List<StdWord> machines = sampler.randomWords(2, 5, "기계", null, 10, new SplittableRandom(3));
+
+            // then
+            assertThat(animals).extracting(StdWord::getWord).containsExactlyInAnyOrder("사자", "나비", "사슴");
+            assertThat(sinoAnimals).extracting(StdWord::getWord).containsExactly("사자");
+            assertThat(machines).extracting(StdWord::getWord).containsExactly("사진기");
+        }
+
+        @Test
+        @DisplayName("특정 글자를 포함하는 단어만 길이/필터 조건으로 추출한다")
+        void shouldSampleWordsContainingChar() {
+            // when
+            List<StdWord> all = sampler.randomWordsContainingChar('사', 2, 3, null, null, 10, new SplittableRandom(5));
+            List<StdWord> nativeWords = sampler.randomWordsContainingChar('사', 2, 4, null, "고유어", 10, new SplittableRandom(5));
+            List<StdWord> none = sampler.randomWordsContainingChar('흙', 2, 4, null, null, 10, new SplittableRandom(5));
+
+            // then
+            assertThat(all).extracting(StdWord::getWord)
+                    .containsExactlyInAnyOrder("사과", "사자", "사다리", "사슴", "사진기");
+            assertThat(nativeWords).extracting(StdWord::getWord)
+                    .containsExactlyInAnyOrder("사과", "사다리", "사슴", "사과나무");
+            assertThat(none).isEmpty();
+        }
+
+        @Test
+        @DisplayName("반복 추출 시 모든 후보가 고르게 선택된다")
+        void shouldCoverAllCandidates() {
+            // given
+            SplittableRandom random = new SplittableRandom(11);
+            Map<String, Integer> counts = new HashMap<>();
+
+            // when
+            for (int i = 0; i < 3000; i++) {
+                for (StdWord word : sampler.randomWords(2, 2, null, null, 1, random)) {
+                    counts.merge(word.getWord(), 1, Integer::sum);
+                }
+            }
+
+            // then - 6개 후보, 기대값 500
+            assertThat(counts).hasSize(6);
+            assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(400, 600));
+        }
+    }
+
+    @Nested
+    @DisplayName("인덱스 로딩 전")
+    class FallbackTest {
+
+        @Test
+        @DisplayName("기존 랜덤 쿼리로 대체한다")
+        void shouldFallBackToQueries() {
+            // given
+            when(stdWordRepository.findRandomWordsByCategory("동물", 2, 4, 5))
+                    .thenReturn(List.of(wordsById.get(2L)));
+
+            // when
+            List<StdWord> words = sampler.randomWords(2, 4, "동물", null, 5, new SplittableRandom(1));
+
+            // then
+            assertThat(sampler.isReady()).isFalse();
+            assertThat(words).extracting(StdWord::getWord).containsExactly("사자");
+            verify(stdWordRepository, never()).findAllByIdWithSenses(anyCollection());
+        }
+
+        @Test
+        @DisplayName("로딩 실패 시 기존 상태를 유지한다")
+        void shouldKeepStateWhenLoadFails() {
+            // given
+            when(stdWordRepository.findSamplerRows()).thenThrow(new IllegalStateException("DB 연결 실패"));
+
+            // when
+            sampler.refresh();
+
+            // then
+            assertThat(sampler.isReady()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("이벤트 기반 로딩")
+    class EventLoadingTest {
+
+        @Test
+        @DisplayName("메모리 사전이 비어 있으면 시작 시 인덱스를 로딩한다")
+        void shouldLoadOnStartupWithoutLexicon() {
+            // when
+            sampler.loadOnStartup();
+
+            // then
+            assertThat(sampler.isReady()).isTrue();
+            verify(stdWordRepository).findSamplerRows();
+        }
+
+        @Test
+        @DisplayName("메모리 사전이 준비되어 있으면 시작 시 로딩과 임포트 후 재생성을 건너뛴다")
+        void shouldSkipLoadingWhenLexiconReady() {
+            // given
+            List<Object[]> lexiconRows = new ArrayList<>();
+            lexiconRows.add(new Object[]{1L, "사과", "고유어", "식물", "사과 뜻"});
+            when(stdWordRepository.findLexiconRows()).thenReturn(lexiconRows);
+            lexiconService.refresh();
+
+            // when
+            sampler.loadOnStartup();
+            sampler.onDictionaryUpdated(new DictionaryUpdatedEvent("test", 1));
+
+            // then
+            assertThat(lexiconService.isReady()).isTrue();
+            assertThat(sampler.isReady()).isFalse();
+            verify(stdWordRepository, never()).findSamplerRows();
+        }
+    }
+}
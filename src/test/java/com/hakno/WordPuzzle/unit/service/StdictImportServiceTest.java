@@ -0,0 +1,272 @@
+package com.hakno.WordPuzzle.unit.service;
+
+import com.hakno.WordPuzzle.client.StdictApiClient;
+import com.hakno.WordPuzzle.dto.ImportProgress;
+import com.hakno.WordPuzzle.entity.StdSense;
+import com.hakno.WordPuzzle.entity.StdWord;
+import com.hakno.WordPuzzle.repository.StdWordBatchWriter;
+import com.hakno.WordPuzzle.repository.StdWordRepository;
+import com.hakno.WordPuzzle.service.DictionaryUpdatedEvent;
+import com.hakno.WordPuzzle.service.HintCache;
+import com.hakno.WordPuzzle.service.StdictImportService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * StdictImportService 단위 테스트
+ * 기록해 둔 표준국어대사전 응답(src/test/resources/stdict)을 돌려주는 로컬 HTTP 서버로 임포트 파이프라인을 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class StdictImportServiceTest {
+
+    @Mock
+    private StdWordRepository stdWordRepository;
+
+    @Mock
+    private StdWordBatchWriter stdWordBatchWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private StdictImportService service;
+
+    // target_code별 상세 조회 호출 수
+    private final Map<String, AtomicInteger> viewCalls = new ConcurrentHashMap<>();
+    // 처음 N번은 503으로 응답할 target_code
+    private final Map<String, Integer> failFirst = new ConcurrentHashMap<>();
+    // 상세 조회가 모두 시작되면 임포트 중단을 요청할 target_code
+    private volatile String stopAt;
+    // 저장 트랜잭션마다 넘겨받은 단어 (저장 후 목록이 비워지므로 복사)
+    private final List<StdWord> saved = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/search.do", this::handleSearch);
+        server.createContext("/api/view.do", this::handleView);
+        // 상세 조회를 동시에 처리하도록 요청마다 스레드 사용
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/api";
+
+        StdictApiClient apiClient = new StdictApiClient();
+        ReflectionTestUtils.setField(apiClient, "apiKey", "test-key");
+        ReflectionTestUtils.setField(apiClient, "searchUrl", baseUrl + "/search.do");
+        ReflectionTestUtils.setField(apiClient, "viewUrl", baseUrl + "/view.do");
+
+        service = new StdictImportService(apiClient, stdWordRepository, stdWordBatchWriter, eventPublisher, new HintCache(100),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(service, "concurrency", 3);
+        ReflectionTestUtils.setField(service, "ratePerSecond", 1000.0);
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+        ReflectionTestUtils.setField(service, "maxRetries", 3);
+        ReflectionTestUtils.setField(service, "backoffMs", 1L);
+
+        // 가게(400245)는 이미 저장된 단어
+        when(stdWordRepository.findExistingTargetCodes(anyCollection())).thenAnswer(inv -> {
+            List<String> codes = new ArrayList<>(inv.getArgument(0));
+            codes.retainAll(Set.of("400245"));
+            return codes;
+        });
+        when(stdWordBatchWriter.insertAll(any())).thenAnswer(inv -> {
+            List<StdWord> words = inv.getArgument(0);
+            saved.addAll(words);
+            return words.stream().map(w -> (long) saved.indexOf(w) + 1).toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    private void handleSearch(HttpExchange exchange) throws IOException {
+        String q = queryParams(exchange).get("q");
+        reply(exchange, 200, "가".equals(q) ? "search-ga.json" : "search-empty.json");
+    }
+
+    private void handleView(HttpExchange exchange) throws IOException {
+        String code = queryParams(exchange).get("target_code");
+        int call = viewCalls.computeIfAbsent(code, k -> new AtomicInteger()).incrementAndGet();
+        if (code.equals(stopAt)) {
+            awaitViewCalls(3);
+            service.stopImport();
+        }
+        if (call <= failFirst.getOrDefault(code, 0)) {
+            reply(exchange, 503, null);
+            return;
+        }
+        String file = "view-" + code + ".json";
+        reply(exchange, 200, getClass().getResource("/stdict/" + file) != null ? file : "search-empty.json");
+    }
+
+    private void awaitViewCalls(int count) {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (viewCalls.size() < count && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private Map<String, String> queryParams(HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        for (String pair : exchange.getRequestURI().getQuery().split("&")) {
+            int eq = pair.indexOf('=');
+            params.put(pair.substring(0, eq), pair.substring(eq + 1));
+        }
+        return params;
+    }
+
+    private void reply(HttpExchange exchange, int status, String file) throws IOException {
+        byte[] body = new byte[0];
+        if (file != null) {
+            try (InputStream in = getClass().getResourceAsStream("/stdict/" + file)) {
+                body = in.readAllBytes();
+            }
+        }
+        // 실제 API처럼 text/json으로 응답
+        exchange.getResponseHeaders().set("Content-Type", "text/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private StdWord savedWord(String word) {
+        return saved.stream().filter(w -> w.getWord().equals(word)).findFirst().orElseThrow();
+    }
+
+    @Test
+    @DisplayName("글자 수가 맞고 저장되지 않은 단어만 상세 조회해 배치로 저장한다")
+    void importNewWordsInBatches() {
+        // when
+        service.importByLength(2);
+
+        // then - 가게는 이미 저장됨, 가까이는 세 글자
+        ImportProgress progress = service.getProgress();
+        assertThat(progress.isRunning()).isFalse();
+        assertThat(progress.getImported()).isEqualTo(3);
+        assertThat(progress.getSkipped()).isEqualTo(1);
+        assertThat(progress.getFailed()).isZero();
+        assertThat(saved).extracting(StdWord::getWord).containsExactlyInAnyOrder("가위", "가락", "가을");
+        assertThat(viewCalls).containsOnlyKeys("401620", "400581", "400900");
+
+        // batch-size=2 이므로 트랜잭션 2번
+        verify(stdWordBatchWriter, times(2)).insertAll(any());
+        verify(eventPublisher).publishEvent(any(DictionaryUpdatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("상세 정보로 의미/용례/관계어를 채우고, 상세 정보가 없으면 검색 결과만으로 저장한다")
+    void buildWordsFromRecordedResponses() {
+        // when
+        service.importByLength(2);
+
+        // then
+        StdWord scissors = savedWord("가위");
+        assertThat(scissors.getWordType()).isEqualTo("고유어");
+        assertThat(scissors.getPronunciation()).isEqualTo("가위");
+        StdSense sense = scissors.getSenses().get(0);
+        assertThat(sense.getCategory()).isEqualTo("공예");
+        assertThat(sense.getExamples()).hasSize(1);
+        assertThat(sense.getRelations()).hasSize(1);
+
+        assertThat(savedWord("가락").getSupNo()).isEqualTo(1);
+        assertThat(savedWord("가락").getSenses()).hasSize(2);
+
+        StdWord autumn = savedWord("가을");
+        assertThat(autumn.getWordType()).isNull();
+        assertThat(autumn.getSenses()).extracting(StdSense::getDefinition)
+                .containsExactly("한 해의 네 철 가운데 셋째 철.");
+    }
+
+    @Test
+    @DisplayName("일시적인 오류는 백오프 후 재시도한다")
+    void retryTransientFailures() {
+        // given
+        failFirst.put("401620", 2);
+
+        // when
+        service.importByLength(2);
+
+        // then
+        assertThat(viewCalls.get("401620").get()).isEqualTo(3);
+        assertThat(service.getProgress().getImported()).isEqualTo(3);
+        assertThat(service.getProgress().getFailed()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘긴 단어는 실패로 집계하고 나머지는 저장한다")
+    void countFailureAfterRetries() {
+        // given
+        failFirst.put("401620", Integer.MAX_VALUE);
+
+        // when
+        service.importByLength(2);
+
+        // then
+        assertThat(viewCalls.get("401620").get()).isEqualTo(3);
+        assertThat(service.getProgress().getImported()).isEqualTo(2);
+        assertThat(service.getProgress().getFailed()).isEqualTo(1);
+        assertThat(saved).extracting(StdWord::getWord).containsExactlyInAnyOrder("가락", "가을");
+    }
+
+    @Test
+    @DisplayName("중단하면 끝난 상세 조회는 저장하고 취소한 조회는 실패로 집계한다")
+    void stopKeepsFinishedFetchesAndCountsCancelled() {
+        // given - 세 단어의 상세 조회가 모두 시작된 뒤 중단 요청
+        stopAt = "400900";
+
+        // when
+        service.importByLength(2);
+
+        // then - 상세 조회한 세 단어는 모두 저장 또는 실패로 집계됨
+        ImportProgress progress = service.getProgress();
+        assertThat(progress.isRunning()).isFalse();
+        assertThat(progress.getSkipped()).isEqualTo(1);
+        assertThat(progress.getImported() + progress.getFailed()).isEqualTo(3);
+        assertThat(saved).hasSize(progress.getImported());
+    }
+}
@@ -0,0 +1,223 @@
+package com.hakno.WordPuzzle.unit.service;
+
+import com.hakno.WordPuzzle.entity.Definition;
+import com.hakno.WordPuzzle.entity.StdSense;
+import com.hakno.WordPuzzle.entity.StdWord;
+import com.hakno.WordPuzzle.entity.Word;
+import com.hakno.WordPuzzle.repository.StdWordRepository;
+import com.hakno.WordPuzzle.repository.WordRepository;
+import com.hakno.WordPuzzle.service.DictionaryUpdatedEvent;
+import com.hakno.WordPuzzle.service.GenerationMetrics;
+import com.hakno.WordPuzzle.service.Lexicon;
+import com.hakno.WordPuzzle.service.LexiconService;
+import com.hakno.WordPuzzle.service.StdWordSampler;
+import com.hakno.WordPuzzle.service.WordCandidateProvider;
+import com.hakno.WordPuzzle.service.WordCandidateProvider.CandidateKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * WordCandidateProvider 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class WordCandidateProviderTest {
+
+    @Mock
+    private WordRepository wordRepository;
+
+    @Mock
+    private StdWordRepository stdWordRepository;
+
+    private WordCandidateProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = new WordCandidateProvider(wordRepository,
+                new StdWordSampler(stdWordRepository, new LexiconService(stdWordRepository)),
+                GenerationMetrics.standalone());
+    }
+
+    private Word createWord(String wordStr) {
+        Word word = Word.builder().word(wordStr).partOfSpeech("명사").build();
+        word.addDefinition(Definition.builder().senseOrder(1).definition(wordStr + " 뜻").build());
+        return word;
+    }
+
+    private StdWord createStdWord(String wordStr) {
+        StdWord word = StdWord.builder().targetCode("T_" + wordStr).word(wordStr).wordType("고유어").build();
+        word.addSense(StdSense.builder().senseCode("S_" + wordStr).senseOrder(1).definition(wordStr + " 뜻").build());
+        return word;
+    }
+
+    @Nested
+    @DisplayName("기본 소스 캐싱")
+    class DefaultSourceTest {
+
+        @Test
+        @DisplayName("같은 키로 다시 조회하면 저장소를 호출하지 않는다")
+        void shouldReadThroughOnlyOnce() {
+            // given
+            when(wordRepository.findByContainingCharacterWithDefinitionsByLevel(
+                    eq("가"), eq(2), eq(10), isNull(), any(PageRequest.class)))
+                    .thenReturn(List.of(createWord("가방"), createWord("가수")));
+
+            // when
+            List<Word> first = provider.wordsContaining('가', 2, 10, null);
+            List<Word> second = provider.wordsContaining('가', 2, 10, null);
+
+            // then
+            assertThat(first).hasSize(2);
+            assertThat(second).isSameAs(first);
+            verify(wordRepository, times(1)).findByContainingCharacterWithDefinitionsByLevel(
+                    anyString(), anyInt(), anyInt(), isNull(), any(PageRequest.class));
+        }
+
+        @Test
+        @DisplayName("길이 범위나 난이도가 다르면 별도 키로 조회한다")
+        void shouldSeparateKeysByBoundsAndLevel() {
+            // given
+            when(wordRepository.findByContainingCharacterWithDefinitionsByLevel(
+                    anyString(), anyInt(), anyInt(), any(), any(PageRequest.class)))
+                    .thenReturn(List.of());
+
+            // when
+            provider.wordsContaining('가', 2, 10, null);
+            provider.wordsContaining('가', 2, 15, null);
+            provider.wordsContaining('가', 2, 10, "초급");
+            provider.wordsContaining('나', 2, 10, null);
+
+            // then
+            verify(wordRepository, times(4)).findByContainingCharacterWithDefinitionsByLevel(
+                    anyString(), anyInt(), anyInt(), any(), any(PageRequest.class));
+            assertThat(provider.getStats().trackedKeys()).isEqualTo(4);
+        }
+    }
+
+    @Nested
+    @DisplayName("표준국어대사전 소스 캐싱")
+    class StdSourceTest {
+
+        @Test
+        @DisplayName("교차 글자가 나타나는 모든 위치를 후보로 변환한다")
+        void shouldConvertAllPositions() {
+            // given
+            when(stdWordRepository.findWordsContainingCharWithSenses(
+                    eq("가"), eq(2), eq(10), any(PageRequest.class)))
+                    .thenReturn(List.of(createStdWord("가가호호"), createStdWord("노가다")));
+
+            // when
+            List<Lexicon.Match> matches = provider.stdWordsContaining('가', 2, 10, null, null);
+
+            // then
+            assertThat(matches).extracting(m -> m.word().word() + ":" + m.position())
+                    .containsExactly("가가호호:0", "가가호호:1", "노가다:1");
+        }
+
+        @Test
+        @DisplayName("카테고리/단어유형 필터에 맞는 저장소 메서드를 사용한다")
+        void shouldUseFilteredQueries() {
+            // given
+            when(stdWordRepository.findRandomWordsByCategoryContainingChar("식물", "가", 2, 10, 100))
+                    .thenReturn(List.of(createStdWord("가지")));
+            when(stdWordRepository.findRandomWordsByWordTypeContainingChar("고유어", "가", 2, 10, 100))
+                    .thenReturn(List.of(createStdWord("가을")));
+
+            // when
+            List<Lexicon.Match> byCategory = provider.stdWordsContaining('가', 2, 10, "식물", null);
+            List<Lexicon.Match> byWordType = provider.stdWordsContaining('가', 2, 10, null, "고유어");
+
+            // then
+            assertThat(byCategory).extracting(m -> m.word().word()).containsExactly("가지");
+            assertThat(byWordType).extracting(m -> m.word().word()).containsExactly("가을");
+        }
+    }
+
+    @Nested
+    @DisplayName("통계 및 무효화")
+    class StatsTest {
+
+        @Test
+        @DisplayName("키별 히트/미스를 집계한다")
+        void shouldCountHitsAndMissesPerKey() {
+            // given
+            when(wordRepository.findByContainingCharacterWithDefinitionsByLevel(
+                    anyString(), anyInt(), anyInt(), isNull(), any(PageRequest.class)))
+                    .thenReturn(List.of());
+
+            // when
+            provider.wordsContaining('가', 2, 10, null);
+            provider.wordsContaining('가', 2, 10, null);
+            provider.wordsContaining('가', 2, 10, null);
+            provider.wordsContaining('나', 2, 10, null);
+
+            // then
+            CandidateKey key = new CandidateKey(WordCandidateProvider.SOURCE_DEFAULT, '가', 2, 10, null, null, null);
+            WordCandidateProvider.KeyStats stats = provider.getKeyStats(key);
+            assertThat(stats.misses()).isEqualTo(1);
+            assertThat(stats.hits()).isEqualTo(2);
+            assertThat(provider.getKeyStats().get(0).key()).isEqualTo(key);
+            assertThat(provider.getStats().hits()).isEqualTo(2);
+            assertThat(provider.getStats().misses()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("사전 변경 이벤트를 받으면 다시 저장소를 조회한다")
+        void shouldReloadAfterDictionaryUpdate() {
+            // given
+            when(stdWordRepository.findWordsContainingCharWithSenses(
+                    anyString(), anyInt(), anyInt(), any(PageRequest.class)))
+                    .thenReturn(List.of(createStdWord("가지")));
+            provider.stdWordsContaining('가', 2, 10, null, null);
+
+            // when
+            provider.onDictionaryUpdated(new DictionaryUpdatedEvent("test", 1));
+            provider.stdWordsContaining('가', 2, 10, null, null);
+
+            // then
+            verify(stdWordRepository, times(2)).findWordsContainingCharWithSenses(
+                    anyString(), anyInt(), anyInt(), any(PageRequest.class));
+            CandidateKey key = new CandidateKey(WordCandidateProvider.SOURCE_STD, '가', 2, 10, null, null, null);
+            assertThat(provider.getKeyStats(key).misses()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("키별 집계는 캐시와 같은 한도로 유지하고 전체 합계는 계속 누적한다")
+        void shouldBoundTrackedKeys() {
+            // given
+            when(wordRepository.findByContainingCharacterWithDefinitionsByLevel(
+                    anyString(), anyInt(), anyInt(), isNull(), any(PageRequest.class)))
+                    .thenReturn(List.of());
+            int keyCount = 6000;
+
+            // when
+            for (int i = 0; i < keyCount; i++) {
+                provider.wordsContaining((char) ('가' + i), 2, 10, null);
+            }
+
+            // then
+            WordCandidateProvider.CandidateCacheStats stats = provider.getStats();
+            assertThat(stats.trackedKeys()).isLessThanOrEqualTo(5000);
+            assertThat(provider.getKeyStats()).hasSizeLessThanOrEqualTo(5000);
+            assertThat(stats.misses()).isEqualTo(keyCount);
+            assertThat(stats.hits()).isZero();
+        }
+    }
+}
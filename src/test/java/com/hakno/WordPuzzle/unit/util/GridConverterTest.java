@@ -1,8 +1,12 @@
 package com.hakno.WordPuzzle.unit.util;
 
+import com.hakno.WordPuzzle.dto.CompactGrid;
+import com.hakno.WordPuzzle.dto.GridFormat;
 import com.hakno.WordPuzzle.dto.PuzzleCell;
+import com.hakno.WordPuzzle.dto.PuzzleResponse;
 import com.hakno.WordPuzzle.dto.PuzzleWord;
 import com.hakno.WordPuzzle.util.GridConverter;
+import com.hakno.WordPuzzle.util.GridState;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,6 +17,7 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 /**
  * GridConverter 단위 테스트
@@ -167,4 +172,126 @@ class GridConverterTest {
             assertThat(cell.getDownNumber()).isEqualTo(2);
         }
     }
+
+    @Nested
+    @DisplayName("toPuzzleResponse 테스트")
+    class ToPuzzleResponseTest {
+
+        @Test
+        @DisplayName("중앙 정렬 후 가로/세로 단어에 위치 순으로 번호를 붙임")
+        void shouldCenterAndNumberWords() {
+            // Given - 왼쪽 위에 치우친 배치
+            GridState state = new GridState(7);
+            state.place("나무", "뜻2", 2, 0, PuzzleWord.Direction.ACROSS);
+            state.place("가나다", "뜻1", 0, 0, PuzzleWord.Direction.DOWN);
+            state.place("가위", "뜻3", 0, 0, PuzzleWord.Direction.ACROSS);
+
+            // When
+            PuzzleResponse response = converter.toPuzzleResponse(state, 7L);
+
+            // Then - 3x2 묶음이 (2,2)에서 시작하도록 이동
+            assertThat(response.getTotalWords()).isEqualTo(3);
+            assertThat(response.getSeed()).isEqualTo(7L);
+            assertThat(response.getAcrossWords()).extracting(PuzzleWord::getWord, PuzzleWord::getNumber,
+                            PuzzleWord::getStartRow, PuzzleWord::getStartCol)
+                    .containsExactly(tuple("가위", 1, 2, 2), tuple("나무", 2, 4, 2));
+            assertThat(response.getDownWords()).extracting(PuzzleWord::getWord, PuzzleWord::getNumber)
+                    .containsExactly(tuple("가나다", 1));
+            assertThat(response.getGrid().get(2).get(2).getLetter()).isEqualTo("가");
+            assertThat(response.getGrid().get(2).get(2).getAcrossNumber()).isEqualTo(1);
+            assertThat(response.getGrid().get(2).get(2).getDownNumber()).isEqualTo(1);
+
+            // 탐색 상태는 그대로
+            assertThat(state.get(0, 0)).isEqualTo('가');
+        }
+    }
+
+    @Nested
+    @DisplayName("압축 그리드 테스트")
+    class CompactGridTest {
+
+        @Test
+        @DisplayName("셀 그리드와 같은 글자/번호를 음절 문자열과 시작 칸 목록으로 표현")
+        void shouldMatchCellGrid() {
+            // Given
+            GridState state = new GridState(7);
+            state.place("가위", "뜻1", 0, 0, PuzzleWord.Direction.ACROSS);
+            state.place("가나다", "뜻2", 0, 0, PuzzleWord.Direction.DOWN);
+            state.place("다리", "뜻3", 2, 0, PuzzleWord.Direction.ACROSS);
+            PuzzleResponse response = converter.toPuzzleResponse(state, null);
+
+            // When
+            CompactGrid compact = converter.toCompactGrid(7, response.getAcrossWords(), response.getDownWords());
+
+            // Then
+            assertThat(compact.getCells()).hasSize(49);
+            for (int row = 0; row < 7; row++) {
+                for (int col = 0; col < 7; col++) {
+                    PuzzleCell cell = response.getGrid().get(row).get(col);
+                    char c = compact.getCells().charAt(row * 7 + col);
+                    assertThat(c == CompactGrid.BLANK ? null : String.valueOf(c)).isEqualTo(cell.getLetter());
+                }
+            }
+            assertThat(compact.getStarts()).containsExactly(
+                    new int[]{2, 2, 1, 1},
+                    new int[]{4, 2, 2, 0});
+        }
+
+        @Test
+        @DisplayName("COMPACT 형식이면 셀 그리드 대신 압축 그리드를 넣은 새 응답")
+        void shouldReplaceCellGrid() {
+            // Given
+            GridState state = new GridState(5);
+            state.place("사과", "뜻", 2, 1, PuzzleWord.Direction.ACROSS);
+            PuzzleResponse response = converter.toPuzzleResponse(state, 3L);
+
+            // When
+            PuzzleResponse compact = converter.toFormat(response, GridFormat.COMPACT);
+
+            // Then
+            assertThat(compact.getGrid()).isNull();
+            assertThat(compact.getCompactGrid().getCells()).isEqualTo("....." + "....." + ".사과.." + "....." + ".....");
+            assertThat(compact.getAcrossWords()).isSameAs(response.getAcrossWords());
+            assertThat(compact.getSeed()).isEqualTo(3L);
+            assertThat(converter.toFormat(response, GridFormat.CELLS)).isSameAs(response);
+        }
+
+        @Test
+        @DisplayName("COMPACT 형식으로 만들면 셀 그리드를 만들지 않는다")
+        void shouldSkipCellGridWhenBuildingCompact() {
+            // Given
+            GridState state = new GridState(5);
+            state.place("사과", "뜻", 2, 1, PuzzleWord.Direction.ACROSS);
+
+            // When
+            PuzzleResponse response = converter.toPuzzleResponse(state, 3L, GridFormat.COMPACT);
+
+            // Then
+            assertThat(response.getGrid()).isNull();
+            assertThat(response.getCompactGrid().getCells()).isEqualTo("....." + "....." + ".사과.." + "....." + ".....");
+            assertThat(response.getTotalWords()).isEqualTo(1);
+            assertThat(response.getSeed()).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("압축 그리드만 있는 응답을 CELLS로 바꾸면 처음부터 셀로 만든 것과 같은 그리드")
+        void shouldRebuildCellGridFromCompact() {
+            // Given
+            GridState state = new GridState(7);
+            state.place("가위", "뜻1", 0, 0, PuzzleWord.Direction.ACROSS);
+            state.place("가나다", "뜻2", 0, 0, PuzzleWord.Direction.DOWN);
+            state.place("다리", "뜻3", 2, 0, PuzzleWord.Direction.ACROSS);
+            PuzzleResponse cells = converter.toPuzzleResponse(state, 5L);
+            PuzzleResponse compact = converter.toPuzzleResponse(state, 5L, GridFormat.COMPACT);
+
+            // When
+            PuzzleResponse rebuilt = converter.toFormat(compact, GridFormat.CELLS);
+
+            // Then
+            assertThat(rebuilt.getCompactGrid()).isNull();
+            assertThat(rebuilt.getGrid()).usingRecursiveComparison().isEqualTo(cells.getGrid());
+            assertThat(rebuilt.getAcrossWords()).isSameAs(compact.getAcrossWords());
+            assertThat(rebuilt.getSeed()).isEqualTo(5L);
+        }
+    }
 }
@@ -0,0 +1,210 @@
+package com.hakno.WordPuzzle.util;
+
+import com.hakno.WordPuzzle.dto.PuzzleWord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GridState 테스트")
+class GridStateTest {
+
+    @Nested
+    @DisplayName("배치 테스트")
+    class PlaceTests {
+
+        @Test
+        @DisplayName("가로/세로 단어 배치")
+        void place_writesCells() {
+            // given
+            GridState state = new GridState(5);
+
+            // when
+            state.place("가나다", "뜻1", 2, 1, PuzzleWord.Direction.ACROSS);
+            state.place("나무", "뜻2", 2, 2, PuzzleWord.Direction.DOWN);
+
+            // then
+            assertThat(state.get(2, 1)).isEqualTo('가');
+            assertThat(state.get(2, 2)).isEqualTo('나');
+            assertThat(state.get(3, 2)).isEqualTo('무');
+            assertThat(state.wordCount()).isEqualTo(2);
+            assertThat(state.filledCellCount()).isEqualTo(4);
+            assertThat(state.direction(1)).isEqualTo(PuzzleWord.Direction.DOWN);
+        }
+
+        @Test
+        @DisplayName("사용된 단어 확인")
+        void containsWord_checksPlacedWords() {
+            // given
+            GridState state = new GridState(5);
+            state.place("가나다", "뜻", 0, 0, PuzzleWord.Direction.ACROSS);
+
+            // then
+            assertThat(state.containsWord("가나다")).isTrue();
+            assertThat(state.containsWord("나무")).isFalse();
+        }
+
+        @Test
+        @DisplayName("범위 밖은 빈 칸으로 취급")
+        void isFilled_outOfRange_returnsFalse() {
+            // given
+            GridState state = new GridState(3);
+            state.place("가나다", "뜻", 0, 0, PuzzleWord.Direction.ACROSS);
+
+            // then
+            assertThat(state.isFilled(-1, 0)).isFalse();
+            assertThat(state.isFilled(0, 3)).isFalse();
+            assertThat(state.isFilled(0, 2)).isTrue();
+        }
+
+        @Test
+        @DisplayName("마스크에 들어가지 않는 크기는 예외")
+        void constructor_tooLarge_throwsException() {
+            assertThatThrownBy(() -> new GridState(GridState.MAX_SIZE + 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("초기 용량보다 많은 단어 배치")
+        void place_growsWordCapacity() {
+            // given
+            GridState state = new GridState(25);
+
+            // when
+            for (int i = 0; i < 50; i++) {
+                state.place("가", "뜻", i / 25, i % 25, PuzzleWord.Direction.ACROSS);
+            }
+
+            // then
+            assertThat(state.wordCount()).isEqualTo(50);
+            assertThat(state.startRow(49)).isEqualTo(1);
+            assertThat(state.startCol(49)).isEqualTo(24);
+        }
+    }
+
+    @Nested
+    @DisplayName("되돌리기 테스트")
+    class UndoTests {
+
+        @Test
+        @DisplayName("교차 셀은 유지하고 새로 채운 셀만 비움")
+        void undo_keepsSharedCells() {
+            // given
+            GridState state = new GridState(5);
+            state.place("가나다", "뜻1", 2, 1, PuzzleWord.Direction.ACROSS);
+            state.place("하나", "뜻2", 1, 2, PuzzleWord.Direction.DOWN);
+
+            // when
+            state.undo();
+
+            // then
+            assertThat(state.get(1, 2)).isEqualTo('\0');
+            assertThat(state.get(2, 2)).isEqualTo('나');
+            assertThat(state.wordCount()).isEqualTo(1);
+            assertThat(state.filledCellCount()).isEqualTo(3);
+            assertThat(state.containsWord("하나")).isFalse();
+        }
+
+        @Test
+        @DisplayName("배치 후 모두 되돌리면 빈 그리드")
+        void undo_all_returnsEmptyGrid() {
+            // given
+            GridState state = new GridState(5);
+            state.place("가나다", "뜻1", 2, 1, PuzzleWord.Direction.ACROSS);
+            state.place("나무", "뜻2", 2, 2, PuzzleWord.Direction.DOWN);
+
+            // when
+            state.undo();
+            state.undo();
+
+            // then
+            assertThat(state.wordCount()).isZero();
+            assertThat(state.filledCellCount()).isZero();
+            assertThat(state.snapshot().getFilledCellCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("행/열 마스크는 배치와 되돌리기를 따라감")
+        void masks_followPlaceAndUndo() {
+            // given
+            GridState state = new GridState(5);
+            state.place("가나다", "뜻1", 2, 1, PuzzleWord.Direction.ACROSS);
+            state.place("하나", "뜻2", 1, 2, PuzzleWord.Direction.DOWN);
+
+            // then - (2,1)~(2,3), (1,2)
+            assertThat(state.rowMask(2)).isEqualTo(0b01110L);
+            assertThat(state.rowMask(1)).isEqualTo(0b00100L);
+            assertThat(state.colMask(2)).isEqualTo(0b00110L);
+            assertThat(state.rowMask(-1)).isZero();
+            assertThat(state.colMask(5)).isZero();
+
+            // when - 교차 셀은 남고 새로 채운 셀의 비트만 지워짐
+            state.undo();
+
+            // then
+            assertThat(state.rowMask(1)).isZero();
+            assertThat(state.colMask(2)).isEqualTo(0b00100L);
+            assertThat(state.rowMask(2)).isEqualTo(0b01110L);
+        }
+
+        @Test
+        @DisplayName("배치가 없으면 예외")
+        void undo_empty_throwsException() {
+            // given
+            GridState state = new GridState(5);
+
+            // when & then
+            assertThatThrownBy(state::undo).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("변환 테스트")
+    class ConversionTests {
+
+        @Test
+        @DisplayName("스냅샷과 단어 목록 변환")
+        void snapshot_matchesState() {
+            // given
+            GridState state = new GridState(5);
+            state.place("가나다", "뜻1", 2, 1, PuzzleWord.Direction.ACROSS);
+            state.place("나무", "뜻2", 2, 2, PuzzleWord.Direction.DOWN);
+
+            // when
+            GridSnapshot snapshot = state.snapshot();
+            List<PuzzleWord> words = state.toPuzzleWords();
+
+            // then
+            assertThat(snapshot.getPlacedWordCount()).isEqualTo(2);
+            assertThat(snapshot.getFilledCellCount()).isEqualTo(4);
+            assertThat(snapshot.getUsedWords()).containsExactlyInAnyOrder("가나다", "나무");
+            assertThat(words).extracting(PuzzleWord::getWord).containsExactly("가나다", "나무");
+            assertThat(words.get(1).getDefinition()).isEqualTo("뜻2");
+        }
+
+        @Test
+        @DisplayName("복사본은 원본과 독립적")
+        void copy_isIndependent() {
+            // given
+            GridState state = new GridState(5);
+            state.place("가나다", "뜻1", 2, 1, PuzzleWord.Direction.ACROSS);
+
+            // when
+            GridState copy = state.copy();
+            copy.place("나무", "뜻2", 2, 2, PuzzleWord.Direction.DOWN);
+            state.undo();
+
+            // then
+            assertThat(state.filledCellCount()).isZero();
+            assertThat(copy.wordCount()).isEqualTo(2);
+            assertThat(copy.get(3, 2)).isEqualTo('무');
+            copy.undo();
+            assertThat(copy.get(3, 2)).isEqualTo('\0');
+            assertThat(copy.get(2, 1)).isEqualTo('가');
+        }
+    }
+}